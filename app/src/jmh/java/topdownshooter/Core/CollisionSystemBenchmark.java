@@ -0,0 +1,171 @@
+/*
+ * @file CollisionSystemBenchmark.java
+ * @brief This file defines the `CollisionSystemBenchmark` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import topdownshooter.Core.ConfigHandler.ZombieProperties;
+import topdownshooter.Player.Loot;
+import topdownshooter.Player.Player;
+import topdownshooter.Weapon.Projectiles.ArmorPiercingBullet;
+import topdownshooter.Weapon.Projectiles.Bullet;
+import topdownshooter.Weapon.Projectiles.Projectile;
+import topdownshooter.Zombie.AcidZombie;
+import topdownshooter.Zombie.CrawlerZombie;
+import topdownshooter.Zombie.OrdinaryZombie;
+import topdownshooter.Zombie.TankZombie;
+import topdownshooter.Zombie.Zombie;
+import topdownshooter.Zombie.ZombieStore;
+
+/**
+ * @class CollisionSystemBenchmark
+ * @brief Measures the collision checks of a game tick at scaled entity counts.
+ * 
+ * Zombies are scattered randomly over the playground and never die, so the world does 
+ * not change between invocations. The projectile list is refilled before each check 
+ * since bullets which hit a zombie are removed (and released into the pool) as in the game.
+ * The same zombies are measured as objects and in a `ZombieStore`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionSystemBenchmark {
+    private static final int PROJECTILE_COUNT = 256;
+
+    @Param({"10", "100", "1000", "10000"})
+    private int zombieCount;
+
+    private GameRandom streams;
+    private CollisionSystem collisionSystem;
+    private Player player;
+    private ArrayList<Zombie> zombies;
+    private ZombieStore zombieStore;
+    private Projectile[] projectileTemplates;
+    private ArrayList<Projectile> projectiles;
+    private ArrayList<Loot> loots;
+    private ArrayList<BlastFX> blastFXs;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        ConfigHandler config = new ConfigHandler(Globals.CONFIGURATION_FILE);
+        this.streams = new GameRandom();
+        this.player = new Player(config, new TimerWheel(), this.streams);
+        this.collisionSystem = new CollisionSystem(RectangleBound.CollisionMode.BOUNDING_BOX, this.streams);
+        this.projectiles = new ArrayList<>(PROJECTILE_COUNT);
+        this.loots = new ArrayList<>();
+        this.blastFXs = new ArrayList<>();
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        Random random = new Random(42);
+        TimerWheel timers = new TimerWheel();
+
+        // Zombies have enough health to survive all hits of an iteration
+        ZombieProperties properties = new ZombieProperties(Integer.MAX_VALUE, 1, 10, 10);
+        this.zombies = new ArrayList<>(this.zombieCount);
+        this.zombieStore = new ZombieStore(timers, this.streams);
+        for (int i = 0; i < this.zombieCount; i++) {
+            int x = random.nextInt(Globals.WINDOW_WIDTH);
+            int y = random.nextInt(Globals.WINDOW_HEIGHT);
+            switch (i % 4) {
+                case 0: this.zombies.add(new OrdinaryZombie(properties, x, y)); break;
+                case 1: this.zombies.add(new CrawlerZombie(properties, timers, x, y)); break;
+                case 2: this.zombies.add(new TankZombie(properties, x, y)); break;
+                default: this.zombies.add(new AcidZombie(properties, this.streams, x, y)); break;
+            }
+            this.zombieStore.add(this.zombies.get(i).getType(), properties, x, y);
+        }
+
+        this.projectileTemplates = new Projectile[PROJECTILE_COUNT];
+        for (int i = 0; i < PROJECTILE_COUNT; i++) {
+            int x = random.nextInt(Globals.WINDOW_WIDTH);
+            int y = random.nextInt(Globals.WINDOW_HEIGHT);
+            double r = random.nextDouble() * 2 * Math.PI;
+            if (i % 8 == 0) {
+                this.projectileTemplates[i] = new ArmorPiercingBullet(x, y, r, 10);
+            } else {
+                this.projectileTemplates[i] = new Bullet(x, y, r, 10);
+            }
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Projectile> projectileCollisions() {
+        this.projectiles.clear();
+        for (Projectile projectile : this.projectileTemplates) {
+            this.projectiles.add(projectile);
+        }
+
+        this.collisionSystem.checkProjectileCollisions(this.player, this.zombies, this.projectiles, this.loots, this.blastFXs);
+        return this.projectiles;
+    }
+
+    @Benchmark
+    public Player zombieCollisions() {
+        this.collisionSystem.checkZombieCollisions(this.player, this.zombies);
+        return this.player;
+    }
+
+    @Benchmark
+    public ArrayList<Projectile> projectileCollisionsStore() {
+        this.projectiles.clear();
+        for (Projectile projectile : this.projectileTemplates) {
+            this.projectiles.add(projectile);
+        }
+
+        this.collisionSystem.checkProjectileCollisions(this.player, this.zombieStore, this.projectiles, this.loots, this.blastFXs);
+        return this.projectiles;
+    }
+
+    @Benchmark
+    public Player zombieCollisionsStore() {
+        this.collisionSystem.checkZombieCollisions(this.player, this.zombieStore);
+        return this.player;
+    }
+}
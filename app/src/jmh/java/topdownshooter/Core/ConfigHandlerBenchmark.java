@@ -0,0 +1,90 @@
+/*
+ * @file ConfigHandlerBenchmark.java
+ * @brief This file defines the `ConfigHandlerBenchmark` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import topdownshooter.Core.ConfigHandler.LevelProperties;
+import topdownshooter.Core.ConfigHandler.WeaponProperties;
+import topdownshooter.Core.ConfigHandler.ZombieProperties;
+import topdownshooter.Weapon.WeaponType;
+import topdownshooter.Zombie.ZombieType;
+
+/**
+ * @class ConfigHandlerBenchmark
+ * @brief Measures the property lookups done on each zombie spawn, weapon creation and level load.
+ * 
+ * Parsing of the whole configuration file, which is done once per configuration handler, is measured as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigHandlerBenchmark {
+    private ConfigHandler config;
+
+    @Setup
+    public void setup() {
+        this.config = new ConfigHandler(Globals.CONFIGURATION_FILE);
+    }
+
+    @Benchmark
+    public ZombieProperties zombieProperties() {
+        return this.config.getZombieProperties(ZombieType.ORDINARY);
+    }
+
+    @Benchmark
+    public WeaponProperties weaponProperties() {
+        return this.config.getWeaponProperties(WeaponType.PISTOL);
+    }
+
+    @Benchmark
+    public LevelProperties levelProperties() {
+        return this.config.getLevelProperties(5);
+    }
+
+    @Benchmark
+    public ConfigHandler parse() {
+        return new ConfigHandler(Globals.CONFIGURATION_FILE);
+    }
+}
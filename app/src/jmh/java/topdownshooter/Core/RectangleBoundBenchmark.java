@@ -0,0 +1,117 @@
+/*
+ * @file RectangleBoundBenchmark.java
+ * @brief This file defines the `RectangleBoundBenchmark` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import topdownshooter.Core.RectangleBound.CollisionMode;
+
+/**
+ * @class RectangleBoundBenchmark
+ * @brief Measures the cost of a single rotated rectangle collision check.
+ * 
+ * Pairs are placed close to each other so that roughly half of them overlap. The 
+ * static variant reuses the cached corners, while the moving variant rotates one 
+ * of the rectangles before each check as zombies do on each game tick.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RectangleBoundBenchmark {
+    private static final int PAIR_COUNT = 1024;
+
+    @Param
+    private CollisionMode collisionMode;
+
+    private RectangleBound[] first;
+    private RectangleBound[] second;
+    private double[] rotations;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+
+        this.first = new RectangleBound[PAIR_COUNT];
+        this.second = new RectangleBound[PAIR_COUNT];
+        this.rotations = new double[PAIR_COUNT];
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            int x = random.nextInt(Globals.WINDOW_WIDTH);
+            int y = random.nextInt(Globals.WINDOW_HEIGHT);
+            this.first[i] = new RectangleBound(x, y, Globals.ZOMBIE_WIDTH, Globals.ZOMBIE_HEIGHT, random.nextDouble() * 2 * Math.PI);
+            this.second[i] = new RectangleBound(x + random.nextInt(2 * Globals.ZOMBIE_WIDTH) - Globals.ZOMBIE_WIDTH, 
+                                                y + random.nextInt(2 * Globals.ZOMBIE_HEIGHT) - Globals.ZOMBIE_HEIGHT, 
+                                                Globals.ZOMBIE_WIDTH, Globals.ZOMBIE_HEIGHT, random.nextDouble() * 2 * Math.PI);
+            this.rotations[i] = random.nextDouble() * 2 * Math.PI;
+        }
+    }
+
+    private boolean isCollided(RectangleBound first, RectangleBound second) {
+        return (this.collisionMode == CollisionMode.SEPARATING_AXIS) ? RectangleBound.isSeparatingAxisCollided(first, second)
+                                                                     : RectangleBound.isBoxCollided(first, second);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIR_COUNT)
+    public void isCollided(Blackhole blackhole) {
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            blackhole.consume(isCollided(this.first[i], this.second[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIR_COUNT)
+    public void rotateAndCollide(Blackhole blackhole) {
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            RectangleBound bounds = this.first[i];
+            // Alternate the rotation so the cached corners are invalidated on each check
+            double rotation = (bounds.getR() == this.rotations[i]) ? -this.rotations[i] : this.rotations[i];
+            bounds.set((int) bounds.getX(), (int) bounds.getY(), (int) bounds.getWidth(), (int) bounds.getHeight(), rotation);
+            blackhole.consume(isCollided(bounds, this.second[i]));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * @file RenderSnapshotBenchmark.java
+ * @brief This file defines the `RenderSnapshotBenchmark` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @class RenderSnapshotBenchmark
+ * @brief Measures drawing a snapshot of zombies of mixed types, part of which are off the screen.
+ * 
+ * The zombies are spread over an area `spread` times as wide and high as the frame, centered 
+ * on it. The culled variant draws with the frame as the clip bounds, while the unculled variant 
+ * removes the clip, so every sprite is drawn and clipped by Java2D. The snapshot is built once 
+ * with the sprites grouped by their sprite sheet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderSnapshotBenchmark {
+    private static final int FRAME_WIDTH = 1920;
+    private static final int FRAME_HEIGHT = 1080;
+    private static final SpriteAnimationStruct[] SPRITES = {
+        Globals.ORDINARY_ZOMBIE_MOVE, Globals.CRAWLER_ZOMBIE_MOVE, Globals.ACID_ZOMBIE_MOVE, Globals.TANK_ZOMBIE_MOVE
+    };
+
+    @Param({"1", "3"})
+    private int spread;
+
+    @Param({"500"})
+    private int zombieCount;
+
+    private RenderSnapshot.Builder builder;
+    private BufferedImage frame;
+    private Graphics2D g;
+
+    @Setup
+    public void setup() {
+        this.builder = new RenderSnapshot.Builder();
+        Random random = new Random(42);
+        int areaWidth = FRAME_WIDTH * this.spread, areaHeight = FRAME_HEIGHT * this.spread;
+        for (int i = 0; i < this.zombieCount; i++) {
+            BufferedImage[] frames = SpriteSheetCache.getFrames(SPRITES[random.nextInt(SPRITES.length)]);
+            int x = random.nextInt(areaWidth) - (areaWidth - FRAME_WIDTH) / 2;
+            int y = random.nextInt(areaHeight) - (areaHeight - FRAME_HEIGHT) / 2;
+            this.builder.addRotated(frames[random.nextInt(frames.length)], x, y, random.nextDouble() * 2 * Math.PI, Globals.ZOMBIE_WIDTH, Globals.ZOMBIE_HEIGHT);
+        }
+        this.builder.publish(0);
+
+        this.frame = new BufferedImage(FRAME_WIDTH, FRAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        this.g = this.frame.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.g.dispose();
+    }
+
+    @Benchmark
+    public RenderSnapshot.DrawStats drawCulled() {
+        this.g.setClip(0, 0, FRAME_WIDTH, FRAME_HEIGHT);
+        return this.builder.drawLatest(this.g);
+    }
+
+    @Benchmark
+    public RenderSnapshot.DrawStats drawUnculled() {
+        this.g.setClip(null);
+        return this.builder.drawLatest(this.g);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * @file RotatedFrameCacheBenchmark.java
+ * @brief This file defines the `RotatedFrameCacheBenchmark` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @class RotatedFrameCacheBenchmark
+ * @brief Measures building and drawing a frame of rotated zombie sprites.
+ * 
+ * Zombies are placed at random positions and rotations, and their animations advance on each 
+ * invocation. With 0 angles the frames are transformed when they are drawn, otherwise they are 
+ * taken from the rotated frame cache. The frame is an off-screen image, so the software pipeline 
+ * is measured when running headless.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RotatedFrameCacheBenchmark {
+    private static final int FRAME_WIDTH = 1920;
+    private static final int FRAME_HEIGHT = 1080;
+
+    @Param({"0", "32", "64"})
+    private int angleCount;
+
+    @Param({"100", "500"})
+    private int zombieCount;
+
+    private BufferedImage[] frames;
+    private int[] xs, ys, frameIndices;
+    private double[] rotations;
+    private int tick = 0;
+
+    private final RenderSnapshot.Builder snapshotBuilder = new RenderSnapshot.Builder();
+    private BufferedImage frame;
+    private Graphics2D g;
+
+    @Setup
+    public void setup() {
+        RotatedFrameCache.getInstance().configure(this.angleCount, 128L * 1024 * 1024);
+
+        this.frames = SpriteSheetCache.getFrames(Globals.ORDINARY_ZOMBIE_MOVE);
+        this.xs = new int[this.zombieCount];
+        this.ys = new int[this.zombieCount];
+        this.frameIndices = new int[this.zombieCount];
+        this.rotations = new double[this.zombieCount];
+
+        Random random = new Random(42);
+        for (int i = 0; i < this.zombieCount; i++) {
+            this.xs[i] = random.nextInt(FRAME_WIDTH);
+            this.ys[i] = random.nextInt(FRAME_HEIGHT);
+            this.frameIndices[i] = random.nextInt(this.frames.length);
+            this.rotations[i] = random.nextDouble() * 2 * Math.PI;
+        }
+
+        this.frame = new BufferedImage(FRAME_WIDTH, FRAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        this.g = this.frame.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.g.dispose();
+        RotatedFrameCache.getInstance().configure(0, 0);
+    }
+
+    @Benchmark
+    public BufferedImage drawZombies() {
+        this.tick++;
+        for (int i = 0; i < this.zombieCount; i++) {
+            BufferedImage zombieFrame = this.frames[(this.frameIndices[i] + this.tick) % this.frames.length];
+            this.snapshotBuilder.addRotated(zombieFrame, this.xs[i], this.ys[i], this.rotations[i], Globals.ZOMBIE_WIDTH, Globals.ZOMBIE_HEIGHT);
+        }
+        this.snapshotBuilder.publish(this.tick);
+        this.snapshotBuilder.drawLatest(this.g);
+        return this.frame;
+    }
+}
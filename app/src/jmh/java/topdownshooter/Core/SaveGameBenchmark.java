@@ -0,0 +1,252 @@
+/*
+ * @file SaveGameBenchmark.java
+ * @brief This file defines the `SaveGameBenchmark` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import topdownshooter.Core.BlastFX.BlastType;
+import topdownshooter.Player.Loot;
+import topdownshooter.Player.Player;
+import topdownshooter.Player.PlayerItem;
+import topdownshooter.Weapon.WeaponType;
+import topdownshooter.Weapon.Projectiles.Bullet;
+import topdownshooter.Weapon.Projectiles.Projectile;
+import topdownshooter.Zombie.Zombie;
+import topdownshooter.Zombie.ZombieFactory;
+import topdownshooter.Zombie.ZombieType;
+
+/**
+ * @class SaveGameBenchmark
+ * @brief Measures saving and loading the game state at scaled zombie counts.
+ * 
+ * The game engine writes and reads the binary saved game format into a memory buffer to 
+ * keep the disk out of the measurement. The same game objects are also written and read 
+ * with Java serialization, the format of the saved games before, as the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveGameBenchmark {
+    private static final int PROJECTILE_COUNT = 256;
+    private static final int LOOT_COUNT = 32;
+
+    @Param({"10", "100", "1000", "10000"})
+    private int zombieCount;
+
+    private ConfigHandler config;
+    private Player player;
+    private GameLevel gameLevel;
+    private ArrayList<Zombie> zombies;
+    private ArrayList<Projectile> projectiles;
+    private ArrayList<Loot> loots;
+    private ArrayList<BlastFX> blastFXs;
+
+    private GameEngine gameEngine;
+    private SaveGame.Writer writer;
+    private byte[] savedGame;
+    private byte[] serializedGame;
+
+    @Setup
+    public void setup() throws IOException, ClassNotFoundException {
+        this.config = new ConfigHandler(Globals.CONFIGURATION_FILE);
+        ZombieType[] types = {ZombieType.ORDINARY, ZombieType.CRAWLER, ZombieType.TANK, ZombieType.ACID};
+        Random random = new Random(42);
+        TimerWheel timers = new TimerWheel();
+        GameRandom streams = new GameRandom();
+
+        this.player = new Player(this.config, timers, streams);
+        this.gameLevel = new GameLevel(this.config, timers, streams);
+
+        this.zombies = new ArrayList<>(this.zombieCount);
+        for (int i = 0; i < this.zombieCount; i++) {
+            this.zombies.add(ZombieFactory.createZombie(this.config, timers, streams, types[i % types.length], random.nextInt(Globals.WINDOW_WIDTH), random.nextInt(Globals.WINDOW_HEIGHT)));
+        }
+
+        this.projectiles = new ArrayList<>(PROJECTILE_COUNT);
+        for (int i = 0; i < PROJECTILE_COUNT; i++) {
+            this.projectiles.add(new Bullet(random.nextInt(Globals.WINDOW_WIDTH), random.nextInt(Globals.WINDOW_HEIGHT), random.nextDouble() * 2 * Math.PI, 10));
+        }
+
+        ArrayList<WeaponType> weapons = new ArrayList<>();
+        weapons.add(WeaponType.PISTOL);
+        this.loots = new ArrayList<>(LOOT_COUNT);
+        for (int i = 0; i < LOOT_COUNT; i++) {
+            this.loots.add(new Loot(random.nextInt(Globals.WINDOW_WIDTH), random.nextInt(Globals.WINDOW_HEIGHT), 10, PlayerItem.generatePlayerItem(random, 10, weapons)));
+        }
+
+        this.blastFXs = new ArrayList<>();
+        this.blastFXs.add(new BlastFX(BlastType.EXPLOSIVE_BLAST, 100, 100, 100));
+
+        // Load the objects into the engine through a saved game in the same layout as the engine writes
+        this.writer = new SaveGame.Writer();
+        writeObjects(this.writer);
+        this.gameEngine = new GameEngine(this.config, Globals.WINDOW_WIDTH, Globals.WINDOW_HEIGHT);
+        this.gameEngine.readGameState(new SaveGame.Reader(ByteBuffer.wrap(this.writer.toByteArray())));
+
+        this.savedGame = save();
+        this.serializedGame = serialize();
+    }
+
+    private void writeObjects(SaveGame.Writer writer) {
+        writer.beginSection(SaveGame.SECTION_PLAYER, 1);
+        this.player.writeState(writer);
+        writer.endSection();
+
+        writer.beginSection(SaveGame.SECTION_LEVEL, GameLevel.STATE_VERSION);
+        this.gameLevel.writeState(writer);
+        writer.endSection();
+
+        writer.beginSection(SaveGame.SECTION_ZOMBIES, 1);
+        for (Zombie zombie : this.zombies) {
+            writer.beginRecord();
+            writer.putEnum(zombie.getType());
+            zombie.writeState(writer);
+            writer.endRecord();
+        }
+        writer.endSection();
+
+        writer.beginSection(SaveGame.SECTION_PROJECTILES, 1);
+        for (Projectile projectile : this.projectiles) {
+            writer.beginRecord();
+            writer.putEnum(projectile.getType());
+            projectile.writeState(writer);
+            writer.endRecord();
+        }
+        writer.endSection();
+
+        writer.beginSection(SaveGame.SECTION_LOOTS, 1);
+        for (Loot loot : this.loots) {
+            writer.beginRecord();
+            loot.writeState(writer);
+            writer.endRecord();
+        }
+        writer.endSection();
+
+        writer.beginSection(SaveGame.SECTION_BLASTS, 1);
+        for (BlastFX blastFX : this.blastFXs) {
+            writer.beginRecord();
+            writer.putEnum(blastFX.getType());
+            blastFX.writeState(writer);
+            writer.endRecord();
+        }
+        writer.endSection();
+
+        writer.finish();
+    }
+
+    private byte[] save() {
+        this.writer.reset();
+        this.gameEngine.writeGameState(this.writer);
+        return this.writer.toByteArray();
+    }
+
+    private void load(byte[] savedGame) throws IOException {
+        this.gameEngine.readGameState(new SaveGame.Reader(ByteBuffer.wrap(savedGame)));
+    }
+
+    private byte[] serialize() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (ObjectOutputStream os = new ObjectOutputStream(buffer)) {
+            os.writeObject(this.player);
+            os.writeObject(this.gameLevel);
+            os.writeObject(this.zombies);
+            os.writeObject(this.projectiles);
+            os.writeObject(this.loots);
+            os.writeObject(this.blastFXs);
+        }
+        return buffer.toByteArray();
+    }
+
+    private void deserialize(byte[] serializedGame, Blackhole blackhole) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream os = new ObjectInputStream(new ByteArrayInputStream(serializedGame))) {
+            blackhole.consume(os.readObject());
+
+            GameLevel loadedGameLevel = (GameLevel) os.readObject();
+            loadedGameLevel.setConfig(this.config);
+            blackhole.consume(loadedGameLevel);
+
+            blackhole.consume(os.readObject());
+            blackhole.consume(os.readObject());
+            blackhole.consume(os.readObject());
+            blackhole.consume(os.readObject());
+        }
+    }
+
+    @Benchmark
+    public byte[] saveGame() {
+        return save();
+    }
+
+    @Benchmark
+    public int loadGame() throws IOException {
+        load(this.savedGame);
+        return this.gameEngine.getZombieCount();
+    }
+
+    @Benchmark
+    public int roundTrip() throws IOException {
+        load(save());
+        return this.gameEngine.getZombieCount();
+    }
+
+    @Benchmark
+    public byte[] saveGameSerialized() throws IOException {
+        return serialize();
+    }
+
+    @Benchmark
+    public void loadGameSerialized(Blackhole blackhole) throws IOException, ClassNotFoundException {
+        deserialize(this.serializedGame, blackhole);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * @file SpatialHashGridBenchmark.java
+ * @brief This file defines the `SpatialHashGridBenchmark` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * @class SpatialHashGridBenchmark
+ * @brief Measures the projectile-vs-zombie collision cost per projectile.
+ * 
+ * Zombies are represented by their rotated target bounds, scattered randomly over the 
+ * playground, and projectiles by their bullet-sized bounds. The brute force variant is 
+ * the check done before the broadphase grid was introduced; its cost grows linearly 
+ * with the zombie count, while the grid variant stays nearly flat.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpatialHashGridBenchmark {
+    private static final int PROJECTILE_COUNT = 256;
+
+    @Param({"10", "100", "300", "1000", "10000"})
+    private int zombieCount;
+
+    private RectangleBound[] zombieBounds;
+    private Rectangle[] projectileBounds;
+    private SpatialHashGrid<RectangleBound> grid;
+    private ArrayList<RectangleBound> candidates;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+
+        this.zombieBounds = new RectangleBound[this.zombieCount];
+        for (int i = 0; i < this.zombieCount; i++) {
+            int x = random.nextInt(Globals.WINDOW_WIDTH);
+            int y = random.nextInt(Globals.WINDOW_HEIGHT);
+            this.zombieBounds[i] = new RectangleBound(x, y, (int) (Globals.ZOMBIE_WIDTH * 0.8), (int) (Globals.ZOMBIE_HEIGHT * 0.8), random.nextDouble() * 2 * Math.PI);
+        }
+
+        this.projectileBounds = new Rectangle[PROJECTILE_COUNT];
+        for (int i = 0; i < PROJECTILE_COUNT; i++) {
+            int x = random.nextInt(Globals.WINDOW_WIDTH);
+            int y = random.nextInt(Globals.WINDOW_HEIGHT);
+            this.projectileBounds[i] = new Rectangle(x, y, Globals.BULLET_SIZE, Globals.BULLET_SIZE);
+        }
+
+        this.grid = new SpatialHashGrid<>(Globals.COLLISION_GRID_CELL_SIZE, Globals.COLLISION_GRID_BUCKET_COUNT);
+        this.candidates = new ArrayList<>();
+        rebuildGrid();
+    }
+
+    private void rebuildGrid() {
+        this.grid.clear();
+        for (RectangleBound bounds : this.zombieBounds) {
+            this.grid.insert(bounds, bounds.getRotatedBounds());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROJECTILE_COUNT)
+    public void bruteForce(Blackhole blackhole) {
+        for (Rectangle projectile : this.projectileBounds) {
+            for (RectangleBound zombie : this.zombieBounds) {
+                if (Globals.isObjectsCollided(projectile, zombie)) {
+                    blackhole.consume(zombie);
+                    break;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROJECTILE_COUNT)
+    public void grid(Blackhole blackhole) {
+        for (Rectangle projectile : this.projectileBounds) {
+            this.grid.query(projectile, this.candidates);
+            for (RectangleBound zombie : this.candidates) {
+                if (Globals.isObjectsCollided(projectile, zombie)) {
+                    blackhole.consume(zombie);
+                    break;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void rebuild() {
+        rebuildGrid();
+    }
+}
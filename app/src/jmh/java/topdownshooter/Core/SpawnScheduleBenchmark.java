@@ -0,0 +1,90 @@
+/*
+ * @file SpawnScheduleBenchmark.java
+ * @brief This file defines the `SpawnScheduleBenchmark` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package topdownshooter.Core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * @class SpawnScheduleBenchmark
+ * @brief Measures precomputing the spawn timeline of a wave and emitting its spawns tick by tick.
+ * 
+ * The wave lasts 30 seconds as the first level, so large waves spawn in bursts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpawnScheduleBenchmark {
+    private static final int WAVE_TICKS = Globals.Time2GameTick(30 * 1000);
+    private static final int MIN_BURST_INTERVAL = Globals.Time2GameTick(250);
+
+    @Param({"10", "100", "1000", "10000"})
+    private int zombieCount;
+
+    private SpawnSchedule spawnSchedule;
+
+    @Setup
+    public void setup() {
+        this.spawnSchedule = new SpawnSchedule(this.zombieCount, WAVE_TICKS, MIN_BURST_INTERVAL, 42);
+    }
+
+    @Benchmark
+    public SpawnSchedule createSchedule() {
+        return new SpawnSchedule(this.zombieCount, WAVE_TICKS, MIN_BURST_INTERVAL, 42);
+    }
+
+    @Benchmark
+    public void emitWave(Blackhole blackhole) {
+        int next = 0;
+        for (int tick = 1; tick <= WAVE_TICKS; tick++) {
+            while (next < this.spawnSchedule.size() && this.spawnSchedule.getTick(next) <= tick) {
+                blackhole.consume(this.spawnSchedule.getX(next, Globals.WINDOW_WIDTH));
+                blackhole.consume(this.spawnSchedule.getY(next, Globals.WINDOW_HEIGHT));
+                next++;
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * @file SpriteAnimationBenchmark.java
+ * @brief This file defines the `SpriteAnimationBenchmark` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @class SpriteAnimationBenchmark
+ * @brief Measures the construction of a sprite animation, as done on each zombie spawn.
+ * 
+ * The cached variant takes the frames from the sprite sheet cache, while the decoding 
+ * variant clears the cache first to measure the cost of reading the sprite sheet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpriteAnimationBenchmark {
+    @Benchmark
+    public SpriteAnimation constructCached() {
+        SpriteAnimation spriteAnimation = new SpriteAnimation(Globals.ORDINARY_ZOMBIE_MOVE);
+        spriteAnimation.setTargetSize(Globals.ZOMBIE_WIDTH, Globals.ZOMBIE_HEIGHT);
+        return spriteAnimation;
+    }
+
+    @Benchmark
+    public SpriteAnimation constructDecoding() {
+        SpriteSheetCache.clear();
+        SpriteAnimation spriteAnimation = new SpriteAnimation(Globals.ORDINARY_ZOMBIE_MOVE);
+        spriteAnimation.setTargetSize(Globals.ZOMBIE_WIDTH, Globals.ZOMBIE_HEIGHT);
+        return spriteAnimation;
+    }
+}
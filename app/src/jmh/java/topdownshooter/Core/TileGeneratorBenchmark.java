@@ -0,0 +1,99 @@
+/*
+ * @file TileGeneratorBenchmark.java
+ * @brief This file defines the `TileGeneratorBenchmark` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @class TileGeneratorBenchmark
+ * @brief Measures drawing the playground ground for a full HD frame.
+ * 
+ * The cached variant draws the ground layer of the tile generator, while the tiled variant 
+ * draws each tile of the frame as the ground was drawn before the layer was introduced. The 
+ * frame is an off-screen image, so the buffered layer is measured when running headless.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TileGeneratorBenchmark {
+    private static final int FRAME_WIDTH = 1920;
+    private static final int FRAME_HEIGHT = 1080;
+
+    private TileGenerator tileGenerator;
+    private BufferedImage tile;
+    private BufferedImage frame;
+    private Graphics2D g;
+
+    @Setup
+    public void setup() {
+        this.tileGenerator = new TileGenerator(Globals.PLAYGROUND_TILE_PATH);
+        this.tile = TextureRegistry.get(Globals.PLAYGROUND_TILE_PATH);
+        this.frame = new BufferedImage(FRAME_WIDTH, FRAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        this.g = this.frame.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.g.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage drawCached() {
+        this.tileGenerator.draw(this.g, FRAME_WIDTH, FRAME_HEIGHT);
+        return this.frame;
+    }
+
+    @Benchmark
+    public BufferedImage drawTiled() {
+        for (int x = 0; x < FRAME_WIDTH; x += this.tile.getWidth()) {
+            for (int y = 0; y < FRAME_HEIGHT; y += this.tile.getHeight()) {
+                this.g.drawImage(this.tile, x, y, null);
+            }
+        }
+        return this.frame;
+    }
+}
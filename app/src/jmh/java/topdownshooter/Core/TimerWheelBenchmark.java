@@ -0,0 +1,117 @@
+/*
+ * @file TimerWheelBenchmark.java
+ * @brief This file defines the `TimerWheelBenchmark` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package topdownshooter.Core;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @class TimerWheelBenchmark
+ * @brief Measures a game tick of repeating timers in the timing wheel against counting them down one by one.
+ * 
+ * The periods are spread between the fire rate of a weapon and a few seconds. The countdown 
+ * baseline decrements every timer on each tick, as the timers were updated before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimerWheelBenchmark {
+    private static final int MAX_PERIOD = 500;
+
+    @Param({"100", "1000", "10000"})
+    private int timerCount;
+
+    private TimerWheel wheel;
+    private TimeTick[] timers;
+    private int[] ticks;
+    private int[] periods;
+    private long expireCount;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        this.wheel = new TimerWheel();
+
+        this.timers = new TimeTick[this.timerCount];
+        this.ticks = new int[this.timerCount];
+        this.periods = new int[this.timerCount];
+        for (int i = 0; i < this.timerCount; i++) {
+            this.periods[i] = 10 + random.nextInt(MAX_PERIOD);
+            this.ticks[i] = this.periods[i];
+            this.timers[i] = new TimeTick(this.wheel, this.periods[i], () -> this.expireCount++);
+            this.timers[i].setRepeats(-1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.wheel.clear();
+    }
+
+    @Benchmark
+    public long advanceWheel() {
+        this.wheel.advance();
+        return this.expireCount;
+    }
+
+    @Benchmark
+    public long countDown() {
+        for (int i = 0; i < this.timerCount; i++) {
+            if (--this.ticks[i] == 0) {
+                this.ticks[i] = this.periods[i];
+                this.expireCount++;
+            }
+        }
+        return this.expireCount;
+    }
+
+    @Benchmark
+    public void resetTimer() {
+        int i = (int) (this.expireCount++ % this.timerCount);
+        this.timers[i].reset();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * @file CrowdSeparationBenchmark.java
+ * @brief This file defines the `CrowdSeparationBenchmark` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Zombie;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import topdownshooter.Core.ConfigHandler;
+import topdownshooter.Core.GameRandom;
+import topdownshooter.Core.Globals;
+import topdownshooter.Core.TimerWheel;
+
+/**
+ * @class CrowdSeparationBenchmark
+ * @brief Measures the crowd separation of a horde for a game tick at scaled zombie counts.
+ * 
+ * The zombies are packed into a square whose area grows with the zombie count, with about
+ * 4 zombies per separation cell, like a horde which caught up with the player. Since the
+ * neighbors of each zombie are capped, the time per zombie should stay flat as the horde grows.
+ * The pushed zombies are moved back after each invocation, so every invocation separates
+ * the same crowd.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrowdSeparationBenchmark {
+    private static final int RADIUS = 48;
+
+    @Param({"100", "1000", "10000"})
+    private int zombieCount;
+
+    private CrowdSeparation separation;
+    private ArrayList<Zombie> zombies;
+    private int[] xs, ys;
+
+    @Setup
+    public void setup() {
+        ConfigHandler config = new ConfigHandler(Globals.CONFIGURATION_FILE);
+        Random random = new Random(42);
+        TimerWheel timers = new TimerWheel();
+        GameRandom streams = new GameRandom();
+        int side = (int) Math.ceil(Math.sqrt(this.zombieCount / 4.0)) * RADIUS;
+
+        this.separation = new CrowdSeparation(RADIUS, 2.0);
+        this.zombies = new ArrayList<>(this.zombieCount);
+        this.xs = new int[this.zombieCount];
+        this.ys = new int[this.zombieCount];
+        for (int i = 0; i < this.zombieCount; i++) {
+            Zombie zombie = ZombieFactory.createZombie(config, timers, streams, ZombieType.ORDINARY, random.nextInt(side), random.nextInt(side));
+            this.zombies.add(zombie);
+            this.xs[i] = zombie.getX();
+            this.ys[i] = zombie.getY();
+        }
+    }
+
+    @Benchmark
+    public CrowdSeparation separate() {
+        this.separation.build(this.zombies);
+        for (int i = 0; i < this.zombieCount; i++) {
+            this.separation.separate(this.zombies.get(i), i);
+        }
+
+        // Move the zombies back, so the crowd stays packed
+        for (int i = 0; i < this.zombieCount; i++) {
+            Zombie zombie = this.zombies.get(i);
+            zombie.translate(this.xs[i] - zombie.getX(), this.ys[i] - zombie.getY());
+        }
+        return this.separation;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * @file ParallelZombieUpdateBenchmark.java
+ * @brief This file defines the `ParallelZombieUpdateBenchmark` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Zombie;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import topdownshooter.Core.ConfigHandler;
+import topdownshooter.Core.ConfigHandler.SimulationProperties;
+import topdownshooter.Core.GameRandom;
+import topdownshooter.Core.Globals;
+import topdownshooter.Core.RectangleBound;
+import topdownshooter.Core.TimerWheel;
+import topdownshooter.Weapon.Projectiles.Projectile;
+import topdownshooter.Weapon.Projectiles.ProjectilePool;
+
+/**
+ * @class ParallelZombieUpdateBenchmark
+ * @brief Measures the speedup of the parallel zombie update against the number of worker threads.
+ * 
+ * A thread count of 1 is the serial update on the benchmark thread, which is the baseline
+ * of the speedup. The parallel threshold is set to 1, so every other thread count splits
+ * the zombies regardless of the horde size. The flow field and the crowd separation are
+ * disabled, so only the steering itself is measured. Ranged attacks are generated as in
+ * the game and given back to the pool after each invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelZombieUpdateBenchmark {
+    @Param({"1000", "10000", "50000"})
+    private int zombieCount;
+
+    @Param({"1", "2", "4", "8"})
+    private int threadCount;
+
+    private ZombieUpdater zombieUpdater;
+    private ArrayList<Zombie> zombies;
+    private ZombieStore zombieStore;
+    private ArrayList<Projectile> spits;
+    private RectangleBound[] playerBounds;
+    private int tick = 0;
+
+    @Setup
+    public void setup() {
+        ConfigHandler config = new ConfigHandler(Globals.CONFIGURATION_FILE);
+        ZombieType[] types = {ZombieType.ORDINARY, ZombieType.CRAWLER, ZombieType.TANK, ZombieType.ACID};
+        Random random = new Random(42);
+        TimerWheel timers = new TimerWheel();
+        GameRandom streams = new GameRandom();
+
+        this.zombieUpdater = new ZombieUpdater(new SimulationProperties(false, false, 1, this.threadCount, 0, 0, RectangleBound.CollisionMode.BOUNDING_BOX));
+        this.zombies = new ArrayList<>(this.zombieCount);
+        this.zombieStore = new ZombieStore(timers, streams);
+        this.spits = new ArrayList<>();
+        for (int i = 0; i < this.zombieCount; i++) {
+            int x = random.nextInt(Globals.WINDOW_WIDTH);
+            int y = random.nextInt(Globals.WINDOW_HEIGHT);
+            ZombieType type = types[i % types.length];
+            this.zombies.add(ZombieFactory.createZombie(config, timers, streams, type, x, y));
+            this.zombieStore.add(type, config.getZombieProperties(type), x, y);
+        }
+
+        this.playerBounds = new RectangleBound[] {
+            new RectangleBound(0, 0, Globals.PLAYER_WIDTH, Globals.PLAYER_HEIGHT, 0),
+            new RectangleBound(Globals.WINDOW_WIDTH, Globals.WINDOW_HEIGHT, Globals.PLAYER_WIDTH, Globals.PLAYER_HEIGHT, 0),
+        };
+    }
+
+    @Benchmark
+    public ArrayList<Zombie> update() {
+        RectangleBound target = this.playerBounds[(this.tick++ >> 8) & 1];  // Switch the corner every 256 ticks
+        this.zombieUpdater.update(this.zombies, target, this.spits);
+        releaseSpits();
+        return this.zombies;
+    }
+
+    @Benchmark
+    public ZombieStore updateStore() {
+        RectangleBound target = this.playerBounds[(this.tick++ >> 8) & 1];  // Switch the corner every 256 ticks
+        this.zombieUpdater.update(this.zombieStore, target, this.spits);
+        releaseSpits();
+        return this.zombieStore;
+    }
+
+    private void releaseSpits() {
+        this.spits.forEach(ProjectilePool::release);
+        this.spits.clear();
+    }
+}
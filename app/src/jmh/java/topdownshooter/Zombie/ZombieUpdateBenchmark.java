@@ -0,0 +1,151 @@
+/*
+ * @file ZombieUpdateBenchmark.java
+ * @brief This file defines the `ZombieUpdateBenchmark` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Zombie;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import topdownshooter.Core.ConfigHandler;
+import topdownshooter.Core.GameRandom;
+import topdownshooter.Core.Globals;
+import topdownshooter.Core.RectangleBound;
+import topdownshooter.Core.TimerWheel;
+import topdownshooter.Weapon.Projectiles.Projectile;
+import topdownshooter.Weapon.Projectiles.ProjectilePool;
+
+/**
+ * @class ZombieUpdateBenchmark
+ * @brief Measures the update of all zombies for a game tick at scaled zombie counts.
+ * 
+ * The player alternates between two opposite corners of the playground every 256
+ * invocations, so the zombies keep chasing instead of piling up on the player.
+ * The same zombies are measured as objects and in a `ZombieStore`, steering directly to
+ * the player and along a `FlowField`. The flow field is recomputed when the player switches
+ * the corner, like when the player moves to another cell in the game.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZombieUpdateBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    private int zombieCount;
+
+    private ArrayList<Zombie> zombies;
+    private ZombieStore zombieStore;
+    private ArrayList<Projectile> spits;
+    private FlowField flowField;
+    private RectangleBound[] playerBounds;
+    private int tick = 0;
+
+    @Setup
+    public void setup() {
+        ConfigHandler config = new ConfigHandler(Globals.CONFIGURATION_FILE);
+        ZombieType[] types = {ZombieType.ORDINARY, ZombieType.CRAWLER, ZombieType.TANK, ZombieType.ACID};
+        Random random = new Random(42);
+        TimerWheel timers = new TimerWheel();
+        GameRandom streams = new GameRandom();
+
+        this.zombies = new ArrayList<>(this.zombieCount);
+        this.zombieStore = new ZombieStore(timers, streams);
+        this.spits = new ArrayList<>();
+        this.flowField = new FlowField();
+        this.flowField.resize(Globals.WINDOW_WIDTH, Globals.WINDOW_HEIGHT);
+        for (int i = 0; i < this.zombieCount; i++) {
+            int x = random.nextInt(Globals.WINDOW_WIDTH);
+            int y = random.nextInt(Globals.WINDOW_HEIGHT);
+            ZombieType type = types[i % types.length];
+            this.zombies.add(ZombieFactory.createZombie(config, timers, streams, type, x, y));
+            this.zombieStore.add(type, config.getZombieProperties(type), x, y);
+        }
+
+        this.playerBounds = new RectangleBound[] {
+            new RectangleBound(0, 0, Globals.PLAYER_WIDTH, Globals.PLAYER_HEIGHT, 0),
+            new RectangleBound(Globals.WINDOW_WIDTH, Globals.WINDOW_HEIGHT, Globals.PLAYER_WIDTH, Globals.PLAYER_HEIGHT, 0),
+        };
+    }
+
+    @Benchmark
+    public ArrayList<Zombie> update() {
+        RectangleBound target = this.playerBounds[(this.tick++ >> 8) & 1];  // Switch the corner every 256 ticks
+        for (Zombie zombie : this.zombies) {
+            zombie.update(target);
+        }
+        return this.zombies;
+    }
+
+    @Benchmark
+    public ZombieStore updateStore() {
+        RectangleBound target = this.playerBounds[(this.tick++ >> 8) & 1];  // Switch the corner every 256 ticks
+        this.zombieStore.update(target, this.spits);
+
+        // Ranged attacks are dropped, as the object benchmark does not generate them
+        this.spits.forEach(ProjectilePool::release);
+        this.spits.clear();
+        return this.zombieStore;
+    }
+
+    @Benchmark
+    public ArrayList<Zombie> updateFlowField() {
+        RectangleBound target = this.playerBounds[(this.tick++ >> 8) & 1];  // Switch the corner every 256 ticks
+        this.flowField.update((int) target.getX(), (int) target.getY());
+        for (Zombie zombie : this.zombies) {
+            zombie.update(target, this.flowField);
+        }
+        return this.zombies;
+    }
+
+    @Benchmark
+    public ZombieStore updateStoreFlowField() {
+        RectangleBound target = this.playerBounds[(this.tick++ >> 8) & 1];  // Switch the corner every 256 ticks
+        this.flowField.update((int) target.getX(), (int) target.getY());
+        this.zombieStore.update(target, this.flowField, this.spits);
+
+        // Ranged attacks are dropped, as the object benchmark does not generate them
+        this.spits.forEach(ProjectilePool::release);
+        this.spits.clear();
+        return this.zombieStore;
+    }
+}
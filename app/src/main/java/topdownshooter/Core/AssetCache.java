@@ -0,0 +1,168 @@
+/*
+ * @file AssetCache.java
+ * @brief This file defines the `AssetCache` class.
+ *
+ * Created on Sun Oct 18 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package topdownshooter.Core;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.imageio.ImageIO;
+
+/**
+ * @class AssetCache
+ * @brief Decodes an image asset from the resources once per key and shares the result.
+ * 
+ * The image of a key is decoded on its first request, converted by the load function of the 
+ * cache (e.g. sliced into frames) and the same value is returned for all following requests. 
+ * A key whose image cannot be loaded is remembered as failed, so the failure is reported once 
+ * and the resource is not read again on each draw. Decoding is done outside of the map, so 
+ * concurrent first requests may decode twice but always return the registered value.
+ * 
+ * @param <K> The type of the keys.
+ * @param <V> The type of the cached values.
+ * 
+ * @see TextureRegistry
+ * @see SpriteSheetCache
+ */
+final class AssetCache<K, V> {
+    private final String assetType;                                 /**< Kind of the assets, reported in the decode events. */
+    private final Function<K, String> pathOf;                       /**< Resource path of the image of a key. */
+    private final BiFunction<K, BufferedImage, V> load;             /**< Creates the cached value from the decoded image of a key. */
+    private final Map<K, V> values = new ConcurrentHashMap<>();     /**< Loaded values by key. */
+    private final Set<K> failedKeys = ConcurrentHashMap.newKeySet();  /**< Keys whose image cannot be loaded. */
+    private final AtomicLong decodeCount = new AtomicLong(0);       /**< Number of images decoded so far. */
+
+    /**
+     * Creates an empty cache.
+     * 
+     * @param assetType The kind of the assets (e.g. texture), reported in the decode events.
+     * @param pathOf Returns the resource path of the image of a key.
+     * @param load Creates the cached value from the decoded image of a key.
+     */
+    AssetCache(String assetType, Function<K, String> pathOf, BiFunction<K, BufferedImage, V> load) {
+        this.assetType = assetType;
+        this.pathOf = pathOf;
+        this.load = load;
+    }
+
+    /**
+     * Returns the value of the given key, loading it on the first request.
+     * 
+     * @param key The key.
+     * @return The shared value, or null if the key is null or its image cannot be loaded.
+     */
+    V get(K key) {
+        if (key == null) return null;
+
+        V value = this.values.get(key);
+        if (value != null || this.failedKeys.contains(key)) return value;
+
+        value = load(key);
+        if (value == null) {
+            this.failedKeys.add(key);
+            return null;
+        }
+
+        V previousValue = this.values.putIfAbsent(key, value);
+        return previousValue != null ? previousValue : value;
+    }
+
+    /**
+     * Returns the number of images decoded since the cache is created.
+     * 
+     * @return The decode count.
+     */
+    long getDecodeCount() {
+        return this.decodeCount.get();
+    }
+
+    /**
+     * Returns the number of values which are held in the cache.
+     * 
+     * @return The number of cached values.
+     */
+    int size() {
+        return this.values.size();
+    }
+
+    /**
+     * Removes all cached values and forgets the failed keys, so their images are loaded again. 
+     * Values which are already referenced by the callers stay valid.
+     */
+    void clear() {
+        this.values.clear();
+        this.failedKeys.clear();
+    }
+
+    /**
+     * Decodes the image of a key from the resources and creates its value.
+     * 
+     * @param key The key.
+     * @return The value, or null if the image cannot be loaded.
+     */
+    private V load(K key) {
+        String path = this.pathOf.apply(key);
+
+        GameEvents.AssetDecodeEvent decodeEvent = new GameEvents.AssetDecodeEvent();
+        decodeEvent.begin();
+        try (InputStream inputStream = AssetCache.class.getClassLoader().getResourceAsStream(path)) {
+            if (inputStream == null) {
+                throw new IOException(path + " is not found in resources");
+            }
+
+            BufferedImage image = ImageIO.read(inputStream);
+            if (image == null) {
+                throw new IOException("Failed to decode " + this.assetType.toLowerCase() + ": " + path);
+            }
+            this.decodeCount.incrementAndGet();
+
+            decodeEvent.end();
+            if (decodeEvent.shouldCommit()) {
+                decodeEvent.path = path;
+                decodeEvent.assetType = this.assetType;
+                decodeEvent.width = image.getWidth();
+                decodeEvent.height = image.getHeight();
+                decodeEvent.commit();
+            }
+
+            return this.load.apply(key, image);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+}
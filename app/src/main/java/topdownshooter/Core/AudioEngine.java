@@ -0,0 +1,459 @@
+/*
+ * @file AudioEngine.java
+ * @brief This file defines the `AudioEngine` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * @class AudioEngine
+ * @brief Software mixer that plays all sound effects of the game through a single audio line.
+ * 
+ * Each sound file is decoded once into a shared PCM buffer in the mixing format, regardless of 
+ * how many sound effects use it. Playing a sound only claims a voice, the voices are mixed in 
+ * blocks by a single mixer thread and written to one SourceDataLine. The number of voices is 
+ * limited by the maximum polyphony; when all of them are busy, the oldest one-shot voice is 
+ * replaced by the new sound.
+ * 
+ * Voices are referred by the ids returned from play(). An id becomes stale once its voice 
+ * finishes, so the methods taking an id simply ignore voices that are no longer playing.
+ */
+public final class AudioEngine {
+    private static final AudioFormat MIX_FORMAT = new AudioFormat(Globals.AUDIO_SAMPLE_RATE, 16, 2, true, false);  /**< Format of the decoded buffers and the audio line. */
+    private static final int CHANNELS = 2;                                                      /**< Number of interleaved channels in the decoded buffers. */
+    private static final AudioEngine INSTANCE = new AudioEngine();                              /**< The audio engine of the application. */
+
+    /**
+     * @class Voice
+     * @brief A sound being played by the mixer.
+     */
+    private static final class Voice {
+        private int id = -1;                /**< Id of the sound played by the voice. */
+        private short[] samples = null;     /**< Interleaved stereo samples of the sound, null if the voice is free. */
+        private int frame = 0;              /**< Next frame to be mixed. */
+        private int delayFrames = 0;        /**< Number of frames to wait before the sound starts. */
+        private boolean isLooping = false;  /**< Whether the sound restarts when it ends. */
+        private float gain = 1.0f;          /**< Current gain of the voice. */
+        private float gainStep = 0.0f;      /**< Gain decrement per frame while fading out. */
+    }
+
+    private final Map<String, short[]> buffers = new ConcurrentHashMap<>();  /**< Decoded sounds by their resource paths. */
+    private Voice[] voices = new Voice[0];                                  /**< Voice slots, guarded by the engine lock. */
+    private int activeVoiceCount = 0;                                       /**< Number of voices playing a sound. */
+    private int nextVoiceId = 0;                                            /**< Id given to the next sound played. */
+    private SourceDataLine line = null;                                     /**< The audio line, opened on the first play. */
+    private Thread mixerThread = null;                                      /**< Thread mixing the voices into the line. */
+    private volatile boolean isEnabled = true;                              /**< Whether sounds are played at all. */
+    private volatile boolean isAudioUnavailable = false;                    /**< Set once no audio line can be opened (e.g. headless machines). */
+
+    /**
+     * Constructs the audio engine with the default polyphony.
+     */
+    private AudioEngine() {
+        setMaxPolyphony(Globals.AUDIO_DEFAULT_MAX_POLYPHONY);
+    }
+
+    /**
+     * Returns the audio engine of the application.
+     * @return The audio engine.
+     */
+    public static AudioEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Sets the maximum number of sounds played at the same time. Sounds being played are stopped.
+     * @param maxPolyphony The maximum number of voices.
+     * @throws IllegalArgumentException If the polyphony is not positive.
+     */
+    public synchronized void setMaxPolyphony(int maxPolyphony) {
+        if (maxPolyphony <= 0) {
+            throw new IllegalArgumentException("Maximum polyphony must be positive: " + maxPolyphony);
+        }
+
+        this.voices = new Voice[maxPolyphony];
+        for (int i = 0; i < maxPolyphony; i++) {
+            this.voices[i] = new Voice();
+        }
+        this.activeVoiceCount = 0;
+    }
+
+    /**
+     * Returns the maximum number of sounds played at the same time.
+     * @return The maximum number of voices.
+     */
+    public synchronized int getMaxPolyphony() {
+        return this.voices.length;
+    }
+
+    /**
+     * Returns the number of sounds being played.
+     * @return The number of active voices.
+     */
+    public synchronized int getActiveVoiceCount() {
+        return this.activeVoiceCount;
+    }
+
+    /**
+     * Enables or disables the audio output. While disabled, sounds are neither decoded nor played.
+     * @param isEnabled Whether the audio output is enabled.
+     */
+    public void setEnabled(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+        if (!isEnabled) {
+            stopAll();
+        }
+    }
+
+    /**
+     * Returns the decoded samples of a sound file. The file is decoded only once.
+     * @param path The path of the sound file in resources.
+     * @return The interleaved stereo samples, or null if the file cannot be decoded or audio is disabled.
+     */
+    public short[] load(String path) {
+        if (!this.isEnabled || this.isAudioUnavailable) return null;
+
+        return this.buffers.computeIfAbsent(path, AudioEngine::decode);
+    }
+
+    /**
+     * Plays a decoded sound.
+     * @param samples The samples returned by load().
+     * @param loop If true, the sound will loop continuously.
+     * @param delayMs The delay in milliseconds before the sound starts.
+     * @param startFrame The frame the sound starts from.
+     * @return The id of the voice playing the sound, or -1 if the sound cannot be played.
+     */
+    public synchronized int play(short[] samples, boolean loop, int delayMs, int startFrame) {
+        if (samples == null || samples.length < CHANNELS || !this.isEnabled || !ensureStarted()) return -1;
+
+        Voice voice = findFreeVoice();
+        if (voice == null) return -1;  // All voices are looping
+
+        if (voice.samples == null) this.activeVoiceCount++;
+        voice.id = this.nextVoiceId;
+        voice.samples = samples;
+        voice.frame = Math.max(0, Math.min(startFrame, samples.length / CHANNELS - 1));
+        voice.delayFrames = (int) ((long) delayMs * Globals.AUDIO_SAMPLE_RATE / 1000);
+        voice.isLooping = loop;
+        voice.gain = 1.0f;
+        voice.gainStep = 0.0f;
+        this.nextVoiceId = (this.nextVoiceId + 1) & Integer.MAX_VALUE;
+
+        notifyAll();  // Wake up the mixer if it is idle
+        return voice.id;
+    }
+
+    /**
+     * Returns whether a sound is still being played.
+     * @param id The id of the voice.
+     * @return True if the voice is playing the sound or waiting for its delay.
+     */
+    public synchronized boolean isPlaying(int id) {
+        return findVoice(id) != null;
+    }
+
+    /**
+     * Stops a sound immediately.
+     * @param id The id of the voice.
+     * @return The frame the sound was stopped at, or 0 if the sound is not playing.
+     */
+    public synchronized int stop(int id) {
+        Voice voice = findVoice(id);
+        if (voice == null) return 0;
+
+        int frame = voice.frame;
+        release(voice);
+        return frame;
+    }
+
+    /**
+     * Stops all sounds immediately.
+     */
+    public synchronized void stopAll() {
+        for (Voice voice : this.voices) {
+            if (voice.samples != null) release(voice);
+        }
+    }
+
+    /**
+     * Fades a sound out linearly and stops it.
+     * @param id The id of the voice.
+     * @param durationMs The duration of the fade-out in milliseconds.
+     */
+    public synchronized void fadeOut(int id, int durationMs) {
+        Voice voice = findVoice(id);
+        if (voice == null) return;
+
+        int frames = Math.max(1, (int) ((long) durationMs * Globals.AUDIO_SAMPLE_RATE / 1000));
+        voice.gainStep = voice.gain / frames;
+    }
+
+    /**
+     * Returns a free voice, or the oldest one-shot voice if all of them are busy.
+     * @return The voice, or null if all voices are looping.
+     */
+    private Voice findFreeVoice() {
+        Voice oldest = null;
+        for (Voice voice : this.voices) {
+            if (voice.samples == null) return voice;
+            if (!voice.isLooping && (oldest == null || isOlder(voice.id, oldest.id))) oldest = voice;
+        }
+        return oldest;
+    }
+
+    /**
+     * Returns whether a voice id was given before another one, considering wrap around of the ids.
+     * @param id The id of the voice.
+     * @param other The id of the other voice.
+     * @return True if id is older.
+     */
+    private boolean isOlder(int id, int other) {
+        return ((this.nextVoiceId - id) & Integer.MAX_VALUE) > ((this.nextVoiceId - other) & Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the voice playing the sound with the id.
+     * @param id The id of the voice.
+     * @return The voice, or null if the sound is not being played.
+     */
+    private Voice findVoice(int id) {
+        if (id < 0) return null;
+
+        for (Voice voice : this.voices) {
+            if (voice.id == id && voice.samples != null) return voice;
+        }
+        return null;
+    }
+
+    /**
+     * Frees a voice.
+     * @param voice The voice.
+     */
+    private void release(Voice voice) {
+        voice.samples = null;
+        voice.id = -1;
+        this.activeVoiceCount--;
+    }
+
+    /**
+     * Opens the audio line and starts the mixer thread if they are not started yet.
+     * @return True if the mixer is running.
+     */
+    private boolean ensureStarted() {
+        if (this.mixerThread != null) return true;
+        if (this.isAudioUnavailable) return false;
+
+        try {
+            this.line = AudioSystem.getSourceDataLine(MIX_FORMAT);
+            this.line.open(MIX_FORMAT, Globals.AUDIO_LINE_BUFFER_FRAMES * MIX_FORMAT.getFrameSize());
+            this.line.start();
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            // No line supports the mixing format, so the game runs without sound from now on
+            this.isAudioUnavailable = true;
+            this.line = null;
+            this.buffers.clear();
+            System.err.println("Audio output is not available, sound effects are disabled: " + e.getMessage());
+            return false;
+        }
+
+        this.mixerThread = new Thread(this::runMixer, "AudioMixer");
+        this.mixerThread.setDaemon(true);
+        this.mixerThread.setPriority(Thread.MAX_PRIORITY);
+        this.mixerThread.start();
+        return true;
+    }
+
+    /**
+     * Body of the mixer thread. Mixes the voices block by block and writes them to the line, 
+     * which blocks while the line buffer is full and so paces the mixer.
+     */
+    private void runMixer() {
+        int[] mix = new int[Globals.AUDIO_MIX_BLOCK_FRAMES * CHANNELS];
+        byte[] output = new byte[Globals.AUDIO_MIX_BLOCK_FRAMES * MIX_FORMAT.getFrameSize()];
+
+        try {
+            while (true) {
+                synchronized (this) {
+                    while (this.activeVoiceCount == 0) {
+                        wait();  // Nothing to play, the line drains and plays silence
+                    }
+                    mixBlock(mix);
+                }
+
+                for (int i = 0, j = 0; i < mix.length; i++, j += 2) {
+                    int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mix[i]));
+                    output[j] = (byte) sample;
+                    output[j + 1] = (byte) (sample >> 8);
+                }
+                this.line.write(output, 0, output.length);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Mixes the next block of all active voices.
+     * @param mix The buffer of interleaved stereo samples to mix into.
+     */
+    private void mixBlock(int[] mix) {
+        Arrays.fill(mix, 0);
+
+        for (Voice voice : this.voices) {
+            if (voice.samples == null) continue;
+
+            short[] samples = voice.samples;
+            int frameCount = samples.length / CHANNELS;
+            int outFrame = 0;
+
+            if (voice.delayFrames > 0) {
+                outFrame = Math.min(voice.delayFrames, Globals.AUDIO_MIX_BLOCK_FRAMES);
+                voice.delayFrames -= outFrame;
+            }
+
+            while (outFrame < Globals.AUDIO_MIX_BLOCK_FRAMES) {
+                if (voice.frame >= frameCount) {
+                    if (!voice.isLooping) {
+                        release(voice);
+                        break;
+                    }
+                    voice.frame = 0;
+                }
+
+                int frames = Math.min(Globals.AUDIO_MIX_BLOCK_FRAMES - outFrame, frameCount - voice.frame);
+                int in = voice.frame * CHANNELS;
+                int out = outFrame * CHANNELS;
+
+                if (voice.gainStep == 0.0f && voice.gain == 1.0f) {
+                    for (int i = 0; i < frames * CHANNELS; i++) {
+                        mix[out + i] += samples[in + i];
+                    }
+                } else {
+                    float gain = voice.gain;
+                    for (int i = 0; i < frames; i++) {
+                        mix[out++] += (int) (samples[in++] * gain);
+                        mix[out++] += (int) (samples[in++] * gain);
+                        gain = Math.max(0.0f, gain - voice.gainStep);
+                    }
+                    voice.gain = gain;
+                }
+
+                voice.frame += frames;
+                outFrame += frames;
+
+                if (voice.gain <= 0.0f) {
+                    release(voice);  // Faded out
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Decodes a sound file into the mixing format.
+     * @param path The path of the sound file in resources.
+     * @return The interleaved stereo samples, or null if the file cannot be decoded.
+     */
+    private static short[] decode(String path) {
+        InputStream input = AudioEngine.class.getClassLoader().getResourceAsStream(path);
+        if (input == null) {
+            System.err.println("Sound file not found: " + path);
+            return null;
+        }
+
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(input))) {
+            AudioFormat format = source.getFormat();
+            int channels = format.getChannels();
+            AudioFormat pcmFormat = new AudioFormat(format.getSampleRate(), 16, channels, true, false);
+
+            byte[] bytes;
+            try (AudioInputStream pcm = AudioSystem.getAudioInputStream(pcmFormat, source)) {
+                bytes = pcm.readAllBytes();
+            }
+
+            return resample(bytes, channels, format.getSampleRate());
+        } catch (UnsupportedAudioFileException | IOException | IllegalArgumentException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Converts 16-bit little endian PCM samples to stereo samples at the mixing sample rate.
+     * @param bytes The PCM samples.
+     * @param channels The number of channels in the samples. Only the first two are kept.
+     * @param sampleRate The sample rate of the samples.
+     * @return The interleaved stereo samples.
+     */
+    private static short[] resample(byte[] bytes, int channels, float sampleRate) {
+        int frameSize = channels * 2;
+        int inFrames = bytes.length / frameSize;
+        int outFrames = (int) ((long) inFrames * Globals.AUDIO_SAMPLE_RATE / (long) sampleRate);
+        double step = sampleRate / Globals.AUDIO_SAMPLE_RATE;
+        short[] samples = new short[outFrames * CHANNELS];
+
+        for (int i = 0; i < outFrames; i++) {
+            double position = i * step;
+            int frame = (int) position;
+            int next = Math.min(frame + 1, inFrames - 1);
+            double fraction = position - frame;
+
+            for (int channel = 0; channel < CHANNELS; channel++) {
+                int inChannel = Math.min(channel, channels - 1);  // Mono is played on both channels
+                int a = readSample(bytes, frame * frameSize + inChannel * 2);
+                int b = readSample(bytes, next * frameSize + inChannel * 2);
+                samples[i * CHANNELS + channel] = (short) Math.round(a + (b - a) * fraction);
+            }
+        }
+        return samples;
+    }
+
+    /**
+     * Reads a 16-bit little endian sample.
+     * @param bytes The PCM samples.
+     * @param offset The offset of the sample.
+     * @return The sample.
+     */
+    private static int readSample(byte[] bytes, int offset) {
+        return (short) ((bytes[offset] & 0xFF) | (bytes[offset + 1] << 8));
+    }
+}
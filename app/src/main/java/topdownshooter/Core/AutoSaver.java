@@ -0,0 +1,328 @@
+/*
+ * @file AutoSaver.java
+ * @brief This file defines the `AutoSaver` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package topdownshooter.Core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.Deflater;
+
+import topdownshooter.Core.ConfigHandler.AutosaveProperties;
+
+/**
+ * @class AutoSaver
+ * @brief Saves the game periodically without stalling the game loop.
+ * 
+ * At a tick boundary, the game state is written to an in-memory saved game on the game loop 
+ * thread. The saved game is a flat copy of the simulation state, so it is a cheap snapshot 
+ * which no longer depends on the game objects. The snapshot is then compressed and written 
+ * to a file on a background thread, while the game goes on.
+ * 
+ * Autosaves rotate over a fixed number of slots; each autosave replaces the oldest slot. Files 
+ * are replaced atomically, so a crash during an autosave leaves the other slots intact.
+ * 
+ * The snapshot buffer is reused. It is owned by the game loop thread while no autosave is in 
+ * progress, and by the background thread until the autosave is written. If an autosave is 
+ * due while the previous one is still being written, it is skipped.
+ * 
+ * @see SaveGame
+ */
+public class AutoSaver {
+    /**
+     * @brief Measurements of an autosave.
+     * 
+     * @param path The file the autosave is written to.
+     * @param tickCount The tick of the game at which the snapshot is taken.
+     * @param snapshotNanos Time taken to write the snapshot on the game loop thread in nanoseconds.
+     * @param encodeNanos Time taken to compress the snapshot in nanoseconds (0 if compression is disabled).
+     * @param writeNanos Time taken to write the file in nanoseconds.
+     * @param bytesWritten Size of the file in bytes.
+     */
+    public record Stats(Path path, long tickCount, long snapshotNanos, long encodeNanos, long writeNanos, long bytesWritten) {}
+
+    public static final String SLOT_PREFIX = "autosave-";       /**< Prefix of the names of the autosave files. */
+    public static final String SLOT_EXTENSION = ".sav";         /**< Extension of the autosave files. */
+
+    private static final long CLOSE_TIMEOUT_MS = 5000;          /**< Maximum time to wait for a running autosave on close. */
+
+    private final boolean isEnabled;                            /**< Whether autosaves are taken. */
+    private final int intervalTicks;                            /**< Number of game ticks between autosaves. */
+    private final int slotCount;                                /**< Number of autosave files. */
+    private final boolean isCompressionEnabled;                 /**< Whether the autosave files are compressed. */
+    private final Path directory;                               /**< Directory of the autosave files. */
+
+    private final ExecutorService executor;                     /**< Background thread compressing and writing the autosaves, null if autosaves are disabled. */
+    private final SaveGame.Writer writer = new SaveGame.Writer();  /**< Reused snapshot buffer. */
+    private final AtomicBoolean isSaving = new AtomicBoolean(false);  /**< Whether the snapshot buffer is owned by the background thread. */
+    private final Deflater deflater;                            /**< Compressor of the autosaves, used on the background thread. */
+    private ByteBuffer compressed = ByteBuffer.allocate(16 * 1024);  /**< Reused buffer of the compressed autosave, used on the background thread. */
+    private int nextSlot = -1;                                  /**< Slot of the next autosave, -1 until the slots are scanned on the background thread. */
+
+    private int remainingTicks;                                 /**< Game ticks until the next autosave, used on the game loop thread. */
+
+    private volatile Stats lastStats = null;                    /**< Measurements of the latest autosave, null if none is written yet. */
+    private volatile long saveCount = 0;                        /**< Number of autosaves written. */
+    private volatile long skippedCount = 0;                     /**< Number of autosaves skipped because the previous one was still in progress. */
+    private volatile long failureCount = 0;                     /**< Number of autosaves which could not be written. */
+
+    /**
+     * Constructs an AutoSaver.
+     * 
+     * @param properties The autosave properties.
+     */
+    public AutoSaver(AutosaveProperties properties) {
+        this.isEnabled = properties.isEnabled();
+        this.intervalTicks = Math.max(1, Globals.Time2GameTick(properties.interval() * 1000));
+        this.slotCount = properties.slotCount();
+        this.isCompressionEnabled = properties.isCompressionEnabled();
+        this.directory = Paths.get(properties.directory());
+        this.remainingTicks = this.intervalTicks;
+
+        if (this.isEnabled) {
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "AutoSave");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+        } else {
+            this.executor = null;
+        }
+        this.deflater = this.isCompressionEnabled ? new Deflater(Deflater.BEST_SPEED) : null;
+    }
+
+    /**
+     * Counts down to the next autosave and takes it when it is due. Must be called on the game 
+     * loop thread after each game tick.
+     * 
+     * @param gameEngine The game engine to save.
+     */
+    public void update(GameEngine gameEngine) {
+        if (!this.isEnabled) return;
+
+        if (--this.remainingTicks > 0) return;
+        this.remainingTicks = this.intervalTicks;
+
+        save(gameEngine);
+    }
+
+    /**
+     * Takes a snapshot of the game and writes it to the next slot in the background. Must be 
+     * called on the thread that updates the game engine, or while the game engine is not updated.
+     * 
+     * @param gameEngine The game engine to save.
+     * @return True if the autosave is started, false if autosaves are disabled, there is no game 
+     *         to save, or the previous autosave is still in progress.
+     */
+    public boolean save(GameEngine gameEngine) {
+        if (!this.isEnabled || gameEngine.getPlayer() == null || gameEngine.isGameOver()) return false;
+
+        if (!this.isSaving.compareAndSet(false, true)) {
+            this.skippedCount++;
+            return false;
+        }
+
+        long tickCount = gameEngine.getTickCount();
+        long startTime = System.nanoTime();
+        try {
+            this.writer.reset();
+            gameEngine.writeGameState(this.writer);
+        } catch (RuntimeException e) {
+            this.isSaving.set(false);
+            throw e;
+        }
+        long snapshotNanos = System.nanoTime() - startTime;
+
+        try {
+            this.executor.execute(() -> write(tickCount, snapshotNanos));
+        } catch (RuntimeException e) {
+            // Rejected after close
+            this.isSaving.set(false);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Compresses the snapshot and writes it to the next slot. Runs on the background thread.
+     * 
+     * @param tickCount The tick of the game at which the snapshot is taken.
+     * @param snapshotNanos Time taken to write the snapshot in nanoseconds.
+     */
+    private void write(long tickCount, long snapshotNanos) {
+        GameEvents.SaveGameEvent saveEvent = new GameEvents.SaveGameEvent();
+        saveEvent.begin();
+        try {
+            long startTime = System.nanoTime();
+            ByteBuffer data;
+            if (this.isCompressionEnabled) {
+                this.compressed = SaveGame.compress(this.writer, this.deflater, this.compressed);
+                data = this.compressed;
+            } else {
+                data = this.writer.getData();
+            }
+            long encodeNanos = this.isCompressionEnabled ? System.nanoTime() - startTime : 0;
+            long bytesWritten = data.remaining();
+
+            startTime = System.nanoTime();
+            Files.createDirectories(this.directory);
+            if (this.nextSlot < 0) {
+                this.nextSlot = findOldestSlot();
+            }
+            Path path = getSlotPath(this.nextSlot);
+            SaveGame.write(path, data);
+            long writeNanos = System.nanoTime() - startTime;
+
+            this.nextSlot = (this.nextSlot + 1) % this.slotCount;
+            this.lastStats = new Stats(path, tickCount, snapshotNanos, encodeNanos, writeNanos, bytesWritten);
+            this.saveCount++;
+
+            // The snapshot taken on the game loop thread is in the autosave phase of the game tick
+            saveEvent.end();
+            if (saveEvent.shouldCommit()) {
+                saveEvent.path = path.toString();
+                saveEvent.bytes = bytesWritten;
+                saveEvent.tick = tickCount;
+                saveEvent.isAutosave = true;
+                saveEvent.commit();
+            }
+        } catch (IOException | RuntimeException e) {
+            this.failureCount++;
+            System.err.println("Cannot write autosave: " + e.getMessage());
+        } finally {
+            this.isSaving.set(false);
+        }
+    }
+
+    /**
+     * Finds the slot to be replaced first, so autosaves of earlier runs are rotated as well.
+     * 
+     * @return The first missing slot, or the slot which is modified least recently.
+     */
+    private int findOldestSlot() {
+        int oldestSlot = 0;
+        FileTime oldestTime = null;
+        for (int slot = 0; slot < this.slotCount; slot++) {
+            Path path = getSlotPath(slot);
+            if (!Files.exists(path)) return slot;
+
+            try {
+                FileTime time = Files.getLastModifiedTime(path);
+                if (oldestTime == null || time.compareTo(oldestTime) < 0) {
+                    oldestTime = time;
+                    oldestSlot = slot;
+                }
+            } catch (IOException e) {
+                return slot;
+            }
+        }
+        return oldestSlot;
+    }
+
+    /**
+     * Returns the path of an autosave slot.
+     * 
+     * @param slot The index of the slot.
+     * @return The path of the autosave file.
+     */
+    public Path getSlotPath(int slot) {
+        return this.directory.resolve(SLOT_PREFIX + (slot + 1) + SLOT_EXTENSION);
+    }
+
+    /**
+     * Waits for the running autosave to be written and stops the background thread.
+     */
+    public void close() {
+        if (this.executor == null) return;
+
+        this.executor.shutdown();
+        try {
+            this.executor.awaitTermination(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (this.deflater != null && this.executor.isTerminated()) {
+            this.deflater.end();
+        }
+    }
+
+    /**
+     * Returns whether autosaves are taken.
+     * 
+     * @return True if autosaves are enabled.
+     */
+    public boolean isEnabled() {
+        return this.isEnabled;
+    }
+
+    /**
+     * Returns the measurements of the latest autosave.
+     * 
+     * @return The measurements, or null if no autosave is written yet.
+     */
+    public Stats getLastStats() {
+        return this.lastStats;
+    }
+
+    /**
+     * Returns the number of autosaves written.
+     * 
+     * @return The number of autosaves written.
+     */
+    public long getSaveCount() {
+        return this.saveCount;
+    }
+
+    /**
+     * Returns the number of autosaves skipped because the previous one was still in progress.
+     * 
+     * @return The number of skipped autosaves.
+     */
+    public long getSkippedCount() {
+        return this.skippedCount;
+    }
+
+    /**
+     * Returns the number of autosaves which could not be written.
+     * 
+     * @return The number of failed autosaves.
+     */
+    public long getFailureCount() {
+        return this.failureCount;
+    }
+}
@@ -29,7 +29,7 @@
 
 package topdownshooter.Core;
 
-import java.awt.Graphics;
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.Random;
 
@@ -58,28 +58,55 @@ public class BlastFX implements Serializable {
     private int perimeter = 0;                      /** The perimeter of the blast effect in pixels. */
 
     private SpriteAnimation blastAnimation = null;  /** The animation associated with the blast. */
-    private static Random random = new Random();    /** Random number generator for effect randomization. */
 
     /**
-     * Constructs a new BlastFX object.
+     * Constructs a new BlastFX object. It is not rotated until it is initialized by init().
      * @param type The type of the blast (explosive or toxic).
      * @param x The X-coordinate where the blast occurs.
      * @param y The Y-coordinate where the blast occurs.
      * @param perimeter The size of the blast effect.
      */
     public BlastFX(BlastType type, int x, int y, int perimeter) {
-        this.type = type;
-        this.perimeter = perimeter;
+        setUp(type, x, y, perimeter);
+    }
+
+    /**
+     * Re-initializes the blast effect with a random rotation. It is used when a blast effect is 
+     * acquired from the pool; the animation is rewound and reused if the blast type is not changed.
+     * @param type The type of the blast (explosive or toxic).
+     * @param x The X-coordinate where the blast occurs.
+     * @param y The Y-coordinate where the blast occurs.
+     * @param perimeter The size of the blast effect.
+     * @param random The random number stream of the effects, which the rotation is drawn from.
+     * @see BlastFXPool
+     */
+    public void init(BlastType type, int x, int y, int perimeter, Random random) {
+        setUp(type, x, y, perimeter);
+        this.r = random.nextDouble(Globals.degToRad(360));  // Randomize rotation of the animation to make explosion unique
+    }
 
-        if (this.type == BlastType.TOXIC_BLAST) {
+    /**
+     * Sets up the blast effect without rotating it. The rotation is only drawn by init(), so 
+     * the random numbers drawn do not depend on whether the pool creates or reuses a blast effect.
+     * @param type The type of the blast (explosive or toxic).
+     * @param x The X-coordinate where the blast occurs.
+     * @param y The Y-coordinate where the blast occurs.
+     * @param perimeter The size of the blast effect.
+     */
+    private void setUp(BlastType type, int x, int y, int perimeter) {
+        if (this.blastAnimation != null && this.type == type) {
+            this.blastAnimation.reset();
+        } else if (type == BlastType.TOXIC_BLAST) {
             this.blastAnimation = new SpriteAnimation(Globals.TOXIC_BLAST_ANIMATION);
         } else {
             this.blastAnimation = new SpriteAnimation(Globals.EXPLOSIVE_BLAST_ANIMATION);
         }
 
+        this.type = type;
+        this.perimeter = perimeter;
+
         this.originX = x - this.perimeter / 2;
         this.originY = y - this.perimeter / 2;
-        this.r = random.nextDouble(Globals.degToRad(360));  // Randomize rotation of the animation to make explosion unique
 
         this.blastAnimation.setTargetSize(this.perimeter, this.perimeter);
         this.blastAnimation.setRepeat(1);  // Explosions does not repeat
@@ -94,11 +121,47 @@ public class BlastFX implements Serializable {
         return false;        
     }
     
+    /**
+     * Returns the type of the blast.
+     * @return The blast type.
+     */
+    public BlastType getType() {
+        return this.type;
+    }
+
+    /**
+     * Writes the state of the blast (position, rotation, size and animation frame) to a saved game. 
+     * The type is not written, it is written by the owner to create the blast on load.
+     * @param writer The writer of the saved game.
+     */
+    public void writeState(SaveGame.Writer writer) {
+        writer.putInt(this.originX);
+        writer.putInt(this.originY);
+        writer.putDouble(this.r);
+        writer.putInt(this.perimeter);
+        this.blastAnimation.writeState(writer);
+    }
+
+    /**
+     * Restores the state of the blast from a saved game. The blast must be initialized with the saved type.
+     * @param reader The reader of the saved game.
+     * @throws IOException If the state cannot be read.
+     */
+    public void readState(SaveGame.Reader reader) throws IOException {
+        this.originX = reader.getInt();
+        this.originY = reader.getInt();
+        this.r = reader.getDouble();
+        this.perimeter = reader.getInt();
+
+        this.blastAnimation.setTargetSize(this.perimeter, this.perimeter);
+        this.blastAnimation.readState(reader);
+    }
+
     /**
      * Draws the blast effect on the screen.
-     * @param g The Graphics object to render the explosion.
+     * @param snapshot The snapshot builder of the frame.
      */
-    public void draw(Graphics g) {
-        if(this.blastAnimation!=null) this.blastAnimation.draw(g, this.originX, this.originY, this.r);        
+    public void draw(RenderSnapshot.Builder snapshot) {
+        if(this.blastAnimation!=null) this.blastAnimation.draw(snapshot, this.originX, this.originY, this.r);        
     }
 }
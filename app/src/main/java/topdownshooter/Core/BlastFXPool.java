@@ -0,0 +1,72 @@
+/*
+ * @file BlastFXPool.java
+ * @brief This file defines the `BlastFXPool` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.util.Random;
+
+import topdownshooter.Core.BlastFX.BlastType;
+
+/**
+ * @class BlastFXPool
+ * @brief Pool of reusable blast effects.
+ * 
+ * @see ObjectPool
+ * @see BlastFX
+ */
+public final class BlastFXPool {
+    private static final ObjectPool<BlastFX> blastFXPool = new ObjectPool<>("BlastFX", Globals.BLAST_FX_POOL_CAPACITY, () -> new BlastFX(BlastType.EXPLOSIVE_BLAST, 0, 0, 0));
+
+    private BlastFXPool() {}
+
+    /**
+     * Acquires a blast effect from the pool.
+     * 
+     * @param type The type of the blast (explosive or toxic).
+     * @param x The X-coordinate where the blast occurs.
+     * @param y The Y-coordinate where the blast occurs.
+     * @param perimeter The size of the blast effect.
+     * @param random The random number stream of the effects, which the rotation is drawn from.
+     * @return The initialized blast effect.
+     */
+    public static BlastFX acquire(BlastType type, int x, int y, int perimeter, Random random) {
+        BlastFX blastFX = blastFXPool.acquire();
+        blastFX.init(type, x, y, perimeter, random);
+        return blastFX;
+    }
+
+    /**
+     * Gives a blast effect back to the pool. The blast effect must not be used after it is released.
+     * 
+     * @param blastFX The blast effect which is finished. Null is ignored.
+     */
+    public static void release(BlastFX blastFX) {
+        blastFXPool.release(blastFX);
+    }
+}
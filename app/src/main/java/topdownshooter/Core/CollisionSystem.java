@@ -0,0 +1,698 @@
+/*
+ * @file CollisionSystem.java
+ * @brief This file defines the `CollisionSystem` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import topdownshooter.Core.BlastFX.BlastType;
+import topdownshooter.Player.Loot;
+import topdownshooter.Player.LootPool;
+import topdownshooter.Player.Player;
+import topdownshooter.Weapon.Projectiles.AcidSpit;
+import topdownshooter.Weapon.Projectiles.ArmorPiercingBullet;
+import topdownshooter.Weapon.Projectiles.Bullet;
+import topdownshooter.Weapon.Projectiles.Projectile;
+import topdownshooter.Weapon.Projectiles.ProjectilePool;
+import topdownshooter.Weapon.Projectiles.ProjectileType;
+import topdownshooter.Weapon.Projectiles.Rocket;
+import topdownshooter.Weapon.Projectiles.ShotgunPellets;
+import topdownshooter.Zombie.AcidZombie;
+import topdownshooter.Zombie.Zombie;
+import topdownshooter.Zombie.ZombieStore;
+import topdownshooter.Zombie.ZombieType;
+
+/**
+ * @class CollisionSystem
+ * @brief Resolves the collisions between the game objects for a game tick.
+ * 
+ * The game objects are owned by the caller and passed into each check, so the checks 
+ * can be run (and measured) without a game panel. Objects removed from the lists are 
+ * released into their pools.
+ * 
+ * Each check is also available for zombies kept in a `ZombieStore`, where the zombies are 
+ * visited by their rows and killed ones are swap-removed from the store.
+ */
+public class CollisionSystem {
+    private final SpatialHashGrid<Zombie> zombieGrid;       /**< Broadphase grid of zombies, rebuilt on each projectile collision check. */
+    private final ArrayList<Zombie> zombieCandidates;       /**< Zombies returned by the last broadphase query. */
+    private final boolean isSeparatingAxis;                 /**< Whether rotated bounds are tested exactly by the separating axis theorem instead of their bounding boxes. */
+    private long checkCount = 0;                            /**< Number of exact intersection tests since the collision system is created. */
+    private final Random lootRandom;                        /**< Random number stream of the items dropped by killed zombies. */
+    private final Random effectRandom;                      /**< Random number stream of the blast effects. */
+
+    /**
+     * Constructs a collision system with the broadphase grid configured in Globals.
+     * 
+     * @param collisionMode The test of the rotated bounds of the game objects.
+     * @param random The random number streams of the game engine.
+     */
+    public CollisionSystem(RectangleBound.CollisionMode collisionMode, GameRandom random) {
+        this.isSeparatingAxis = (collisionMode == RectangleBound.CollisionMode.SEPARATING_AXIS);
+        this.lootRandom = random.get(GameRandom.Stream.LOOT);
+        this.effectRandom = random.get(GameRandom.Stream.EFFECT);
+        this.zombieGrid = new SpatialHashGrid<>(Globals.COLLISION_GRID_CELL_SIZE, Globals.COLLISION_GRID_BUCKET_COUNT);
+        this.zombieCandidates = new ArrayList<>();
+    }
+
+    /**
+     * Checks for any collisions between the various game objects (player, zombies, projectiles, loot).
+     * 
+     * @param player The player.
+     * @param zombies The zombies. Killed zombies are removed.
+     * @param projectiles The projectiles. Spent projectiles are removed.
+     * @param loots The loots. Loots of killed zombies are added, picked ones are removed.
+     * @param blastFXs The blast effects. Effects of detonations are added.
+     */
+    public void checkCollisions(Player player, List<Zombie> zombies, List<Projectile> projectiles, List<Loot> loots, List<BlastFX> blastFXs) {
+        // Projectile collisions
+        checkProjectileCollisions(player, zombies, projectiles, loots, blastFXs);
+
+        // Zombie collisions to the survivor (aka zombie attack)
+        checkZombieCollisions(player, zombies);
+
+        // Player collision to loot objects
+        checkLootCollisions(player, loots);
+    }
+
+    /**
+     * Returns the number of exact intersection tests done since the collision system is created. 
+     * Pairs rejected by the broadphase are not counted.
+     * 
+     * @return The number of intersection tests.
+     */
+    public long getCheckCount() {
+        return this.checkCount;
+    }
+
+    /**
+     * Tests the intersection of two game object bounds, counting the test.
+     * 
+     * @param rect1 The first bounds.
+     * @param rect2 The second bounds.
+     * @return True if the bounds intersect.
+     * @see Globals#isObjectsCollided(Rectangle, Rectangle)
+     */
+    private boolean isCollided(Rectangle rect1, Rectangle rect2) {
+        this.checkCount++;
+        return Globals.isObjectsCollided(rect1, rect2);
+    }
+
+    /**
+     * Tests the intersection of two game object bounds, counting the test.
+     * 
+     * @param rectBound1 The first bounds.
+     * @param rectBound2 The second bounds.
+     * @return True if the bounds intersect.
+     */
+    private boolean isCollided(RectangleBound rectBound1, RectangleBound rectBound2) {
+        this.checkCount++;
+        return this.isSeparatingAxis ? RectangleBound.isSeparatingAxisCollided(rectBound1, rectBound2)
+                                     : RectangleBound.isBoxCollided(rectBound1, rectBound2);
+    }
+
+    /**
+     * Tests the intersection of two game object bounds, counting the test.
+     * 
+     * @param rect1 The first bounds.
+     * @param rectBound2 The second bounds.
+     * @return True if the bounds intersect.
+     */
+    private boolean isCollided(Rectangle rect1, RectangleBound rectBound2) {
+        this.checkCount++;
+        return this.isSeparatingAxis ? RectangleBound.isSeparatingAxisCollided(rect1, rectBound2)
+                                     : RectangleBound.isBoxCollided(rect1, rectBound2);
+    }
+
+    /**
+     * Rebuilds the broadphase grid from the current target bounds of the zombies.
+     * 
+     * @param zombies The zombies to be inserted.
+     */
+    private void buildZombieGrid(List<Zombie> zombies) {
+        this.zombieGrid.clear();
+        for (Zombie zombie : zombies) {
+            RectangleBound targetBounds = zombie.getTargetBounds();
+            this.zombieGrid.insert(zombie, targetBounds.getRotatedMinX(), targetBounds.getRotatedMinY(), targetBounds.getRotatedMaxX(), targetBounds.getRotatedMaxY());
+        }
+    }
+
+    /**
+     * Checks for collisions between projectiles and other game objects (e.g. Zombie and Player).
+     * 
+     * Zombies whose health dropped below zero are killed afterwards.
+     * 
+     * @param player The player.
+     * @param zombies The zombies. Killed zombies are removed.
+     * @param projectiles The projectiles. Spent projectiles are removed.
+     * @param loots The loots. Loots of killed zombies are added.
+     * @param blastFXs The blast effects. Effects of detonations are added.
+     */
+    public void checkProjectileCollisions(Player player, List<Zombie> zombies, List<Projectile> projectiles, List<Loot> loots, List<BlastFX> blastFXs) {
+        if (player==null || zombies==null || projectiles==null) return;
+
+        // Zombies are only moved in update phase, so the grid is valid for the whole check
+        buildZombieGrid(zombies);
+
+        ListIterator<Projectile> projectileIterator = projectiles.listIterator();
+        
+        while (projectileIterator.hasNext()) {
+            Projectile projectile = projectileIterator.next();
+
+            if (projectile.getType() == ProjectileType.BULLET) {
+                Bullet bullet = (Bullet) projectile;
+                Rectangle bulletBounds = bullet.getBounds();
+
+                this.zombieGrid.query(bulletBounds, this.zombieCandidates);
+                for (Zombie zombie : this.zombieCandidates) {
+                    if (isCollided(bulletBounds, zombie.getTargetBounds())) {
+                        zombie.takeDamage(bullet.getDamage());
+                        projectileIterator.remove();  // After damaging zombie, remove it.
+                        ProjectilePool.release(bullet);
+                        break;
+                    }
+                }
+            } else if (projectile.getType() == ProjectileType.ARMOR_PIERCING_BULLET) {
+                ArmorPiercingBullet bullet = (ArmorPiercingBullet) projectile;
+                Rectangle bulletBounds = bullet.getBounds();
+
+                this.zombieGrid.query(bulletBounds, this.zombieCandidates);
+                for (Zombie zombie : this.zombieCandidates) {
+                    if (isCollided(bulletBounds, zombie.getTargetBounds())) {
+                        zombie.takeDamage(bullet.getDamage());
+                        // Do not remove armor piercing bullets on collision with zombie.
+                    }
+                }
+            } else if (projectile.getType() == ProjectileType.ROCKET) {
+                Rocket rocket = (Rocket) projectile;
+                
+                Boolean isProjectileDetonated = false;
+                Rectangle rocketBounds = rocket.getBounds();
+
+                this.zombieGrid.query(rocketBounds, this.zombieCandidates);
+                for (Zombie zombie : this.zombieCandidates) {
+                    if (isCollided(rocketBounds, zombie.getTargetBounds())) {
+                        // Rocket damages its surrounded area
+                        damageZombies(zombies, rocket.getX(), rocket.getY(), rocket.getDamage(), rocket.getEffectiveRange());
+                        isProjectileDetonated = true;
+                        break;  // No need to continue since explosion applies for all zombies in range
+                    }
+                }
+                if (isProjectileDetonated) {
+                    // Create blast effect and add into the blast list
+                    blastFXs.add(BlastFXPool.acquire(BlastType.EXPLOSIVE_BLAST, rocket.getX(), rocket.getY(), rocket.getEffectiveRange(), this.effectRandom));
+
+                    projectileIterator.remove();  // After detonation, remove it.
+                    ProjectilePool.release(rocket);
+                }
+
+            } else if (projectile.getType() == ProjectileType.SHOTGUN_PELLETS) {
+                ShotgunPellets pellets = (ShotgunPellets) projectile;
+                
+                // If all pellets are destroyed remove the projectile
+                if (pellets.getPellets().size() == 0) {
+                    projectileIterator.remove();
+                    ProjectilePool.release(pellets);
+                    continue;
+                }
+
+                // Candidates are collected for all pellets at once to keep the zombie-first check order
+                this.zombieGrid.beginQuery();
+                for (Bullet bullet : pellets.getPellets()) {
+                    this.zombieGrid.collect(bullet.getBounds());
+                }
+                this.zombieGrid.endQuery(this.zombieCandidates);
+
+                for (Zombie zombie : this.zombieCandidates) {
+                    ListIterator<Bullet> pelletIterator = pellets.getPellets().listIterator();
+                    while (pelletIterator.hasNext()) {
+                        Bullet bullet = pelletIterator.next();
+                        if (isCollided(bullet.getBounds(), zombie.getTargetBounds())) {
+                            zombie.takeDamage(bullet.getDamage());
+                            pelletIterator.remove();  // After damaging zombie, remove it.
+                            ProjectilePool.release(bullet);
+                            break;
+                        }
+                    }
+                }
+            } else if (projectile.getType() == ProjectileType.ACID_SPIT) {
+                AcidSpit acidSpit = (AcidSpit) projectile;
+
+                if (isCollided(acidSpit.getBounds(), player.getTargetBounds())) {
+                    player.takeDamage(acidSpit.getDamage());
+                    projectileIterator.remove();  // After contact with player, remove it.
+                    ProjectilePool.release(acidSpit);
+                }
+
+            }
+        }
+    
+        ListIterator<Zombie> zombieIterator = zombies.listIterator();
+        while (zombieIterator.hasNext()) {
+            Zombie zombie = zombieIterator.next();
+
+            // If health of zombie is non positive, it is killed
+            if (zombie.getHealth() < 0) {              
+                ZombieType zombieType = zombie.getType();
+                int zombieX = zombie.getX();
+                int zombieY = zombie.getY();
+                int zombieDamage = zombie.giveDamage();
+
+                // Retrieve loot and score when zombie killed.
+                Loot loot = zombie.kill(player.getAvailableWeapons(), this.lootRandom);  // To generate loot, available weapon types are needed.
+                
+                if (loot != null) {
+                    player.addScore(loot.getScore());
+                    // If loot does not have an item, then do not add to the list
+                    if (loot.getItem() != null) {
+                        loots.add(loot);
+                    } else {
+                        LootPool.release(loot);
+                    }
+                }
+
+                zombieIterator.remove();
+
+                // Acid zombies damages their surrounds when they killed (reduce original damage of the zombie when it explodes.)
+                if (zombieType == ZombieType.ACID) {
+                    damageZombies(zombies, zombieX, zombieY, (int) ((double) zombieDamage * 0.3), AcidZombie.EFFECTIVE_RANGE);
+                    damagePlayer(player, zombieX, zombieY, (int) ((double) zombieDamage * 0.3), AcidZombie.EFFECTIVE_RANGE);
+
+                    // Create blast effect and add into the blast list
+                    blastFXs.add(BlastFXPool.acquire(BlastType.TOXIC_BLAST, zombieX, zombieY, AcidZombie.EFFECTIVE_RANGE, this.effectRandom));
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks for collisions between zombies and the player.
+     * 
+     * This method updates player health if a collision occurs.
+     * 
+     * @param player The player.
+     * @param zombies The zombies attacking the player.
+     */
+    public void checkZombieCollisions(Player player, List<Zombie> zombies) {
+        if (player==null || zombies==null) return;
+
+        Iterator<Zombie> zombieIterator = zombies.iterator();
+        while (zombieIterator.hasNext()) {
+            Zombie zombie = zombieIterator.next();
+            // If zombie collides with the player, it gives damage by attacking
+            boolean isColliding = isCollided(zombie.getTargetBounds(), player.getTargetBounds());
+
+            if (isColliding) {
+                // Normalize damage according to game tick (Full damage is taken by player in 500ms)
+                double damagePerTick = (double) zombie.giveDamage() * ((double) Globals.GAME_TICK_MS / Globals.FULL_DAMAGE_PERIOD);
+                player.takeDamage(damagePerTick);
+            }
+        }
+    }
+
+    /**
+     * Checks for collisions between loot and the player.
+     * 
+     * @param player The player.
+     * @param loots The loots. Picked ones are removed.
+     */
+    public void checkLootCollisions(Player player, List<Loot> loots) {
+        if (player==null || loots==null) return;
+
+        ListIterator<Loot> lootIterator = loots.listIterator();
+
+        while (lootIterator.hasNext()) {
+            Loot loot = lootIterator.next();
+            if (isCollided(loot.getBounds(), player.getTargetBounds())) {
+                player.addLoot(loot);
+                lootIterator.remove();  // Remove the loot after player takes it
+                LootPool.release(loot);
+            }
+        }
+    }
+
+    /**
+     * Checks for any collisions between the various game objects, with the zombies kept in a store.
+     * 
+     * @param player The player.
+     * @param zombies The zombie store. Killed zombies are removed.
+     * @param projectiles The projectiles. Spent projectiles are removed.
+     * @param loots The loots. Loots of killed zombies are added, picked ones are removed.
+     * @param blastFXs The blast effects. Effects of detonations are added.
+     * @see #checkCollisions(Player, List, List, List, List)
+     */
+    public void checkCollisions(Player player, ZombieStore zombies, List<Projectile> projectiles, List<Loot> loots, List<BlastFX> blastFXs) {
+        checkProjectileCollisions(player, zombies, projectiles, loots, blastFXs);
+
+        checkZombieCollisions(player, zombies);
+
+        checkLootCollisions(player, loots);
+    }
+
+    /**
+     * Rebuilds the broadphase grid from the current target bounds of the zombies in a store.
+     * Items are inserted by their rows, so the insertion index of an item is the row of the zombie.
+     * 
+     * @param zombies The zombie store.
+     */
+    private void buildZombieGrid(ZombieStore zombies) {
+        this.zombieGrid.clear();
+        for (int i = 0; i < zombies.size(); i++) {
+            this.zombieGrid.insert(null, zombies.getBoundsMinX(i), zombies.getBoundsMinY(i), zombies.getBoundsMaxX(i), zombies.getBoundsMaxY(i));
+        }
+    }
+
+    /**
+     * Collects the rows of the zombies in the grid which may collide with the given area.
+     * 
+     * @param area The area to query.
+     * @return The number of candidates, read with zombieGrid.getQueryIndex().
+     */
+    private int queryZombieRows(Rectangle area) {
+        this.zombieGrid.beginQuery();
+        this.zombieGrid.collect(area);
+        return this.zombieGrid.endQueryIndices();
+    }
+
+    /**
+     * Checks for collisions between projectiles and other game objects, with the zombies kept in a store.
+     * 
+     * Zombies whose health dropped below zero are killed afterwards.
+     * 
+     * @param player The player.
+     * @param zombies The zombie store. Killed zombies are removed.
+     * @param projectiles The projectiles. Spent projectiles are removed.
+     * @param loots The loots. Loots of killed zombies are added.
+     * @param blastFXs The blast effects. Effects of detonations are added.
+     * @see #checkProjectileCollisions(Player, List, List, List, List)
+     */
+    public void checkProjectileCollisions(Player player, ZombieStore zombies, List<Projectile> projectiles, List<Loot> loots, List<BlastFX> blastFXs) {
+        if (player==null || zombies==null || projectiles==null) return;
+
+        // Zombies are only moved in update phase, so the grid is valid for the whole check
+        buildZombieGrid(zombies);
+
+        ListIterator<Projectile> projectileIterator = projectiles.listIterator();
+
+        while (projectileIterator.hasNext()) {
+            Projectile projectile = projectileIterator.next();
+
+            if (projectile.getType() == ProjectileType.BULLET) {
+                Bullet bullet = (Bullet) projectile;
+                Rectangle bulletBounds = bullet.getBounds();
+
+                int candidateCount = queryZombieRows(bulletBounds);
+                for (int k = 0; k < candidateCount; k++) {
+                    int i = this.zombieGrid.getQueryIndex(k);
+                    if (isCollided(bulletBounds, zombies.getTargetBounds(i))) {
+                        zombies.takeDamage(i, bullet.getDamage());
+                        projectileIterator.remove();  // After damaging zombie, remove it.
+                        ProjectilePool.release(bullet);
+                        break;
+                    }
+                }
+            } else if (projectile.getType() == ProjectileType.ARMOR_PIERCING_BULLET) {
+                ArmorPiercingBullet bullet = (ArmorPiercingBullet) projectile;
+                Rectangle bulletBounds = bullet.getBounds();
+
+                int candidateCount = queryZombieRows(bulletBounds);
+                for (int k = 0; k < candidateCount; k++) {
+                    int i = this.zombieGrid.getQueryIndex(k);
+                    if (isCollided(bulletBounds, zombies.getTargetBounds(i))) {
+                        zombies.takeDamage(i, bullet.getDamage());
+                        // Do not remove armor piercing bullets on collision with zombie.
+                    }
+                }
+            } else if (projectile.getType() == ProjectileType.ROCKET) {
+                Rocket rocket = (Rocket) projectile;
+                Rectangle rocketBounds = rocket.getBounds();
+
+                int candidateCount = queryZombieRows(rocketBounds);
+                for (int k = 0; k < candidateCount; k++) {
+                    if (isCollided(rocketBounds, zombies.getTargetBounds(this.zombieGrid.getQueryIndex(k)))) {
+                        // Rocket damages its surrounded area
+                        damageZombies(zombies, rocket.getX(), rocket.getY(), rocket.getDamage(), rocket.getEffectiveRange());
+
+                        // Create blast effect and add into the blast list
+                        blastFXs.add(BlastFXPool.acquire(BlastType.EXPLOSIVE_BLAST, rocket.getX(), rocket.getY(), rocket.getEffectiveRange(), this.effectRandom));
+
+                        projectileIterator.remove();  // After detonation, remove it.
+                        ProjectilePool.release(rocket);
+                        break;  // No need to continue since explosion applies for all zombies in range
+                    }
+                }
+            } else if (projectile.getType() == ProjectileType.SHOTGUN_PELLETS) {
+                ShotgunPellets pellets = (ShotgunPellets) projectile;
+
+                // If all pellets are destroyed remove the projectile
+                if (pellets.getPellets().size() == 0) {
+                    projectileIterator.remove();
+                    ProjectilePool.release(pellets);
+                    continue;
+                }
+
+                // Candidates are collected for all pellets at once to keep the zombie-first check order
+                this.zombieGrid.beginQuery();
+                for (Bullet bullet : pellets.getPellets()) {
+                    this.zombieGrid.collect(bullet.getBounds());
+                }
+                int candidateCount = this.zombieGrid.endQueryIndices();
+
+                for (int k = 0; k < candidateCount; k++) {
+                    int i = this.zombieGrid.getQueryIndex(k);
+                    ListIterator<Bullet> pelletIterator = pellets.getPellets().listIterator();
+                    while (pelletIterator.hasNext()) {
+                        Bullet bullet = pelletIterator.next();
+                        if (isCollided(bullet.getBounds(), zombies.getTargetBounds(i))) {
+                            zombies.takeDamage(i, bullet.getDamage());
+                            pelletIterator.remove();  // After damaging zombie, remove it.
+                            ProjectilePool.release(bullet);
+                            break;
+                        }
+                    }
+                }
+            } else if (projectile.getType() == ProjectileType.ACID_SPIT) {
+                AcidSpit acidSpit = (AcidSpit) projectile;
+
+                if (isCollided(acidSpit.getBounds(), player.getTargetBounds())) {
+                    player.takeDamage(acidSpit.getDamage());
+                    projectileIterator.remove();  // After contact with player, remove it.
+                    ProjectilePool.release(acidSpit);
+                }
+            }
+        }
+
+        // Killed zombies are swap-removed, so the row is checked again for the zombie moved into it
+        int i = 0;
+        while (i < zombies.size()) {
+            // If health of zombie is non positive, it is killed
+            if (zombies.getHealth(i) >= 0) {
+                i++;
+                continue;
+            }
+
+            ZombieType zombieType = zombies.getType(i);
+            int zombieX = zombies.getX(i);
+            int zombieY = zombies.getY(i);
+            int zombieDamage = zombies.getDamage(i);
+
+            // Retrieve loot and score when zombie killed.
+            Loot loot = zombies.kill(i, player.getAvailableWeapons(), this.lootRandom);  // To generate loot, available weapon types are needed.
+
+            if (loot != null) {
+                player.addScore(loot.getScore());
+                // If loot does not have an item, then do not add to the list
+                if (loot.getItem() != null) {
+                    loots.add(loot);
+                } else {
+                    LootPool.release(loot);
+                }
+            }
+
+            zombies.remove(i);
+
+            // Acid zombies damages their surrounds when they killed (reduce original damage of the zombie when it explodes.)
+            if (zombieType == ZombieType.ACID) {
+                damageZombies(zombies, zombieX, zombieY, (int) ((double) zombieDamage * 0.3), AcidZombie.EFFECTIVE_RANGE);
+                damagePlayer(player, zombieX, zombieY, (int) ((double) zombieDamage * 0.3), AcidZombie.EFFECTIVE_RANGE);
+
+                // Create blast effect and add into the blast list
+                blastFXs.add(BlastFXPool.acquire(BlastType.TOXIC_BLAST, zombieX, zombieY, AcidZombie.EFFECTIVE_RANGE, this.effectRandom));
+            }
+        }
+    }
+
+    /**
+     * Checks for collisions between zombies kept in a store and the player.
+     * 
+     * @param player The player.
+     * @param zombies The zombie store.
+     * @see #checkZombieCollisions(Player, List)
+     */
+    public void checkZombieCollisions(Player player, ZombieStore zombies) {
+        if (player==null || zombies==null) return;
+
+        RectangleBound playerBounds = player.getTargetBounds();
+        int minX = playerBounds.getRotatedMinX(), minY = playerBounds.getRotatedMinY();
+        int maxX = playerBounds.getRotatedMaxX(), maxY = playerBounds.getRotatedMaxY();
+
+        for (int i = 0; i < zombies.size(); i++) {
+            // Bounding boxes are read from the columns, so only the zombies around the player are checked exactly
+            if (zombies.getBoundsMaxX(i) < minX || zombies.getBoundsMinX(i) > maxX ||
+                zombies.getBoundsMaxY(i) < minY || zombies.getBoundsMinY(i) > maxY) continue;
+
+            // If zombie collides with the player, it gives damage by attacking
+            if (isCollided(zombies.getTargetBounds(i), playerBounds)) {
+                // Normalize damage according to game tick (Full damage is taken by player in 500ms)
+                double damagePerTick = (double) zombies.getDamage(i) * ((double) Globals.GAME_TICK_MS / Globals.FULL_DAMAGE_PERIOD);
+                player.takeDamage(damagePerTick);
+            }
+        }
+    }
+
+    /**
+     * Calculates the squared distance between two points to avoid using the costly square root operation.
+     * 
+     * @param x1 The x-coordinate of the first point.
+     * @param y1 The y-coordinate of the first point.
+     * @param x2 The x-coordinate of the second point.
+     * @param y2 The y-coordinate of the second point.
+     * @return The squared distance between the two points.
+     */
+    private double getDistanceSquared(int x1, int y1, int x2, int y2) {
+        int dx = x1 - x2;
+        int dy = y1 - y2;
+        return dx * dx + dy * dy;
+    }
+    
+    /**
+     * Calculates the damage dealt to an entity based on the distance from the origin.
+     * 
+     * The damage decreases based on the distance squared from the origin compared to the effective range.
+     * 
+     * @param originDamage The damage of the attack at the origin point.
+     * @param distanceSquared The squared distance from the attack's origin to the target.
+     * @param effectiveRangeSquared The squared effective range of the attack.
+     * @param effectiveRange The maximum effective range of the attack. (No damage if the distance is more than that)
+     * @return The calculated damage to be applied.
+     */
+    private double calculateDamage(int originDamage, double distanceSquared, double effectiveRangeSquared, int effectiveRange) {
+        if (distanceSquared == 0) {
+            return originDamage;
+        } else if (distanceSquared < effectiveRangeSquared && effectiveRange > 0) {
+            return (double) originDamage * (1 - (Math.sqrt(distanceSquared) / (4 * effectiveRange)));
+        } else if (distanceSquared == effectiveRangeSquared) {
+            return (double) originDamage * 0.25;
+        }
+        return 0;
+    }
+
+    /**
+     * Damages zombies within range of a specific attack.
+     * 
+     * This method applies damage to zombies based on their distance from the origin of the attack.
+     * 
+     * @param zombies The zombies which may be damaged.
+     * @param originX The x-coordinate of the attack's origin.
+     * @param originY The y-coordinate of the attack's origin.
+     * @param originDamage The damage of the attack at the origin point.
+     * @param effectiveRange The maximum effective range of the attack. (No damage if the distance is more than that)
+     */
+    public void damageZombies(List<Zombie> zombies, int originX, int originY, int originDamage, int effectiveRange) {
+        double effectiveRangeSquared = effectiveRange * effectiveRange;
+
+        ListIterator<Zombie> zombieIterator = zombies.listIterator();
+        while (zombieIterator.hasNext()) {
+            Zombie zombie = zombieIterator.next();
+            Position position = zombie.getPosition();
+            double distanceSquared = getDistanceSquared(position.x(), position.y(), originX, originY);  // Calculate distance from origin point of detonation
+
+            // Calculate detonation damage with the function of the distance from origin
+            double damage = calculateDamage(originDamage, distanceSquared, effectiveRangeSquared, effectiveRange);
+
+            if (damage>0) {
+                zombie.takeDamage(damage);
+            }
+        }
+    }
+
+    /**
+     * Damages zombies kept in a store within range of a specific attack.
+     * 
+     * @param zombies The zombie store.
+     * @param originX The x-coordinate of the attack's origin.
+     * @param originY The y-coordinate of the attack's origin.
+     * @param originDamage The damage of the attack at the origin point.
+     * @param effectiveRange The maximum effective range of the attack. (No damage if the distance is more than that)
+     * @see #damageZombies(List, int, int, int, int)
+     */
+    public void damageZombies(ZombieStore zombies, int originX, int originY, int originDamage, int effectiveRange) {
+        double effectiveRangeSquared = effectiveRange * effectiveRange;
+
+        for (int i = 0; i < zombies.size(); i++) {
+            double distanceSquared = getDistanceSquared(zombies.getX(i), zombies.getY(i), originX, originY);  // Calculate distance from origin point of detonation
+
+            // Calculate detonation damage with the function of the distance from origin
+            double damage = calculateDamage(originDamage, distanceSquared, effectiveRangeSquared, effectiveRange);
+
+            if (damage>0) {
+                zombies.takeDamage(i, damage);
+            }
+        }
+    }
+
+    /**
+     * Damages the player if they are within range of an attack.
+     * 
+     * This method applies damage to the player based on their distance from the attack's origin.
+     * 
+     * @param player The player which may be damaged.
+     * @param originX The x-coordinate of the attack's origin.
+     * @param originY The y-coordinate of the attack's origin.
+     * @param originDamage The damage of the attack at the origin point.
+     * @param effectiveRange The maximum effective range of the attack. (No damage if the distance is more than that)
+     */
+    public void damagePlayer(Player player, int originX, int originY, int originDamage, int effectiveRange) {
+        double effectiveRangeSquared = effectiveRange * effectiveRange;
+
+        double distanceSquared = getDistanceSquared(player.getX(), player.getY(), originX, originY);  // Calculate distance from origin point of detonation
+
+        // Calculate detonation damage with the function of the distance from origin
+        double damage = calculateDamage(originDamage, distanceSquared, effectiveRangeSquared, effectiveRange);
+
+        if (damage>0) {
+            player.takeDamage(damage);
+        }
+    }
+}
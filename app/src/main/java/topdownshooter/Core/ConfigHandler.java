@@ -27,21 +27,28 @@
  * SOFTWARE.
  */
 
+
 package topdownshooter.Core;
 
 import org.ini4j.Ini;
 
 import topdownshooter.Weapon.WeaponType;
+import topdownshooter.Zombie.ZombieType;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 
 /**
  * @class ConfigHandler
  * @brief Handles the loading, parsing, and retrieval of configuration values from a file.
+ * 
+ * The configuration file is parsed and validated once on construction into an immutable 
+ * snapshot of properties, so lookups are constant time and do not parse strings. Each 
+ * handler keeps its own snapshot, so several configurations can be used at the same time.
  */
 public final class ConfigHandler implements Serializable{
 
@@ -50,7 +57,51 @@ public final class ConfigHandler implements Serializable{
         int windowHeight,
         int x,
         int y
-    ) {}
+    ) implements Serializable {}
+
+    public record AudioProperties (
+        int maxPolyphony
+    ) implements Serializable {}
+
+    public record RenderProperties (
+        boolean isActiveRenderingEnabled,
+        int bufferCount,
+        boolean isVSyncEnabled,
+        int maxFrameRate,
+        int rotatedFrameAngles,
+        int rotatedFrameCacheSize
+    ) implements Serializable {}
+
+    public record SimulationProperties (
+        boolean isZombieStoreEnabled,
+        boolean isFlowFieldEnabled,
+        int parallelUpdateThreshold,
+        int updateThreads,
+        int separationRadius,
+        double separationWeight,
+        RectangleBound.CollisionMode collisionMode
+    ) implements Serializable {}
+
+    public record AutosaveProperties (
+        boolean isEnabled,
+        int interval,
+        int slotCount,
+        boolean isCompressionEnabled,
+        String directory
+    ) implements Serializable {}
+
+    public record ReplayProperties (
+        boolean isRecordingEnabled,
+        String directory,
+        long seed
+    ) implements Serializable {}
+
+    public record ProfilerProperties (
+        boolean isEnabled,
+        int sampleCount,
+        boolean isExportEnabled,
+        String directory
+    ) implements Serializable {}
 
     public record WeaponProperties (
         int damage,
@@ -58,22 +109,26 @@ public final class ConfigHandler implements Serializable{
         int magazineCapacity,
         int magazineCount,
         int reloadDuration
-    ) {}
+    ) implements Serializable {}
 
     public record PlayerProperties (
         int startingX,
         int startingY,
         int startingHealth,
         int speed,
-        WeaponType[] startingWeapons
-    ) {}
+        List<WeaponType> startingWeapons
+    ) implements Serializable {
+        public PlayerProperties {
+            startingWeapons = List.copyOf(startingWeapons);  // Immutable, so the properties cannot be changed through the list
+        }
+    }
 
     public record ZombieProperties (
         int health, 
         int speed,
         int damage,
         int points
-    ) {}
+    ) implements Serializable {}
 
     public record LevelProperties (
         int waveDuration,
@@ -82,42 +137,286 @@ public final class ConfigHandler implements Serializable{
         int tankZombieCount,
         int acidZombieCount,
         WeaponType weaponPrize
-    ) {}
-
-    private static Ini ini;
+    ) implements Serializable {}
+
+    private final String path;                                                  /**< Path of the configuration file in resources. */
+    private final WindowProperties windowProperties;                            /**< Window properties of the game. */
+    private final AudioProperties audioProperties;                              /**< Audio properties of the game. */
+    private final RenderProperties renderProperties;                            /**< Render properties of the game. */
+    private final SimulationProperties simulationProperties;                    /**< Simulation properties of the game. */
+    private final AutosaveProperties autosaveProperties;                        /**< Autosave properties of the game. */
+    private final ReplayProperties replayProperties;                            /**< Replay properties of the game. */
+    private final ProfilerProperties profilerProperties;                        /**< Profiler properties of the game. */
+    private final PlayerProperties playerProperties;                            /**< Properties of the player. */
+    private final EnumMap<WeaponType, WeaponProperties> weaponProperties;       /**< Properties of each weapon type. */
+    private final EnumMap<ZombieType, ZombieProperties> zombieProperties;       /**< Properties of each zombie type. */
+    private final LevelProperties[] levelProperties;                            /**< Properties of the levels, the last one applies to all further levels. */
 
     /**
-     * Constructor that loads and parses the configuration file.
-     * @param filePath The path to the configuration file.
+     * Constructor that loads, parses and validates the configuration file.
+     * @param path The path to the configuration file in resources.
+     * @throws IllegalArgumentException If the file cannot be read, or a property is missing or invalid.
      */
     public ConfigHandler(String path) {
+        Ini ini;
         try (InputStream input = getClass().getClassLoader().getResourceAsStream(path)) {
             if (input == null) {
                 throw new IOException(path + " is not found in resources");
             }
-            ConfigHandler.ini = new Ini(input);
+            ini = new Ini(input);
         } catch (IOException e) {
-            e.printStackTrace();
+            throw new IllegalArgumentException("Cannot read configuration file " + path, e);
+        }
+
+        this.path = path;
+
+        this.windowProperties = new WindowProperties(
+            parseInt(ini, "Window", "Width"),
+            parseInt(ini, "Window", "Height"),
+            parseInt(ini, "Window", "X"),
+            parseInt(ini, "Window", "Y"));
+
+        this.audioProperties = new AudioProperties(
+            parseInt(ini, "Audio", "MaxPolyphony"));
+        if (this.audioProperties.maxPolyphony() <= 0) {
+            throw new IllegalArgumentException("MaxPolyphony in section [Audio] of configuration file must be positive");
+        }
+
+        this.renderProperties = new RenderProperties(
+            parseBoolean(ini, "Render", "ActiveRendering"),
+            parseInt(ini, "Render", "BufferCount"),
+            parseBoolean(ini, "Render", "VSync"),
+            parseInt(ini, "Render", "MaxFrameRate"),
+            parseInt(ini, "Render", "RotatedFrameAngles"),
+            parseInt(ini, "Render", "RotatedFrameCacheSize"));
+        if (this.renderProperties.bufferCount() < 2 || this.renderProperties.bufferCount() > 3) {
+            throw new IllegalArgumentException("BufferCount in section [Render] of configuration file must be 2 or 3");
+        }
+        if (this.renderProperties.maxFrameRate() < 0) {
+            throw new IllegalArgumentException("MaxFrameRate in section [Render] of configuration file cannot be negative");
+        }
+        if (this.renderProperties.rotatedFrameAngles() < 0 || this.renderProperties.rotatedFrameCacheSize() < 0) {
+            throw new IllegalArgumentException("RotatedFrameAngles and RotatedFrameCacheSize in section [Render] of configuration file cannot be negative");
+        }
+
+        this.simulationProperties = new SimulationProperties(
+            parseBoolean(ini, "Simulation", "ZombieStore"),
+            parseBoolean(ini, "Simulation", "FlowField"),
+            parseInt(ini, "Simulation", "ParallelUpdateThreshold"),
+            parseInt(ini, "Simulation", "UpdateThreads"),
+            parseInt(ini, "Simulation", "SeparationRadius"),
+            parseDouble(ini, "Simulation", "SeparationWeight"),
+            parseCollisionMode(ini, "Simulation", "CollisionMode"));
+        if (this.simulationProperties.parallelUpdateThreshold() < 0 || this.simulationProperties.updateThreads() < 0) {
+            throw new IllegalArgumentException("ParallelUpdateThreshold and UpdateThreads in section [Simulation] of configuration file cannot be negative");
+        }
+        if (this.simulationProperties.separationRadius() < 0 || this.simulationProperties.separationWeight() < 0) {
+            throw new IllegalArgumentException("SeparationRadius and SeparationWeight in section [Simulation] of configuration file cannot be negative");
+        }
+
+        this.autosaveProperties = new AutosaveProperties(
+            parseBoolean(ini, "Autosave", "Enabled"),
+            parseInt(ini, "Autosave", "Interval"),
+            parseInt(ini, "Autosave", "SlotCount"),
+            parseBoolean(ini, "Autosave", "Compression"),
+            getValue(ini, "Autosave", "Directory"));
+        if (this.autosaveProperties.interval() <= 0 || this.autosaveProperties.slotCount() <= 0) {
+            throw new IllegalArgumentException("Interval and SlotCount in section [Autosave] of configuration file must be positive");
+        }
+
+        this.replayProperties = new ReplayProperties(
+            parseBoolean(ini, "Replay", "Record"),
+            getValue(ini, "Replay", "Directory"),
+            parseLong(ini, "Replay", "Seed"));
+
+        this.profilerProperties = new ProfilerProperties(
+            parseBoolean(ini, "Profiler", "Enabled"),
+            parseInt(ini, "Profiler", "SampleCount"),
+            parseBoolean(ini, "Profiler", "Export"),
+            getValue(ini, "Profiler", "Directory"));
+        if (this.profilerProperties.sampleCount() <= 0) {
+            throw new IllegalArgumentException("SampleCount in section [Profiler] of configuration file must be positive");
+        }
+
+        this.playerProperties = new PlayerProperties(
+            parseInt(ini, "Player", "StartingX"),
+            parseInt(ini, "Player", "StartingY"),
+            parseInt(ini, "Player", "StartingHealth"),
+            parseInt(ini, "Player", "Speed"),
+            ConfigHandler.parseWeapon(getValue(ini, "Player", "StartingWeapons")));
+
+        this.weaponProperties = new EnumMap<>(WeaponType.class);
+        for (WeaponType type : WeaponType.values()) {
+            String section = getWeaponSection(type);
+            if (section == null) continue;
+
+            this.weaponProperties.put(type, new WeaponProperties(
+                parseInt(ini, section, "Damage"),
+                parseInt(ini, section, "FireRate"),
+                parseInt(ini, section, "MagazineCapacity"),
+                parseInt(ini, section, "MagazineCount"),
+                parseInt(ini, section, "ReloadDuration")));
+        }
+
+        this.zombieProperties = new EnumMap<>(ZombieType.class);
+        for (ZombieType type : ZombieType.values()) {
+            String section = getZombieSection(type);
+
+            this.zombieProperties.put(type, new ZombieProperties(
+                parseInt(ini, section, "Health"),
+                parseInt(ini, section, "Speed"),
+                parseInt(ini, section, "Damage"),
+                parseInt(ini, section, "Points")));
+        }
+
+        // Levels are numbered from 1 consecutively, and "Level<N>+" section of the last level applies to all further levels
+        List<LevelProperties> levels = new ArrayList<>();
+        while (ini.get("Level" + (levels.size() + 1)) != null) {
+            levels.add(parseLevel(ini, "Level" + (levels.size() + 1)));
+        }
+        levels.add(parseLevel(ini, "Level" + levels.size() + "+"));
+        this.levelProperties = levels.toArray(new LevelProperties[0]);
+    }
+
+    /**
+     * Returns the value of a configuration parameter.
+     * @param ini The parsed configuration file.
+     * @param section The section where the key locates.
+     * @param key The key of the configuration parameter.
+     * @return The value.
+     * @throws IllegalArgumentException If the section or the key is missing.
+     */
+    private String getValue(Ini ini, String section, String key) {
+        Ini.Section iniSection = ini.get(section);
+        if (iniSection == null) {
+            throw new IllegalArgumentException("Missing section [" + section + "] in configuration file");
+        }
+
+        String value = iniSection.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing " + key + " in section [" + section + "] of configuration file");
         }
+        return value.trim();
     }
 
     /**
-     * Sets value for the key of the configuration parameter in provided section.
+     * Returns the integer value of a configuration parameter.
+     * @param ini The parsed configuration file.
      * @param section The section where the key locates.
      * @param key The key of the configuration parameter.
-     * @param value The value to set.
+     * @return The integer value.
+     * @throws IllegalArgumentException If the section or the key is missing, or the value is not an integer.
      */
-    public <T> void setProperty(String section, String key, T value) {
-        ConfigHandler.ini.put(section, key, value);
+    private int parseInt(Ini ini, String section, String key) {
+        String value = getValue(ini, section, key);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " in section [" + section + "] of configuration file is not an integer: " + value, e);
+        }
+    }
+
+    /**
+     * Returns the long integer value of a configuration parameter.
+     * @param ini The parsed configuration file.
+     * @param section The section where the key locates.
+     * @param key The key of the configuration parameter.
+     * @return The long integer value.
+     * @throws IllegalArgumentException If the section or the key is missing, or the value is not an integer.
+     */
+    private long parseLong(Ini ini, String section, String key) {
+        String value = getValue(ini, section, key);
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " in section [" + section + "] of configuration file is not an integer: " + value, e);
+        }
+    }
+
+    /**
+     * Returns the floating-point value of a configuration parameter.
+     * @param ini The parsed configuration file.
+     * @param section The section where the key locates.
+     * @param key The key of the configuration parameter.
+     * @return The floating-point value.
+     * @throws IllegalArgumentException If the section or the key is missing, or the value is not a number.
+     */
+    private double parseDouble(Ini ini, String section, String key) {
+        String value = getValue(ini, section, key);
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " in section [" + section + "] of configuration file is not a number: " + value, e);
+        }
+    }
+
+    /**
+     * Returns the boolean value of a configuration parameter.
+     * @param ini The parsed configuration file.
+     * @param section The section where the key locates.
+     * @param key The key of the configuration parameter.
+     * @return The boolean value.
+     * @throws IllegalArgumentException If the section or the key is missing, or the value is neither true nor false.
+     */
+    private boolean parseBoolean(Ini ini, String section, String key) {
+        String value = getValue(ini, section, key);
+        if (value.equalsIgnoreCase("true")) return true;
+        if (value.equalsIgnoreCase("false")) return false;
+        throw new IllegalArgumentException(key + " in section [" + section + "] of configuration file is not true or false: " + value);
+    }
+
+    /**
+     * Returns the collision mode of a configuration parameter.
+     * @param ini The parsed configuration file.
+     * @param section The section where the key locates.
+     * @param key The key of the configuration parameter.
+     * @return The collision mode.
+     * @throws IllegalArgumentException If the section or the key is missing, or the value is not a collision mode.
+     */
+    private RectangleBound.CollisionMode parseCollisionMode(Ini ini, String section, String key) {
+        String value = getValue(ini, section, key);
+        for (RectangleBound.CollisionMode mode : RectangleBound.CollisionMode.values()) {
+            if (mode.name().equalsIgnoreCase(value)) return mode;
+        }
+        throw new IllegalArgumentException(key + " in section [" + section + "] of configuration file is not BOUNDING_BOX or SEPARATING_AXIS: " + value);
+    }
+
+    /**
+     * Parses the properties of a level.
+     * @param ini The parsed configuration file.
+     * @param section The section of the level.
+     * @return The level properties.
+     * @throws IllegalArgumentException If a property is missing or invalid.
+     */
+    private LevelProperties parseLevel(Ini ini, String section) {
+        LevelProperties level = new LevelProperties(
+            parseInt(ini, section, "WaveDuration"),
+            parseInt(ini, section, "OrdinaryZombieCount"),
+            parseInt(ini, section, "CrawlerZombieCount"),
+            parseInt(ini, section, "TankZombieCount"),
+            parseInt(ini, section, "AcidZombieCount"),
+            getWeaponType(ini.get(section).get("WeaponPrize", "")));
+
+        if (level.waveDuration() <= 0) {
+            throw new IllegalArgumentException("WaveDuration in section [" + section + "] of configuration file must be positive");
+        }
+        if (level.ordinaryZombieCount() < 0 || level.crawlerZombieCount() < 0 || level.tankZombieCount() < 0 || level.acidZombieCount() < 0) {
+            throw new IllegalArgumentException("Zombie counts in section [" + section + "] of configuration file cannot be negative");
+        }
+        return level;
     }
 
     /**
      * Returns weapon type according to provided String formatted type.
-     * @param type String representation of the weapon type.
-     * @return The weapon type.
+     * @param type String representation of the weapon type. Empty string means no weapon.
+     * @return The weapon type, or UNDEFINED if the type is empty.
+     * @throws IllegalArgumentException If the type is unknown.
      */
     private WeaponType getWeaponType(String type) {
-        if (type == "PISTOL")
+        type = type.trim();
+        if (type.isEmpty())
+            return WeaponType.UNDEFINED;
+        else if (type.equals("PISTOL"))
             return WeaponType.PISTOL;
         else if (type.equals("ASSAULT_RIFLE"))
             return WeaponType.ASSAULTRIFLE;
@@ -128,12 +427,42 @@ public final class ConfigHandler implements Serializable{
         else if (type.equals("ROCKET_LAUNCHER"))
             return WeaponType.ROCKETLAUNCHER;
         else
-            return WeaponType.UNDEFINED;
+            throw new IllegalArgumentException("Unknown weapon in configuration file: " + type);
+    }
+
+    /**
+     * Returns the section name of the weapon type in the configuration file.
+     * @param type The weapon type.
+     * @return The section name, or null if the type has no section.
+     */
+    private static String getWeaponSection(WeaponType type) {
+        return switch (type) {
+            case PISTOL -> "Pistol";
+            case ASSAULTRIFLE -> "AssaultRifle";
+            case SHOTGUN -> "Shotgun";
+            case SNIPERRIFLE -> "SniperRifle";
+            case ROCKETLAUNCHER -> "Rocketlauncher";
+            default -> null;
+        };
+    }
+
+    /**
+     * Returns the section name of the zombie type in the configuration file.
+     * @param type The zombie type.
+     * @return The section name.
+     */
+    private static String getZombieSection(ZombieType type) {
+        return switch (type) {
+            case ORDINARY -> "OrdinaryZombie";
+            case CRAWLER -> "CrawlerZombie";
+            case TANK -> "TankZombie";
+            case ACID -> "AcidZombie";
+        };
     }
 
-    public static WeaponType[] parseWeapon(String weaponString) {
+    public static List<WeaponType> parseWeapon(String weaponString) {
         if (weaponString == null || weaponString.trim().isEmpty()) {
-            return new WeaponType[0]; // Return empty array if field is missing
+            return List.of(); // Return empty list if field is missing
         }
 
         String[] weaponNames = weaponString.split(",");
@@ -154,298 +483,117 @@ public final class ConfigHandler implements Serializable{
             else 
                 System.err.println("Unknown weapon: " + weaponName.trim());
         }
-        return weaponList.toArray(new WeaponType[0]);
+        return List.copyOf(weaponList);
     }    
 
     /**
-     * Returns window properties of the game.
-     * @return The weapon properties.
+     * Returns the path of the configuration file.
+     * @return The path in resources.
      */
-    public WindowProperties getWindowProperties() {
-        Integer windowWidth = Integer.parseInt(ConfigHandler.ini.get("Window").get("Width"));
-        Integer windowHeight = Integer.parseInt(ConfigHandler.ini.get("Window").get("Height"));
-        Integer x = Integer.parseInt(ConfigHandler.ini.get("Window").get("X"));
-        Integer y = Integer.parseInt(ConfigHandler.ini.get("Window").get("Y"));
-        return new WindowProperties(windowWidth, windowHeight, x ,y);
+    public String getPath() {
+        return this.path;
     }
 
     /**
-     * Returns weapon properties of the pistol.
-     * @return The weapon properties.
+     * Returns window properties of the game.
+     * @return The window properties.
      */
-    public WeaponProperties getPistolProperties() {
-        Integer weaponDamage = Integer.parseInt(ConfigHandler.ini.get("Pistol").get("Damage"));
-        Integer weaponFireRate = Integer.parseInt(ConfigHandler.ini.get("Pistol").get("FireRate"));
-        Integer weaponMagazineCapacity = Integer.parseInt(ConfigHandler.ini.get("Pistol").get("MagazineCapacity"));
-        Integer weaponMagazineCount = Integer.parseInt(ConfigHandler.ini.get("Pistol").get("MagazineCount"));
-        Integer reloadDuration = Integer.parseInt(ConfigHandler.ini.get("Pistol").get("ReloadDuration"));
-        return new WeaponProperties(weaponDamage, weaponFireRate, weaponMagazineCapacity, weaponMagazineCount, reloadDuration);
+    public WindowProperties getWindowProperties() {
+        return this.windowProperties;
     }
 
     /**
-     * Returns weapon properties of the assault rifle.
-     * @return The weapon properties.
+     * Returns audio properties of the game.
+     * @return The audio properties.
      */
-    public WeaponProperties getAssaultRifleProperties() {
-        Integer weaponDamage = Integer.parseInt(ConfigHandler.ini.get("AssaultRifle").get("Damage"));
-        Integer weaponFireRate = Integer.parseInt(ConfigHandler.ini.get("AssaultRifle").get("FireRate"));
-        Integer weaponMagazineCapacity = Integer.parseInt(ConfigHandler.ini.get("AssaultRifle").get("MagazineCapacity"));
-        Integer weaponMagazineCount = Integer.parseInt(ConfigHandler.ini.get("AssaultRifle").get("MagazineCount"));
-        Integer reloadDuration = Integer.parseInt(ConfigHandler.ini.get("AssaultRifle").get("ReloadDuration"));
-        return new WeaponProperties(weaponDamage, weaponFireRate, weaponMagazineCapacity, weaponMagazineCount, reloadDuration);
+    public AudioProperties getAudioProperties() {
+        return this.audioProperties;
     }
 
     /**
-     * Returns weapon properties of the shotgun.
-     * @return The weapon properties.
+     * Returns render properties of the game.
+     * @return The render properties.
      */
-    public WeaponProperties getShotgunProperties() {
-        Integer weaponDamage = Integer.parseInt(ConfigHandler.ini.get("Shotgun").get("Damage"));
-        Integer weaponFireRate = Integer.parseInt(ConfigHandler.ini.get("Shotgun").get("FireRate"));
-        Integer weaponMagazineCapacity = Integer.parseInt(ConfigHandler.ini.get("Shotgun").get("MagazineCapacity"));
-        Integer weaponMagazineCount = Integer.parseInt(ConfigHandler.ini.get("Shotgun").get("MagazineCount"));
-        Integer reloadDuration = Integer.parseInt(ConfigHandler.ini.get("Shotgun").get("ReloadDuration"));
-        return new WeaponProperties(weaponDamage, weaponFireRate, weaponMagazineCapacity, weaponMagazineCount, reloadDuration);
+    public RenderProperties getRenderProperties() {
+        return this.renderProperties;
     }
 
     /**
-     * Returns weapon properties of the sniper rifle.
-     * @return The weapon properties.
+     * Returns simulation properties of the game.
+     * @return The simulation properties.
      */
-    public WeaponProperties getSniperRifleProperties() {
-        Integer weaponDamage = Integer.parseInt(ConfigHandler.ini.get("SniperRifle").get("Damage"));
-        Integer weaponFireRate = Integer.parseInt(ConfigHandler.ini.get("SniperRifle").get("FireRate"));
-        Integer weaponMagazineCapacity = Integer.parseInt(ConfigHandler.ini.get("SniperRifle").get("MagazineCapacity"));
-        Integer weaponMagazineCount = Integer.parseInt(ConfigHandler.ini.get("SniperRifle").get("MagazineCount"));
-        Integer reloadDuration = Integer.parseInt(ConfigHandler.ini.get("SniperRifle").get("ReloadDuration"));
-        return new WeaponProperties(weaponDamage, weaponFireRate, weaponMagazineCapacity, weaponMagazineCount, reloadDuration);
+    public SimulationProperties getSimulationProperties() {
+        return this.simulationProperties;
     }
 
     /**
-     * Returns weapon properties of the rocket launcher.
-     * @return The weapon properties.
+     * Returns autosave properties of the game.
+     * @return The autosave properties.
      */
-    public WeaponProperties getRocketLauncherProperties() {
-        Integer weaponDamage = Integer.parseInt(ConfigHandler.ini.get("Rocketlauncher").get("Damage"));
-        Integer weaponFireRate = Integer.parseInt(ConfigHandler.ini.get("Rocketlauncher").get("FireRate"));
-        Integer weaponMagazineCapacity = Integer.parseInt(ConfigHandler.ini.get("Rocketlauncher").get("MagazineCapacity"));
-        Integer weaponMagazineCount = Integer.parseInt(ConfigHandler.ini.get("Rocketlauncher").get("MagazineCount"));
-        Integer reloadDuration = Integer.parseInt(ConfigHandler.ini.get("Rocketlauncher").get("ReloadDuration"));
-        return new WeaponProperties(weaponDamage, weaponFireRate, weaponMagazineCapacity, weaponMagazineCount, reloadDuration);
+    public AutosaveProperties getAutosaveProperties() {
+        return this.autosaveProperties;
     }
 
     /**
-     * Returns player properties.
-     * @return The player properties.
+     * Returns replay properties of the game.
+     * @return The replay properties.
      */
-    public PlayerProperties getPlayerProperties() {
-        Integer playerStartingX = Integer.parseInt(ConfigHandler.ini.get("Player").get("StartingX"));
-        Integer playerStartingY = Integer.parseInt(ConfigHandler.ini.get("Player").get("StartingY"));
-        Integer playerStartingHealth = Integer.parseInt(ConfigHandler.ini.get("Player").get("StartingHealth"));
-        Integer playerSpeed = Integer.parseInt(ConfigHandler.ini.get("Player").get("Speed"));
-        WeaponType[] startingWeapons = ConfigHandler.parseWeapon(ConfigHandler.ini.get("Player").get("StartingWeapons"));
-        return new PlayerProperties(playerStartingX, playerStartingY, playerStartingHealth, playerSpeed, startingWeapons);
+    public ReplayProperties getReplayProperties() {
+        return this.replayProperties;
     }
 
     /**
-     * Returns zombie properties of the ordinary type.
-     * @return The zombie properties.
+     * Returns profiler properties of the game.
+     * @return The profiler properties.
      */
-    public ZombieProperties getOrdinaryZombieProperties() {
-        Integer zombieHealth = Integer.parseInt(ConfigHandler.ini.get("OrdinaryZombie").get("Health"));
-        Integer zombieSpeed = Integer.parseInt(ConfigHandler.ini.get("OrdinaryZombie").get("Speed"));
-        Integer zombieDamage = Integer.parseInt(ConfigHandler.ini.get("OrdinaryZombie").get("Damage"));
-        Integer zombiePoints = Integer.parseInt(ConfigHandler.ini.get("OrdinaryZombie").get("Points"));
-        return new ZombieProperties(zombieHealth, zombieSpeed, zombieDamage, zombiePoints);
+    public ProfilerProperties getProfilerProperties() {
+        return this.profilerProperties;
     }
 
     /**
-     * Returns zombie properties of the crawler type.
-     * @return The zombie properties.
+     * Returns player properties.
+     * @return The player properties.
      */
-    public ZombieProperties getCrawlerZombieProperties() {
-        Integer zombieHealth = Integer.parseInt(ConfigHandler.ini.get("CrawlerZombie").get("Health"));
-        Integer zombieSpeed = Integer.parseInt(ConfigHandler.ini.get("CrawlerZombie").get("Speed"));
-        Integer zombieDamage = Integer.parseInt(ConfigHandler.ini.get("CrawlerZombie").get("Damage"));
-        Integer zombiePoints = Integer.parseInt(ConfigHandler.ini.get("CrawlerZombie").get("Points"));
-        return new ZombieProperties(zombieHealth, zombieSpeed, zombieDamage, zombiePoints);
+    public PlayerProperties getPlayerProperties() {
+        return this.playerProperties;
     }
 
     /**
-     * Returns zombie properties of the tank type.
-     * @return The zombie properties.
+     * Returns weapon properties of the weapon type.
+     * @param type The weapon type.
+     * @return The weapon properties, or null if the type is UNDEFINED.
      */
-    public ZombieProperties getTankZombieProperties() {
-        Integer zombieHealth = Integer.parseInt(ConfigHandler.ini.get("TankZombie").get("Health"));
-        Integer zombieSpeed = Integer.parseInt(ConfigHandler.ini.get("TankZombie").get("Speed"));
-        Integer zombieDamage = Integer.parseInt(ConfigHandler.ini.get("TankZombie").get("Damage"));
-        Integer zombiePoints = Integer.parseInt(ConfigHandler.ini.get("TankZombie").get("Points"));
-        return new ZombieProperties(zombieHealth, zombieSpeed, zombieDamage, zombiePoints);
+    public WeaponProperties getWeaponProperties(WeaponType type) {
+        return this.weaponProperties.get(type);
     }
 
     /**
-     * Returns zombie properties of the acid type.
+     * Returns zombie properties of the zombie type.
+     * @param type The zombie type.
      * @return The zombie properties.
      */
-    public ZombieProperties getAcidZombieProperties() {
-        Integer zombieHealth = Integer.parseInt(ConfigHandler.ini.get("AcidZombie").get("Health"));
-        Integer zombieSpeed = Integer.parseInt(ConfigHandler.ini.get("AcidZombie").get("Speed"));
-        Integer zombieDamage = Integer.parseInt(ConfigHandler.ini.get("AcidZombie").get("Damage"));
-        Integer zombiePoints = Integer.parseInt(ConfigHandler.ini.get("AcidZombie").get("Points"));
-        return new ZombieProperties(zombieHealth, zombieSpeed, zombieDamage, zombiePoints);
-    }
-
-    /**
-     * Returns level properties of level 1.
-     * @return The level properties.
-     */
-    public LevelProperties getLevel1Properties() {
-        Integer levelWaveDuration = Integer.parseInt(ConfigHandler.ini.get("Level1").get("WaveDuration"));
-        Integer levelOrdinaryZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level1").get("OrdinaryZombieCount"));
-        Integer levelCrawlerZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level1").get("CrawlerZombieCount"));
-        Integer levelTankZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level1").get("TankZombieCount"));
-        Integer levelAcidZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level1").get("AcidZombieCount"));
-        WeaponType weaponPrize = getWeaponType(ConfigHandler.ini.get("Level1").get("WeaponPrize", ""));
-        return new LevelProperties(levelWaveDuration, levelOrdinaryZombieCount, levelCrawlerZombieCount, levelTankZombieCount, levelAcidZombieCount, weaponPrize);
-    }
-
-    /**
-     * Returns level properties of level 2.
-     * @return The level properties.
-     */
-    public LevelProperties getLevel2Properties() {
-        Integer levelWaveDuration = Integer.parseInt(ConfigHandler.ini.get("Level2").get("WaveDuration"));
-        Integer levelOrdinaryZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level2").get("OrdinaryZombieCount"));
-        Integer levelCrawlerZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level2").get("CrawlerZombieCount"));
-        Integer levelTankZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level2").get("TankZombieCount"));
-        Integer levelAcidZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level2").get("AcidZombieCount"));
-        WeaponType weaponPrize = getWeaponType(ConfigHandler.ini.get("Level2").get("WeaponPrize", ""));
-        return new LevelProperties(levelWaveDuration, levelOrdinaryZombieCount, levelCrawlerZombieCount, levelTankZombieCount, levelAcidZombieCount, weaponPrize);
-    }
-
-    /**
-     * Returns level properties of level 3.
-     * @return The level properties.
-     */
-    public LevelProperties getLevel3Properties() {
-        Integer levelWaveDuration = Integer.parseInt(ConfigHandler.ini.get("Level3").get("WaveDuration"));
-        Integer levelOrdinaryZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level3").get("OrdinaryZombieCount"));
-        Integer levelCrawlerZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level3").get("CrawlerZombieCount"));
-        Integer levelTankZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level3").get("TankZombieCount"));
-        Integer levelAcidZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level3").get("AcidZombieCount"));
-        WeaponType weaponPrize = getWeaponType(ConfigHandler.ini.get("Level3").get("WeaponPrize", ""));
-        return new LevelProperties(levelWaveDuration, levelOrdinaryZombieCount, levelCrawlerZombieCount, levelTankZombieCount, levelAcidZombieCount, weaponPrize);
-    }
-
-    /**
-     * Returns level properties of level 4.
-     * @return The level properties.
-     */
-    public LevelProperties getLevel4Properties() {
-        Integer levelWaveDuration = Integer.parseInt(ConfigHandler.ini.get("Level4").get("WaveDuration"));
-        Integer levelOrdinaryZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level4").get("OrdinaryZombieCount"));
-        Integer levelCrawlerZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level4").get("CrawlerZombieCount"));
-        Integer levelTankZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level4").get("TankZombieCount"));
-        Integer levelAcidZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level4").get("AcidZombieCount"));
-        WeaponType weaponPrize = getWeaponType(ConfigHandler.ini.get("Level4").get("WeaponPrize", ""));
-        return new LevelProperties(levelWaveDuration, levelOrdinaryZombieCount, levelCrawlerZombieCount, levelTankZombieCount, levelAcidZombieCount, weaponPrize);
-    }
-
-    /**
-     * Returns level properties of level 5.
-     * @return The level properties.
-     */
-    public LevelProperties getLevel5Properties() {
-        Integer levelWaveDuration = Integer.parseInt(ConfigHandler.ini.get("Level5").get("WaveDuration"));
-        Integer levelOrdinaryZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level5").get("OrdinaryZombieCount"));
-        Integer levelCrawlerZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level5").get("CrawlerZombieCount"));
-        Integer levelTankZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level5").get("TankZombieCount"));
-        Integer levelAcidZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level5").get("AcidZombieCount"));
-        WeaponType weaponPrize = getWeaponType(ConfigHandler.ini.get("Level5").get("WeaponPrize", ""));
-        return new LevelProperties(levelWaveDuration, levelOrdinaryZombieCount, levelCrawlerZombieCount, levelTankZombieCount, levelAcidZombieCount, weaponPrize);
-    }
-
-    /**
-     * Returns level properties of level 6.
-     * @return The level properties.
-     */
-    public LevelProperties getLevel6Properties() {
-        Integer levelWaveDuration = Integer.parseInt(ConfigHandler.ini.get("Level6").get("WaveDuration"));
-        Integer levelOrdinaryZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level6").get("OrdinaryZombieCount"));
-        Integer levelCrawlerZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level6").get("CrawlerZombieCount"));
-        Integer levelTankZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level6").get("TankZombieCount"));
-        Integer levelAcidZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level6").get("AcidZombieCount"));
-        WeaponType weaponPrize = getWeaponType(ConfigHandler.ini.get("Level6").get("WeaponPrize", ""));
-        return new LevelProperties(levelWaveDuration, levelOrdinaryZombieCount, levelCrawlerZombieCount, levelTankZombieCount, levelAcidZombieCount, weaponPrize);
+    public ZombieProperties getZombieProperties(ZombieType type) {
+        return this.zombieProperties.get(type);
     }
 
     /**
-     * Returns level properties of level 7.
+     * Returns level properties of the level. Levels after the last configured one share its properties.
+     * @param level The level number, starting from 1.
      * @return The level properties.
+     * @throws IllegalArgumentException If the level is less than 1.
      */
-    public LevelProperties getLevel7Properties() {
-        Integer levelWaveDuration = Integer.parseInt(ConfigHandler.ini.get("Level7").get("WaveDuration"));
-        Integer levelOrdinaryZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level7").get("OrdinaryZombieCount"));
-        Integer levelCrawlerZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level7").get("CrawlerZombieCount"));
-        Integer levelTankZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level7").get("TankZombieCount"));
-        Integer levelAcidZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level7").get("AcidZombieCount"));
-        WeaponType weaponPrize = getWeaponType(ConfigHandler.ini.get("Level7").get("WeaponPrize", ""));
-        return new LevelProperties(levelWaveDuration, levelOrdinaryZombieCount, levelCrawlerZombieCount, levelTankZombieCount, levelAcidZombieCount, weaponPrize);
-    }
-
-    /**
-     * Returns level properties of level 8.
-     * @return The level properties.
-     */
-    public LevelProperties getLevel8Properties() {
-        Integer levelWaveDuration = Integer.parseInt(ConfigHandler.ini.get("Level8").get("WaveDuration"));
-        Integer levelOrdinaryZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level8").get("OrdinaryZombieCount"));
-        Integer levelCrawlerZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level8").get("CrawlerZombieCount"));
-        Integer levelTankZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level8").get("TankZombieCount"));
-        Integer levelAcidZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level8").get("AcidZombieCount"));
-        WeaponType weaponPrize = getWeaponType(ConfigHandler.ini.get("Level8").get("WeaponPrize", ""));
-        return new LevelProperties(levelWaveDuration, levelOrdinaryZombieCount, levelCrawlerZombieCount, levelTankZombieCount, levelAcidZombieCount, weaponPrize);
-    }
-
-    /**
-     * Returns level properties of level 9.
-     * @return The level properties.
-     */
-    public LevelProperties getLevel9Properties() {
-        Integer levelWaveDuration = Integer.parseInt(ConfigHandler.ini.get("Level9").get("WaveDuration"));
-        Integer levelOrdinaryZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level9").get("OrdinaryZombieCount"));
-        Integer levelCrawlerZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level9").get("CrawlerZombieCount"));
-        Integer levelTankZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level9").get("TankZombieCount"));
-        Integer levelAcidZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level9").get("AcidZombieCount"));
-        WeaponType weaponPrize = getWeaponType(ConfigHandler.ini.get("Level9").get("WeaponPrize", ""));
-        return new LevelProperties(levelWaveDuration, levelOrdinaryZombieCount, levelCrawlerZombieCount, levelTankZombieCount, levelAcidZombieCount, weaponPrize);
-    }
-
-    /**
-     * Returns level properties of level 10.
-     * @return The level properties.
-     */
-    public LevelProperties getLevel10Properties() {
-        Integer levelWaveDuration = Integer.parseInt(ConfigHandler.ini.get("Level10").get("WaveDuration"));
-        Integer levelOrdinaryZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level10").get("OrdinaryZombieCount"));
-        Integer levelCrawlerZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level10").get("CrawlerZombieCount"));
-        Integer levelTankZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level10").get("TankZombieCount"));
-        Integer levelAcidZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level10").get("AcidZombieCount"));
-        WeaponType weaponPrize = getWeaponType(ConfigHandler.ini.get("Level10").get("WeaponPrize", ""));
-        return new LevelProperties(levelWaveDuration, levelOrdinaryZombieCount, levelCrawlerZombieCount, levelTankZombieCount, levelAcidZombieCount, weaponPrize);
+    public LevelProperties getLevelProperties(int level) {
+        if (level < 1) {
+            throw new IllegalArgumentException("Level must be positive: " + level);
+        }
+        return this.levelProperties[Math.min(level, this.levelProperties.length) - 1];
     }
 
     /**
-     * Returns level properties after level 10.
-     * @return The level properties.
+     * Returns the number of levels with their own properties, including the one applied to all further levels.
+     * @return The level count.
      */
-    public LevelProperties getLevel10PlusProperties() {
-        Integer levelWaveDuration = Integer.parseInt(ConfigHandler.ini.get("Level10+").get("WaveDuration"));
-        Integer levelOrdinaryZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level10+").get("OrdinaryZombieCount"));
-        Integer levelCrawlerZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level10+").get("CrawlerZombieCount"));
-        Integer levelTankZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level10+").get("TankZombieCount"));
-        Integer levelAcidZombieCount = Integer.parseInt(ConfigHandler.ini.get("Level10+").get("AcidZombieCount"));
-        WeaponType weaponPrize = getWeaponType(ConfigHandler.ini.get("Level10+").get("WeaponPrize", ""));
-        return new LevelProperties(levelWaveDuration, levelOrdinaryZombieCount, levelCrawlerZombieCount, levelTankZombieCount, levelAcidZombieCount, weaponPrize);
+    public int getLevelCount() {
+        return this.levelProperties.length;
     }
 }
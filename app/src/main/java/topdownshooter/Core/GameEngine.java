@@ -0,0 +1,944 @@
+/*
+ * @file GameEngine.java
+ * @brief This file defines the `GameEngine` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+import topdownshooter.Core.BlastFX.BlastType;
+import topdownshooter.Player.Loot;
+import topdownshooter.Player.LootPool;
+import topdownshooter.Player.Player;
+import topdownshooter.Weapon.WeaponType;
+import topdownshooter.Weapon.Projectiles.Projectile;
+import topdownshooter.Weapon.Projectiles.ProjectilePool;
+import topdownshooter.Weapon.Projectiles.ProjectileType;
+import topdownshooter.Zombie.Zombie;
+import topdownshooter.Zombie.ZombieFactory;
+import topdownshooter.Zombie.ZombieStore;
+import topdownshooter.Zombie.ZombieType;
+import topdownshooter.Zombie.ZombieUpdater;
+
+/**
+ * @class GameEngine
+ * @brief Simulates the game world (player, game level, zombies, projectiles, loot and collisions) without any UI.
+ * 
+ * The engine is stepped one game tick at a time by calling update(). It does not depend on 
+ * Swing, so it can be driven by the game area panel as well as by a headless simulation. 
+ * Events which must be shown to the user are reported to the registered event listener.
+ * 
+ * Zombies are kept as objects, or in a data-oriented `ZombieStore` if it is enabled in the 
+ * simulation properties of the configuration (for large hordes).
+ * 
+ * The simulation is deterministic. Each game is started with a seed, from which the random 
+ * numbers of all subsystems are drawn, so a game is reproduced by the same seed and the same input. 
+ * The input of the player is applied through applyInput() and aim(), so it can be recorded into 
+ * a replay while the game is played.
+ * 
+ * The engine is not thread-safe; all calls must be made from the thread running the simulation.
+ */
+public class GameEngine {
+    /**
+     * @interface GameEventListener
+     * @brief Receives the game events which are of interest to the user.
+     */
+    public interface GameEventListener {
+        /**
+         * Called when a new wave starts.
+         * 
+         * @param level The level of the started wave.
+         */
+        default void onWaveStarted(int level) {}
+
+        /**
+         * Called once when the player is dead.
+         * 
+         * @param score The final score of the player.
+         * @param level The level reached by the player.
+         */
+        default void onGameOver(int score, int level) {}
+    }
+
+    private final ConfigHandler config;                     /**< Configuration handler for game settings. */
+    private int playgroundWidth;                            /**< Width of the playground in pixels. */
+    private int playgroundHeight;                           /**< Height of the playground in pixels. */
+
+    private GameLevel gameLevel = null;                     /**< The current game level. */
+    private final GameLevel.SpawnListener spawnListener = this::spawnZombie;  /**< Receives the zombies spawned by the game level. */
+    private Player player = null;                           /**< The player object in the game. */
+    private ArrayList<Zombie> zombies = null;               /**< List of zombies in the game. Empty if the zombie store is used. */
+    private ZombieStore zombieStore = null;                 /**< Zombies kept in parallel arrays, or null if zombies are kept as objects. */
+    private ArrayList<Projectile> projectiles = null;       /**< List of projectiles fired by the player and zombies. */
+    private ArrayList<Loot> loots = null;                   /**< List of loot items in the game. */
+    private ArrayList<BlastFX> blastFXs = null;             /**< List of blast effects in the game. */
+
+    private final CollisionSystem collisionSystem;          /**< Resolves the collisions between the game objects. */
+    private final ZombieUpdater zombieUpdater;              /**< Updates the zombies, in parallel for large hordes. */
+    private final TimerWheel timers = new TimerWheel();     /**< Game clock of the engine, which runs the actions of the timers of its game objects. */
+    private final GameRandom random = new GameRandom();     /**< Random number streams of the engine, which its game objects draw from. */
+    private TimeTick fireRateTick = null;                   /**< Time tick for handling fire rate control. */
+    private GameEventListener eventListener;                /**< Listener of the game events. */
+    private boolean isGameOver = false;                     /**< Whether the player is dead. */
+    private long tickCount = 0;                             /**< Number of game ticks simulated in the current game. */
+    private long seed = 0;                                  /**< Seed of the random numbers of the current game. */
+    private Replay.Recorder recorder = null;                /**< Records the input of the current game, null if it is not recorded. */
+    private TickProfiler profiler = null;                   /**< Records the duration of the phases of the game ticks, null if they are not measured. */
+
+    /**
+     * Constructs a game engine and starts a new game.
+     * 
+     * @param config The configuration handler that contains the game settings.
+     * @param playgroundWidth The width of the playground in pixels.
+     * @param playgroundHeight The height of the playground in pixels.
+     * @throws IllegalStateException If the config parameter is null.
+     */
+    public GameEngine(ConfigHandler config, int playgroundWidth, int playgroundHeight) {
+        if (config == null) {
+            throw new IllegalStateException("ConfigHandler cannot be null!");
+        }
+
+        this.config = config;
+        this.playgroundWidth = playgroundWidth;
+        this.playgroundHeight = playgroundHeight;
+        this.collisionSystem = new CollisionSystem(config.getSimulationProperties().collisionMode(), this.random);
+        this.zombieUpdater = new ZombieUpdater(config.getSimulationProperties());
+        this.zombieUpdater.setPlaygroundSize(playgroundWidth, playgroundHeight);
+        this.eventListener = new GameEventListener() {};
+
+        this.zombies = new ArrayList<>();
+        this.projectiles = new ArrayList<>();
+        this.loots = new ArrayList<>();
+        this.blastFXs = new ArrayList<>();
+        if (config.getSimulationProperties().isZombieStoreEnabled()) {
+            this.zombieStore = new ZombieStore(this.timers, this.random);
+        }
+
+        newGame();
+    }
+
+    /**
+     * Drops the current game objects and starts a new game with a new player and game level.
+     * 
+     * The game is seeded with the seed of the replay properties, or with a new random seed if it is 0.
+     */
+    public void newGame() {
+        long configSeed = this.config.getReplayProperties().seed();
+        newGame(configSeed != 0 ? configSeed : GameRandom.newSeed());
+    }
+
+    /**
+     * Drops the current game objects and starts a new game with the given seed.
+     * 
+     * The recording of the current game, if any, is finished.
+     * 
+     * @param seed The seed of the random numbers of the game.
+     */
+    public void newGame(long seed) {
+        finishRecording();
+        reset();
+
+        this.seed = seed;
+        this.random.seed(seed);
+
+        this.gameLevel = new GameLevel(this.config, this.timers, this.random);
+        this.player = new Player(this.config, this.timers, this.random);
+    }
+
+    /**
+     * Sets the listener of the game events.
+     * 
+     * @param eventListener The listener. Null removes the current listener.
+     */
+    public void setEventListener(GameEventListener eventListener) {
+        this.eventListener = (eventListener != null) ? eventListener : new GameEventListener() {};
+    }
+
+    /**
+     * Sets the profiler which records the duration of the phases of each game tick. The caller 
+     * starts the row of each game tick before calling update().
+     * 
+     * @param profiler The profiler. Null stops measuring the game ticks.
+     */
+    public void setProfiler(TickProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Sets the size of the playground, which bounds the player and the projectiles and defines the spawn edges.
+     * 
+     * @param width The width of the playground in pixels.
+     * @param height The height of the playground in pixels.
+     */
+    public void setPlaygroundSize(int width, int height) {
+        if (width == this.playgroundWidth && height == this.playgroundHeight) return;
+        if (this.recorder != null) this.recorder.recordResize(this.tickCount, width, height);
+
+        this.playgroundWidth = width;
+        this.playgroundHeight = height;
+        this.zombieUpdater.setPlaygroundSize(width, height);
+    }
+
+    /**
+     * Updates all game objects by one game tick.
+     * 
+     * Nothing is updated after the game is over.
+     */
+    public void update() {
+        if (this.isGameOver) return;
+
+        long time = (this.profiler == null) ? 0 : TickProfiler.now();
+
+        // Timers count down against the game clock, the ones with an action run it here
+        this.timers.advance();
+        time = profile(TickProfiler.Phase.TIMERS, time);
+
+        updatePlayer();
+        time = profile(TickProfiler.Phase.PLAYER, time);
+
+        updateGameLevel();
+        time = profile(TickProfiler.Phase.LEVEL, time);
+
+        updateZombies();
+        time = profile(TickProfiler.Phase.ZOMBIES, time);
+
+        updateProjectiles();
+        time = profile(TickProfiler.Phase.PROJECTILES, time);
+
+        updateLoots();
+        time = profile(TickProfiler.Phase.LOOTS, time);
+
+        checkCollisions();
+        time = profile(TickProfiler.Phase.COLLISIONS, time);
+
+        updateBlasts();
+        profile(TickProfiler.Phase.BLASTS, time);
+
+        if (this.profiler != null) {
+            this.profiler.setCount(TickProfiler.Counter.ZOMBIES, getZombieCount());
+            this.profiler.setCount(TickProfiler.Counter.PROJECTILES, this.projectiles.size());
+            this.profiler.setCount(TickProfiler.Counter.LOOTS, this.loots.size());
+            this.profiler.setCount(TickProfiler.Counter.BLASTS, this.blastFXs.size());
+            this.profiler.setCount(TickProfiler.Counter.TIMERS, this.timers.size());
+        }
+
+        this.tickCount++;
+
+        // Reported after the tick is completed, so the game can be saved or its recording finished by the listener
+        if (this.isGameOver) {
+            this.eventListener.onGameOver(this.player.getScore(), this.gameLevel==null ? 0 : this.gameLevel.getLevel());
+        }
+    }
+
+    /**
+     * Checks the collisions between the game objects, and reports the checks to the flight recorder.
+     */
+    private void checkCollisions() {
+        GameEvents.CollisionEvent collisionEvent = new GameEvents.CollisionEvent();
+        collisionEvent.begin();
+        long checkCount = this.collisionSystem.getCheckCount();
+        int zombieCount = getZombieCount();
+        int projectileCount = this.projectiles.size();
+
+        if (this.zombieStore != null) {
+            this.collisionSystem.checkCollisions(this.player, this.zombieStore, this.projectiles, this.loots, this.blastFXs);
+        } else {
+            this.collisionSystem.checkCollisions(this.player, this.zombies, this.projectiles, this.loots, this.blastFXs);
+        }
+
+        collisionEvent.end();
+        if (collisionEvent.shouldCommit()) {
+            collisionEvent.checkCount = this.collisionSystem.getCheckCount() - checkCount;
+            collisionEvent.zombieCount = zombieCount;
+            collisionEvent.projectileCount = projectileCount;
+            collisionEvent.commit();
+        }
+    }
+
+    /**
+     * Records the duration of a phase of the game tick if a profiler is set.
+     * 
+     * @param phase The phase.
+     * @param start The start time of the phase in nanoseconds.
+     * @return The end time of the phase in nanoseconds.
+     */
+    private long profile(TickProfiler.Phase phase, long start) {
+        return (this.profiler == null) ? 0 : this.profiler.mark(phase, start);
+    }
+
+    /**
+     * Adds the current state of the game objects into a render snapshot.
+     * 
+     * Each kind of game object is added as a layer, so they are drawn in the same order 
+     * while the sprites of a layer are grouped by their sprite sheet.
+     * 
+     * @param snapshot The snapshot builder of the frame.
+     */
+    public void draw(RenderSnapshot.Builder snapshot) {
+        if (this.player == null) return;
+
+        snapshot.beginLayer();
+        this.player.draw(snapshot);
+
+        snapshot.beginLayer();
+        if (this.zombieStore != null) {
+            this.zombieStore.draw(snapshot);
+        } else {
+            for (Zombie z : this.zombies) {
+                z.draw(snapshot);
+            }
+        }
+
+        snapshot.beginLayer();
+        for (Projectile projectile : this.projectiles) {
+            if (projectile == null) continue;
+            projectile.draw(snapshot);
+        }
+
+        snapshot.beginLayer();
+        for (Loot loot : this.loots) {
+            if (loot == null) continue;
+            loot.draw(snapshot);
+        }
+
+        snapshot.beginLayer();
+        for (BlastFX bFX : this.blastFXs) {
+            bFX.draw(snapshot);
+        }
+    }
+
+    /**
+     * Starts a new wave of zombies in the game.
+     * 
+     * This method triggers the spawning of a new wave of zombies.
+     */
+    private void startWave() {
+        if (this.gameLevel.getWaveStatus()== GameLevel.GameLevelStatus.UNDEFINED ||
+            this.gameLevel.getWaveStatus()== GameLevel.GameLevelStatus.ENDED)  {
+
+            this.player.addScore(this.gameLevel.calculateLevelBonus());  // Add level bonus into player's score
+
+            WeaponType weaponPrize = this.gameLevel.startWave();                
+
+            if (weaponPrize!=null && weaponPrize!=WeaponType.UNDEFINED) {
+                this.player.addNewWeapon(this.config, weaponPrize);
+            }
+
+            this.eventListener.onWaveStarted(this.gameLevel.getLevel());
+        }
+    }
+
+    /**
+     * Updates the player state, such as position and status.
+     */
+    private void updatePlayer() {
+        if (this.player==null) return;
+
+        this.player.update(this.playgroundWidth, this.playgroundHeight);
+
+        if (this.player.getHealth() <= 0) {
+            this.isGameOver = true;
+            this.fireRateTick = null;
+        }
+    }
+
+    /**
+     * Updates the game level status, including checking level progression.
+     */
+    private void updateGameLevel() {
+        if (this.gameLevel==null || this.player == null || this.zombies == null) return;
+
+        if (getZombieCount() == 0) {
+            startWave();
+        }
+
+        this.gameLevel.update(this.playgroundWidth, this.playgroundHeight, this.spawnListener);
+    }
+
+    /**
+     * Adds a zombie spawned by the game level.
+     * @param type The type of the zombie.
+     * @param x The x-coordinate of the spawn.
+     * @param y The y-coordinate of the spawn.
+     */
+    private void spawnZombie(ZombieType type, int x, int y) {
+        // Spawned zombies are written directly into the store, without creating zombie objects
+        if (this.zombieStore != null) {
+            this.zombieStore.add(type, this.config.getZombieProperties(type), x, y);
+        } else {
+            this.zombies.add(ZombieFactory.createZombie(this.config, this.timers, this.random, type, x, y));
+        }
+    }
+
+    /**
+     * Updates the zombies, including their movement and interactions.
+     */
+    private void updateZombies() {
+        if (this.player==null ||this.zombies==null) return;
+
+        // Move zombies towards player
+        if (this.zombieStore != null) {
+            this.zombieUpdater.update(this.zombieStore, this.player.getTargetBounds(), this.projectiles);
+        } else {
+            this.zombieUpdater.update(this.zombies, this.player.getTargetBounds(), this.projectiles);
+        }
+    }
+
+    /**
+     * Updates the projectiles, including their movement and interactions.
+     */
+    private void updateProjectiles() {
+        if (this.projectiles==null) return;
+
+        Iterator<Projectile> iterator = this.projectiles.iterator();
+        while (iterator.hasNext()) {
+            Projectile projectile = iterator.next();
+
+            // If projectile is out of bounds, remove it
+            if (projectile.isOutOfBounds(this.playgroundWidth, this.playgroundHeight)) {
+                iterator.remove();
+                ProjectilePool.release(projectile);
+            } else {
+                projectile.move();
+            }
+        }
+    }
+
+    /**
+     * Updates the loot, including their position and the state.
+     */
+    private void updateLoots() {
+        if (this.player==null || this.loots==null) return;
+
+        for (Loot loot : this.loots) {
+            loot.update();
+        }
+
+        // Remove old loots
+        ListIterator<Loot> lootIterator = this.loots.listIterator();
+        while (lootIterator.hasNext()) {
+            Loot loot = lootIterator.next();
+            if (Globals.GameTick2Time(loot.getLootAge()) > Globals.MAX_LOOT_DURATION) {
+                lootIterator.remove();
+                LootPool.release(loot);
+            }
+        }
+    }
+
+    /**
+     * Updates the blast effects in the game area.
+     */
+    private void updateBlasts() {
+        if (this.blastFXs==null) return;
+
+        Iterator<BlastFX> blastFXIterator = this.blastFXs.listIterator();
+        while (blastFXIterator.hasNext()) {
+            BlastFX bFX = blastFXIterator.next();
+            boolean isUpdated = bFX.update();
+            if (!isUpdated) {
+                blastFXIterator.remove();  // If blast animation has finished, it returns false so remove it.
+                BlastFXPool.release(bFX);
+            }
+        }
+    }
+
+    /**
+     * Applies an input action of the player before the next game tick, and records it if the game is recorded.
+     * 
+     * @param action The input action.
+     */
+    public void applyInput(InputAction action) {
+        if (this.player == null) return;
+        if (this.recorder != null) this.recorder.recordInput(this.tickCount, action);
+
+        switch (action) {
+            case MOVE_LEFT -> this.player.decrementDx();
+            case MOVE_RIGHT -> this.player.incrementDx();
+            case MOVE_UP -> this.player.decrementDy();
+            case MOVE_DOWN -> this.player.incrementDy();
+            case STOP_HORIZONTAL -> this.player.setDx(0);
+            case STOP_VERTICAL -> this.player.setDy(0);
+            case START_FIRE -> startFire();
+            case STOP_FIRE -> stopFire();
+            case RELOAD -> this.player.getCurrentWeapon().reload();
+            case SWITCH_WEAPON -> this.player.switchWeapon();
+        }
+    }
+
+    /**
+     * Rotates the player before the next game tick, and records it if the game is recorded.
+     * 
+     * @param r The rotation of the player in radians.
+     */
+    public void aim(double r) {
+        if (this.player == null) return;
+        if (this.recorder != null) this.recorder.recordAim(this.tickCount, r);
+
+        this.player.rotate(r);
+    }
+
+    /**
+     * Starts recording the input of the current game into a replay file.
+     * 
+     * The recording is finished by stopRecording(), or when a new game is started or a saved game is read.
+     * 
+     * @param path The path of the replay file.
+     * @throws IOException If the file cannot be created.
+     * @throws IllegalStateException If the game is already recorded, or it is not at its first tick.
+     */
+    public void startRecording(Path path) throws IOException {
+        if (this.recorder != null) {
+            throw new IllegalStateException("Game is already recorded!");
+        }
+        if (this.tickCount != 0) {
+            throw new IllegalStateException("Recording must start with a new game!");
+        }
+
+        this.recorder = new Replay.Recorder(path, this.config.getPath(), this.seed, this.playgroundWidth, this.playgroundHeight);
+    }
+
+    /**
+     * Finishes the recording of the current game with the checksum of its state, so the 
+     * playback can verify it. Does nothing if the game is not recorded.
+     * 
+     * It must be called between game ticks.
+     * 
+     * @return The path of the replay file, or null if the game is not recorded.
+     * @throws IOException If the replay file cannot be written.
+     */
+    public Path stopRecording() throws IOException {
+        if (this.recorder == null) return null;
+
+        Replay.Recorder finishedRecorder = this.recorder;
+        this.recorder = null;
+        return finishedRecorder.finish(this.tickCount, Replay.checksum(this));
+    }
+
+    /**
+     * Returns whether the input of the current game is recorded.
+     * 
+     * @return True if the game is recorded.
+     */
+    public boolean isRecording() {
+        return this.recorder != null;
+    }
+
+    /**
+     * Finishes the recording before the current game is dropped, reporting a failure instead of throwing it.
+     */
+    private void finishRecording() {
+        try {
+            stopRecording();
+        } catch (IOException e) {
+            System.err.println("Cannot write replay: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Starts firing with the fire rate of the current weapon until stopFire() is called.
+     */
+    public void startFire() {
+        if (this.fireRateTick == null) {
+            this.fireRateTick = new TimeTick(this.timers, Globals.Time2GameTick(Globals.GAME_TICK_MS), () -> fire()); // Calls function every game tick
+            this.fireRateTick.setRepeats(-1);  // Repeats until it is cancelled
+        }
+    }
+
+    /**
+     * Stops firing.
+     */
+    public void stopFire() {
+        if (this.fireRateTick != null) this.fireRateTick.cancel();
+        this.fireRateTick = null;
+    }
+
+    /**
+     * Adds a projectile to the projectile list when the player shoots.
+     */
+    private void fire() {
+        if (this.player == null) return;
+
+        Projectile projectile = this.player.fire();
+        if (projectile != null)
+            this.projectiles.add(projectile);
+    }
+
+    /**
+     * Clears all game objects, giving the pooled ones back to their pools.
+     * 
+     * The player and game level are dropped until a new game is started or a saved game is read.
+     */
+    public void reset() {
+        // Give pooled objects back before dropping the lists
+        this.loots.forEach(LootPool::release);
+        this.projectiles.forEach(ProjectilePool::release);
+        this.blastFXs.forEach(BlastFXPool::release);
+
+        this.loots.clear();
+        this.projectiles.clear();
+        this.zombies.clear();
+        this.blastFXs.clear();
+        if (this.zombieStore != null) this.zombieStore.clear();
+
+        // Timers of the dropped objects must not run their actions. Only the timers of this engine are bound to its wheel
+        this.timers.clear();
+
+        this.player = null;
+        this.gameLevel = null;
+        this.fireRateTick = null;
+        this.isGameOver = false;
+        this.tickCount = 0;
+    }
+
+    /**
+     * Writes the current game state to a saved game file, replacing the file if it exists.
+     * 
+     * @param path The path of the file.
+     * @throws IOException If the file cannot be written.
+     */
+    public void saveGame(Path path) throws IOException {
+        GameEvents.SaveGameEvent saveEvent = new GameEvents.SaveGameEvent();
+        saveEvent.begin();
+
+        SaveGame.Writer writer = new SaveGame.Writer();
+        writeGameState(writer);
+        SaveGame.write(path, writer);
+
+        saveEvent.end();
+        if (saveEvent.shouldCommit()) {
+            saveEvent.path = path.toString();
+            saveEvent.bytes = writer.size();
+            saveEvent.tick = this.tickCount;
+            saveEvent.isAutosave = false;
+            saveEvent.commit();
+        }
+    }
+
+    /**
+     * Replaces the current game with the one in a saved game file.
+     * 
+     * @param path The path of the file.
+     * @throws IOException If the file cannot be read, or it is not a valid saved game.
+     */
+    public void loadGame(Path path) throws IOException {
+        GameEvents.LoadGameEvent loadEvent = new GameEvents.LoadGameEvent();
+        loadEvent.begin();
+        long bytes = loadEvent.isEnabled() ? Files.size(path) : 0;
+
+        readGameState(SaveGame.read(path));
+
+        loadEvent.end();
+        if (loadEvent.shouldCommit()) {
+            loadEvent.path = path.toString();
+            loadEvent.bytes = bytes;
+            loadEvent.tick = this.tickCount;
+            loadEvent.commit();
+        }
+    }
+
+    /**
+     * Writes the current game state to a saved game, one section per kind of game object, and finishes it.
+     * 
+     * Zombies are written in the same layout whether they are kept as objects or in the zombie store, 
+     * so a saved game can be loaded with either representation.
+     * 
+     * @param writer The writer of the saved game.
+     */
+    public void writeGameState(SaveGame.Writer writer) {
+        writer.beginSection(SaveGame.SECTION_ENGINE, 1);
+        writer.beginRecord();
+        writer.putLong(this.tickCount);
+        writer.putBoolean(this.isGameOver);
+        writer.endRecord();
+        writer.endSection();
+
+        writer.beginSection(SaveGame.SECTION_PLAYER, 1);
+        this.player.writeState(writer);
+        writer.endSection();
+
+        writer.beginSection(SaveGame.SECTION_LEVEL, GameLevel.STATE_VERSION);
+        this.gameLevel.writeState(writer);
+        writer.endSection();
+
+        writer.beginSection(SaveGame.SECTION_ZOMBIES, 1);
+        for (Zombie zombie : getZombies()) {
+            writer.beginRecord();
+            writer.putEnum(zombie.getType());
+            zombie.writeState(writer);
+            writer.endRecord();
+        }
+        writer.endSection();
+
+        writer.beginSection(SaveGame.SECTION_PROJECTILES, 1);
+        for (Projectile projectile : this.projectiles) {
+            writer.beginRecord();
+            writer.putEnum(projectile.getType());
+            projectile.writeState(writer);
+            writer.endRecord();
+        }
+        writer.endSection();
+
+        writer.beginSection(SaveGame.SECTION_LOOTS, 1);
+        for (Loot loot : this.loots) {
+            writer.beginRecord();
+            loot.writeState(writer);
+            writer.endRecord();
+        }
+        writer.endSection();
+
+        writer.beginSection(SaveGame.SECTION_BLASTS, 1);
+        for (BlastFX blastFX : this.blastFXs) {
+            writer.beginRecord();
+            writer.putEnum(blastFX.getType());
+            blastFX.writeState(writer);
+            writer.endRecord();
+        }
+        writer.endSection();
+
+        writer.finish();
+    }
+
+    /**
+     * Replaces the current game with the game state read from a saved game. The game objects 
+     * are created from the configuration and the pools, and only their state is read.
+     * 
+     * Unknown sections, e.g. the ones written by a newer version, are skipped. If the saved game 
+     * cannot be read, a new game is started.
+     * 
+     * @param reader The reader of the saved game.
+     * @throws IOException If the saved game cannot be read.
+     */
+    public void readGameState(SaveGame.Reader reader) throws IOException {
+        finishRecording();
+        reset();
+
+        try {
+            while (reader.nextSection()) {
+                switch (reader.getSectionTag()) {
+                    case SaveGame.SECTION_ENGINE -> readEngineState(reader);
+                    case SaveGame.SECTION_PLAYER -> {
+                        this.player = new Player(this.config, this.timers, this.random);
+                        this.player.readState(reader, this.config);
+                    }
+                    case SaveGame.SECTION_LEVEL -> {
+                        this.gameLevel = new GameLevel(this.config, this.timers, this.random);
+                        this.gameLevel.readState(reader);
+                    }
+                    case SaveGame.SECTION_ZOMBIES -> readZombies(reader);
+                    case SaveGame.SECTION_PROJECTILES -> readProjectiles(reader);
+                    case SaveGame.SECTION_LOOTS -> readLoots(reader);
+                    case SaveGame.SECTION_BLASTS -> readBlasts(reader);
+                    default -> {}  // Section of a newer version
+                }
+            }
+
+            if (this.player == null || this.gameLevel == null) {
+                throw new SaveGame.FormatException("Saved game has no player or game level!");
+            }
+        } catch (IOException e) {
+            newGame();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the tick count and the game over state from the engine section of a saved game.
+     * 
+     * @param reader The reader of the saved game.
+     * @throws IOException If the section cannot be read.
+     */
+    private void readEngineState(SaveGame.Reader reader) throws IOException {
+        reader.beginRecord();
+        this.tickCount = reader.getLong();
+        this.isGameOver = reader.getBoolean();
+        reader.endRecord();
+    }
+
+    /**
+     * Reads the zombies section of a saved game into the zombie store, or into zombie objects.
+     * 
+     * @param reader The reader of the saved game.
+     * @throws IOException If the section cannot be read.
+     */
+    private void readZombies(SaveGame.Reader reader) throws IOException {
+        ZombieType[] zombieTypes = ZombieType.values();
+        while (reader.hasRecord()) {
+            reader.beginRecord();
+            ZombieType type = reader.getEnum(zombieTypes);
+            if (this.zombieStore != null) {
+                int i = this.zombieStore.add(type, this.config.getZombieProperties(type), 0, 0);
+                this.zombieStore.readState(i, reader);
+            } else {
+                Zombie zombie = ZombieFactory.createZombie(this.config, this.timers, this.random, type, 0, 0);
+                zombie.readState(reader);
+                this.zombies.add(zombie);
+            }
+            reader.endRecord();
+        }
+    }
+
+    /**
+     * Reads the projectiles section of a saved game. The projectiles are acquired from their pools.
+     * 
+     * @param reader The reader of the saved game.
+     * @throws IOException If the section cannot be read.
+     */
+    private void readProjectiles(SaveGame.Reader reader) throws IOException {
+        ProjectileType[] projectileTypes = ProjectileType.values();
+        while (reader.hasRecord()) {
+            reader.beginRecord();
+            Projectile projectile = ProjectilePool.acquire(reader.getEnum(projectileTypes));
+            if (projectile != null) {
+                this.projectiles.add(projectile);
+                projectile.readState(reader);
+            }
+            reader.endRecord();
+        }
+    }
+
+    /**
+     * Reads the loots section of a saved game. The loots are acquired from their pool.
+     * 
+     * @param reader The reader of the saved game.
+     * @throws IOException If the section cannot be read.
+     */
+    private void readLoots(SaveGame.Reader reader) throws IOException {
+        while (reader.hasRecord()) {
+            reader.beginRecord();
+            Loot loot = LootPool.acquire(0, 0, 0, null);
+            this.loots.add(loot);
+            loot.readState(reader);
+            reader.endRecord();
+        }
+    }
+
+    /**
+     * Reads the blasts section of a saved game. The blast effects are acquired from their pool.
+     * 
+     * @param reader The reader of the saved game.
+     * @throws IOException If the section cannot be read.
+     */
+    private void readBlasts(SaveGame.Reader reader) throws IOException {
+        BlastType[] blastTypes = BlastType.values();
+        while (reader.hasRecord()) {
+            reader.beginRecord();
+            BlastFX blastFX = BlastFXPool.acquire(reader.getEnum(blastTypes), 0, 0, 0, this.random.get(GameRandom.Stream.EFFECT));
+            this.blastFXs.add(blastFX);
+            blastFX.readState(reader);
+            reader.endRecord();
+        }
+    }
+
+    /**
+     * Returns the player.
+     * 
+     * @return The player, or null if no game is started.
+     */
+    public Player getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * Returns the current game level.
+     * 
+     * @return The game level, or null if no game is started.
+     */
+    public GameLevel getGameLevel() {
+        return this.gameLevel;
+    }
+
+    /**
+     * Returns the zombies in the game. The list must not be modified. If the zombie store is 
+     * used, the list contains views of the store which are valid until the next update.
+     * 
+     * @return The zombies.
+     */
+    public List<Zombie> getZombies() {
+        return (this.zombieStore != null) ? this.zombieStore.asList() : this.zombies;
+    }
+
+    /**
+     * Returns the number of zombies in the game.
+     * 
+     * @return The zombie count.
+     */
+    public int getZombieCount() {
+        return (this.zombieStore != null) ? this.zombieStore.size() : this.zombies.size();
+    }
+
+    /**
+     * Returns the projectiles in the game. The list must not be modified.
+     * 
+     * @return The projectiles.
+     */
+    public List<Projectile> getProjectiles() {
+        return this.projectiles;
+    }
+
+    /**
+     * Returns the loots in the game. The list must not be modified.
+     * 
+     * @return The loots.
+     */
+    public List<Loot> getLoots() {
+        return this.loots;
+    }
+
+    /**
+     * Returns whether the player is dead.
+     * 
+     * @return True if the game is over.
+     */
+    public boolean isGameOver() {
+        return this.isGameOver;
+    }
+
+    /**
+     * Returns the number of game ticks simulated in the current game.
+     * 
+     * @return The tick count.
+     */
+    public long getTickCount() {
+        return this.tickCount;
+    }
+
+    /**
+     * Returns the seed of the random numbers of the current game.
+     * 
+     * @return The game seed. It is not meaningful for a game read from a saved game.
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * @file GameEvents.java
+ * @brief This file defines the `GameEvents` class.
+ *
+ * Created on Sun Oct 18 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package topdownshooter.Core;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * @class GameEvents
+ * @brief Defines the JDK Flight Recorder events of the game.
+ * 
+ * The events put the game ticks, frames, waves, saved games and asset decoding into a flight 
+ * recording, next to the garbage collection and compilation events of the JVM. Events which 
+ * are emitted on every game tick or frame are disabled by default, and they are enabled by the 
+ * `topdownshooter.jfc` settings in the resources:
+ * 
+ *     java -XX:StartFlightRecording=settings=default,settings=topdownshooter.jfc,filename=game.jfr ...
+ * 
+ * An event is only filled if it is going to be committed, so a disabled event costs little 
+ * more than its (usually scalar replaced) allocation.
+ */
+public final class GameEvents {
+    private static final String CATEGORY = "TopDownShooter";   /**< Top level category of the events. */
+
+    private GameEvents() {}
+
+    /**
+     * @class TickEvent
+     * @brief A game tick, with the duration of its phases.
+     * 
+     * The phases are read from the tick profiler, so they are zero if the profiler is disabled.
+     */
+    @Name("topdownshooter.Tick")
+    @Label("Game Tick")
+    @Category({CATEGORY, "Simulation"})
+    @Description("Update of the game objects by one game tick")
+    @Enabled(false)
+    @StackTrace(false)
+    public static final class TickEvent extends Event {
+        @Label("Tick")
+        public long tick;                   /**< Game tick which is updated. */
+
+        @Label("Timers") @Timespan(Timespan.NANOSECONDS)
+        public long timers;                 /**< Time spent advancing the timing wheel. */
+
+        @Label("Player") @Timespan(Timespan.NANOSECONDS)
+        public long player;                 /**< Time spent updating the player. */
+
+        @Label("Level") @Timespan(Timespan.NANOSECONDS)
+        public long level;                  /**< Time spent updating the level and spawning zombies. */
+
+        @Label("Zombies") @Timespan(Timespan.NANOSECONDS)
+        public long zombies;                /**< Time spent updating the zombies. */
+
+        @Label("Projectiles") @Timespan(Timespan.NANOSECONDS)
+        public long projectiles;            /**< Time spent updating the projectiles. */
+
+        @Label("Loots") @Timespan(Timespan.NANOSECONDS)
+        public long loots;                  /**< Time spent updating the loots. */
+
+        @Label("Collisions") @Timespan(Timespan.NANOSECONDS)
+        public long collisions;             /**< Time spent checking the collisions. */
+
+        @Label("Blasts") @Timespan(Timespan.NANOSECONDS)
+        public long blasts;                 /**< Time spent updating the blast effects. */
+
+        @Label("Autosave") @Timespan(Timespan.NANOSECONDS)
+        public long autosave;               /**< Time spent taking the autosave snapshot. */
+
+        @Label("Zombie Count")
+        public int zombieCount;             /**< Number of zombies after the tick. */
+
+        @Label("Projectile Count")
+        public int projectileCount;         /**< Number of projectiles after the tick. */
+    }
+
+    /**
+     * @class PaintEvent
+     * @brief Drawing of a frame from the latest render snapshot.
+     */
+    @Name("topdownshooter.Paint")
+    @Label("Paint")
+    @Category({CATEGORY, "Rendering"})
+    @Description("Drawing of the terrain and the game objects of a frame")
+    @Enabled(false)
+    @StackTrace(false)
+    public static final class PaintEvent extends Event {
+        @Label("Drawn")
+        public int drawnCount;              /**< Number of sprites drawn. */
+
+        @Label("Culled")
+        public int culledCount;             /**< Number of sprites culled by the clip bounds. */
+    }
+
+    /**
+     * @class WaveEvent
+     * @brief A wave of zombies, from its start including the suspension until its last zombie is spawned.
+     */
+    @Name("topdownshooter.Wave")
+    @Label("Wave")
+    @Category({CATEGORY, "Simulation"})
+    @Description("Wave of zombies from its start to its end")
+    @StackTrace(false)
+    public static final class WaveEvent extends Event {
+        @Label("Level")
+        public int level;                   /**< Level of the wave. */
+
+        @Label("Zombie Count")
+        public int zombieCount;             /**< Number of zombies of the wave. */
+    }
+
+    /**
+     * @class ZombieSpawnEvent
+     * @brief Zombies spawned at the same game tick.
+     */
+    @Name("topdownshooter.ZombieSpawn")
+    @Label("Zombie Spawn")
+    @Category({CATEGORY, "Simulation"})
+    @Description("Burst of zombies spawned in a game tick")
+    @StackTrace(false)
+    public static final class ZombieSpawnEvent extends Event {
+        @Label("Level")
+        public int level;                   /**< Level of the wave. */
+
+        @Label("Spawned")
+        public int spawnedCount;            /**< Number of zombies spawned. */
+
+        @Label("Remaining")
+        public int remainingCount;          /**< Number of zombies of the wave which are not spawned yet. */
+    }
+
+    /**
+     * @class CollisionEvent
+     * @brief Collision checks of a game tick.
+     */
+    @Name("topdownshooter.Collisions")
+    @Label("Collisions")
+    @Category({CATEGORY, "Simulation"})
+    @Description("Collision checks between the game objects in a game tick")
+    @Enabled(false)
+    @StackTrace(false)
+    public static final class CollisionEvent extends Event {
+        @Label("Checks")
+        public long checkCount;             /**< Number of exact intersection tests. */
+
+        @Label("Zombie Count")
+        public int zombieCount;             /**< Number of zombies checked. */
+
+        @Label("Projectile Count")
+        public int projectileCount;         /**< Number of projectiles checked. */
+    }
+
+    /**
+     * @class SaveGameEvent
+     * @brief Writing of a saved game or an autosave.
+     */
+    @Name("topdownshooter.SaveGame")
+    @Label("Save Game")
+    @Category({CATEGORY, "Saved Game"})
+    @Description("Writing of a saved game to a file")
+    public static final class SaveGameEvent extends Event {
+        @Label("Path")
+        public String path;                 /**< Path of the file. */
+
+        @Label("Size") @DataAmount
+        public long bytes;                  /**< Number of bytes written. */
+
+        @Label("Tick")
+        public long tick;                   /**< Game tick at which the game is saved. */
+
+        @Label("Autosave")
+        public boolean isAutosave;          /**< True if the file is written in the background by the autosaver. */
+    }
+
+    /**
+     * @class LoadGameEvent
+     * @brief Reading of a saved game.
+     */
+    @Name("topdownshooter.LoadGame")
+    @Label("Load Game")
+    @Category({CATEGORY, "Saved Game"})
+    @Description("Reading of a saved game from a file")
+    public static final class LoadGameEvent extends Event {
+        @Label("Path")
+        public String path;                 /**< Path of the file. */
+
+        @Label("Size") @DataAmount
+        public long bytes;                  /**< Size of the file. */
+
+        @Label("Tick")
+        public long tick;                   /**< Game tick of the loaded game. */
+    }
+
+    /**
+     * @class AssetDecodeEvent
+     * @brief Decoding of an image from the resources.
+     */
+    @Name("topdownshooter.AssetDecode")
+    @Label("Asset Decode")
+    @Category({CATEGORY, "Assets"})
+    @Description("Decoding of a sprite sheet or a texture")
+    public static final class AssetDecodeEvent extends Event {
+        @Label("Path")
+        public String path;                 /**< Resource path of the image. */
+
+        @Label("Asset Type")
+        public String assetType;            /**< Kind of the asset (e.g. sprite sheet or texture). */
+
+        @Label("Width")
+        public int width;                   /**< Width of the decoded image in pixels. */
+
+        @Label("Height")
+        public int height;                  /**< Height of the decoded image in pixels. */
+    }
+}
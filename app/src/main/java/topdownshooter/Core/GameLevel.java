@@ -30,21 +30,14 @@
 package topdownshooter.Core;
 
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 import topdownshooter.Core.ConfigHandler.LevelProperties;
 import topdownshooter.Weapon.WeaponType;
-import topdownshooter.Zombie.Zombie;
-import topdownshooter.Zombie.ZombieFactory;
 import topdownshooter.Zombie.ZombieType;
 
 /**
@@ -63,40 +56,61 @@ public class GameLevel implements Serializable {
         ENDED,
     }
 
+    /**
+     * @interface SpawnListener
+     * @brief Receives the zombies spawned by the level.
+     */
+    public interface SpawnListener {
+        /**
+         * Called for each zombie due in the current game tick.
+         * @param type The type of the zombie.
+         * @param x The x-coordinate of the spawn.
+         * @param y The y-coordinate of the spawn.
+         */
+        void onSpawn(ZombieType type, int x, int y);
+    }
+
+    public static final int STATE_VERSION = 2;  /**< Version of the saved level state. Version 2 saves the spawn schedule seed instead of the spawn timer. */
+    private static final int MIN_BURST_INTERVAL_MS = 250;  /**< Minimum time between two spawns, zombies of larger waves spawn in bursts. */
+
     private int levelBonus = 10;                /**< Bonus awarded per level. */
     private int level = 0;                      /**< Current level number. */
     private GameLevelStatus gameLevelStatus;    /**< Current status of the level. */
 
     private ConfigHandler config;               /**< Configuration handler. */
+    private final transient TimerWheel timers;  /**< Timing wheel of the game engine, which runs the timers of the level. */
+    private final transient Random random;      /**< Random number stream of the game engine for the horde order and the spawn positions. */
     private int waveDuration;                   /**< Duration of the wave in seconds. */
     private int ordinaryZombieCount;            /**< Count of ordinary zombies. */
     private int crawlerZombieCount;             /**< Count of crawler zombies. */
     private int tankZombieCount;                /**< Count of tank zombies. */
     private int acidZombieCount;                /**< Count of acid zombies. */
-    private int spawnPeriod;                    /**< Time interval between zombie spawns in seconds. */
-    private TimeTick spawnTick;                 /**< Timer for zombie spawning. */
+    private SpawnSchedule spawnSchedule;        /**< Spawn timeline of the wave. */
+    private long spawnSeed;                     /**< Seed of the spawn timeline. */
+    private int waveElapsedTicks;               /**< Game ticks elapsed since the wave started. */
     private TimeTick waveTick;                  /**< Timer for wave duration. */
     private TimeTick newWaveSuspendTick;        /**< Timer for suspending new wave after finishing the last one. */
+    private transient GameEvents.WaveEvent waveEvent = null;  /**< Flight recorder event of the current wave, null if no wave is started since the level is created or loaded. */
 
     private List<ZombieType> zombieHorde = new ArrayList<>();   /**< List of zombie types for the level. */
     private int currentZombieTypeIndex = 0;                     /**< Current index of the zombieHorde. */
 
-    private static Random random = new Random();                /**< Random number generator. */
-    private static final ExecutorService executor = Executors.newCachedThreadPool();    /**< Creates a thread pool. */
-    private final List<Zombie> zombieBuffer = new ArrayList<>();                        /**< To store the zombie from the async update. */
-    private transient Lock zombieBufferLock = new ReentrantLock();                      /**< Mutex lock to synchronize access to the zombieList. */
     
     /**
      * Constructs a GameLevel with the specified configuration.
      * @param config The configuration handler.
+     * @param timers The timing wheel of the game engine.
+     * @param random The random number streams of the game engine.
      * @throws IllegalStateException if the configuration is null.
      */
-    public GameLevel(ConfigHandler config) {
+    public GameLevel(ConfigHandler config, TimerWheel timers, GameRandom random) {
         if (config == null) {
             throw new IllegalStateException("ConfigHandler cannot be null!");
         }
 
         this.config = config;
+        this.timers = timers;
+        this.random = random.get(GameRandom.Stream.LEVEL);
 
         this.gameLevelStatus = GameLevelStatus.UNDEFINED;
         this.waveDuration = 0;
@@ -104,12 +118,15 @@ public class GameLevel implements Serializable {
         this.crawlerZombieCount = 0;
         this.tankZombieCount = 0;
         this.acidZombieCount = 0;
-        this.spawnPeriod = 0;
         this.currentZombieTypeIndex = 0;
 
-        this.spawnTick = null;
+        this.spawnSchedule = null;
+        this.spawnSeed = 0;
+        this.waveElapsedTicks = 0;
         this.waveTick = null;
-        this.newWaveSuspendTick = new TimeTick(Globals.Time2GameTick(Globals.WAVE_SUSPEND_DURATION_MS), () -> startWaveInvokeLater());
+        this.newWaveSuspendTick = new TimeTick(this.timers, Globals.Time2GameTick(Globals.WAVE_SUSPEND_DURATION_MS), () -> startWaveInvokeLater());
+        this.newWaveSuspendTick.setRepeats(0);
+        this.newWaveSuspendTick.cancel();  // Started when a new wave is started
     }
 
     /**
@@ -135,42 +152,7 @@ public class GameLevel implements Serializable {
             return null;
         }
 
-        LevelProperties levelProperties = null;
-        switch ((int) level) {
-            case 1:
-                levelProperties = this.config.getLevel1Properties();
-                break;
-            case 2:
-                levelProperties = this.config.getLevel2Properties();
-                break;
-            case 3:
-                levelProperties = this.config.getLevel3Properties();
-                break;
-            case 4:
-                levelProperties = this.config.getLevel4Properties();
-                break;
-            case 5:
-                levelProperties = this.config.getLevel5Properties();
-                break;
-            case 6:
-                levelProperties = this.config.getLevel6Properties();
-                break;
-            case 7:
-                levelProperties = this.config.getLevel7Properties();
-                break;
-            case 8:
-                levelProperties = this.config.getLevel8Properties();
-                break;
-            case 9:
-                levelProperties = this.config.getLevel9Properties();
-                break;
-            case 10:
-                levelProperties = this.config.getLevel10Properties();
-                break;
-            default:
-                levelProperties = this.config.getLevel10PlusProperties();
-                break;
-        }
+        LevelProperties levelProperties = this.config.getLevelProperties((int) level);
 
         if (levelProperties != null) {
             this.waveDuration = levelProperties.waveDuration();
@@ -186,97 +168,66 @@ public class GameLevel implements Serializable {
             for (int i = 0; i < levelProperties.acidZombieCount(); i++) this.zombieHorde.add(ZombieType.ACID);
 
             // Shuffle to randomize zombie types
-            Collections.shuffle(this.zombieHorde, GameLevel.random);
+            Collections.shuffle(this.zombieHorde, this.random);
             this.currentZombieTypeIndex = 0;
 
-            int totalZombies = getRemainingZombies();
-            if (totalZombies > 0) {
-                // Calculate zombie spawn period (Seconds per zombie) by normalizing the wave duration
-                this.spawnPeriod = this.waveDuration / totalZombies;
-            }
+            // Precompute when and where each zombie of the wave spawns
+            this.spawnSeed = this.random.nextLong();
+            this.waveElapsedTicks = 0;
+            this.spawnSchedule = createSpawnSchedule();
 
-            this.spawnTick = new TimeTick(Globals.Time2GameTick(this.spawnPeriod * 1000));
-            this.spawnTick.setRepeats(-1);  // Repeats indefinetly
-            this.waveTick = new TimeTick(Globals.Time2GameTick(this.waveDuration * 1000));
+            this.waveTick = new TimeTick(this.timers, Globals.Time2GameTick(this.waveDuration * 1000));
             this.waveTick.setRepeats(0);  // Repeats indefinetly
             return levelProperties.weaponPrize();
         }
         return null;
     }
+
     /**
-     * Adds new zombies to the zombie list in thread-safe manner
-     * @param zombies The zombies list where new zombies are about to be added
+     * Creates the spawn timeline of the loaded wave from the spawn seed.
+     * @return The spawn schedule.
      */
-    private void addZombieToList(ArrayList<Zombie> zombies) {
-        this.zombieBufferLock.lock();
-        for (Zombie zombie: this.zombieBuffer) {
-            zombies.add(zombie);
-        }
-        this.zombieBuffer.clear();
-        this.zombieBufferLock.unlock();
+    private SpawnSchedule createSpawnSchedule() {
+        return new SpawnSchedule(this.zombieHorde.size(), Globals.Time2GameTick(this.waveDuration * 1000),
+                                 Globals.Time2GameTick(GameLevel.MIN_BURST_INTERVAL_MS), this.spawnSeed);
     }
 
     /**
-     * Updates the game state and spawns zombies asynchronously.
+     * Updates the game state and spawns the zombies which are due.
+     * 
+     * It is called on the game thread once per game tick, so zombies spawn at the same tick in every run of a game.
      * @param maxWidth The maximum width of the game field.
      * @param maxHeight The maximum height of the game field.
-     * @param zombies The zombie list to be added if new zombies spawned.
-     * @return The newly spawned zombie, or null if no zombie is spawned.
+     * @param listener The listener receiving the spawned zombies.
+     * @return The number of zombies spawned in this tick.
      */
-    public void updateAsync(final int maxWidth, final int maxHeight, ArrayList<Zombie> zombies) {
-        if (this.gameLevelStatus == GameLevelStatus.SUSPENDED) {
-            this.newWaveSuspendTick.updateTick();
-            return;
-        }
-
-        if (this.spawnTick==null) return;
+    public int update(final int maxWidth, final int maxHeight, SpawnListener listener) {
+        if (this.spawnSchedule==null) return 0;
 
         if (this.gameLevelStatus == GameLevelStatus.STARTED) {
-            this.spawnTick.updateTick();
-            this.waveTick.updateTick();
-
-            executor.submit(() -> {
-                Zombie zombie = update(maxWidth, maxHeight);
-                if (zombie != null) {
-                    this.zombieBufferLock.lock();
-                    zombieBuffer.add(zombie);
-                    this.zombieBufferLock.unlock();
-                }
-            });
+            this.waveElapsedTicks++;
 
-            addZombieToList(zombies);  // Ensure thread-safe access to the list
-            if (getRemainingZombies() <= 0) {
-                endWave();
+            int spawned = 0;
+            while (this.currentZombieTypeIndex < this.spawnSchedule.size() &&
+                   this.spawnSchedule.getTick(this.currentZombieTypeIndex) <= this.waveElapsedTicks) {
+                spawnZombie(maxWidth, maxHeight, listener);
+                spawned++;
             }
-        }
-    }
-
-    /**
-     * Updates the game state and spawns zombies if needed.
-     * @param maxWidth The maximum width of the game field.
-     * @param maxHeight The maximum height of the game field.
-     * @return The newly spawned zombie, or null if no zombie is spawned.
-     */
-    public Zombie update(final int maxWidth, final int maxHeight) {
-        if (this.gameLevelStatus == GameLevelStatus.SUSPENDED) {
-                this.newWaveSuspendTick.updateTick();
-                return null;
+            if (spawned > 0) {
+                GameEvents.ZombieSpawnEvent spawnEvent = new GameEvents.ZombieSpawnEvent();
+                if (spawnEvent.shouldCommit()) {
+                    spawnEvent.level = this.level;
+                    spawnEvent.spawnedCount = spawned;
+                    spawnEvent.remainingCount = getRemainingZombies();
+                    spawnEvent.commit();
+                }
             }
-
-        if (this.spawnTick==null) return null;
-
-        if (this.gameLevelStatus == GameLevelStatus.STARTED) {
-            this.spawnTick.updateTick();
-            this.waveTick.updateTick();
-
-            Zombie zombie = null;
-            zombie = spawnZombie(maxWidth, maxHeight);
             if (getRemainingZombies() <= 0) {
                 endWave();
             }
-            return zombie;
+            return spawned;
         }
-        return null;
+        return 0;
     }
 
     /**
@@ -288,69 +239,31 @@ public class GameLevel implements Serializable {
     }
 
     /**
-     * Spawns a zombie at a random location.
+     * Spawns the next zombie of the horde at its scheduled position.
      * @param maxWidth The maximum width of the game field.
      * @param maxHeight The maximum height of the game field.
-     * @return The spawned zombie, or null if spawning conditions are not met.
+     * @param listener The listener receiving the spawned zombie.
      */
-    public Zombie spawnZombie(final int maxWidth, final int maxHeight) {
-        // If no enough time is elapsed to spawn the zombie, do not create a new one.
-        if (!this.spawnTick.isTimeOut()) return null;
+    private void spawnZombie(final int maxWidth, final int maxHeight, SpawnListener listener) {
+        int i = this.currentZombieTypeIndex++;
+        ZombieType currentZombieType = this.zombieHorde.get(i);
 
-        // Randomize spawn edge
-        int spawnEdge = random.nextInt(4); // 0 = top, 1 = bottom, 2 = left, 3 = right
-        int x = 0, y = 0;
-    
-        switch (spawnEdge) {
-            case 0: // Top edge
-                x = random.nextInt(maxWidth); 
-                y = 0;
-                break;
-            case 1: // Bottom edge
-                x = random.nextInt(maxWidth);
-                y = maxHeight;
-                break;
-            case 2: // Left edge
-                x = 0;
-                y = random.nextInt(maxHeight);
-                break;
-            case 3: // Right edge
-                x = maxWidth;
-                y = random.nextInt(maxHeight);
-                break;
-        }
-
-        // Check if there are any zombies left to spawn
-        if (getRemainingZombies() <= 0) {
-            return null;
-        }
-
-        // Get zombie type from randomized list
-        ZombieType currentZombieType = null;
-        try {
-            currentZombieType = this.zombieHorde.get(this.currentZombieTypeIndex++);    
-        } catch (IndexOutOfBoundsException ex) {
-            return null;
-        }
-        this.spawnTick.reset();  // Reset spawn timer
-
-        // Spawn the zombie
         switch(currentZombieType) {
             case ORDINARY:
                 this.ordinaryZombieCount--;
-                return ZombieFactory.createZombie(this.config, ZombieType.ORDINARY, x, y);
+                break;
             case CRAWLER:
                 this.crawlerZombieCount--;
-                return ZombieFactory.createZombie(this.config, ZombieType.CRAWLER, x, y);
+                break;
             case TANK:
                 this.tankZombieCount--;
-                return ZombieFactory.createZombie(this.config, ZombieType.TANK, x, y);
+                break;
             case ACID:
                 this.acidZombieCount--;
-                return ZombieFactory.createZombie(this.config, ZombieType.ACID, x, y);
-            default:
-                return null;
+                break;
         }
+
+        listener.onSpawn(currentZombieType, this.spawnSchedule.getX(i, maxWidth), this.spawnSchedule.getY(i, maxHeight));
     }
 
     /**
@@ -358,7 +271,7 @@ public class GameLevel implements Serializable {
      */
     private void startWaveInvokeLater() {
         this.gameLevelStatus = GameLevelStatus.STARTED;
-        this.newWaveSuspendTick.reset();
+        if (this.waveTick != null) this.waveTick.reset();  // Wave timer starts after the suspension
     }
 
     /**
@@ -373,6 +286,10 @@ public class GameLevel implements Serializable {
 
         this.gameLevelStatus = GameLevelStatus.SUSPENDED;
         WeaponType weaponPrize = loadLevel(++this.level);
+        this.newWaveSuspendTick.reset();
+
+        this.waveEvent = new GameEvents.WaveEvent();
+        this.waveEvent.begin();
         return weaponPrize;
     }
 
@@ -381,6 +298,16 @@ public class GameLevel implements Serializable {
      */
     public void endWave() {
         this.gameLevelStatus = GameLevelStatus.ENDED;
+
+        if (this.waveEvent != null) {
+            this.waveEvent.end();
+            if (this.waveEvent.shouldCommit()) {
+                this.waveEvent.level = this.level;
+                this.waveEvent.zombieCount = this.zombieHorde.size();
+                this.waveEvent.commit();
+            }
+            this.waveEvent = null;
+        }
     }
 
     /**
@@ -412,6 +339,9 @@ public class GameLevel implements Serializable {
      * @return The remaining time in milliseconds.
      */
     public int getRemainingTime() {
+        if (this.gameLevelStatus == GameLevelStatus.SUSPENDED) {
+            return this.waveDuration * 1000;
+        }
         return Globals.GameTick2Time(this.waveTick==null? 0 : this.waveTick.getTick());
     }
 
@@ -434,14 +364,103 @@ public class GameLevel implements Serializable {
     }
 
     /**
-     * Handles object deserialization and reinitializes the audio clip.
-     * @param in The object input stream.
-     * @throws IOException If an I/O error occurs.
-     * @throws ClassNotFoundException If the class definition is not found.
+     * Writes the state of the level (wave counters, the order of the horde and the timers) to a saved game.
+     * @param writer The writer of the saved game.
      */
-    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
-        in.defaultReadObject();
-        this.zombieBufferLock = new ReentrantLock();
+    public void writeState(SaveGame.Writer writer) {
+        writer.beginRecord();
+        writer.putInt(this.levelBonus);
+        writer.putInt(this.level);
+        writer.putEnum(this.gameLevelStatus);
+        writer.putInt(this.waveDuration);
+        writer.putInt(this.ordinaryZombieCount);
+        writer.putInt(this.crawlerZombieCount);
+        writer.putInt(this.tankZombieCount);
+        writer.putInt(this.acidZombieCount);
+        writer.putInt(0);  // Spawn period, unused since version 2
+
+        writer.putInt(this.zombieHorde.size());
+        for (ZombieType type : this.zombieHorde) {
+            writer.putEnum(type);
+        }
+        writer.putInt(this.currentZombieTypeIndex);
+
+        writer.putBoolean(false);  // Spawn timer, unused since version 2
+        writer.putBoolean(this.waveTick != null);
+        if (this.waveTick != null) this.waveTick.writeState(writer);
+        this.newWaveSuspendTick.writeState(writer);
+
+        writer.putBoolean(this.spawnSchedule != null);
+        if (this.spawnSchedule != null) {
+            writer.putLong(this.spawnSeed);
+            writer.putInt(this.waveElapsedTicks);
+        }
+        writer.endRecord();
+    }
+
+    /**
+     * Restores the state of the level from a saved game.
+     * 
+     * Version 1 states saved a spawn timer instead of the spawn schedule, so the schedule of the 
+     * remaining wave is generated with a new seed.
+     * @param reader The reader of the saved game.
+     * @throws IOException If the state cannot be read.
+     */
+    public void readState(SaveGame.Reader reader) throws IOException {
+        reader.beginRecord();
+        this.levelBonus = reader.getInt();
+        this.level = reader.getInt();
+        this.gameLevelStatus = reader.getEnum(GameLevelStatus.values());
+        this.waveDuration = reader.getInt();
+        this.ordinaryZombieCount = reader.getInt();
+        this.crawlerZombieCount = reader.getInt();
+        this.tankZombieCount = reader.getInt();
+        this.acidZombieCount = reader.getInt();
+        reader.getInt();  // Spawn period, unused since version 2
+
+        int hordeSize = reader.getInt();
+        if (hordeSize < 0) {
+            throw new SaveGame.FormatException("Saved zombie horde size is negative!");
+        }
+        ZombieType[] zombieTypes = ZombieType.values();
+        this.zombieHorde.clear();
+        for (int i = 0; i < hordeSize; i++) {
+            this.zombieHorde.add(reader.getEnum(zombieTypes));
+        }
+        this.currentZombieTypeIndex = reader.getInt();
+        if (this.currentZombieTypeIndex < 0 || this.currentZombieTypeIndex > hordeSize) {
+            throw new SaveGame.FormatException("Saved zombie horde index is out of range!");
+        }
+
+        boolean hasSpawnTimer = reader.getBoolean();
+        if (hasSpawnTimer) {
+            new TimeTick(this.timers, 0).readState(reader);
+        }
+        this.waveTick = null;
+        if (reader.getBoolean()) {
+            this.waveTick = new TimeTick(this.timers, 0);
+            this.waveTick.readState(reader);
+        }
+        this.newWaveSuspendTick.readState(reader);
+        if (this.gameLevelStatus != GameLevelStatus.SUSPENDED) {
+            this.newWaveSuspendTick.cancel();  // Earlier versions saved the timer reset after the suspension
+        }
+
+        this.spawnSchedule = null;
+        if (reader.getSectionVersion() >= 2) {
+            if (reader.getBoolean()) {
+                this.spawnSeed = reader.getLong();
+                this.waveElapsedTicks = reader.getInt();
+                this.spawnSchedule = createSpawnSchedule();
+            }
+        } else if (hasSpawnTimer) {
+            this.spawnSeed = this.random.nextLong();
+            this.spawnSchedule = createSpawnSchedule();
+            // Resume the timeline where the wave timer is, so the remaining zombies still spawn in the wave
+            int waveTicks = Globals.Time2GameTick(this.waveDuration * 1000);
+            this.waveElapsedTicks = Math.max(0, waveTicks - (this.waveTick == null ? 0 : this.waveTick.getTick()));
+        }
+        reader.endRecord();
     }
 
     /**
@@ -459,8 +478,8 @@ public class GameLevel implements Serializable {
         sb.append("crawlerZombieCount=" + this.crawlerZombieCount + ", ");
         sb.append("tankZombieCount=" + this.tankZombieCount + ", ");
         sb.append("acidZombieCount=" + this.acidZombieCount + ", ");
-        sb.append("spawnPeriod=" + this.spawnPeriod + ", ");
-        sb.append("spawnTick=" + this.spawnTick + ", ");
+        sb.append("spawnSeed=" + this.spawnSeed + ", ");
+        sb.append("waveElapsedTicks=" + this.waveElapsedTicks + ", ");
         sb.append("waveTick=" + this.waveTick);
         sb.append("newWaveSuspendTick=" + this.newWaveSuspendTick);
         sb.append("}");
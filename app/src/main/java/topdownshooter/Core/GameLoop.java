@@ -0,0 +1,185 @@
+/*
+ * @file GameLoop.java
+ * @brief This file defines the `GameLoop` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @class GameLoop
+ * @brief Runs the game simulation on a dedicated thread with a fixed time step.
+ * 
+ * Elapsed wall-clock time is accumulated and consumed in fixed ticks, so the simulation 
+ * advances at a constant rate regardless of how long painting takes. If the loop falls 
+ * behind (e.g. after a GC pause), at most `maxCatchUpTicks` ticks are run back to back 
+ * and the rest of the backlog is dropped, so the game slows down instead of freezing. 
+ * After the ticks of an iteration are run, the frame action is called once to publish 
+ * the new state for rendering.
+ * 
+ * Actions posted by `invokeLater()` (e.g. input events) are run on the loop thread 
+ * before the next tick, so game objects are only modified by a single thread.
+ */
+public class GameLoop {
+    private final long tickNanos;                                   /**< Duration of a tick in nanoseconds. */
+    private final int maxCatchUpTicks;                              /**< Maximum number of ticks run in a single iteration. */
+    private final Runnable tickAction;                              /**< Action to advance the simulation by one tick. */
+    private final Runnable frameAction;                             /**< Action to publish the state after the ticks of an iteration. */
+    private final Queue<Runnable> pendingActions = new ConcurrentLinkedQueue<>();  /**< Actions to be run on the loop thread. */
+
+    private volatile Thread thread = null;                          /**< Active loop thread, null if the loop is stopped. */
+    private volatile long tickCount = 0;                            /**< Number of ticks run so far. */
+    private volatile long droppedTickCount = 0;                     /**< Number of ticks dropped by the catch-up cap so far. */
+
+    /**
+     * Constructs a GameLoop.
+     * 
+     * @param tickMs Duration of a tick in milliseconds.
+     * @param maxCatchUpTicks Maximum number of ticks run back to back when the loop falls behind.
+     * @param tickAction Action to advance the simulation by one tick.
+     * @param frameAction Action to publish the state after the ticks of an iteration.
+     */
+    public GameLoop(int tickMs, int maxCatchUpTicks, Runnable tickAction, Runnable frameAction) {
+        if (tickMs <= 0) throw new IllegalArgumentException("Tick duration must be positive: " + tickMs);
+        if (maxCatchUpTicks <= 0) throw new IllegalArgumentException("Catch-up tick count must be positive: " + maxCatchUpTicks);
+
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMs);
+        this.maxCatchUpTicks = maxCatchUpTicks;
+        this.tickAction = tickAction;
+        this.frameAction = frameAction;
+    }
+
+    /**
+     * Starts the loop thread. Does nothing if the loop is already running.
+     */
+    public synchronized void start() {
+        if (this.thread != null) return;
+
+        Thread loopThread = new Thread(this::run, "GameLoop");
+        loopThread.setDaemon(true);
+        this.thread = loopThread;
+        loopThread.start();
+    }
+
+    /**
+     * Stops the loop thread. If it is called from another thread, it waits until the 
+     * running tick is completed, hence the game objects can be safely accessed afterwards.
+     */
+    public void stop() {
+        Thread loopThread;
+        synchronized (this) {
+            loopThread = this.thread;
+            this.thread = null;
+        }
+        if (loopThread == null || loopThread == Thread.currentThread()) return;
+
+        LockSupport.unpark(loopThread);
+        try {
+            loopThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns whether the loop is running.
+     * 
+     * @return True if the loop is running.
+     */
+    public boolean isRunning() {
+        return this.thread != null;
+    }
+
+    /**
+     * Posts an action to be run on the loop thread before the next tick.
+     * 
+     * @param action The action to run.
+     */
+    public void invokeLater(Runnable action) {
+        this.pendingActions.add(action);
+    }
+
+    /**
+     * Returns the number of ticks run so far.
+     * 
+     * @return The tick count.
+     */
+    public long getTickCount() {
+        return this.tickCount;
+    }
+
+    /**
+     * Returns the number of ticks which are dropped because the loop could not catch up.
+     * 
+     * @return The dropped tick count.
+     */
+    public long getDroppedTickCount() {
+        return this.droppedTickCount;
+    }
+
+    private void run() {
+        Thread currentThread = Thread.currentThread();
+        long previousTime = System.nanoTime();
+        long accumulator = 0;
+
+        while (this.thread == currentThread) {
+            long currentTime = System.nanoTime();
+            accumulator += currentTime - previousTime;
+            previousTime = currentTime;
+
+            int tickCount = 0;
+            while (accumulator >= this.tickNanos && tickCount < this.maxCatchUpTicks && this.thread == currentThread) {
+                runPendingActions();
+                this.tickAction.run();
+                this.tickCount++;
+                accumulator -= this.tickNanos;
+                tickCount++;
+            }
+
+            // Drop the backlog which cannot be caught up
+            if (accumulator >= this.tickNanos && tickCount == this.maxCatchUpTicks) {
+                this.droppedTickCount += accumulator / this.tickNanos;
+                accumulator %= this.tickNanos;
+            }
+
+            if (tickCount > 0) this.frameAction.run();
+
+            LockSupport.parkNanos(this, this.tickNanos - accumulator);
+        }
+    }
+
+    private void runPendingActions() {
+        Runnable action;
+        while ((action = this.pendingActions.poll()) != null) {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * @file GameRandom.java
+ * @brief This file defines the `GameRandom` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package topdownshooter.Core;
+
+import java.util.Random;
+
+/**
+ * @class GameRandom
+ * @brief Seeded random number streams of the simulation, one per subsystem.
+ * 
+ * Each subsystem draws from its own stream, so a change in how often one subsystem draws 
+ * does not shift the random numbers of the others. All streams are derived from a single 
+ * game seed, which is set by the game engine when a new game is started. Hence a game 
+ * is reproduced by starting it with the same seed and applying the same input.
+ * 
+ * Each game engine owns its streams and passes them to the level, zombies, loot, weapons 
+ * and effects it creates, so the engines of a process do not draw from each other's streams.
+ * 
+ * @see GameEngine
+ */
+public final class GameRandom {
+    /**
+     * @enum Stream
+     * @brief Subsystems which draw random numbers.
+     */
+    public enum Stream {
+        LEVEL,      /**< Zombie horde order and spawn positions. */
+        ZOMBIE,     /**< Ranged attacks of the acid zombies. */
+        LOOT,       /**< Items dropped by killed zombies. */
+        WEAPON,     /**< Spread of the weapons. */
+        EFFECT,     /**< Rotation of the blast effects. */
+    }
+
+    private static final Random seedSource = new Random();                      /**< Source of the seeds of new games. */
+    private final Random[] streams = new Random[Stream.values().length];          /**< Random number stream of each subsystem. */
+
+    /**
+     * Constructs the random number streams of a game engine, seeded with a new random game seed.
+     */
+    public GameRandom() {
+        for (int i = 0; i < this.streams.length; i++) {
+            this.streams[i] = new Random();
+        }
+        seed(newSeed());
+    }
+
+    /**
+     * Returns a new random game seed.
+     * 
+     * @return The game seed.
+     */
+    public static long newSeed() {
+        return seedSource.nextLong();
+    }
+
+    /**
+     * Reseeds all streams from a game seed.
+     * 
+     * @param seed The game seed.
+     */
+    public void seed(long seed) {
+        for (int i = 0; i < this.streams.length; i++) {
+            this.streams[i].setSeed(mix(seed + (i + 1) * 0x9E3779B97F4A7C15L));
+        }
+    }
+
+    /**
+     * Returns the random number stream of a subsystem. The stream is reseeded in place, 
+     * so it can be kept by the subsystem.
+     * 
+     * @param stream The subsystem.
+     * @return The random number stream.
+     */
+    public Random get(Stream stream) {
+        return this.streams[stream.ordinal()];
+    }
+
+    /**
+     * Scrambles a seed, so the seeds of the streams do not correlate (SplitMix64 finalizer).
+     * 
+     * @param value The value to scramble.
+     * @return The scrambled value.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -50,6 +50,8 @@ public interface Globals {
     public static final String CONFIGURATION_FILE = "config.ini";
     public static final String CONFIGURATION_FILE_BRUTAL = "config-brutal.ini";
     public static final int GAME_TICK_MS = 10;
+    public static final int MAX_CATCH_UP_TICKS = 5;  // Maximum number of game ticks run back to back when the game loop falls behind
+    public static final int DEFAULT_REFRESH_RATE = 60;  // Refresh rate (in Hz) assumed for frame pacing when the display does not report it
 
     public static final String GAME_TITLE = "Survival Echoes";
     public static final int WINDOW_WIDTH = 1600;  // Default: 1600px
@@ -64,6 +66,22 @@ public interface Globals {
 
     public static final int BULLET_SIZE = 5;  // Default: 5px
 
+    public static final int PROJECTILE_POOL_CAPACITY = 1024;  // Maximum number of idle projectiles kept in each projectile pool
+    public static final int LOOT_POOL_CAPACITY = 256;  // Maximum number of idle loots kept in the loot pool
+    public static final int BLAST_FX_POOL_CAPACITY = 64;  // Maximum number of idle blast effects kept in the blast effect pool
+
+    public static final int COLLISION_GRID_CELL_SIZE = 96;  // Cell size (in pixels) of the collision broadphase grid, slightly larger than a zombie
+    public static final int COLLISION_GRID_BUCKET_COUNT = 1024;  // Number of hash buckets of the collision broadphase grid
+
+    public static final int ZOMBIE_UPDATE_MIN_CHUNK_SIZE = 256;  // Minimum number of zombies updated by a worker at once in the parallel update
+    public static final int ZOMBIE_UPDATE_CHUNKS_PER_THREAD = 4;  // Number of chunks per worker in the parallel update, so fast workers can steal from slow ones
+    public static final int FLOW_FIELD_CELL_SIZE = 64;  // Cell size (in pixels) of the flow field towards the player
+    public static final int FLOW_FIELD_DIRECT_RANGE = 3;  // Zombies within this many cells of the player steer directly to it instead of along the flow field
+
+    public static final int SEPARATION_MAX_CANDIDATES = 32;  // Maximum number of nearby zombies checked per zombie by the crowd separation
+    public static final int SEPARATION_MAX_NEIGHBORS = 8;  // Maximum number of neighbors pushing a zombie in the crowd separation
+    public static final double SEPARATION_MAX_PUSH = 3.0;  // Maximum push (in pixels) of the crowd separation per game tick
+
     public static final int WAVE_SUSPEND_DURATION_MS = 5000;
     public static final int FULL_DAMAGE_PERIOD = 500;  // Period of zombie gives full damage if attacks continue  
 
@@ -143,9 +161,17 @@ public interface Globals {
     public static final String ACID_SPIT_TEXTURE_PATH = "Textures/Miscs/acid_spit.png";
     public static final String PROJECTILE_TEXTURE_PATH = "Textures/Miscs/projectile.png";
 
+    public static final TextureFXStruct PROJECTILE_TEXTURE = new TextureFXStruct(PROJECTILE_TEXTURE_PATH, -25, 0, 3);
+    public static final TextureFXStruct ACID_SPIT_TEXTURE = new TextureFXStruct(ACID_SPIT_TEXTURE_PATH, -25, 0, 3);
+
     /**
      * SOUND EFFECTS
      */
+    public static final int AUDIO_SAMPLE_RATE = 44100;  // Sample rate of the audio mixer, sound files are resampled to it
+    public static final int AUDIO_MIX_BLOCK_FRAMES = 512;  // Number of frames mixed at once (~12ms)
+    public static final int AUDIO_LINE_BUFFER_FRAMES = 2048;  // Size of the audio line buffer (~46ms), bounds the latency of sound effects
+    public static final int AUDIO_DEFAULT_MAX_POLYPHONY = 16;  // Number of sounds played at the same time unless configured
+
     public static final String MENU_MUSIC_PATH = "Sounds/SurvivalEchoes.wav";
 
     public static final List<String> HUNTER_SOUND_FX_PATH = Arrays.asList("Sounds/Survivor/step1.wav",
@@ -215,9 +241,9 @@ public interface Globals {
     }
 
     public static boolean isObjectsCollided(Rectangle rect1, Rectangle rect2) {
-        return rect1.getBounds().intersects(rect2.getBounds()) || 
-               rect2.getBounds().contains(rect1.getBounds()) || 
-               rect1.getBounds().contains(rect2.getBounds());
+        return rect1.intersects(rect2) || 
+               rect2.contains(rect1) || 
+               rect1.contains(rect2);
     }
 
     public static boolean isObjectsCollided(RectangleBound rectBound1, RectangleBound rectBound2) {
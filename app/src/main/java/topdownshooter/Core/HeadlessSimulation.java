@@ -0,0 +1,223 @@
+/*
+ * @file HeadlessSimulation.java
+ * @brief This file defines the `HeadlessSimulation` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import topdownshooter.Player.Player;
+import topdownshooter.Weapon.Weapon;
+import topdownshooter.Zombie.Zombie;
+
+/**
+ * @class HeadlessSimulation
+ * @brief Runs the game engine without any UI, as fast as the CPU allows.
+ * 
+ * The player is driven either by a fixed input script or by a simple AI. When the player 
+ * is dead, a new game is started, so the requested number of ticks is always simulated.
+ */
+public class HeadlessSimulation {
+    /**
+     * @enum InputMode
+     * @brief Defines how the player is driven.
+     * 
+     * - SCRIPTED: The player walks on a square path, turns around constantly and keeps firing.
+     * - AI: The player aims at the closest zombie, fires while any zombie exists and steps back from close zombies.
+     */
+    public enum InputMode {
+        SCRIPTED,
+        AI,
+    }
+
+    /**
+     * @brief Result of a headless simulation run.
+     * 
+     * @param ticks The number of simulated game ticks.
+     * @param elapsedNanos The wall clock time spent for the simulation.
+     * @param games The number of games played (a new game is started when the player is dead).
+     * @param highestLevel The highest level reached in any game.
+     * @param highestScore The highest score reached in any game.
+     */
+    public record Report(long ticks, long elapsedNanos, int games, int highestLevel, int highestScore) {
+        /**
+         * Returns the simulation throughput.
+         * 
+         * @return The number of game ticks simulated per second.
+         */
+        public double ticksPerSecond() {
+            return this.elapsedNanos == 0 ? 0 : this.ticks * 1e9 / this.elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Simulated %d ticks in %.1f ms (%.0f ticks/s), games: %d, highest level: %d, highest score: %d", 
+                                 this.ticks, this.elapsedNanos / 1e6, ticksPerSecond(), this.games, this.highestLevel, this.highestScore);
+        }
+    }
+
+    private static final int SCRIPT_STEP_TICKS = 120;           /**< Number of ticks the scripted player walks in one direction. */
+    private static final double SCRIPT_TURN_RATE = 0.05;        /**< Rotation of the scripted player per tick in radians. */
+    private static final int AI_SAFE_DISTANCE = 250;            /**< The AI player steps back from zombies closer than that (in pixels). */
+    private static final int WEAPON_SWITCH_TICKS = 1000;        /**< Number of ticks between weapon switches. */
+
+    private final GameEngine gameEngine;                        /**< The simulated game. */
+    private final InputMode inputMode;                          /**< How the player is driven. */
+
+    /**
+     * Constructs a headless simulation on a playground of the default window size.
+     * 
+     * @param config The configuration handler that contains the game settings.
+     * @param inputMode How the player is driven.
+     * @throws IllegalArgumentException If the input mode is null.
+     */
+    public HeadlessSimulation(ConfigHandler config, InputMode inputMode) {
+        if (inputMode == null) {
+            throw new IllegalArgumentException("Input mode cannot be null!");
+        }
+
+        this.gameEngine = new GameEngine(config, Globals.WINDOW_WIDTH, Globals.WINDOW_HEIGHT);
+        this.inputMode = inputMode;
+    }
+
+    /**
+     * Simulates the given number of game ticks.
+     * 
+     * @param ticks The number of game ticks to simulate.
+     * @return The report of the run.
+     */
+    public Report run(long ticks) {
+        int games = 1;
+        int highestLevel = 0;
+        int highestScore = 0;
+
+        long startTime = System.nanoTime();
+        for (long tick = 0; tick < ticks; tick++) {
+            if (this.gameEngine.isGameOver()) {
+                highestLevel = Math.max(highestLevel, this.gameEngine.getGameLevel().getLevel());
+                highestScore = Math.max(highestScore, this.gameEngine.getPlayer().getScore());
+
+                this.gameEngine.newGame();
+                games++;
+            }
+
+            if (this.inputMode == InputMode.AI) {
+                applyAIInput(this.gameEngine.getPlayer());
+            } else {
+                applyScriptedInput(this.gameEngine.getPlayer(), tick);
+            }
+
+            this.gameEngine.update();
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        highestLevel = Math.max(highestLevel, this.gameEngine.getGameLevel().getLevel());
+        highestScore = Math.max(highestScore, this.gameEngine.getPlayer().getScore());
+
+        return new Report(ticks, elapsedNanos, games, highestLevel, highestScore);
+    }
+
+    /**
+     * Drives the player with the fixed input script.
+     * 
+     * @param player The player to drive.
+     * @param tick The index of the simulated tick.
+     */
+    private void applyScriptedInput(Player player, long tick) {
+        if (tick % SCRIPT_STEP_TICKS == 0) {
+            player.setDx(0);
+            player.setDy(0);
+            switch ((int) ((tick / SCRIPT_STEP_TICKS) % 4)) {
+                case 0 -> player.incrementDx();
+                case 1 -> player.incrementDy();
+                case 2 -> player.decrementDx();
+                default -> player.decrementDy();
+            }
+        }
+
+        player.rotate(player.getR() + SCRIPT_TURN_RATE);
+        reloadIfEmpty(player);
+        if (tick % WEAPON_SWITCH_TICKS == 0) player.switchWeapon();
+
+        this.gameEngine.startFire();
+    }
+
+    /**
+     * Drives the player with a simple AI.
+     * 
+     * @param player The player to drive.
+     */
+    private void applyAIInput(Player player) {
+        Zombie closestZombie = null;
+        long closestDistanceSquared = Long.MAX_VALUE;
+        for (Zombie zombie : this.gameEngine.getZombies()) {
+            long dx = zombie.getX() - player.getX();
+            long dy = zombie.getY() - player.getY();
+            long distanceSquared = dx * dx + dy * dy;
+            if (distanceSquared < closestDistanceSquared) {
+                closestDistanceSquared = distanceSquared;
+                closestZombie = zombie;
+            }
+        }
+
+        player.setDx(0);
+        player.setDy(0);
+
+        if (closestZombie == null) {
+            this.gameEngine.stopFire();
+            return;
+        }
+
+        int dx = closestZombie.getX() - player.getX();
+        int dy = closestZombie.getY() - player.getY();
+        player.rotate(Math.atan2(dy, dx));
+
+        // Step back from the closest zombie
+        if (closestDistanceSquared < (long) AI_SAFE_DISTANCE * AI_SAFE_DISTANCE) {
+            if (dx > 0) player.decrementDx(); else player.incrementDx();
+            if (dy > 0) player.decrementDy(); else player.incrementDy();
+        }
+
+        reloadIfEmpty(player);
+        this.gameEngine.startFire();
+    }
+
+    /**
+     * Reloads the current weapon of the player if its magazine is empty, or switches to the next weapon if it is out of ammo.
+     * 
+     * @param player The player to check.
+     */
+    private void reloadIfEmpty(Player player) {
+        Weapon weapon = player.getCurrentWeapon();
+        if (weapon == null || weapon.getAmmo() > 0) return;
+
+        if (weapon.getMagazineCount() != 0) {  // Magazine count is -1 for infinite magazines
+            weapon.reload();
+        } else {
+            player.switchWeapon();
+        }
+    }
+}
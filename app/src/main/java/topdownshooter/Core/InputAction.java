@@ -0,0 +1,61 @@
+/*
+ * @file InputAction.java
+ * @brief This file defines the `InputAction` enum.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package topdownshooter.Core;
+
+/**
+ * @enum InputAction
+ * @brief Represents the input actions of the player, which are applied by the game engine before a game tick.
+ * 
+ * The actions listed as follow:
+ * - MOVE_LEFT, MOVE_RIGHT, MOVE_UP, MOVE_DOWN: Starts moving the player in a direction.
+ * - STOP_HORIZONTAL, STOP_VERTICAL: Stops the horizontal or vertical movement of the player.
+ * - START_FIRE, STOP_FIRE: Starts or stops firing the current weapon.
+ * - RELOAD: Reloads the current weapon.
+ * - SWITCH_WEAPON: Switches to the next weapon in the inventory.
+ * 
+ * Aiming is not an action since it carries an angle; it is applied by `GameEngine.aim()`.
+ * The order of the actions must not be changed, since it is stored in the replay files.
+ * 
+ * @see GameEngine
+ * @see Replay
+ */
+public enum InputAction {
+    MOVE_LEFT,
+    MOVE_RIGHT,
+    MOVE_UP,
+    MOVE_DOWN,
+    STOP_HORIZONTAL,
+    STOP_VERTICAL,
+    START_FIRE,
+    STOP_FIRE,
+    RELOAD,
+    SWITCH_WEAPON,
+}
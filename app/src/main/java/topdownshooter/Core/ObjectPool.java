@@ -0,0 +1,214 @@
+/*
+ * @file ObjectPool.java
+ * @brief This file defines the `ObjectPool` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * @class ObjectPool
+ * @brief A bounded pool of reusable objects.
+ * 
+ * Frequently created short-lived game objects (e.g. projectiles, loots and blast effects) 
+ * are taken from the pool and given back when they are removed from the game, so they 
+ * do not create garbage during the game. If the pool is empty, a new object is created 
+ * by the factory; if the pool is full, released objects are left to the garbage collector.
+ * 
+ * The caller is responsible for re-initializing acquired objects and it must not use an 
+ * object after releasing it. The pool is thread-safe. All pools are registered at creation, 
+ * so their statistics can be listed by `getPools()`.
+ * 
+ * @param <T> Type of the pooled objects.
+ */
+public class ObjectPool<T> {
+    private static final List<ObjectPool<?>> pools = new CopyOnWriteArrayList<>();  /**< All created pools. */
+
+    private final String name;                          /**< Name of the pool for statistics. */
+    private final int capacity;                         /**< Maximum number of idle objects kept in the pool. */
+    private final Supplier<T> factory;                  /**< Creates a new object if the pool is empty. */
+    private final ArrayDeque<T> idleObjects;            /**< Idle objects ready to be acquired. */
+
+    private long acquireCount = 0;                      /**< Number of acquire calls. */
+    private long hitCount = 0;                          /**< Number of acquire calls served from the pool. */
+    private long releaseCount = 0;                      /**< Number of release calls. */
+    private long discardCount = 0;                      /**< Number of released objects dropped since the pool is full. */
+
+    /**
+     * Constructs an ObjectPool.
+     * 
+     * @param name Name of the pool for statistics.
+     * @param capacity Maximum number of idle objects kept in the pool.
+     * @param factory Creates a new object if the pool is empty.
+     */
+    public ObjectPool(String name, int capacity, Supplier<T> factory) {
+        if (capacity <= 0) throw new IllegalArgumentException("Pool capacity must be positive: " + capacity);
+
+        this.name = name;
+        this.capacity = capacity;
+        this.factory = factory;
+        this.idleObjects = new ArrayDeque<>(capacity);
+
+        ObjectPool.pools.add(this);
+    }
+
+    /**
+     * Takes an idle object from the pool, or creates a new one if the pool is empty.
+     * 
+     * @return The object which should be re-initialized by the caller.
+     */
+    public T acquire() {
+        synchronized (this) {
+            this.acquireCount++;
+            T object = this.idleObjects.pollLast();
+            if (object != null) {
+                this.hitCount++;
+                return object;
+            }
+        }
+        return this.factory.get();
+    }
+
+    /**
+     * Gives an object back to the pool.
+     * 
+     * @param object The object which is no longer used. Null is ignored.
+     */
+    public void release(T object) {
+        if (object == null) return;
+
+        synchronized (this) {
+            this.releaseCount++;
+            if (this.idleObjects.size() < this.capacity) {
+                this.idleObjects.addLast(object);
+            } else {
+                this.discardCount++;
+            }
+        }
+    }
+
+    /**
+     * Returns the name of the pool.
+     * 
+     * @return The name of the pool.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the maximum number of idle objects kept in the pool.
+     * 
+     * @return The capacity of the pool.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of idle objects in the pool.
+     * 
+     * @return The number of idle objects.
+     */
+    public synchronized int getSize() {
+        return this.idleObjects.size();
+    }
+
+    /**
+     * Returns the number of acquire calls.
+     * 
+     * @return The acquire count.
+     */
+    public synchronized long getAcquireCount() {
+        return this.acquireCount;
+    }
+
+    /**
+     * Returns the number of acquire calls served from the pool without creating a new object.
+     * 
+     * @return The hit count.
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the ratio of acquire calls served from the pool.
+     * 
+     * @return The hit rate in [0, 1], or 0 if nothing is acquired yet.
+     */
+    public synchronized double getHitRate() {
+        return this.acquireCount == 0 ? 0.0 : (double) this.hitCount / this.acquireCount;
+    }
+
+    /**
+     * Returns the number of release calls.
+     * 
+     * @return The release count.
+     */
+    public synchronized long getReleaseCount() {
+        return this.releaseCount;
+    }
+
+    /**
+     * Returns the number of released objects dropped since the pool was full.
+     * 
+     * @return The discard count.
+     */
+    public synchronized long getDiscardCount() {
+        return this.discardCount;
+    }
+
+    /**
+     * Returns all created pools.
+     * 
+     * @return Unmodifiable list of the pools.
+     */
+    public static List<ObjectPool<?>> getPools() {
+        return Collections.unmodifiableList(ObjectPool.pools);
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("ObjectPool{");
+        sb.append("name=" + this.name + ", ");
+        sb.append("size=" + this.idleObjects.size() + "/" + this.capacity + ", ");
+        sb.append("acquired=" + this.acquireCount + ", ");
+        sb.append("hitRate=" + String.format("%.3f", getHitRate()) + ", ");
+        sb.append("released=" + this.releaseCount + ", ");
+        sb.append("discarded=" + this.discardCount);
+        sb.append("}");
+
+        return sb.toString();
+    }
+}
@@ -32,7 +32,6 @@ package topdownshooter.Core;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Point;
 import java.awt.Polygon;
 import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
@@ -44,12 +43,32 @@ import java.awt.geom.AffineTransform;
  * This class extends the Rectangle class to include rotation support.
  * It provides methods for collision detection, retrieving rotated coordinates,
  * and rendering the rotated rectangle.
+ * 
+ * Sine/cosine of the rotation and the corners of the rotated rectangle are cached and 
+ * recomputed only after the position, size or rotation changes, so collision checks 
+ * do not create any garbage.
  */
 public class RectangleBound extends Rectangle {
+    /**
+     * @brief Collision test of the rotated rectangles, selected in the [Simulation] section of the configuration.
+     */
+    public enum CollisionMode {
+        BOUNDING_BOX,       /**< Axis-aligned bounding boxes of the rotated rectangles are tested (isBoxCollided()). */
+        SEPARATING_AXIS     /**< Rotated rectangles are tested exactly with the separating axis theorem (isSeparatingAxisCollided()). */
+    }
+
     private int x, y;           /**< X and Y coordinates of the rectangle */
     private int width, height;  /**< Width and height of the rectangle */
     private double rRad = 0.0;  /**< Rotation angle in radians */
 
+    private transient boolean isRotationValid = false;      /**< Whether cached sine and cosine are up to date. */
+    private transient boolean isCornersValid = false;       /**< Whether cached corners and bounds are up to date. */
+    private transient double cos, sin;                      /**< Cached cosine and sine of the rotation. */
+    private transient double centerX, centerY;              /**< Cached center of the rectangle. */
+    private transient double halfWidth, halfHeight;         /**< Cached half extents of the rectangle. */
+    private transient int[] xCorners, yCorners;             /**< Cached rotated corners (rounded as in getPolygon()). */
+    private transient int minX, minY, maxX, maxY;           /**< Cached axis-aligned bounds of the rotated corners. */
+
     /**
      * @brief Constructs a RectangleBound with given position and size.
      * @param x X-coordinate of the rectangle.
@@ -58,12 +77,7 @@ public class RectangleBound extends Rectangle {
      * @param height Height of the rectangle.
      */
     public RectangleBound(int x, int y, int width, int height) {
-        super(x, y, width, height);
-        this.x = x;
-        this.y = y;
-        this.width = width;
-        this.height = height;
-    
+        this(x, y, width, height, 0.0);
     }
 
     /**
@@ -83,6 +97,32 @@ public class RectangleBound extends Rectangle {
         this.rRad = rRad;
     }
 
+    /**
+     * @brief Updates position, size and rotation of the rectangle.
+     * 
+     * Cached values are invalidated only for the changed properties.
+     * @param x X-coordinate of the rectangle.
+     * @param y Y-coordinate of the rectangle.
+     * @param width Width of the rectangle.
+     * @param height Height of the rectangle.
+     * @param rRad Rotation angle in radians.
+     */
+    public void set(int x, int y, int width, int height, double rRad) {
+        if (this.rRad != rRad) {
+            this.rRad = rRad;
+            this.isRotationValid = false;
+            this.isCornersValid = false;
+        }
+        if (this.x != x || this.y != y || this.width != width || this.height != height) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            super.setBounds(x, y, width, height);
+            this.isCornersValid = false;
+        }
+    }
+
     /**
      * @brief Gets the rotation angle in radians.
      * @return Rotation angle in radians.
@@ -96,10 +136,11 @@ public class RectangleBound extends Rectangle {
      * @return The rotated X-coordinate.
      */
     public int getOriginX() {
+        updateRotation();
         double centerX = this.x + this.width / 2.0;
         double centerY = this.y + this.height / 2.0;
 
-        double rotatedX = (this.x - centerX) * Math.cos(this.rRad) - (this.y - centerY) * Math.sin(this.rRad) + centerX;
+        double rotatedX = (this.x - centerX) * this.cos - (this.y - centerY) * this.sin + centerX;
         return (int) rotatedX;
     }
 
@@ -108,40 +149,175 @@ public class RectangleBound extends Rectangle {
      * @return The rotated Y-coordinate.
      */
     public int getOriginY() {
+        updateRotation();
         double centerX = this.x + this.width / 2.0;
         double centerY = this.y + this.height / 2.0;
 
-        double rotatedY = (this.x - centerX) * Math.sin(this.rRad) + (this.y - centerY) * Math.cos(this.rRad) + centerY;
+        double rotatedY = (this.x - centerX) * this.sin + (this.y - centerY) * this.cos + centerY;
         return (int) rotatedY;
     }
 
     /**
-     * @brief Checks if two rotated rectangles collide.
+     * @brief Computes the axis-aligned bounding box of the rotated rectangle.
+     * 
+     * The returned box is the bounding box of the polygon returned by getPolygon(), so it 
+     * can be used for broadphase checks before the exact collision check.
+     * @return Axis-aligned bounding box of the rotated rectangle.
+     */
+    public Rectangle getRotatedBounds() {
+        updateCorners();
+        return new Rectangle(this.minX, this.minY, this.maxX - this.minX, this.maxY - this.minY);
+    }
+
+    /**
+     * @brief Gets the minimum X-coordinate of the rotated rectangle.
+     * @return The minimum X-coordinate.
+     */
+    public int getRotatedMinX() {
+        updateCorners();
+        return this.minX;
+    }
+
+    /**
+     * @brief Gets the minimum Y-coordinate of the rotated rectangle.
+     * @return The minimum Y-coordinate.
+     */
+    public int getRotatedMinY() {
+        updateCorners();
+        return this.minY;
+    }
+
+    /**
+     * @brief Gets the maximum X-coordinate of the rotated rectangle.
+     * @return The maximum X-coordinate.
+     */
+    public int getRotatedMaxX() {
+        updateCorners();
+        return this.maxX;
+    }
+
+    /**
+     * @brief Gets the maximum Y-coordinate of the rotated rectangle.
+     * @return The maximum Y-coordinate.
+     */
+    public int getRotatedMaxY() {
+        updateCorners();
+        return this.maxY;
+    }
+
+    /**
+     * @brief Checks if two rotated rectangles collide by their bounding boxes.
      * @param rb1 First RectangleBound object.
      * @param rb2 Second RectangleBound object.
      * @return True if the rectangles collide, false otherwise.
+     * @see #isBoxCollided(RectangleBound, RectangleBound)
      */
     public static boolean isCollided(RectangleBound rb1, RectangleBound rb2) {
-        Polygon p1 = rb1.getPolygon();
-        Polygon p2 = rb2.getPolygon();
-    
-        return p1.getBounds2D().intersects(p2.getBounds2D()) || 
-               p2.getBounds2D().contains(p1.getBounds2D()) || 
-               p1.getBounds2D().contains(p2.getBounds2D());
+        return isBoxCollided(rb1, rb2);
     }
     
     /**
-     * @brief Checks if a rectangle and a rotated rectangle collide.
+     * @brief Checks if a rectangle and a rotated rectangle collide by their bounding boxes.
      * @param r1 Regular Rectangle object.
      * @param rb2 RectangleBound object.
      * @return True if the rectangles collide, false otherwise.
+     * @see #isBoxCollided(Rectangle, RectangleBound)
      */
     public static boolean isCollided(Rectangle r1, RectangleBound rb2) {
-        Polygon p2 = rb2.getPolygon();
-    
-        return r1.getBounds2D().intersects(p2.getBounds2D()) || 
-               p2.getBounds2D().contains(r1.getBounds2D()) || 
-               r1.getBounds2D().contains(p2.getBounds2D());
+        return isBoxCollided(r1, rb2);
+    }
+
+    /**
+     * @brief Checks if the axis-aligned bounding boxes of two rotated rectangles overlap.
+     * @param rb1 First RectangleBound object.
+     * @param rb2 Second RectangleBound object.
+     * @return True if the bounding boxes overlap, false otherwise.
+     */
+    public static boolean isBoxCollided(RectangleBound rb1, RectangleBound rb2) {
+        rb1.updateCorners();
+        rb2.updateCorners();
+        return isBoxCollided(rb1.minX, rb1.minY, rb1.maxX, rb1.maxY, rb2.minX, rb2.minY, rb2.maxX, rb2.maxY);
+    }
+
+    /**
+     * @brief Checks if a rectangle and the axis-aligned bounding box of a rotated rectangle overlap.
+     * @param r1 Regular Rectangle object.
+     * @param rb2 RectangleBound object.
+     * @return True if the boxes overlap, false otherwise.
+     */
+    public static boolean isBoxCollided(Rectangle r1, RectangleBound rb2) {
+        rb2.updateCorners();
+        return isBoxCollided(r1.x, r1.y, r1.x + r1.width, r1.y + r1.height, rb2.minX, rb2.minY, rb2.maxX, rb2.maxY);
+    }
+
+    /**
+     * @brief Checks exactly if two rotated rectangles overlap by the separating axis theorem.
+     * @param rb1 First RectangleBound object.
+     * @param rb2 Second RectangleBound object.
+     * @return True if the rectangles overlap, false otherwise.
+     */
+    public static boolean isSeparatingAxisCollided(RectangleBound rb1, RectangleBound rb2) {
+        rb1.updateCorners();
+        rb2.updateCorners();
+        return isSeparatingAxisCollided(rb1.centerX, rb1.centerY, rb1.halfWidth, rb1.halfHeight, rb1.cos, rb1.sin, rb2);
+    }
+
+    /**
+     * @brief Checks exactly if a rectangle and a rotated rectangle overlap by the separating axis theorem.
+     * @param r1 Regular Rectangle object.
+     * @param rb2 RectangleBound object.
+     * @return True if the rectangles overlap, false otherwise.
+     */
+    public static boolean isSeparatingAxisCollided(Rectangle r1, RectangleBound rb2) {
+        rb2.updateCorners();
+        return isSeparatingAxisCollided(r1.x + r1.width / 2.0, r1.y + r1.height / 2.0, r1.width / 2.0, r1.height / 2.0, 1.0, 0.0, rb2);
+    }
+
+    /**
+     * @brief Checks if two axis-aligned boxes overlap.
+     * 
+     * Same as testing bounding boxes with Rectangle2D intersects() and contains(): empty 
+     * boxes never collide and touching edges are not counted as a collision.
+     * @return True if the boxes overlap, false otherwise.
+     */
+    private static boolean isBoxCollided(int minX1, int minY1, int maxX1, int maxY1, int minX2, int minY2, int maxX2, int maxY2) {
+        if (maxX1 <= minX1 || maxY1 <= minY1 || maxX2 <= minX2 || maxY2 <= minY2) return false;
+
+        return minX1 < maxX2 && minX2 < maxX1 && minY1 < maxY2 && minY2 < maxY1;
+    }
+
+    /**
+     * @brief Checks if an oriented box and a rotated rectangle overlap by the separating axis theorem.
+     * 
+     * Two convex shapes do not overlap if there is an axis which separates their projections. 
+     * For two rectangles, it is enough to test the two edge normals of each rectangle.
+     * @param centerX X-coordinate of the center of the first box.
+     * @param centerY Y-coordinate of the center of the first box.
+     * @param halfWidth Half width of the first box.
+     * @param halfHeight Half height of the first box.
+     * @param cos Cosine of the rotation of the first box.
+     * @param sin Sine of the rotation of the first box.
+     * @param rb Second rectangle whose cached values are up to date.
+     * @return True if the boxes overlap, false otherwise.
+     */
+    private static boolean isSeparatingAxisCollided(double centerX, double centerY, double halfWidth, double halfHeight, double cos, double sin, RectangleBound rb) {
+        double dx = rb.centerX - centerX;
+        double dy = rb.centerY - centerY;
+
+        // Axes of the first box: (cos, sin) and (-sin, cos)
+        double uu = Math.abs(cos * rb.cos + sin * rb.sin);
+        double uv = Math.abs(-cos * rb.sin + sin * rb.cos);
+        double vu = Math.abs(-sin * rb.cos + cos * rb.sin);
+        double vv = Math.abs(sin * rb.sin + cos * rb.cos);
+
+        if (Math.abs(dx * cos + dy * sin) >= halfWidth + rb.halfWidth * uu + rb.halfHeight * uv) return false;
+        if (Math.abs(-dx * sin + dy * cos) >= halfHeight + rb.halfWidth * vu + rb.halfHeight * vv) return false;
+
+        // Axes of the second box: (rb.cos, rb.sin) and (-rb.sin, rb.cos)
+        if (Math.abs(dx * rb.cos + dy * rb.sin) >= rb.halfWidth + halfWidth * uu + halfHeight * vu) return false;
+        if (Math.abs(-dx * rb.sin + dy * rb.cos) >= rb.halfHeight + halfWidth * uv + halfHeight * vv) return false;
+
+        return true;
     }
 
     /**
@@ -149,38 +325,61 @@ public class RectangleBound extends Rectangle {
      * @return Polygon object of the rotated rectangle.
      */
     public Polygon getPolygon() {
-        int[] xPoints = new int[4];
-        int[] yPoints = new int[4];
-
-        // Get the 4 corners of the rectangle (without rotation)
-        Point[] points = new Point[4];
-        points[0] = new Point(this.x, this.y); // top-left
-        points[1] = new Point(this.x + this.width, this.y); // top-right
-        points[2] = new Point(this.x + this.width, this.y + this.height); // bottom-right
-        points[3] = new Point(this.x, this.y + this.height); // bottom-left
+        updateCorners();
+        return new Polygon(this.xCorners, this.yCorners, 4);
+    }
 
-        // Calculate the center of the rectangle
-        double centerX = this.x + this.width / 2.0;
-        double centerY = this.y + this.height / 2.0;
+    /**
+     * @brief Recomputes cached sine and cosine if the rotation is changed.
+     */
+    private void updateRotation() {
+        if (this.isRotationValid) return;
 
-        // Rotate each point around the center of the rectangle
-        for (int i = 0; i < 4; i++) {
-            Point p = points[i];
-            // Translate the point to the origin (subtract the center coordinates)
-            double x = p.x - centerX;
-            double y = p.y - centerY;
+        this.cos = Math.cos(this.rRad);
+        this.sin = Math.sin(this.rRad);
+        this.isRotationValid = true;
+    }
 
-            // Apply rotation using the rotation matrix
-            double newX = centerX + x * Math.cos(this.rRad) - y * Math.sin(this.rRad);
-            double newY = centerY + x * Math.sin(this.rRad) + y * Math.cos(this.rRad);
+    /**
+     * @brief Recomputes cached corners and bounds if the position, size or rotation is changed.
+     */
+    private void updateCorners() {
+        if (this.isCornersValid) return;
+        updateRotation();
 
-            // Store the rotated coordinates
-            xPoints[i] = (int) Math.round(newX);
-            yPoints[i] = (int) Math.round(newY);
+        if (this.xCorners == null) {
+            this.xCorners = new int[4];
+            this.yCorners = new int[4];
         }
 
-        // Create and return the rotated polygon
-        return new Polygon(xPoints, yPoints, 4);
+        // Calculate the center of the rectangle
+        this.halfWidth = this.width / 2.0;
+        this.halfHeight = this.height / 2.0;
+        this.centerX = this.x + this.halfWidth;
+        this.centerY = this.y + this.halfHeight;
+
+        // Rotate the corners (top-left, top-right, bottom-right, bottom-left) around the center
+        setCorner(0, -this.halfWidth, -this.halfHeight);
+        setCorner(1,  this.halfWidth, -this.halfHeight);
+        setCorner(2,  this.halfWidth,  this.halfHeight);
+        setCorner(3, -this.halfWidth,  this.halfHeight);
+
+        this.minX = Math.min(Math.min(this.xCorners[0], this.xCorners[1]), Math.min(this.xCorners[2], this.xCorners[3]));
+        this.minY = Math.min(Math.min(this.yCorners[0], this.yCorners[1]), Math.min(this.yCorners[2], this.yCorners[3]));
+        this.maxX = Math.max(Math.max(this.xCorners[0], this.xCorners[1]), Math.max(this.xCorners[2], this.xCorners[3]));
+        this.maxY = Math.max(Math.max(this.yCorners[0], this.yCorners[1]), Math.max(this.yCorners[2], this.yCorners[3]));
+        this.isCornersValid = true;
+    }
+
+    /**
+     * @brief Rotates a corner given relative to the center and stores it.
+     * @param index Index of the corner.
+     * @param x X-coordinate of the corner relative to the center.
+     * @param y Y-coordinate of the corner relative to the center.
+     */
+    private void setCorner(int index, double x, double y) {
+        this.xCorners[index] = (int) Math.round(this.centerX + x * this.cos - y * this.sin);
+        this.yCorners[index] = (int) Math.round(this.centerY + x * this.sin + y * this.cos);
     }
 
     /**
@@ -0,0 +1,396 @@
+/*
+ * @file RenderSnapshot.java
+ * @brief This file defines the `RenderSnapshot` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @class RenderSnapshot
+ * @brief Sprites to be drawn for a single frame, kept in parallel columns.
+ * 
+ * The snapshot is built by the simulation thread after a game tick and handed to the 
+ * painting thread, which draws it without touching the game objects. Snapshots are 
+ * reused buffers rather than new objects per frame: the builder keeps three of them, one 
+ * filled by the simulation thread, one drawn by the painting thread and one published 
+ * between them, and they are exchanged without locking (see Builder).
+ * 
+ * The sprites are added in layers (e.g. zombies, projectiles, loot). Layers are drawn in 
+ * the order they are added, while the sprites of a layer are grouped by their sprite sheet, 
+ * so the images of a sheet are drawn one after another with fewer state changes of Java2D. 
+ * Sprites outside of the clip bounds are not drawn at all.
+ * 
+ * A sprite is drawn centered at (x, y) after the rotation around (x, y) and the translation 
+ * by the offsets in the rotated space are applied. If there is no rotation, no offset and no 
+ * scaling (e.g. for pre-rotated frames), the image is copied without any transformation.
+ * 
+ * @see GameLoop
+ */
+public final class RenderSnapshot {
+    private static final int INITIAL_CAPACITY = 256;    /**< Number of sprites a new snapshot has room for. */
+
+    /**
+     * @brief Number of sprites drawn and culled in a single draw of a snapshot.
+     * 
+     * @param drawnCount The number of sprites drawn.
+     * @param culledCount The number of sprites skipped since they are outside of the clip bounds.
+     */
+    public record DrawStats(int drawnCount, int culledCount) {}
+
+    private BufferedImage[] images = new BufferedImage[INITIAL_CAPACITY];   /**< Image of each sprite. */
+    private int[] xs = new int[INITIAL_CAPACITY];                           /**< X coordinate of the rotation center of each sprite. */
+    private int[] ys = new int[INITIAL_CAPACITY];                           /**< Y coordinate of the rotation center of each sprite. */
+    private double[] rotations = new double[INITIAL_CAPACITY];              /**< Rotation angle (in radians) of each sprite. */
+    private int[] offsetXs = new int[INITIAL_CAPACITY];                     /**< X offset of each sprite, applied after rotation. */
+    private int[] offsetYs = new int[INITIAL_CAPACITY];                     /**< Y offset of each sprite, applied after rotation. */
+    private int[] widths = new int[INITIAL_CAPACITY];                       /**< Target width of each sprite. */
+    private int[] heights = new int[INITIAL_CAPACITY];                      /**< Target height of each sprite. */
+    private Object[] sheets = new Object[INITIAL_CAPACITY];                 /**< Sprite sheet of each sprite, which the sprites of a layer are grouped by. */
+    private int[] drawOrder = new int[INITIAL_CAPACITY];                    /**< Sprite indices in draw order. */
+    private int size = 0;                                                   /**< Number of sprites. */
+    private long tick = 0;                                                  /**< Game tick which the snapshot is taken at. */
+    private volatile long sequence = 0;                                     /**< Number of the publication of the snapshot, increasing with each published frame. */
+
+    private RenderSnapshot() {}
+
+    /**
+     * Draws the sprites of the snapshot in order, except the ones outside of the clip bounds.
+     * If the graphics context has no clip, all sprites are drawn.
+     * 
+     * @param g The graphics context to draw on.
+     * @return The number of sprites drawn and culled.
+     */
+    private DrawStats draw(Graphics g) {
+        Graphics2D g2d = (Graphics2D) g;
+        Rectangle clipBounds = g2d.getClipBounds();
+
+        int drawnCount = 0;
+        for (int k = 0; k < this.size; k++) {
+            int i = this.drawOrder[k];
+            if (clipBounds != null && !intersects(i, clipBounds)) continue;
+
+            draw(g2d, i);
+            drawnCount++;
+        }
+        return new DrawStats(drawnCount, this.size - drawnCount);
+    }
+
+    /**
+     * Draws a sprite on the given graphics context.
+     * 
+     * @param g2d The graphics context to draw on.
+     * @param i The index of the sprite.
+     */
+    private void draw(Graphics2D g2d, int i) {
+        int x = this.xs[i], y = this.ys[i], width = this.widths[i], height = this.heights[i];
+        if (isUntransformed(i)) {
+            g2d.drawImage(this.images[i], x - width / 2, y - height / 2, null);
+            return;
+        }
+
+        AffineTransform oldTransform = g2d.getTransform();
+
+        g2d.translate(x, y);
+        g2d.rotate(this.rotations[i]);
+        g2d.translate(this.offsetXs[i], this.offsetYs[i]);
+        g2d.drawImage(this.images[i], -width / 2, -height / 2, width, height, null);
+
+        g2d.setTransform(oldTransform);
+    }
+
+    /**
+     * Checks whether a sprite may overlap the given bounds. 
+     * 
+     * The bounds of a transformed sprite are approximated by the circle around its diagonal, 
+     * so a sprite which is close to the bounds may not be culled, but a visible sprite is never culled.
+     * 
+     * @param i The index of the sprite.
+     * @param bounds The bounds to check, e.g. the clip bounds.
+     * @return True if the sprite may overlap the bounds.
+     */
+    private boolean intersects(int i, Rectangle bounds) {
+        double centerX = this.xs[i], centerY = this.ys[i];
+        double halfWidth, halfHeight;
+        if (isUntransformed(i)) {
+            halfWidth = this.widths[i] / 2.0 + 1;
+            halfHeight = this.heights[i] / 2.0 + 1;
+        } else {
+            int offsetX = this.offsetXs[i], offsetY = this.offsetYs[i];
+            if (offsetX != 0 || offsetY != 0) {
+                double cos = Math.cos(this.rotations[i]), sin = Math.sin(this.rotations[i]);
+                centerX += offsetX * cos - offsetY * sin;
+                centerY += offsetX * sin + offsetY * cos;
+            }
+            halfWidth = halfHeight = Math.hypot(this.widths[i], this.heights[i]) / 2 + 1;
+        }
+
+        return centerX + halfWidth >= bounds.x && centerX - halfWidth <= bounds.x + bounds.width 
+            && centerY + halfHeight >= bounds.y && centerY - halfHeight <= bounds.y + bounds.height;
+    }
+
+    private boolean isUntransformed(int i) {
+        return this.rotations[i] == 0 && this.offsetXs[i] == 0 && this.offsetYs[i] == 0 
+            && this.widths[i] == this.images[i].getWidth() && this.heights[i] == this.images[i].getHeight();
+    }
+
+    /**
+     * Appends a sprite, growing the columns if they are full.
+     * 
+     * @param image The image to draw.
+     * @param x The X coordinate of the rotation center.
+     * @param y The Y coordinate of the rotation center.
+     * @param rotation The rotation angle (in radians).
+     * @param offsetX The X offset applied after rotation.
+     * @param offsetY The Y offset applied after rotation.
+     * @param width The target width of the image.
+     * @param height The target height of the image.
+     * @param sheet The sprite sheet of the image.
+     */
+    private void add(BufferedImage image, int x, int y, double rotation, int offsetX, int offsetY, int width, int height, Object sheet) {
+        if (this.size == this.images.length) {
+            int capacity = this.images.length * 2;
+            this.images = Arrays.copyOf(this.images, capacity);
+            this.xs = Arrays.copyOf(this.xs, capacity);
+            this.ys = Arrays.copyOf(this.ys, capacity);
+            this.rotations = Arrays.copyOf(this.rotations, capacity);
+            this.offsetXs = Arrays.copyOf(this.offsetXs, capacity);
+            this.offsetYs = Arrays.copyOf(this.offsetYs, capacity);
+            this.widths = Arrays.copyOf(this.widths, capacity);
+            this.heights = Arrays.copyOf(this.heights, capacity);
+            this.sheets = Arrays.copyOf(this.sheets, capacity);
+            this.drawOrder = Arrays.copyOf(this.drawOrder, capacity);
+        }
+
+        int i = this.size++;
+        this.images[i] = image;
+        this.xs[i] = x;
+        this.ys[i] = y;
+        this.rotations[i] = rotation;
+        this.offsetXs[i] = offsetX;
+        this.offsetYs[i] = offsetY;
+        this.widths[i] = width;
+        this.heights[i] = height;
+        this.sheets[i] = sheet;
+        this.drawOrder[i] = i;
+    }
+
+    /**
+     * Removes all sprites. Images are released, so the frames evicted from the caches are not kept alive.
+     */
+    private void clear() {
+        Arrays.fill(this.images, 0, this.size, null);
+        Arrays.fill(this.sheets, 0, this.size, null);
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of sprites of the snapshot.
+     * 
+     * @return The number of sprites.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the game tick which the snapshot is taken at.
+     * 
+     * @return The game tick.
+     */
+    public long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * @class Builder
+     * @brief Collects the sprites of the frames and hands them over to the painting thread.
+     * 
+     * The sprites are added and published by the simulation thread only. Frames are drawn by 
+     * one painting thread at a time (e.g. EDT, or the game loop thread while rendering on a 
+     * canvas), which takes the latest published snapshot in exchange for the one it has drawn. 
+     * Neither side waits for the other: a frame published before the previous one is drawn 
+     * replaces it, and the painter draws its snapshot again until a new one is published.
+     */
+    public static class Builder {
+        private RenderSnapshot back = new RenderSnapshot();         /**< Snapshot being filled by the simulation thread. */
+        private final AtomicReference<RenderSnapshot> published = new AtomicReference<>(new RenderSnapshot());  /**< Latest published snapshot, or the one handed back by the painter. */
+        private RenderSnapshot front = new RenderSnapshot();        /**< Snapshot being drawn by the painting thread. */
+        private final Object paintLock = new Object();              /**< Lets one painting thread draw at a time; it is never taken by the simulation thread. */
+        private long sequence = 0;                                  /**< Number of published snapshots. */
+
+        private int layerStart = 0;                                                             /**< Index of the first sprite of the current layer. */
+        private final IdentityHashMap<Object, Integer> sheetGroups = new IdentityHashMap<>();   /**< Group index of each sprite sheet in the current layer. */
+        private int[] groups = new int[0];                                                      /**< Group index of each sprite in the current layer. */
+        private int[] groupStarts = new int[0];                                                 /**< First index of each group in the grouped layer. */
+
+        /**
+         * Adds a sprite to the frame.
+         * 
+         * @param image The image to draw. Nothing is added if it is null.
+         * @param x The X coordinate of the rotation center.
+         * @param y The Y coordinate of the rotation center.
+         * @param rotation The rotation angle (in radians).
+         * @param offsetX The X offset applied after rotation.
+         * @param offsetY The Y offset applied after rotation.
+         * @param width The target width of the image.
+         * @param height The target height of the image.
+         */
+        public void add(BufferedImage image, int x, int y, double rotation, int offsetX, int offsetY, int width, int height) {
+            if (image == null) return;
+            this.back.add(image, x, y, rotation, offsetX, offsetY, width, height, sheetOf(image));
+        }
+
+        /**
+         * Adds a sprite frame which is rotated around its center.
+         * 
+         * If the rotated frame cache is enabled, the frame is added pre-scaled and pre-rotated, 
+         * so it is drawn without any transformation. Otherwise, it is transformed when it is drawn.
+         * 
+         * @param frame The frame to draw. Nothing is added if it is null.
+         * @param x The X coordinate of the center of the frame.
+         * @param y The Y coordinate of the center of the frame.
+         * @param rotation The rotation angle (in radians).
+         * @param width The target width of the frame.
+         * @param height The target height of the frame.
+         */
+        public void addRotated(BufferedImage frame, int x, int y, double rotation, int width, int height) {
+            if (frame == null) return;
+
+            BufferedImage rotatedFrame = RotatedFrameCache.getInstance().get(frame, rotation, width, height);
+            if (rotatedFrame != null) {
+                // Grouped with the other frames of the source sprite sheet
+                this.back.add(rotatedFrame, x, y, 0, 0, 0, rotatedFrame.getWidth(), rotatedFrame.getHeight(), sheetOf(frame));
+            } else {
+                add(frame, x, y, rotation, 0, 0, width, height);
+            }
+        }
+
+        /**
+         * Starts a new layer. The sprites added from now on are drawn after the sprites of the previous layers.
+         */
+        public void beginLayer() {
+            groupLayer();
+            this.layerStart = this.back.size;
+        }
+
+        /**
+         * Publishes the collected sprites to the painting thread and starts a new frame. Called by the simulation thread.
+         * 
+         * @param tick The game tick which the snapshot is taken at.
+         */
+        public void publish(long tick) {
+            groupLayer();
+
+            this.back.tick = tick;
+            this.back.sequence = ++this.sequence;
+
+            // Either the frame published before, which is not drawn, or the one the painter is done with
+            this.back = this.published.getAndSet(this.back);
+            this.back.clear();
+            this.layerStart = 0;
+        }
+
+        /**
+         * Draws the latest published snapshot, except the sprites outside of the clip bounds. 
+         * If no snapshot is published since the last draw, the same snapshot is drawn again.
+         * 
+         * @param g The graphics context to draw on.
+         * @return The number of sprites drawn and culled.
+         */
+        public DrawStats drawLatest(Graphics g) {
+            synchronized (this.paintLock) {
+                // The published snapshot may be the one handed back by the previous draw, which is older
+                if (this.published.get().sequence > this.front.sequence) {
+                    this.front = this.published.getAndSet(this.front);
+                }
+                return this.front.draw(g);
+            }
+        }
+
+        /**
+         * Groups the sprites of the current layer by their sprite sheet. The groups are ordered by the 
+         * first sprite of each sheet, and the sprites keep their order within a group (stable counting sort).
+         */
+        private void groupLayer() {
+            RenderSnapshot snapshot = this.back;
+            int count = snapshot.size - this.layerStart;
+            if (count < 2) return;
+
+            if (this.groups.length < count) {
+                this.groups = new int[count];
+            }
+
+            this.sheetGroups.clear();
+            for (int i = 0; i < count; i++) {
+                Object sheet = snapshot.sheets[this.layerStart + i];
+                Integer group = this.sheetGroups.get(sheet);
+                if (group == null) {
+                    group = this.sheetGroups.size();
+                    this.sheetGroups.put(sheet, group);
+                }
+                this.groups[i] = group;
+            }
+
+            int groupCount = this.sheetGroups.size();
+            this.sheetGroups.clear();  // Do not keep the sprite sheets of old frames alive
+            if (groupCount < 2) return;
+
+            if (this.groupStarts.length < groupCount + 1) this.groupStarts = new int[groupCount + 1];
+            Arrays.fill(this.groupStarts, 0, groupCount + 1, 0);
+            for (int i = 0; i < count; i++) {
+                this.groupStarts[this.groups[i] + 1]++;
+            }
+            for (int group = 0; group < groupCount; group++) {
+                this.groupStarts[group + 1] += this.groupStarts[group];
+            }
+
+            // Sprites stay in their columns, only the draw order of the layer is rearranged
+            for (int i = 0; i < count; i++) {
+                snapshot.drawOrder[this.layerStart + this.groupStarts[this.groups[i]]++] = this.layerStart + i;
+            }
+        }
+
+        /**
+         * Returns the sprite sheet of the image. Frames sliced from a sprite sheet share its pixel data.
+         * 
+         * @param image The image.
+         * @return The object identifying the sprite sheet.
+         */
+        private static Object sheetOf(BufferedImage image) {
+            return image.getRaster().getDataBuffer();
+        }
+    }
+}
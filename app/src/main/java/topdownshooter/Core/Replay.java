@@ -0,0 +1,467 @@
+/*
+ * @file Replay.java
+ * @brief This file defines the `Replay` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package topdownshooter.Core;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * @class Replay
+ * @brief Compact recording of the input of a game, which is played back by re-simulating the game.
+ * 
+ * The simulation is deterministic: its random numbers are drawn from the seeded streams of the
+ * engine's `GameRandom`, and zombies are spawned on the game thread. A game is therefore reproduced from 
+ * its seed, the configuration and the input applied before each game tick.
+ * 
+ * The file starts with a header of a magic number, the format version, the game seed, the 
+ * initial playground size and the path of the configuration file. It is followed by records, 
+ * each of which starts with the number of ticks since the previous record and a code:
+ * - An input action (its ordinal), without any data.
+ * - AIM, followed by the rotation of the player.
+ * - RESIZE, followed by the new playground size.
+ * - END, followed by the final tick count and the checksum of the final game state.
+ * 
+ * Tick deltas are stored as variable-length integers, so a tick without any input costs nothing. 
+ * Only the last aim of a tick is stored, as the rotation does not affect the other actions. All 
+ * values are little-endian.
+ * 
+ * A recording ends with the END record when it is stopped, so the playback can verify that the 
+ * game is reproduced. A recording which is cut short (e.g. by a crash) is played back as far as 
+ * it goes, without verification.
+ * 
+ * @see GameEngine#startRecording(Path)
+ * @see GameRandom
+ */
+public final class Replay {
+    public static final int MAGIC = 0x52534454;         /**< "TDSR" in little-endian byte order. */
+    public static final int FORMAT_VERSION = 1;         /**< Format version written by this version of the game. */
+    public static final String FILE_EXTENSION = ".rpl"; /**< Extension of the replay files. */
+
+    private static final int CODE_AIM = 0x40;           /**< Code of an aim record. */
+    private static final int CODE_RESIZE = 0x41;        /**< Code of a playground resize record. */
+    private static final int CODE_END = 0x7F;           /**< Code of the end record. */
+
+    private static final int BUFFER_SIZE = 8 * 1024;    /**< Size of the write buffer of a recording in bytes. */
+    private static final int MAX_RECORD_SIZE = 32;      /**< Upper bound of the size of a record in bytes. */
+    private static final int MAX_FILE_SIZE = Integer.MAX_VALUE - 8;  /**< Maximum size of a replay in bytes. */
+
+    private Replay() {}
+
+    /**
+     * Computes the checksum of the game state, which is compared by the playback to verify the replay.
+     * 
+     * @param gameEngine The game engine.
+     * @return The CRC-32 of the saved game of the engine, or 0 if there is no game.
+     */
+    static long checksum(GameEngine gameEngine) {
+        if (gameEngine.getPlayer() == null || gameEngine.getGameLevel() == null) return 0;
+
+        SaveGame.Writer writer = new SaveGame.Writer();
+        gameEngine.writeGameState(writer);
+        CRC32 crc = new CRC32();
+        crc.update(writer.getData());
+        return crc.getValue();
+    }
+
+    /**
+     * @class Recorder
+     * @brief Writes the input of a game to a replay file while the game is played.
+     * 
+     * It is created by the game engine when the recording is started and is called by the 
+     * engine on the game thread. Records are buffered and written to the file in blocks. 
+     * If the file cannot be written, the recording is dropped and the error is reported when 
+     * the recording is finished.
+     */
+    static final class Recorder {
+        private final Path path;                            /**< Path of the replay file. */
+        private final FileChannel channel;                  /**< Channel of the replay file. */
+        private final ByteBuffer buffer;                    /**< Records which are not written yet. */
+        private long lastTick = 0;                          /**< Tick of the latest written record. */
+
+        private boolean hasPendingAim = false;              /**< Whether an aim of the current tick is not written yet. */
+        private long pendingAimTick = 0;                    /**< Tick of the pending aim. */
+        private double pendingAim = 0.0;                    /**< Rotation of the pending aim. */
+        private double lastAim = Double.NaN;                /**< Rotation of the latest written aim. */
+
+        private IOException error = null;                   /**< First error while writing, null if none. */
+
+        /**
+         * Creates the replay file and writes its header.
+         * 
+         * @param path The path of the replay file.
+         * @param configPath The path of the configuration file.
+         * @param seed The seed of the game.
+         * @param playgroundWidth The width of the playground in pixels.
+         * @param playgroundHeight The height of the playground in pixels.
+         * @throws IOException If the file cannot be created.
+         */
+        Recorder(Path path, String configPath, long seed, int playgroundWidth, int playgroundHeight) throws IOException {
+            byte[] configPathBytes = configPath.getBytes(StandardCharsets.UTF_8);
+            if (configPathBytes.length > 0xFFFF) {
+                throw new IllegalArgumentException("Configuration path is too long!");
+            }
+
+            this.path = path;
+            this.buffer = ByteBuffer.allocate(Math.max(BUFFER_SIZE, configPathBytes.length + 64)).order(ByteOrder.LITTLE_ENDIAN);
+            this.buffer.putInt(MAGIC);
+            this.buffer.putShort((short) FORMAT_VERSION);
+            this.buffer.putLong(seed);
+            this.buffer.putInt(playgroundWidth);
+            this.buffer.putInt(playgroundHeight);
+            this.buffer.putShort((short) configPathBytes.length);
+            this.buffer.put(configPathBytes);
+
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        }
+
+        /**
+         * Records an input action.
+         * 
+         * @param tick The tick before which the action is applied.
+         * @param action The action.
+         */
+        void recordInput(long tick, InputAction action) {
+            if (!beginRecord(tick)) return;
+            this.buffer.put((byte) action.ordinal());
+        }
+
+        /**
+         * Records an aim. Only the last aim of a tick is written.
+         * 
+         * @param tick The tick before which the aim is applied.
+         * @param r The rotation of the player in radians.
+         */
+        void recordAim(long tick, double r) {
+            if (this.hasPendingAim && this.pendingAimTick != tick) {
+                writePendingAim();
+            }
+            this.hasPendingAim = true;
+            this.pendingAimTick = tick;
+            this.pendingAim = r;
+        }
+
+        /**
+         * Records a change of the playground size.
+         * 
+         * @param tick The tick before which the size is changed.
+         * @param width The width of the playground in pixels.
+         * @param height The height of the playground in pixels.
+         */
+        void recordResize(long tick, int width, int height) {
+            if (!beginRecord(tick)) return;
+            this.buffer.put((byte) CODE_RESIZE);
+            this.buffer.putInt(width);
+            this.buffer.putInt(height);
+        }
+
+        /**
+         * Writes the end record and closes the file.
+         * 
+         * @param tick The final tick count of the game.
+         * @param checksum The checksum of the final game state.
+         * @return The path of the replay file.
+         * @throws IOException If the file cannot be written.
+         */
+        Path finish(long tick, long checksum) throws IOException {
+            try {
+                if (beginRecord(tick)) {
+                    this.buffer.put((byte) CODE_END);
+                    this.buffer.putLong(tick);
+                    this.buffer.putLong(checksum);
+                    flush();
+                }
+            } finally {
+                this.channel.close();
+            }
+
+            if (this.error != null) throw this.error;
+            return this.path;
+        }
+
+        /**
+         * Writes the pending aim if it belongs to an earlier tick, and makes room for a record.
+         * 
+         * @param tick The tick of the record.
+         * @return True if the record can be written, false if the recording is dropped.
+         */
+        private boolean beginRecord(long tick) {
+            if (this.hasPendingAim && this.pendingAimTick <= tick) {
+                writePendingAim();
+            }
+            if (this.error != null) return false;
+
+            if (this.buffer.remaining() < MAX_RECORD_SIZE) flush();
+            if (this.error != null) return false;
+
+            putVarLong(this.buffer, tick - this.lastTick);
+            this.lastTick = tick;
+            return true;
+        }
+
+        /**
+         * Writes the pending aim, unless the rotation is not changed since the latest written aim.
+         */
+        private void writePendingAim() {
+            this.hasPendingAim = false;
+            if (Double.compare(this.pendingAim, this.lastAim) == 0) return;
+
+            if (!beginRecord(this.pendingAimTick)) return;
+            this.buffer.put((byte) CODE_AIM);
+            this.buffer.putDouble(this.pendingAim);
+            this.lastAim = this.pendingAim;
+        }
+
+        /**
+         * Writes the buffered records to the file.
+         */
+        private void flush() {
+            this.buffer.flip();
+            try {
+                while (this.buffer.hasRemaining()) {
+                    this.channel.write(this.buffer);
+                }
+            } catch (IOException e) {
+                this.error = e;
+                System.err.println("Cannot write replay: " + e.getMessage());
+            }
+            this.buffer.clear();
+        }
+
+        /**
+         * Writes an unsigned variable-length integer, 7 bits per byte.
+         * 
+         * @param buffer The buffer to write into.
+         * @param value The value to write.
+         */
+        private static void putVarLong(ByteBuffer buffer, long value) {
+            while ((value & ~0x7FL) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+    }
+
+    /**
+     * @class Playback
+     * @brief Re-simulates a recorded game without any UI, as fast as the CPU allows.
+     * 
+     * The game is started with the recorded seed, and the recorded input is applied before the 
+     * same game ticks. The duration of each tick is measured, so the slowest tick of a recorded 
+     * game can be found and reproduced.
+     */
+    public static final class Playback {
+        /**
+         * @brief Result of a playback.
+         * 
+         * @param ticks The number of simulated game ticks.
+         * @param elapsedNanos The wall clock time spent for the simulation.
+         * @param slowestTick The index of the slowest game tick.
+         * @param slowestTickNanos The duration of the slowest game tick in nanoseconds.
+         * @param score The final score of the player.
+         * @param level The final level.
+         * @param isVerified Whether the replay is finished, so its final state is compared.
+         * @param isReproduced Whether the final state matches the recorded one.
+         */
+        public record Report(long ticks, long elapsedNanos, long slowestTick, long slowestTickNanos, int score, int level, boolean isVerified, boolean isReproduced) {
+            /**
+             * Returns the simulation throughput.
+             * 
+             * @return The number of game ticks simulated per second.
+             */
+            public double ticksPerSecond() {
+                return this.elapsedNanos == 0 ? 0 : this.ticks * 1e9 / this.elapsedNanos;
+            }
+
+            @Override
+            public String toString() {
+                String verification = !this.isVerified ? "not verified (replay is not finished)" : (this.isReproduced ? "reproduced" : "DIVERGED");
+                return String.format("Replayed %d ticks in %.1f ms (%.0f ticks/s), slowest tick: %d (%.3f ms), score: %d, level: %d, %s", 
+                                     this.ticks, this.elapsedNanos / 1e6, ticksPerSecond(), this.slowestTick, this.slowestTickNanos / 1e6, 
+                                     this.score, this.level, verification);
+            }
+        }
+
+        private final ByteBuffer data;                      /**< Records of the replay, after the header. */
+        private final long seed;                            /**< Seed of the recorded game. */
+        private final int playgroundWidth;                  /**< Initial width of the playground in pixels. */
+        private final int playgroundHeight;                 /**< Initial height of the playground in pixels. */
+        private final String configPath;                    /**< Path of the configuration file of the recorded game. */
+
+        private long slowestTick = 0;                       /**< Index of the slowest tick so far. */
+        private long slowestTickNanos = 0;                  /**< Duration of the slowest tick so far in nanoseconds. */
+
+        /**
+         * Reads a replay file and its header.
+         * 
+         * @param path The path of the replay file.
+         * @throws IOException If the file cannot be read.
+         * @throws SaveGame.FormatException If the file is not a valid replay.
+         */
+        public Playback(Path path) throws IOException {
+            if (Files.size(path) > MAX_FILE_SIZE) {
+                throw new SaveGame.FormatException("Replay is too large!");
+            }
+            this.data = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+
+            try {
+                if (this.data.getInt() != MAGIC) {
+                    throw new SaveGame.FormatException("File is not a replay!");
+                }
+                int formatVersion = Short.toUnsignedInt(this.data.getShort());
+                if (formatVersion > FORMAT_VERSION) {
+                    throw new SaveGame.FormatException("Replay is recorded by a newer version of the game!");
+                }
+                this.seed = this.data.getLong();
+                this.playgroundWidth = this.data.getInt();
+                this.playgroundHeight = this.data.getInt();
+                byte[] configPathBytes = new byte[Short.toUnsignedInt(this.data.getShort())];
+                this.data.get(configPathBytes);
+                this.configPath = new String(configPathBytes, StandardCharsets.UTF_8);
+            } catch (BufferUnderflowException e) {
+                throw new SaveGame.FormatException("Replay header is truncated!");
+            }
+        }
+
+        /**
+         * Returns the path of the configuration file of the recorded game.
+         * 
+         * @return The path in resources.
+         */
+        public String getConfigPath() {
+            return this.configPath;
+        }
+
+        /**
+         * Returns the seed of the recorded game.
+         * 
+         * @return The game seed.
+         */
+        public long getSeed() {
+            return this.seed;
+        }
+
+        /**
+         * Re-simulates the recorded game.
+         * 
+         * @param config The configuration handler, which must match the one of the recorded game.
+         * @return The report of the playback.
+         * @throws SaveGame.FormatException If a record is not valid.
+         */
+        public Report run(ConfigHandler config) throws SaveGame.FormatException {
+            GameEngine gameEngine = new GameEngine(config, this.playgroundWidth, this.playgroundHeight);
+            gameEngine.newGame(this.seed);
+
+            ByteBuffer records = this.data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            InputAction[] actions = InputAction.values();
+            this.slowestTick = 0;
+            this.slowestTickNanos = 0;
+
+            boolean isVerified = false;
+            boolean isReproduced = false;
+            long tick = 0;
+            long startTime = System.nanoTime();
+            try {
+                while (records.hasRemaining()) {
+                    tick += getVarLong(records);
+                    int code = Byte.toUnsignedInt(records.get());
+
+                    runUntil(gameEngine, tick);
+                    if (code < actions.length) {
+                        gameEngine.applyInput(actions[code]);
+                    } else if (code == CODE_AIM) {
+                        gameEngine.aim(records.getDouble());
+                    } else if (code == CODE_RESIZE) {
+                        gameEngine.setPlaygroundSize(records.getInt(), records.getInt());
+                    } else if (code == CODE_END) {
+                        long finalTick = records.getLong();
+                        long checksum = records.getLong();
+                        isVerified = true;
+                        isReproduced = (gameEngine.getTickCount() == finalTick && Replay.checksum(gameEngine) == checksum);
+                        break;
+                    } else {
+                        throw new SaveGame.FormatException("Unknown replay record: " + code);
+                    }
+                }
+            } catch (BufferUnderflowException e) {
+                // The recording was cut short in the middle of a record
+                isVerified = false;
+            }
+            long elapsedNanos = System.nanoTime() - startTime;
+
+            return new Report(gameEngine.getTickCount(), elapsedNanos, this.slowestTick, this.slowestTickNanos, 
+                              gameEngine.getPlayer().getScore(), gameEngine.getGameLevel().getLevel(), isVerified, isReproduced);
+        }
+
+        /**
+         * Simulates game ticks until the given tick, or until the game is over.
+         * 
+         * @param gameEngine The game engine.
+         * @param tick The tick to simulate until.
+         */
+        private void runUntil(GameEngine gameEngine, long tick) {
+            while (gameEngine.getTickCount() < tick && !gameEngine.isGameOver()) {
+                long startTime = System.nanoTime();
+                gameEngine.update();
+                long tickNanos = System.nanoTime() - startTime;
+                if (tickNanos > this.slowestTickNanos) {
+                    this.slowestTickNanos = tickNanos;
+                    this.slowestTick = gameEngine.getTickCount() - 1;
+                }
+            }
+        }
+
+        /**
+         * Reads an unsigned variable-length integer, 7 bits per byte.
+         * 
+         * @param buffer The buffer to read from.
+         * @return The value.
+         * @throws SaveGame.FormatException If the value is longer than a long integer.
+         */
+        private static long getVarLong(ByteBuffer buffer) throws SaveGame.FormatException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new SaveGame.FormatException("Invalid tick delta in replay!");
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * @file RotatedFrameCache.java
+ * @brief This file defines the `RotatedFrameCache` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @class RotatedFrameCache
+ * @brief Process-wide cache of sprite frames which are pre-scaled to their target size and pre-rotated.
+ * 
+ * Drawing a frame with a rotation and a scale goes through the transformed image path of Java2D, 
+ * which is much slower than copying an image. The rotations are rounded to one of a fixed number 
+ * of angles, and each frame is rendered once per target size and angle into an image centered at 
+ * the rotation center. The image is then drawn without any transformation.
+ * 
+ * The size of the cached images is limited by a memory budget. If the budget is exceeded, the least 
+ * recently used images are evicted. Evicted images which are still referenced by render snapshots 
+ * stay valid, since the images are never modified after they are rendered.
+ * 
+ * The cache is disabled until it is configured with a positive angle count and memory budget.
+ * 
+ * @see SpriteAnimation
+ * @see RenderSnapshot
+ */
+public final class RotatedFrameCache {
+    private static final RotatedFrameCache INSTANCE = new RotatedFrameCache();  /**< The frame cache of the application. */
+
+    /**
+     * @brief Identifies a frame drawn at a target size and a rotation angle.
+     * 
+     * @param frame The source frame, compared by identity.
+     * @param width The target width of the frame.
+     * @param height The target height of the frame.
+     * @param angle The index of the rotation angle.
+     */
+    private record Key(BufferedImage frame, int width, int height, int angle) {}
+
+    private final LinkedHashMap<Key, BufferedImage> frames = new LinkedHashMap<>(256, 0.75f, true);  /**< Rotated frames in least recently used order. */
+    private int angleCount = 0;                 /**< Number of angles the rotations are rounded to, 0 if the cache is disabled. */
+    private long budgetBytes = 0;               /**< Maximum size of the rotated frames in bytes. */
+    private long usedBytes = 0;                 /**< Size of the rotated frames in bytes. */
+    private long hitCount = 0;                  /**< Number of requests served from the cache. */
+    private long missCount = 0;                 /**< Number of requests which rendered a rotated frame. */
+    private long evictionCount = 0;             /**< Number of rotated frames evicted to stay within the budget. */
+
+    private RotatedFrameCache() {}
+
+    /**
+     * Returns the frame cache of the application.
+     * 
+     * @return The frame cache.
+     */
+    public static RotatedFrameCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Configures the number of angles and the memory budget. The cached frames are cleared.
+     * 
+     * @param angleCount Number of angles the rotations are rounded to (e.g. 32 or 64), 0 disables the cache.
+     * @param budgetBytes Maximum size of the rotated frames in bytes, 0 disables the cache.
+     */
+    public synchronized void configure(int angleCount, long budgetBytes) {
+        if (angleCount < 0) throw new IllegalArgumentException("Angle count cannot be negative: " + angleCount);
+        if (budgetBytes < 0) throw new IllegalArgumentException("Memory budget cannot be negative: " + budgetBytes);
+
+        this.angleCount = angleCount;
+        this.budgetBytes = budgetBytes;
+        clear();
+    }
+
+    /**
+     * Returns whether the cache is enabled.
+     * 
+     * @return True if frames are pre-rotated.
+     */
+    public synchronized boolean isEnabled() {
+        return this.angleCount > 0 && this.budgetBytes > 0;
+    }
+
+    /**
+     * Returns the frame scaled to the target size and rotated by the nearest cached angle.
+     * 
+     * The returned image is centered at the rotation center and its width and height are even, 
+     * so it is drawn at the rotation center minus half of its size.
+     * 
+     * @param frame The source frame.
+     * @param rotation The rotation angle (in radians).
+     * @param width The target width of the frame.
+     * @param height The target height of the frame.
+     * @return The rotated frame, or null if the cache is disabled or the frame does not fit into the budget.
+     */
+    public synchronized BufferedImage get(BufferedImage frame, double rotation, int width, int height) {
+        if (!isEnabled() || frame == null || width <= 0 || height <= 0) return null;
+
+        int angle = (int) Math.floorMod(Math.round(rotation * this.angleCount / (2 * Math.PI)), (long) this.angleCount);
+        Key key = new Key(frame, width, height, angle);
+
+        BufferedImage rotatedFrame = this.frames.get(key);
+        if (rotatedFrame != null) {
+            this.hitCount++;
+            return rotatedFrame;
+        }
+
+        this.missCount++;
+        rotatedFrame = render(frame, angle * 2 * Math.PI / this.angleCount, width, height);
+
+        long bytes = sizeOf(rotatedFrame);
+        if (bytes > this.budgetBytes) return null;
+
+        this.frames.put(key, rotatedFrame);
+        this.usedBytes += bytes;
+        evict();
+        return rotatedFrame;
+    }
+
+    /**
+     * Removes all rotated frames. Frames which are already referenced by render snapshots stay valid.
+     */
+    public synchronized void clear() {
+        this.frames.clear();
+        this.usedBytes = 0;
+    }
+
+    /**
+     * Returns the number of rotated frames held in the cache.
+     * 
+     * @return The number of cached frames.
+     */
+    public synchronized int size() {
+        return this.frames.size();
+    }
+
+    /**
+     * Returns the size of the rotated frames held in the cache.
+     * 
+     * @return The used memory in bytes.
+     */
+    public synchronized long getUsedBytes() {
+        return this.usedBytes;
+    }
+
+    /**
+     * Returns the number of requests served from the cache.
+     * 
+     * @return The hit count.
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the number of requests which rendered a rotated frame.
+     * 
+     * @return The miss count.
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Returns the number of rotated frames evicted to stay within the memory budget.
+     * 
+     * @return The eviction count.
+     */
+    public synchronized long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    /**
+     * Evicts the least recently used frames until the cached frames fit into the memory budget.
+     */
+    private void evict() {
+        Iterator<Map.Entry<Key, BufferedImage>> iterator = this.frames.entrySet().iterator();
+        while (this.usedBytes > this.budgetBytes && iterator.hasNext()) {
+            this.usedBytes -= sizeOf(iterator.next().getValue());
+            iterator.remove();
+            this.evictionCount++;
+        }
+    }
+
+    /**
+     * Renders the frame scaled to the target size and rotated around its center.
+     * 
+     * The image covers the bounds of the rotated frame. Its size is rounded up to even numbers, 
+     * so the rotation center is exactly at the center of the image.
+     * 
+     * @param frame The source frame.
+     * @param rotation The rotation angle (in radians).
+     * @param width The target width of the frame.
+     * @param height The target height of the frame.
+     * @return The rotated frame.
+     */
+    private static BufferedImage render(BufferedImage frame, double rotation, int width, int height) {
+        double cos = Math.abs(Math.cos(rotation)), sin = Math.abs(Math.sin(rotation));
+        int rotatedWidth = evenCeil(width * cos + height * sin);
+        int rotatedHeight = evenCeil(width * sin + height * cos);
+
+        BufferedImage rotatedFrame = new BufferedImage(rotatedWidth, rotatedHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2d = rotatedFrame.createGraphics();
+        try {
+            // Rendered once, so a smoother interpolation than the one of the transformed draw is affordable
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.translate(rotatedWidth / 2, rotatedHeight / 2);
+            g2d.rotate(rotation);
+            g2d.drawImage(frame, -width / 2, -height / 2, width, height, null);
+        } finally {
+            g2d.dispose();
+        }
+        return rotatedFrame;
+    }
+
+    private static int evenCeil(double value) {
+        int ceil = (int) Math.ceil(value - 1e-9);  // Tolerate rounding errors of the exact angles
+        return (ceil + 1) & ~1;
+    }
+
+    private static long sizeOf(BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight() * Integer.BYTES;
+    }
+}
@@ -0,0 +1,733 @@
+/*
+ * @file SaveGame.java
+ * @brief This file defines the `SaveGame` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * @class SaveGame
+ * @brief Versioned, tagged binary format of the saved games.
+ * 
+ * A saved game only holds the simulation state (positions, health, ammo, ticks, animation 
+ * frames etc.). Sprites, textures and sounds are not saved; they are rebuilt from the shared 
+ * caches when the game objects are created on load.
+ * 
+ * The file starts with a header of a magic number, the format version of the writer and 
+ * the minimum format version a reader must support. It is followed by sections, each of 
+ * which has a tag, a version and a length, and it ends with the end tag. A section holds 
+ * records, each of which is prefixed with its length. All values are little-endian.
+ * 
+ * The format is forward compatible:
+ * - Unknown sections are skipped, so new sections can be added without breaking old readers.
+ * - New fields are only appended to the end of records and the section version is increased. 
+ *   Readers skip the fields they do not know at the end of a record, and check `hasRecordData()` 
+ *   before reading a field which may be missing in the records of older versions.
+ * - Incompatible changes increase `MIN_READER_VERSION`, so old readers reject the file.
+ * 
+ * A saved game can also be stored compressed. The compressed file starts with its own magic 
+ * number and the size of the saved game, followed by the deflated saved game. `read()` detects 
+ * and inflates compressed files, so both forms can be loaded the same way.
+ * 
+ * Files are written to a temporary file which then replaces the target file, so an interrupted 
+ * save never leaves a partially written saved game behind.
+ * 
+ * @see GameEngine
+ */
+public final class SaveGame {
+    public static final int MAGIC = 0x47534454;         /**< "TDSG" in little-endian byte order. */
+    public static final int COMPRESSED_MAGIC = 0x5A534454;  /**< "TDSZ" in little-endian byte order. */
+    public static final int FORMAT_VERSION = 1;         /**< Format version written by this version of the game. */
+    public static final int MIN_READER_VERSION = 1;     /**< Minimum format version required to read the files written by this version. */
+
+    public static final int SECTION_END = 0;            /**< Tag marking the end of the file. */
+    public static final int SECTION_ENGINE = 1;         /**< Tag of the engine state (tick count, game over). */
+    public static final int SECTION_PLAYER = 2;         /**< Tag of the player and the inventory. */
+    public static final int SECTION_LEVEL = 3;          /**< Tag of the game level. */
+    public static final int SECTION_ZOMBIES = 4;        /**< Tag of the zombies. */
+    public static final int SECTION_PROJECTILES = 5;    /**< Tag of the projectiles. */
+    public static final int SECTION_LOOTS = 6;          /**< Tag of the loots. */
+    public static final int SECTION_BLASTS = 7;         /**< Tag of the blast effects. */
+
+    private static final int HEADER_SIZE = 8;           /**< Size of the magic number and the versions in bytes. */
+    private static final int COMPRESSED_HEADER_SIZE = 8;  /**< Size of the magic number and the uncompressed size of a compressed file in bytes. */
+    private static final int SECTION_HEADER_SIZE = 6;   /**< Size of the tag, the version and the length of a section in bytes. */
+    private static final int RECORD_HEADER_SIZE = 2;    /**< Size of the length of a record in bytes. */
+    private static final int MAX_RECORD_SIZE = 0xFFFF;  /**< Maximum size of a record in bytes. */
+    private static final int MAX_FILE_SIZE = Integer.MAX_VALUE - 8;  /**< Maximum size of a saved game in bytes. */
+
+    /**
+     * @class FormatException
+     * @brief Thrown when a saved game is not valid, e.g. it is truncated, corrupted or written by a newer version.
+     */
+    public static class FormatException extends IOException {
+        /**
+         * Constructs the exception with a detail message.
+         * 
+         * @param message The detail message.
+         */
+        public FormatException(String message) {
+            super(message);
+        }
+    }
+
+    private SaveGame() {}
+
+    /**
+     * Writes a saved game to a file, replacing the file if it exists.
+     * 
+     * @param path The path of the file.
+     * @param writer The writer holding the finished saved game.
+     * @throws IOException If the file cannot be written.
+     * @throws IllegalStateException If the writer is not finished.
+     */
+    public static void write(Path path, Writer writer) throws IOException {
+        write(path, writer.getData());
+    }
+
+    /**
+     * Writes the data to a temporary file next to the target file and then moves it over the 
+     * target file. The move is atomic where the file system supports it.
+     * 
+     * @param path The path of the file.
+     * @param data The data to write, from its position to its limit.
+     * @throws IOException If the file cannot be written.
+     */
+    static void write(Path path, ByteBuffer data) throws IOException {
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+                channel.force(false);
+            }
+
+            try {
+                Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempPath);
+            throw e;
+        }
+    }
+
+    /**
+     * Compresses a saved game.
+     * 
+     * @param writer The writer holding the finished saved game.
+     * @param deflater The deflater to compress with. It is reset before use.
+     * @param target The buffer to compress into. A larger buffer is allocated if it is too small.
+     * @return The buffer holding the compressed file, ready to be written.
+     * @throws IllegalStateException If the writer is not finished.
+     */
+    static ByteBuffer compress(Writer writer, Deflater deflater, ByteBuffer target) {
+        ByteBuffer data = writer.getData();
+
+        deflater.reset();
+        deflater.setInput(data);
+        deflater.finish();
+
+        target.clear().order(ByteOrder.LITTLE_ENDIAN);
+        if (target.capacity() < COMPRESSED_HEADER_SIZE) {
+            target = ByteBuffer.allocate(Math.max(data.remaining() / 2, COMPRESSED_HEADER_SIZE)).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        target.putInt(COMPRESSED_MAGIC).putInt(data.remaining());
+
+        while (!deflater.finished()) {
+            if (!target.hasRemaining()) {
+                ByteBuffer grown = ByteBuffer.allocate(target.capacity() * 2).order(ByteOrder.LITTLE_ENDIAN);
+                target.flip();
+                grown.put(target);
+                target = grown;
+            }
+            deflater.deflate(target);
+        }
+        target.flip();
+        return target;
+    }
+
+    /**
+     * Reads a saved game from a file. Compressed files are inflated.
+     * 
+     * @param path The path of the file.
+     * @return The reader of the saved game.
+     * @throws IOException If the file cannot be read.
+     * @throws FormatException If the file is not a valid saved game.
+     */
+    public static Reader read(Path path) throws IOException {
+        ByteBuffer data;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAX_FILE_SIZE) {
+                throw new FormatException("Saved game is too large!");
+            }
+
+            data = ByteBuffer.allocate((int) size);
+            while (data.hasRemaining()) {
+                if (channel.read(data) < 0) break;
+            }
+            data.flip();
+        }
+
+        data.order(ByteOrder.LITTLE_ENDIAN);
+        if (data.remaining() >= COMPRESSED_HEADER_SIZE && data.getInt(data.position()) == COMPRESSED_MAGIC) {
+            data = inflate(data);
+        }
+        return new Reader(data);
+    }
+
+    /**
+     * Inflates a compressed saved game.
+     * 
+     * @param data The compressed file, starting at its magic number.
+     * @return The buffer holding the saved game.
+     * @throws FormatException If the compressed data is not valid.
+     */
+    private static ByteBuffer inflate(ByteBuffer data) throws FormatException {
+        data.getInt();
+        int size = data.getInt();
+        if (size < 0 || size > MAX_FILE_SIZE) {
+            throw new FormatException("Invalid size of compressed saved game!");
+        }
+
+        ByteBuffer inflated = ByteBuffer.allocate(size);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            while (!inflater.finished()) {
+                if (inflater.inflate(inflated) == 0 && !inflater.finished()) {
+                    if (inflater.needsInput() || inflater.needsDictionary()) {
+                        throw new FormatException("Compressed saved game is truncated!");
+                    }
+                    if (!inflated.hasRemaining()) {
+                        throw new FormatException("Compressed saved game is larger than its size!");
+                    }
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new FormatException("Compressed saved game is corrupted!");
+        } finally {
+            inflater.end();
+        }
+
+        if (inflated.hasRemaining()) {
+            throw new FormatException("Compressed saved game is smaller than its size!");
+        }
+        inflated.flip();
+        return inflated;
+    }
+
+    /**
+     * @class Writer
+     * @brief Writes the sections and records of a saved game into a growable memory buffer.
+     * 
+     * The writer can be reused for the next saved game after `reset()`.
+     */
+    public static final class Writer {
+        private static final int INITIAL_CAPACITY = 64 * 1024;  /**< Initial size of the buffer in bytes. */
+
+        private ByteBuffer buffer;          /**< Buffer holding the saved game. */
+        private int sectionStart = -1;      /**< Position of the length of the current section, -1 if no section is open. */
+        private int recordStart = -1;       /**< Position of the length of the current record, -1 if no record is open. */
+        private boolean isFinished = false; /**< Whether the end tag is written. */
+
+        /**
+         * Constructs a writer and writes the header.
+         */
+        public Writer() {
+            this.buffer = ByteBuffer.allocate(INITIAL_CAPACITY).order(ByteOrder.LITTLE_ENDIAN);
+            reset();
+        }
+
+        /**
+         * Drops the written data and writes the header of a new saved game. The buffer is kept for reuse.
+         */
+        public void reset() {
+            this.buffer.clear();
+            this.sectionStart = -1;
+            this.recordStart = -1;
+            this.isFinished = false;
+
+            this.buffer.putInt(MAGIC);
+            this.buffer.putShort((short) FORMAT_VERSION);
+            this.buffer.putShort((short) MIN_READER_VERSION);
+        }
+
+        /**
+         * Starts a new section.
+         * 
+         * @param tag The tag of the section.
+         * @param version The version of the section.
+         * @throws IllegalStateException If a section is already open or the writer is finished.
+         */
+        public void beginSection(int tag, int version) {
+            if (this.sectionStart >= 0 || this.isFinished) {
+                throw new IllegalStateException("Cannot begin a section while a section is open or after the end!");
+            }
+
+            ensureCapacity(SECTION_HEADER_SIZE);
+            this.buffer.put((byte) tag);
+            this.buffer.put((byte) version);
+            this.sectionStart = this.buffer.position();
+            this.buffer.putInt(0);  // Length is patched when the section ends
+        }
+
+        /**
+         * Ends the current section.
+         * 
+         * @throws IllegalStateException If no section is open or a record is still open.
+         */
+        public void endSection() {
+            if (this.sectionStart < 0 || this.recordStart >= 0) {
+                throw new IllegalStateException("Cannot end a section without an open section or with an open record!");
+            }
+
+            this.buffer.putInt(this.sectionStart, this.buffer.position() - this.sectionStart - Integer.BYTES);
+            this.sectionStart = -1;
+        }
+
+        /**
+         * Starts a new record in the current section.
+         * 
+         * @throws IllegalStateException If no section is open or a record is already open.
+         */
+        public void beginRecord() {
+            if (this.sectionStart < 0 || this.recordStart >= 0) {
+                throw new IllegalStateException("Cannot begin a record outside of a section or in another record!");
+            }
+
+            ensureCapacity(RECORD_HEADER_SIZE);
+            this.recordStart = this.buffer.position();
+            this.buffer.putShort((short) 0);  // Length is patched when the record ends
+        }
+
+        /**
+         * Ends the current record.
+         * 
+         * @throws IllegalStateException If no record is open, or the record is larger than 64 KiB.
+         */
+        public void endRecord() {
+            if (this.recordStart < 0) {
+                throw new IllegalStateException("Cannot end a record without an open record!");
+            }
+
+            int length = this.buffer.position() - this.recordStart - RECORD_HEADER_SIZE;
+            if (length > MAX_RECORD_SIZE) {
+                throw new IllegalStateException("Record is too large!");
+            }
+            this.buffer.putShort(this.recordStart, (short) length);
+            this.recordStart = -1;
+        }
+
+        /**
+         * Writes the end tag. Nothing can be written after the end until the writer is reset.
+         * 
+         * @throws IllegalStateException If a section is still open.
+         */
+        public void finish() {
+            if (this.sectionStart >= 0) {
+                throw new IllegalStateException("Cannot finish while a section is open!");
+            }
+            if (this.isFinished) return;
+
+            ensureCapacity(1);
+            this.buffer.put((byte) SECTION_END);
+            this.isFinished = true;
+        }
+
+        /**
+         * Writes a byte.
+         * 
+         * @param value The value, only the lowest 8 bits are written.
+         */
+        public void putByte(int value) {
+            ensureCapacity(Byte.BYTES);
+            this.buffer.put((byte) value);
+        }
+
+        /**
+         * Writes a boolean as a byte.
+         * 
+         * @param value The value.
+         */
+        public void putBoolean(boolean value) {
+            putByte(value ? 1 : 0);
+        }
+
+        /**
+         * Writes a short.
+         * 
+         * @param value The value, only the lowest 16 bits are written.
+         */
+        public void putShort(int value) {
+            ensureCapacity(Short.BYTES);
+            this.buffer.putShort((short) value);
+        }
+
+        /**
+         * Writes an int.
+         * 
+         * @param value The value.
+         */
+        public void putInt(int value) {
+            ensureCapacity(Integer.BYTES);
+            this.buffer.putInt(value);
+        }
+
+        /**
+         * Writes a long.
+         * 
+         * @param value The value.
+         */
+        public void putLong(long value) {
+            ensureCapacity(Long.BYTES);
+            this.buffer.putLong(value);
+        }
+
+        /**
+         * Writes a double.
+         * 
+         * @param value The value.
+         */
+        public void putDouble(double value) {
+            ensureCapacity(Double.BYTES);
+            this.buffer.putDouble(value);
+        }
+
+        /**
+         * Writes the ordinal of an enum constant as a byte.
+         * 
+         * @param value The enum constant, which must have an ordinal less than 256.
+         */
+        public void putEnum(Enum<?> value) {
+            putByte(value.ordinal());
+        }
+
+        /**
+         * Returns the number of bytes written so far.
+         * 
+         * @return The size of the saved game in bytes.
+         */
+        public int size() {
+            return this.buffer.position();
+        }
+
+        /**
+         * Returns the saved game as a byte array.
+         * 
+         * @return A copy of the written bytes.
+         * @throws IllegalStateException If the writer is not finished.
+         */
+        public byte[] toByteArray() {
+            ByteBuffer data = getData();
+            byte[] bytes = new byte[data.remaining()];
+            data.get(bytes);
+            return bytes;
+        }
+
+        /**
+         * Returns a read-only view of the written bytes.
+         * 
+         * @return The written bytes, from the header to the end tag.
+         * @throws IllegalStateException If the writer is not finished.
+         */
+        ByteBuffer getData() {
+            if (!this.isFinished) {
+                throw new IllegalStateException("Saved game is not finished!");
+            }
+            return this.buffer.asReadOnlyBuffer().flip();
+        }
+
+        /**
+         * Grows the buffer if it does not have enough space for the given number of bytes.
+         * 
+         * @param bytes The number of bytes to be written.
+         */
+        private void ensureCapacity(int bytes) {
+            if (this.isFinished) {
+                throw new IllegalStateException("Cannot write after the end of the saved game!");
+            }
+            if (this.buffer.remaining() >= bytes) return;
+
+            int capacity = Math.max(this.buffer.capacity() * 2, this.buffer.position() + bytes);
+            ByteBuffer grown = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+            this.buffer.flip();
+            grown.put(this.buffer);
+            this.buffer = grown;
+        }
+    }
+
+    /**
+     * @class Reader
+     * @brief Reads the sections and records of a saved game from a memory buffer.
+     * 
+     * All reads are bounded by the current record, or by the current section outside of a record, 
+     * so a corrupted length cannot make the reader run into the next section.
+     */
+    public static final class Reader {
+        private final ByteBuffer buffer;    /**< Buffer holding the saved game. */
+        private final int formatVersion;    /**< Format version of the writer of the saved game. */
+        private int sectionTag = -1;        /**< Tag of the current section, -1 before the first section. */
+        private int sectionVersion = 0;     /**< Version of the current section. */
+        private int sectionEnd = -1;        /**< Position of the end of the current section, -1 if no section is open. */
+        private int recordEnd = -1;         /**< Position of the end of the current record, -1 if no record is open. */
+
+        /**
+         * Constructs a reader of a saved game and checks its header.
+         * 
+         * @param data The saved game, from its position to its limit. The buffer is not modified.
+         * @throws FormatException If the data is not a saved game, or it is written in an incompatible format version.
+         */
+        public Reader(ByteBuffer data) throws FormatException {
+            this.buffer = data.slice().order(ByteOrder.LITTLE_ENDIAN);
+
+            if (this.buffer.remaining() < HEADER_SIZE || this.buffer.getInt() != MAGIC) {
+                throw new FormatException("File is not a saved game!");
+            }
+
+            this.formatVersion = Short.toUnsignedInt(this.buffer.getShort());
+            int minReaderVersion = Short.toUnsignedInt(this.buffer.getShort());
+            if (minReaderVersion > FORMAT_VERSION) {
+                throw new FormatException("Saved game is written by a newer version of the game!");
+            }
+        }
+
+        /**
+         * Returns the format version of the writer of the saved game.
+         * 
+         * @return The format version.
+         */
+        public int getFormatVersion() {
+            return this.formatVersion;
+        }
+
+        /**
+         * Moves to the next section, skipping the unread data of the current section.
+         * 
+         * @return True if a section is found, false if the end of the saved game is reached.
+         * @throws FormatException If the saved game is truncated.
+         */
+        public boolean nextSection() throws FormatException {
+            if (this.sectionTag == SECTION_END) return false;
+
+            if (this.sectionEnd >= 0) this.buffer.position(this.sectionEnd);
+            this.sectionEnd = -1;
+            this.recordEnd = -1;
+
+            if (!this.buffer.hasRemaining()) {
+                throw new FormatException("Saved game is truncated!");
+            }
+
+            this.sectionTag = Byte.toUnsignedInt(this.buffer.get());
+            if (this.sectionTag == SECTION_END) return false;
+
+            if (this.buffer.remaining() < SECTION_HEADER_SIZE - 1) {
+                throw new FormatException("Saved game is truncated!");
+            }
+            this.sectionVersion = Byte.toUnsignedInt(this.buffer.get());
+            int length = this.buffer.getInt();
+            if (length < 0 || length > this.buffer.remaining()) {
+                throw new FormatException("Saved game is truncated!");
+            }
+            this.sectionEnd = this.buffer.position() + length;
+            return true;
+        }
+
+        /**
+         * Returns the tag of the current section.
+         * 
+         * @return The section tag.
+         */
+        public int getSectionTag() {
+            return this.sectionTag;
+        }
+
+        /**
+         * Returns the version of the current section.
+         * 
+         * @return The section version.
+         */
+        public int getSectionVersion() {
+            return this.sectionVersion;
+        }
+
+        /**
+         * Returns whether the current section has more records.
+         * 
+         * @return True if there is another record in the section.
+         */
+        public boolean hasRecord() {
+            return this.sectionEnd >= 0 && this.recordEnd < 0 && this.buffer.position() < this.sectionEnd;
+        }
+
+        /**
+         * Starts reading the next record of the current section.
+         * 
+         * @throws FormatException If there is no record left in the section, or the record is truncated.
+         */
+        public void beginRecord() throws FormatException {
+            if (!hasRecord() || this.sectionEnd - this.buffer.position() < RECORD_HEADER_SIZE) {
+                throw new FormatException("Saved game section has no record left!");
+            }
+
+            int length = Short.toUnsignedInt(this.buffer.getShort());
+            if (length > this.sectionEnd - this.buffer.position()) {
+                throw new FormatException("Saved game record is truncated!");
+            }
+            this.recordEnd = this.buffer.position() + length;
+        }
+
+        /**
+         * Returns whether the current record has unread data, e.g. fields appended by a newer version.
+         * 
+         * @return True if there is unread data in the record.
+         */
+        public boolean hasRecordData() {
+            return this.recordEnd >= 0 && this.buffer.position() < this.recordEnd;
+        }
+
+        /**
+         * Ends the current record, skipping its unread data.
+         */
+        public void endRecord() {
+            if (this.recordEnd < 0) return;
+
+            this.buffer.position(this.recordEnd);
+            this.recordEnd = -1;
+        }
+
+        /**
+         * Reads a signed byte.
+         * 
+         * @return The value.
+         * @throws FormatException If the value is beyond the current record or section.
+         */
+        public byte getByte() throws FormatException {
+            require(Byte.BYTES);
+            return this.buffer.get();
+        }
+
+        /**
+         * Reads a boolean written as a byte.
+         * 
+         * @return The value.
+         * @throws FormatException If the value is beyond the current record or section.
+         */
+        public boolean getBoolean() throws FormatException {
+            return getByte() != 0;
+        }
+
+        /**
+         * Reads a signed short.
+         * 
+         * @return The value.
+         * @throws FormatException If the value is beyond the current record or section.
+         */
+        public short getShort() throws FormatException {
+            require(Short.BYTES);
+            return this.buffer.getShort();
+        }
+
+        /**
+         * Reads an int.
+         * 
+         * @return The value.
+         * @throws FormatException If the value is beyond the current record or section.
+         */
+        public int getInt() throws FormatException {
+            require(Integer.BYTES);
+            return this.buffer.getInt();
+        }
+
+        /**
+         * Reads a long.
+         * 
+         * @return The value.
+         * @throws FormatException If the value is beyond the current record or section.
+         */
+        public long getLong() throws FormatException {
+            require(Long.BYTES);
+            return this.buffer.getLong();
+        }
+
+        /**
+         * Reads a double.
+         * 
+         * @return The value.
+         * @throws FormatException If the value is beyond the current record or section.
+         */
+        public double getDouble() throws FormatException {
+            require(Double.BYTES);
+            return this.buffer.getDouble();
+        }
+
+        /**
+         * Reads an enum constant written by its ordinal.
+         * 
+         * @param <E> The type of the enum.
+         * @param values The constants of the enum, as returned by `values()`.
+         * @return The enum constant.
+         * @throws FormatException If the value is beyond the current record or section, or the ordinal is unknown.
+         */
+        public <E extends Enum<E>> E getEnum(E[] values) throws FormatException {
+            int ordinal = Byte.toUnsignedInt(getByte());
+            if (ordinal >= values.length) {
+                throw new FormatException("Saved game has an unknown " + values.getClass().getComponentType().getSimpleName() + "!");
+            }
+            return values[ordinal];
+        }
+
+        /**
+         * Checks that the given number of bytes can be read within the current record or section.
+         * 
+         * @param bytes The number of bytes to be read.
+         * @throws FormatException If the bytes are beyond the current record or section.
+         */
+        private void require(int bytes) throws FormatException {
+            int end = (this.recordEnd >= 0) ? this.recordEnd : this.sectionEnd;
+            if (end < 0 || end - this.buffer.position() < bytes) {
+                throw new FormatException("Saved game record is truncated!");
+            }
+        }
+    }
+}
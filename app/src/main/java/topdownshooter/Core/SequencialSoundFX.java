@@ -34,25 +34,19 @@ import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
-
-import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
-import javax.sound.sampled.LineEvent;
 
 /**
  * @class SequencialSoundFX
  * @brief A class that plays a sequence of sound effects.
  * 
- * This class preloads a list of sound files and plays them sequentially.
- * It supports serialization but ensures that sound clips are reloaded upon deserialization.
+ * This class preloads a list of sound files and plays them sequentially through the AudioEngine.
+ * It supports serialization but ensures that sounds are reloaded upon deserialization.
  */
 public class SequencialSoundFX implements Serializable{
     private List<String> paths = null;              /**< The list of sound file paths. */
-    private transient List<Clip> clips = null;      /**< The list of preloaded sound clips. */
+    private transient List<short[]> sounds = null;  /**< The list of decoded sounds, shared with the engine. */
+    private transient int voiceId = -1;             /**< Id of the engine voice playing the current sound. */
     private int currentSoundIndex = 0;              /**< The index of the current sound being played. */
-    private AtomicBoolean isPlaying;                /**< Atomic flag to check if a sound is currently playing. */
 
     /**
      * Constructs a SequencialSoundFX instance with a list of sound file paths.
@@ -61,73 +55,37 @@ public class SequencialSoundFX implements Serializable{
      */
     public SequencialSoundFX(List<String> paths) {
         this.paths = paths;
-        this.isPlaying = new AtomicBoolean(false);
-
-        // Preload all the sound files
-        this.clips = new ArrayList<>();
-        for (String path : this.paths) {
-            clips.add(loadSound(path));
-        }
+        loadSounds();
     }
 
     /**
-     * Loads a sound file from the given path.
-     * 
-     * @param path The path of the sound file.
-     * @return The loaded Clip object, or null if loading fails.
+     * Loads all the sound files. Sounds that cannot be loaded are skipped.
      */
-    private Clip loadSound(String path) {
-        Clip clip = null;
-        try {
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(getClass().getClassLoader().getResourceAsStream(path));
-
-            // Get a clip to play the sound
-            clip = AudioSystem.getClip();
-            clip.open(audioStream);
-        } catch (Exception e) {
-            e.printStackTrace();
+    private void loadSounds() {
+        this.sounds = new ArrayList<>();
+        for (String path : this.paths) {
+            short[] sound = AudioEngine.getInstance().load(path);
+            if (sound != null) this.sounds.add(sound);
         }
-        return clip;
+        this.voiceId = -1;
+        this.currentSoundIndex = 0;
     }
 
     /**
      * Updates the sound system and plays the next sound if no sound is currently playing.
      */
     public void update() {
-        if (this.clips.isEmpty() || this.isPlaying.get()) return;
-
-        new Thread(this::play).start();
-    }
+        if (this.sounds.isEmpty()) return;
 
-    /**
-     * Plays the current sound and moves to the next in the sequence.
-     */
-    private void play() {
-        if (this.clips.isEmpty()) return;
-
-        Clip clip = this.clips.get(currentSoundIndex);
-
-        synchronized (this) {
-            if (this.isPlaying.get()) return;
-            this.isPlaying.set(true);
-        }
+        AudioEngine engine = AudioEngine.getInstance();
+        if (engine.isPlaying(this.voiceId)) return;
 
-        clip.setFramePosition(0); // Rewind the clip
-        clip.start();
-        
-        clip.addLineListener(event -> {
-            if (event.getType() == LineEvent.Type.STOP) {
-                synchronized (this) {
-                    isPlaying.set(false);
-                }
-            }
-        });
-
-        this.currentSoundIndex = (this.currentSoundIndex + 1) % this.clips.size();
+        this.voiceId = engine.play(this.sounds.get(this.currentSoundIndex), false, 0, 0);
+        this.currentSoundIndex = (this.currentSoundIndex + 1) % this.sounds.size();
     }
 
     /**
-     * Custom deserialization method to reload sound clips after loading from a saved state.
+     * Custom deserialization method to reload sounds after loading from a saved state.
      * 
      * @param in The object input stream.
      * @throws IOException If an I/O error occurs.
@@ -135,11 +93,6 @@ public class SequencialSoundFX implements Serializable{
      */
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
-
-        // Preload all the sound files
-        this.clips = new ArrayList<>();
-        for (String path : this.paths) {
-            this.clips.add(loadSound(path));
-        }
+        loadSounds();
     }
 }
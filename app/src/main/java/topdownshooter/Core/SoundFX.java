@@ -33,26 +33,23 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
 
-import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
-import javax.sound.sampled.FloatControl;
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
-
 /**
  * @class SoundFX
  * @brief A class for handling sound effects.
  * 
- * This class loads and plays sound files using Java's Clip API. It supports 
+ * This class plays sound files through the shared AudioEngine. It supports 
  * functionalities such as playing, stopping, pausing, resuming, looping, 
- * fading out, and delayed playback.
+ * fading out, and delayed playback. The sound file is decoded once by the engine 
+ * and shared by all sound effects using it, and none of the calls start a thread.
+ * 
+ * One-shot sounds can overlap, e.g. rapid fire of a weapon, within the polyphony of the engine.
+ * Stopping, pausing and fading out apply to the sound played last.
  */
 public class SoundFX implements Serializable{
     private String path;                            /**< Path to the sound file. */
-    private transient Clip clip;                    /**< The audio clip used for playback. */
-    private transient FloatControl volumeControl;   /**< Control for adjusting the volume. */
-    private long lastClipPosition = 0;              /**< Stores the paused position of the clip. */
+    private transient short[] samples;              /**< Decoded samples of the sound file, shared with the engine. */
+    private transient int voiceId = -1;             /**< Id of the engine voice playing the sound last. */
+    private int lastFramePosition = 0;              /**< Stores the paused position of the sound. */
 
     /**
      * Constructs a SoundFX object with the specified sound file path.
@@ -64,17 +61,11 @@ public class SoundFX implements Serializable{
     }
 
     /**
-     * Initializes the audio clip by loading the sound file.
+     * Initializes the sound by loading the decoded sound file from the engine.
      */
     private void initializeClip() {
-        try {
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(getClass().getClassLoader().getResourceAsStream(this.path));
-            this.clip = AudioSystem.getClip();
-            this.clip.open(audioStream);
-            this.volumeControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            e.printStackTrace();
-        }
+        this.samples = AudioEngine.getInstance().load(this.path);
+        this.voiceId = -1;
     }
 
     /**
@@ -82,48 +73,17 @@ public class SoundFX implements Serializable{
      * @param fadeOutDurationMs The duration (in milliseconds) for the fade-out effect.
      */
     private void fadeOutStop(int fadeOutDurationMs) {
-        if (this.clip != null && this.clip.isRunning()) {
-            new Thread(() -> {
-                float minVolume = volumeControl.getMinimum();
-                float currentVolume = volumeControl.getValue();
-                int steps = 30; // Number of steps in fade-out
-                int stepDelay = fadeOutDurationMs / steps;
-
-                for (int i = 0; i < steps; i++) {
-                    currentVolume -= (currentVolume - minVolume) / (steps - i);
-                    currentVolume = Math.max(currentVolume, minVolume); // Prevent volume going below min
-                    volumeControl.setValue(currentVolume);
-
-                    try {
-                        Thread.sleep(stepDelay);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        e.printStackTrace();
-                    }
-                }
-                
-                this.clip.stop(); // Stop music after fade-out
-                this.clip.setFramePosition(0); // Reset for next play
-                this.lastClipPosition = 0;
-            }).start();
-        }
+        AudioEngine.getInstance().fadeOut(this.voiceId, fadeOutDurationMs);
+        this.lastFramePosition = 0;
     }
 
     /**
      * Stops the audio playback immediately.
      */
     public void stop() {
-        if (this.clip != null) {
-            if (this.clip.isRunning()) {
-                this.clip.stop(); // Stop the music immediately
-            }
-            this.clip.setFramePosition(0); // Reset to the beginning for the next play
-    
-            // Release resources
-            //this.clip.close();
-            //this.clip = null;
-        }
-        this.lastClipPosition = 0;
+        AudioEngine.getInstance().stop(this.voiceId);
+        this.voiceId = -1;
+        this.lastFramePosition = 0;
     }
 
     /**
@@ -131,21 +91,7 @@ public class SoundFX implements Serializable{
      * @param loop If true, the sound will loop continuously.
      */
     public void play(boolean loop) {
-        if (this.clip != null) {
-            new Thread(() -> {
-                if (this.lastClipPosition > 0) {
-                    clip.setMicrosecondPosition(this.lastClipPosition); // Resume from paused position                
-                } else {
-                    this.clip.setFramePosition(0); // Start from beginning
-                }
-
-                if (loop) {
-                    this.clip.loop(Clip.LOOP_CONTINUOUSLY);
-                } else {
-                    this.clip.start();
-                }
-            }).start();
-        }
+        start(loop, 0, this.lastFramePosition);  // Resume from paused position, if any
     }
 
     /**
@@ -154,16 +100,7 @@ public class SoundFX implements Serializable{
      * @param fadeOutDurationMs The duration (in milliseconds) of the fade-out effect.
      */
     public void play(boolean loop, int fadeOutDurationMs) {
-        if (this.clip != null) {
-            new Thread(() -> {
-                this.clip.setFramePosition(0); // Start from beginning
-                if (loop) {
-                    this.clip.loop(Clip.LOOP_CONTINUOUSLY);
-                } else {
-                    this.clip.start();
-                }
-            }).start();
-        }
+        start(loop, 0, 0);
 
         if (fadeOutDurationMs > 0) {
             fadeOutStop(fadeOutDurationMs);
@@ -176,42 +113,40 @@ public class SoundFX implements Serializable{
      * @param delayDurationMS The delay time in milliseconds before playback starts.
      */
     public void delayedPlay(boolean loop, int delayDurationMS) {
-
-        if (this.clip != null && !this.clip.isRunning()) {
-            new Thread(() -> {
-                try {
-                    if (this.lastClipPosition > 0) {
-                        clip.setMicrosecondPosition(this.lastClipPosition); // Resume from paused position                
-                    } else {
-                        this.clip.setFramePosition(0); // Start from beginning
-                    }
-
-                    Thread.sleep(delayDurationMS); // Delay of 1 second before playing the next sound
-
-                    if (loop) {
-                        this.clip.loop(Clip.LOOP_CONTINUOUSLY);
-                    } else {
-                        this.clip.start();
-                    }
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-            }).start();
+        if (!AudioEngine.getInstance().isPlaying(this.voiceId)) {
+            start(loop, delayDurationMS, this.lastFramePosition);
         }
     }
 
     /**
      * Pauses the sound playback.
      * 
-     * Stores the current position of the clip so playback can be resumed.
+     * Stores the current position of the sound so playback can be resumed.
      */
     public void pause() {
-        if (this.clip != null && this.clip.isRunning()) {
-            this.lastClipPosition = this.clip.getMicrosecondPosition(); // Save current position
-            this.clip.stop();
+        AudioEngine engine = AudioEngine.getInstance();
+        if (engine.isPlaying(this.voiceId)) {
+            this.lastFramePosition = engine.stop(this.voiceId); // Save current position
+            this.voiceId = -1;
         }
     }
 
+    /**
+     * Starts playing the sound on a new voice of the engine.
+     * @param loop If true, the sound will loop continuously.
+     * @param delayMs The delay in milliseconds before playback starts.
+     * @param startFrame The frame the playback starts from.
+     */
+    private void start(boolean loop, int delayMs, int startFrame) {
+        AudioEngine engine = AudioEngine.getInstance();
+        if (loop || startFrame > 0) {
+            engine.stop(this.voiceId);  // Looping and resumed sounds are never played twice
+        }
+
+        this.voiceId = engine.play(this.samples, loop, delayMs, startFrame);
+        this.lastFramePosition = 0;
+    }
+
     /**
      * Handles object deserialization and reinitializes the audio clip.
      * @param in The object input stream.
@@ -220,14 +155,6 @@ public class SoundFX implements Serializable{
      */
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
-        try {
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(getClass().getClassLoader().getResourceAsStream(this.path));
-            this.clip = AudioSystem.getClip();
-            this.clip.open(audioStream);
-
-            this.volumeControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            e.printStackTrace();
-        }
+        initializeClip();
     }
 }
@@ -0,0 +1,304 @@
+/*
+ * @file SpatialHashGrid.java
+ * @brief This file defines the `SpatialHashGrid` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @class SpatialHashGrid
+ * @brief Uniform spatial hash grid used as a broadphase for collision checks.
+ * 
+ * The world is divided into square cells of a fixed size and every inserted item is 
+ * registered to each cell its bounding box overlaps. Cells are hashed into a fixed number 
+ * of buckets, so the grid does not depend on the size of the playground. A query returns 
+ * only the items whose bounding boxes overlap the queried area, which are the candidates 
+ * for the exact (narrowphase) collision check.
+ * 
+ * The grid is intended to be rebuilt every game tick: `clear()` followed by `insert()` 
+ * calls. Internal storage is kept between rebuilds, hence no allocation is done once the 
+ * storage grows to the required size. Query results are always returned in insertion 
+ * order, so the outcome of a collision check does not depend on the layout of the grid.
+ * 
+ * @param <T> Type of the items stored in the grid.
+ */
+public class SpatialHashGrid<T> {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final int cellSize;                 /**< Width and height of a cell in pixels. */
+    private final int bucketMask;               /**< Mask to map a cell hash to a bucket index. */
+    private final int[] bucketHeads;            /**< Index of the first cell entry of each bucket (-1 if empty). */
+
+    private Object[] items;                     /**< Inserted items by insertion index. */
+    private int[] minXs, minYs, maxXs, maxYs;   /**< Bounding boxes of the inserted items by insertion index. */
+    private int[] marks;                        /**< Query stamp of each item, used to report an item only once per query. */
+    private int itemCount = 0;                  /**< Number of inserted items. */
+
+    private int[] entryItems;                   /**< Item index of each cell entry. */
+    private int[] entryNexts;                   /**< Next cell entry in the same bucket (-1 if last). */
+    private int entryCount = 0;                 /**< Number of cell entries. */
+
+    private int[] hits;                         /**< Item indices collected by the active query. */
+    private int hitCount = 0;                   /**< Number of item indices collected by the active query. */
+    private int queryStamp = 0;                 /**< Stamp of the active query. */
+
+    /**
+     * Constructs a SpatialHashGrid with the given cell size and bucket count.
+     * 
+     * @param cellSize Width and height of a cell in pixels.
+     * @param bucketCount Number of hash buckets. It is rounded up to the nearest power of two.
+     */
+    public SpatialHashGrid(int cellSize, int bucketCount) {
+        if (cellSize <= 0) throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        if (bucketCount <= 0) throw new IllegalArgumentException("Bucket count must be positive: " + bucketCount);
+
+        int buckets = Integer.highestOneBit(bucketCount);
+        if (buckets < bucketCount) buckets <<= 1;
+
+        this.cellSize = cellSize;
+        this.bucketMask = buckets - 1;
+        this.bucketHeads = new int[buckets];
+        Arrays.fill(this.bucketHeads, -1);
+
+        this.items = new Object[INITIAL_CAPACITY];
+        this.minXs = new int[INITIAL_CAPACITY];
+        this.minYs = new int[INITIAL_CAPACITY];
+        this.maxXs = new int[INITIAL_CAPACITY];
+        this.maxYs = new int[INITIAL_CAPACITY];
+        this.marks = new int[INITIAL_CAPACITY];
+        this.entryItems = new int[INITIAL_CAPACITY];
+        this.entryNexts = new int[INITIAL_CAPACITY];
+        this.hits = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Removes all items from the grid. Internal storage is kept for the next rebuild.
+     */
+    public void clear() {
+        Arrays.fill(this.bucketHeads, -1);
+        Arrays.fill(this.items, 0, this.itemCount, null);
+        this.itemCount = 0;
+        this.entryCount = 0;
+        this.hitCount = 0;
+    }
+
+    /**
+     * Inserts an item with the given bounding box into the grid.
+     * 
+     * @param item The item to insert.
+     * @param bounds The bounding box of the item.
+     */
+    public void insert(T item, Rectangle bounds) {
+        insert(item, bounds.x, bounds.y, bounds.x + bounds.width, bounds.y + bounds.height);
+    }
+
+    /**
+     * Inserts an item with the given bounding box into the grid.
+     * 
+     * @param item The item to insert.
+     * @param minX The minimum X coordinate of the bounding box.
+     * @param minY The minimum Y coordinate of the bounding box.
+     * @param maxX The maximum X coordinate of the bounding box.
+     * @param maxY The maximum Y coordinate of the bounding box.
+     */
+    public void insert(T item, int minX, int minY, int maxX, int maxY) {
+        if (this.itemCount == this.items.length) growItems();
+
+        int itemIndex = this.itemCount++;
+        this.items[itemIndex] = item;
+        this.minXs[itemIndex] = minX;
+        this.minYs[itemIndex] = minY;
+        this.maxXs[itemIndex] = maxX;
+        this.maxYs[itemIndex] = maxY;
+        this.marks[itemIndex] = 0;
+
+        int minCellX = toCell(minX), maxCellX = toCell(maxX);
+        int minCellY = toCell(minY), maxCellY = toCell(maxY);
+        for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                if (this.entryCount == this.entryItems.length) growEntries();
+
+                int bucket = bucketOf(cellX, cellY);
+                int entryIndex = this.entryCount++;
+                this.entryItems[entryIndex] = itemIndex;
+                this.entryNexts[entryIndex] = this.bucketHeads[bucket];
+                this.bucketHeads[bucket] = entryIndex;
+            }
+        }
+    }
+
+    /**
+     * Collects the items whose bounding boxes overlap the given area.
+     * 
+     * @param area The area to query.
+     * @param result The list to fill with the items in insertion order. It is cleared first.
+     */
+    public void query(Rectangle area, List<T> result) {
+        beginQuery();
+        collect(area);
+        endQuery(result);
+    }
+
+    /**
+     * Starts a query which may collect the items of several areas. Each item is 
+     * reported only once, even if it overlaps more than one of the collected areas.
+     * 
+     * @see #collect(Rectangle)
+     * @see #endQuery(List)
+     */
+    public void beginQuery() {
+        this.hitCount = 0;
+        if (++this.queryStamp == Integer.MAX_VALUE) {
+            Arrays.fill(this.marks, 0);
+            this.queryStamp = 1;
+        }
+    }
+
+    /**
+     * Collects the items whose bounding boxes overlap the given area into the active query.
+     * 
+     * @param area The area to query.
+     */
+    public void collect(Rectangle area) {
+        collect(area.x, area.y, area.x + area.width, area.y + area.height);
+    }
+
+    /**
+     * Collects the items whose bounding boxes overlap the given area into the active query.
+     * 
+     * @param minX The minimum X coordinate of the area.
+     * @param minY The minimum Y coordinate of the area.
+     * @param maxX The maximum X coordinate of the area.
+     * @param maxY The maximum Y coordinate of the area.
+     */
+    public void collect(int minX, int minY, int maxX, int maxY) {
+        int minCellX = toCell(minX), maxCellX = toCell(maxX);
+        int minCellY = toCell(minY), maxCellY = toCell(maxY);
+        for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (int entryIndex = this.bucketHeads[bucketOf(cellX, cellY)]; entryIndex >= 0; entryIndex = this.entryNexts[entryIndex]) {
+                    int itemIndex = this.entryItems[entryIndex];
+                    if (this.marks[itemIndex] == this.queryStamp) continue;
+                    // Buckets may contain items of other cells, so bounding boxes are always checked
+                    if (this.maxXs[itemIndex] < minX || this.minXs[itemIndex] > maxX ||
+                        this.maxYs[itemIndex] < minY || this.minYs[itemIndex] > maxY) continue;
+
+                    this.marks[itemIndex] = this.queryStamp;
+                    if (this.hitCount == this.hits.length) this.hits = Arrays.copyOf(this.hits, this.hits.length * 2);
+                    this.hits[this.hitCount++] = itemIndex;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finishes the active query and returns the collected items.
+     * 
+     * @param result The list to fill with the items in insertion order. It is cleared first.
+     */
+    @SuppressWarnings("unchecked")
+    public void endQuery(List<T> result) {
+        result.clear();
+        Arrays.sort(this.hits, 0, this.hitCount);
+        for (int i = 0; i < this.hitCount; i++) {
+            result.add((T) this.items[this.hits[i]]);
+        }
+        this.hitCount = 0;
+    }
+
+    /**
+     * Finishes the active query without resolving the items, for callers which keep their 
+     * items in arrays by insertion order (the items may even be inserted as null). The 
+     * insertion indices are read with getQueryIndex() until the next query begins.
+     * 
+     * @return The number of collected items.
+     * @see #getQueryIndex(int)
+     */
+    public int endQueryIndices() {
+        Arrays.sort(this.hits, 0, this.hitCount);
+        int count = this.hitCount;
+        this.hitCount = 0;
+        return count;
+    }
+
+    /**
+     * Returns the insertion index of an item collected by the last query finished with endQueryIndices().
+     * 
+     * @param i The position of the item in the query result, in ascending insertion order.
+     * @return The insertion index of the item.
+     */
+    public int getQueryIndex(int i) {
+        return this.hits[i];
+    }
+
+    /**
+     * Returns the number of items in the grid.
+     * 
+     * @return The number of items.
+     */
+    public int size() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the cell size of the grid.
+     * 
+     * @return The cell size in pixels.
+     */
+    public int getCellSize() {
+        return this.cellSize;
+    }
+
+    private int toCell(int coordinate) {
+        return Math.floorDiv(coordinate, this.cellSize);
+    }
+
+    private int bucketOf(int cellX, int cellY) {
+        int hash = cellX * 0x9E3779B1 ^ cellY * 0x85EBCA77;
+        return (hash ^ (hash >>> 16)) & this.bucketMask;
+    }
+
+    private void growItems() {
+        int capacity = this.items.length * 2;
+        this.items = Arrays.copyOf(this.items, capacity);
+        this.minXs = Arrays.copyOf(this.minXs, capacity);
+        this.minYs = Arrays.copyOf(this.minYs, capacity);
+        this.maxXs = Arrays.copyOf(this.maxXs, capacity);
+        this.maxYs = Arrays.copyOf(this.maxYs, capacity);
+        this.marks = Arrays.copyOf(this.marks, capacity);
+    }
+
+    private void growEntries() {
+        int capacity = this.entryItems.length * 2;
+        this.entryItems = Arrays.copyOf(this.entryItems, capacity);
+        this.entryNexts = Arrays.copyOf(this.entryNexts, capacity);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * @file SpawnSchedule.java
+ * @brief This file defines the `SpawnSchedule` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package topdownshooter.Core;
+
+import java.io.Serializable;
+import java.util.Random;
+
+/**
+ * @class SpawnSchedule
+ * @brief Precomputed spawn timeline of a wave: the tick and the edge position of each zombie.
+ * 
+ * The zombies of a wave are spread evenly over the wave duration. If they would spawn more 
+ * often than the minimum burst interval (large waves), they are grouped into bursts which spawn 
+ * in the same tick from the same edge of the playground, and the bursts are spread evenly instead.
+ * 
+ * Positions are kept as an edge and an offset along the edge, so they are mapped to the 
+ * playground size at the time of the spawn. The timeline is generated from a seed, hence it 
+ * is restored from the seed instead of being saved.
+ * 
+ * @see GameLevel
+ */
+final class SpawnSchedule implements Serializable {
+    static final int EDGE_TOP = 0;              /**< Spawns on the top edge. */
+    static final int EDGE_BOTTOM = 1;           /**< Spawns on the bottom edge. */
+    static final int EDGE_LEFT = 2;             /**< Spawns on the left edge. */
+    static final int EDGE_RIGHT = 3;            /**< Spawns on the right edge. */
+
+    private final int[] ticks;                  /**< Wave tick of each spawn, in ascending order. */
+    private final byte[] edges;                 /**< Playground edge of each spawn. */
+    private final float[] offsets;              /**< Position of each spawn along its edge, in [0, 1). */
+    private final int burstSize;                /**< Number of zombies spawned together. */
+
+    /**
+     * Generates the spawn timeline of a wave.
+     * 
+     * @param count The number of zombies of the wave.
+     * @param waveTicks The duration of the wave in game ticks.
+     * @param minBurstInterval The minimum number of game ticks between two bursts.
+     * @param seed The seed of the spawn positions.
+     * @throws IllegalArgumentException If a parameter is negative.
+     */
+    SpawnSchedule(int count, int waveTicks, int minBurstInterval, long seed) {
+        if (count < 0 || waveTicks < 0 || minBurstInterval < 0) {
+            throw new IllegalArgumentException("Spawn schedule parameters cannot be negative!");
+        }
+
+        this.ticks = new int[count];
+        this.edges = new byte[count];
+        this.offsets = new float[count];
+        if (count == 0) {
+            this.burstSize = 0;
+            return;
+        }
+
+        // Enough zombies per burst that bursts are not closer than the minimum interval
+        long burstSize = (waveTicks == 0) ? count : ((long) count * minBurstInterval + waveTicks - 1) / waveTicks;
+        this.burstSize = (int) Math.max(1, Math.min(count, burstSize));
+        int burstCount = (count + this.burstSize - 1) / this.burstSize;
+
+        Random random = new Random(seed);
+        for (int burst = 0; burst < burstCount; burst++) {
+            int tick = (int) ((long) (burst + 1) * waveTicks / burstCount);
+            byte edge = (byte) random.nextInt(4);
+
+            int end = Math.min(count, (burst + 1) * this.burstSize);
+            for (int i = burst * this.burstSize; i < end; i++) {
+                this.ticks[i] = tick;
+                this.edges[i] = edge;
+                this.offsets[i] = random.nextFloat();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of spawns.
+     * 
+     * @return The number of zombies of the wave.
+     */
+    int size() {
+        return this.ticks.length;
+    }
+
+    /**
+     * Returns the number of zombies spawned together.
+     * 
+     * @return The burst size, 1 if zombies spawn one by one.
+     */
+    int getBurstSize() {
+        return this.burstSize;
+    }
+
+    /**
+     * Returns the wave tick of a spawn.
+     * 
+     * @param i The index of the spawn.
+     * @return The wave tick at which the zombie spawns.
+     */
+    int getTick(int i) {
+        return this.ticks[i];
+    }
+
+    /**
+     * Returns the x-coordinate of a spawn.
+     * 
+     * @param i The index of the spawn.
+     * @param maxWidth The width of the playground.
+     * @return The x-coordinate.
+     */
+    int getX(int i, int maxWidth) {
+        return switch (this.edges[i]) {
+            case EDGE_LEFT -> 0;
+            case EDGE_RIGHT -> maxWidth;
+            default -> (int) (this.offsets[i] * maxWidth);
+        };
+    }
+
+    /**
+     * Returns the y-coordinate of a spawn.
+     * 
+     * @param i The index of the spawn.
+     * @param maxHeight The height of the playground.
+     * @return The y-coordinate.
+     */
+    int getY(int i, int maxHeight) {
+        return switch (this.edges[i]) {
+            case EDGE_TOP -> 0;
+            case EDGE_BOTTOM -> maxHeight;
+            default -> (int) (this.offsets[i] * maxHeight);
+        };
+    }
+}
@@ -29,34 +29,31 @@
 
 package topdownshooter.Core;
 
-import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 
-import javax.imageio.ImageIO;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.Objects;
 
 /**
  * @class SpriteAnimation
  * @brief Class to handle sprite-based animation using a sprite sheet.
  * 
- * This class loads a sprite sheet, preloads individual frames from it, and
+ * This class obtains the preloaded frames of a sprite sheet from `SpriteSheetCache`, and
  * manages frame updates, animation speed, repeat count, and drawing the 
- * animation with rotation.
+ * animation with rotation. The frames are shared between all animations of the same
+ * sprite sheet, so an instance only holds its own playback state. If the rotated frame 
+ * cache is enabled, the frames are drawn pre-scaled and pre-rotated.
  * The animation frames are drawn sequentially with a specified delay between 
  * each frame.
  *  
  * @see SpriteAnimationStruct
+ * @see SpriteSheetCache
+ * @see RotatedFrameCache
  */
 public class SpriteAnimation implements Serializable{
     private SpriteAnimationStruct struct = null;        /**< Structure holding the metadata of the sprite animation. */
-    private transient BufferedImage spriteSheet = null; /**<The sprite sheet image containing the frames. */
-    private transient BufferedImage[] subFrames = null; /**< Preloaded animation frames. */
-    private int frameWidth = 0, frameHeight = 0;        /**< Size of each frame in sprite sheet. */
+    private transient BufferedImage[] subFrames = null; /**< Preloaded animation frames (shared, read-only). */
     private int totalFrames;                            /**< Total number of frames in the sprite sheet. */
     private int currentFrame = 0;                       /**< Current animation frame. */
     private int frameDelay;                             /**< Delay before switching frames. */
@@ -110,50 +107,45 @@ public class SpriteAnimation implements Serializable{
     /**
      * Constructor that initializes the sprite animation from a given struct.
      * 
+     * The frames are retrieved from the shared sprite sheet cache, so the sprite sheet 
+     * is decoded only for the first animation of each struct.
+     * 
      * @param struct The metadata struct that defines the sprite sheet properties.
-     * @throws IOException If there's an error loading the sprite sheet image.
      */
     public SpriteAnimation(SpriteAnimationStruct struct) {
-        try {
-            this.struct = struct;
-            this.spriteSheet = ImageIO.read(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(this.struct.imagePath)));
-            this.totalFrames = this.struct.totalFrames;
-            this.frameDelay = this.struct.frameDelay;
-            this.rows = this.struct.rows;
-            this.columns = this.struct.columns;
-            this.offsetX = this.struct.xOffset;
-            this.offsetY = this.struct.yOffset;
-            this.defaultDelay = this.struct.defaultDelay;
-            this.delay = this.struct.defaultDelay;
-            this.rOffset = this.struct.rOffset;
+        this.struct = struct;
+        this.totalFrames = this.struct.totalFrames;
+        this.frameDelay = this.struct.frameDelay;
+        this.rows = this.struct.rows;
+        this.columns = this.struct.columns;
+        this.offsetX = this.struct.xOffset;
+        this.offsetY = this.struct.yOffset;
+        this.defaultDelay = this.struct.defaultDelay;
+        this.delay = this.struct.defaultDelay;
+        this.rOffset = this.struct.rOffset;
 
-            setSubFrames();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        setSubFrames();
     }
 
     /**
-     * Preloads all frames from the sprite sheet into the subFrames array.
+     * Retrieves the preloaded frames of the sprite sheet from the shared cache.
      * 
-     * Perform this operation on constructor so that no need to perform this 
-     * operation over and over again since it is bit time consuming.
+     * The sprite sheet is sliced into frames only once per struct, so no need to 
+     * perform this operation over and over again since it is bit time consuming.
      */
     public void setSubFrames() {
-        this.frameWidth = this.spriteSheet.getWidth() / this.columns;
-        this.frameHeight = this.spriteSheet.getHeight() / this.rows;
-        
-        // Preload all frames
-        this.subFrames = new BufferedImage[totalFrames];
-        for (int i = 0; i < totalFrames; i++) {
-            int row = i / columns;
-            int col = i % columns;
-            int frameX = col * frameWidth;
-            int frameY = row * frameHeight;
+        this.subFrames = SpriteSheetCache.getFrames(this.struct);
+    }
 
-            // Extract and store frame
-            this.subFrames[i] = spriteSheet.getSubimage(frameX, frameY, frameWidth, frameHeight);
-        }
+    /**
+     * Rewinds the animation to its first frame and restores the default playback state 
+     * (infinite repeat and default delay), e.g. when a pooled object is reused.
+     */
+    public void reset() {
+        this.currentFrame = 0;
+        this.frameCounter = 0;
+        this.repeatCount = -1;
+        this.delay = this.defaultDelay;
     }
 
     /**
@@ -228,57 +220,70 @@ public class SpriteAnimation implements Serializable{
     }
 
     /**
-     * Draws the current frame of the animation to the screen with rotation.
+     * Adds the current frame of the animation to the frame snapshot with rotation.
      * 
-     * @param g The Graphics object to draw on.
+     * @param snapshot The snapshot builder of the frame.
      * @param x The X position of the sprite.
      * @param y The Y position of the sprite.
      * @param rotation The rotation angle (in radians).
      */
-    public void draw(Graphics g, int x, int y, double rotation) {
+    public void draw(RenderSnapshot.Builder snapshot, int x, int y, double rotation) {
         if (this.repeatCount == 0) return;  // If there is no repeat for the animation do not draw
+        if (this.subFrames == null) return;
 
-        Graphics2D g2d = (Graphics2D) g;
-        AffineTransform oldTransform = g2d.getTransform();
-
-        // Apply transformations (rotation + centering)
-        g2d.translate(x + targetWidth / 2, y + targetHeight / 2);
-        g2d.rotate(rotation+rOffset);
-
-        if (this.subFrames != null) {
-            g2d.drawImage(this.subFrames[this.currentFrame], -this.targetWidth / 2, -this.targetHeight / 2, this.targetWidth, this.targetHeight, null);
-        }
-
-        g2d.setTransform(oldTransform);
+        // Rotate around the center of the target frame
+        snapshot.addRotated(this.subFrames[this.currentFrame], x + this.targetWidth / 2, y + this.targetHeight / 2, rotation + this.rOffset, this.targetWidth, this.targetHeight);
     }
 
     /**
-     * Alternative method for drawing the current frame with a different transformation.
+     * Alternative method for adding the current frame with a different transformation.
      * 
-     * @param g The Graphics object to draw on.
+     * @param snapshot The snapshot builder of the frame.
      * @param x The X position of the sprite.
      * @param y The Y position of the sprite.
      * @param rotation The rotation angle (in radians).
      */
-    public void draw2(Graphics g, int x, int y, double rotation) {
+    public void draw2(RenderSnapshot.Builder snapshot, int x, int y, double rotation) {
         if (this.repeatCount == 0) return;  // If there is no repeat for the animation do not draw
+        if (this.subFrames == null) return;
 
-        Graphics2D g2d = (Graphics2D) g;
-        AffineTransform oldTransform = g2d.getTransform();
+        // Rotate around the given position
+        snapshot.addRotated(this.subFrames[this.currentFrame], x, y, rotation + this.rOffset, this.targetWidth, this.targetHeight);
+    }
 
-        // Apply transformations (rotation + centering)
-        g2d.translate(x, y);
-        g2d.rotate(rotation+this.rOffset);
+    /**
+     * Writes the playback state of the animation to a saved game. The frames are not saved, 
+     * they are restored from the shared sprite sheet cache.
+     * 
+     * @param writer The writer of the saved game.
+     */
+    public void writeState(SaveGame.Writer writer) {
+        writer.putShort(this.currentFrame);
+        writer.putShort(this.frameCounter);
+        writer.putShort(this.repeatCount);
+        writer.putShort(this.delay);
+    }
 
-        if (this.subFrames != null) {
-            g2d.drawImage(this.subFrames[this.currentFrame], -this.targetWidth / 2, -this.targetHeight / 2, this.targetWidth, this.targetHeight, null);
+    /**
+     * Restores the playback state of the animation from a saved game.
+     * 
+     * @param reader The reader of the saved game.
+     * @throws IOException If the state cannot be read, or the frame is not in the sprite sheet.
+     */
+    public void readState(SaveGame.Reader reader) throws IOException {
+        int currentFrame = reader.getShort();
+        if (currentFrame < 0 || currentFrame >= this.totalFrames) {
+            throw new SaveGame.FormatException("Saved animation frame is out of range!");
         }
 
-        g2d.setTransform(oldTransform);
+        this.currentFrame = currentFrame;
+        this.frameCounter = reader.getShort();
+        this.repeatCount = reader.getShort();
+        this.delay = reader.getShort();
     }
 
     /**
-     * Custom deserialization method to reload the sprite sheet and frames after deserialization.
+     * Custom deserialization method to restore the shared frames after deserialization.
      * 
      * @param in The ObjectInputStream used for deserialization.
      * @throws IOException If an error occurs during deserialization.
@@ -286,7 +291,6 @@ public class SpriteAnimation implements Serializable{
      */
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
-        this.spriteSheet = ImageIO.read(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(this.struct.imagePath)));
         setSubFrames();
     }
 }
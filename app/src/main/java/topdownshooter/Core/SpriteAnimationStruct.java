@@ -30,6 +30,7 @@
 package topdownshooter.Core;
 
 import java.io.Serializable;
+import java.util.Objects;
 
 /**
  * @class SpriteAnimationStruct
@@ -135,4 +136,62 @@ public class SpriteAnimationStruct implements Serializable {
         this.rOffset = Globals.degToRad(rOffset);
         this.defaultDelay = defaultDelay;
     }
-}
\ No newline at end of file
+
+    /**
+     * @return The total number of frames in the sprite sheet.
+     */
+    public int getTotalFrames() {
+        return this.totalFrames;
+    }
+
+    /**
+     * @return The delay between frames in the animation (in game ticks).
+     */
+    public int getFrameDelay() {
+        return this.frameDelay;
+    }
+
+    /**
+     * @return The X offset to apply to the sprite.
+     */
+    public int getXOffset() {
+        return this.xOffset;
+    }
+
+    /**
+     * @return The Y offset to apply to the sprite.
+     */
+    public int getYOffset() {
+        return this.yOffset;
+    }
+
+    /**
+     * @return The rotation offset (in radians) to apply to the sprite.
+     */
+    public double getROffset() {
+        return this.rOffset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SpriteAnimationStruct)) return false;
+
+        SpriteAnimationStruct other = (SpriteAnimationStruct) o;
+        return this.totalFrames == other.totalFrames &&
+               this.frameDelay == other.frameDelay &&
+               this.rows == other.rows &&
+               this.columns == other.columns &&
+               this.xOffset == other.xOffset &&
+               this.yOffset == other.yOffset &&
+               Double.compare(this.rOffset, other.rOffset) == 0 &&
+               this.defaultDelay == other.defaultDelay &&
+               Objects.equals(this.imagePath, other.imagePath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.imagePath, this.totalFrames, this.frameDelay, this.rows, this.columns, 
+                            this.xOffset, this.yOffset, this.rOffset, this.defaultDelay);
+    }
+}
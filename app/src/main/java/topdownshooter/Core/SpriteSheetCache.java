@@ -0,0 +1,111 @@
+/*
+ * @file SpriteSheetCache.java
+ * @brief This file defines the `SpriteSheetCache` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * @class SpriteSheetCache
+ * @brief Process-wide cache of decoded and sliced sprite sheet frames.
+ * 
+ * Decoding a sprite sheet and slicing it into sub-frames is expensive, so it is done 
+ * only once per `SpriteAnimationStruct`. The resulting frame arrays are shared between 
+ * all `SpriteAnimation` instances which are created from the same struct. The frames 
+ * must be treated as read-only by the callers.
+ * 
+ * @see SpriteAnimation
+ * @see SpriteAnimationStruct
+ */
+public final class SpriteSheetCache {
+    private static final AssetCache<SpriteAnimationStruct, BufferedImage[]> frames = 
+        new AssetCache<>("Sprite sheet", struct -> struct.imagePath, SpriteSheetCache::slice);  /**< Sliced frames of each sprite sheet. */
+
+    private SpriteSheetCache() {}
+
+    /**
+     * Returns the sliced frames of the sprite sheet described by the struct.
+     * 
+     * The sprite sheet is decoded and sliced on the first request, the following
+     * requests return the same shared array.
+     * 
+     * @param struct The metadata struct that defines the sprite sheet properties.
+     * @return The preloaded animation frames, or null if the sprite sheet cannot be loaded.
+     */
+    public static BufferedImage[] getFrames(SpriteAnimationStruct struct) {
+        return frames.get(struct);
+    }
+
+    /**
+     * Returns the number of sprite sheets decoded since the application started.
+     * 
+     * @return The decode count.
+     */
+    public static long getDecodeCount() {
+        return frames.getDecodeCount();
+    }
+
+    /**
+     * Returns the number of sprite sheets which are held in the cache.
+     * 
+     * @return The number of cached sprite sheets.
+     */
+    public static int size() {
+        return frames.size();
+    }
+
+    /**
+     * Removes all cached frames. Frames which are already referenced by animations stay valid.
+     */
+    public static void clear() {
+        frames.clear();
+    }
+
+    /**
+     * Slices the decoded sprite sheet into sub-frames.
+     * 
+     * @param struct The metadata struct that defines the sprite sheet properties.
+     * @param spriteSheet The decoded sprite sheet.
+     * @return The sliced frames.
+     */
+    private static BufferedImage[] slice(SpriteAnimationStruct struct, BufferedImage spriteSheet) {
+        int frameWidth = spriteSheet.getWidth() / struct.columns;
+        int frameHeight = spriteSheet.getHeight() / struct.rows;
+
+        BufferedImage[] subFrames = new BufferedImage[struct.totalFrames];
+        for (int i = 0; i < struct.totalFrames; i++) {
+            int row = i / struct.columns;
+            int col = i % struct.columns;
+
+            // Extract and store frame
+            subFrames[i] = spriteSheet.getSubimage(col * frameWidth, row * frameHeight, frameWidth, frameHeight);
+        }
+        return subFrames;
+    }
+}
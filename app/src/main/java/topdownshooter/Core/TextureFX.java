@@ -29,24 +29,20 @@
 
 package topdownshooter.Core;
 
-import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.Objects;
-
-import javax.imageio.ImageIO;
 
 /**
  * @class TextureFX
  * @brief A class representing a texture effect for drawing images.
  * 
  * This class handles the loading, updating, and drawing of a texture (image)
- * The texture is loaded from a path specified in a `TextureFXStruct` object passed during
- * initialization.
+ * The texture is obtained from the `TextureRegistry` using the path specified in a `TextureFXStruct` 
+ * object passed during initialization, so the image is decoded only once and shared by all instances.
+ * 
+ * @see TextureRegistry
  */
 public class TextureFX implements Serializable{
     private transient BufferedImage texture = null; /**< The BufferedImage representing the texture to be rendered. */
@@ -60,24 +56,20 @@ public class TextureFX implements Serializable{
 
     /**
      * Constructs a TextureFX object using the given texture metadata structure.
-     * The texture is loaded from the path specified in the struct object.
+     * The texture is obtained from the shared registry using the path specified in the struct object.
      * 
      * @param struct The structure containing metadata about the texture.
      */
     public TextureFX (TextureFXStruct struct) {
-        try {
-            this.struct = struct;
-            this.texture = ImageIO.read(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(struct.path)));
-            if (this.texture != null) {
-                this.targetWidth = this.texture.getWidth();
-                this.targetHeight = this.texture.getHeight();
-                this.offsetX = struct.offsetX;
-                this.offsetY = struct.offsetY;
-                this.defaultDelay = struct.defaultDelay;
-                this.delay = this.defaultDelay;
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
+        this.struct = struct;
+        this.texture = TextureRegistry.get(struct.path);
+        if (this.texture != null) {
+            this.targetWidth = this.texture.getWidth();
+            this.targetHeight = this.texture.getHeight();
+            this.offsetX = struct.offsetX;
+            this.offsetY = struct.offsetY;
+            this.defaultDelay = struct.defaultDelay;
+            this.delay = this.defaultDelay;
         }
     }
     
@@ -92,6 +84,13 @@ public class TextureFX implements Serializable{
         this.targetHeight = height;
     }
 
+    /**
+     * Resets the delay of the texture effect to its default, e.g. when a pooled object is reused.
+     */
+    public void reset() {
+        this.delay = this.defaultDelay;
+    }
+
     /**
      * Updates the delay for the texture effect, decrementing it if it is greater than 0.
      * This is typically called every frame to manage the animation delay.
@@ -101,40 +100,53 @@ public class TextureFX implements Serializable{
     }
 
     /**
-     * Draws the texture on the provided Graphics context at the specified position
+     * Adds the texture to the frame snapshot at the specified position
      * and applies the specified rotation.
      * 
-     * @param g The Graphics context on which to draw the texture.
+     * @param snapshot The snapshot builder of the frame.
      * @param x The X coordinate for the texture's position.
      * @param y The Y coordinate for the texture's position.
      * @param rotation The rotation angle (in radians) to apply to the texture.
      */
-    public void draw(Graphics g, int x, int y, double rotation) {
+    public void draw(RenderSnapshot.Builder snapshot, int x, int y, double rotation) {
         if (this.delay>0) return;
 
-        Graphics2D g2d = (Graphics2D) g;
-        AffineTransform oldTransform = g2d.getTransform();
+        // Texture is restored lazily after deserialization
+        if (this.texture == null) this.texture = TextureRegistry.get(this.struct.path);
 
-        // Apply transformations (rotation + centering)
-        g2d.translate(x, y);
-        g2d.rotate(rotation);
-        g2d.translate(this.offsetX, this.offsetY);
-
-        if (this.texture!=null) g2d.drawImage(this.texture, -this.targetWidth / 2, -this.targetHeight / 2, this.targetWidth, this.targetHeight, null);
+        snapshot.add(this.texture, x, y, rotation, this.offsetX, this.offsetY, this.targetWidth, this.targetHeight);
+    }
 
-        g2d.setTransform(oldTransform);
+    /**
+     * Writes the remaining delay of the effect to a saved game. The texture is not saved, 
+     * it is restored from the shared registry.
+     * 
+     * @param writer The writer of the saved game.
+     */
+    public void writeState(SaveGame.Writer writer) {
+        writer.putShort(this.delay);
+    }
 
+    /**
+     * Restores the remaining delay of the effect from a saved game.
+     * 
+     * @param reader The reader of the saved game.
+     * @throws IOException If the state cannot be read.
+     */
+    public void readState(SaveGame.Reader reader) throws IOException {
+        this.delay = reader.getShort();
     }
 
     /**
-     * Custom deserialization logic to ensure the texture is reloaded after deserialization.
+     * Custom deserialization logic. The texture is not read here; it is restored from the 
+     * shared registry on the first draw call after deserialization.
      * 
      * @param in The input stream to read from during deserialization.
-     * @throws IOException If an I/O error occurs while reading the texture.
+     * @throws IOException If an I/O error occurs during deserialization.
      * @throws ClassNotFoundException If a class cannot be found during deserialization.
      */
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
-        this.texture = ImageIO.read(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(this.struct.path)));
+        this.texture = null;
     }
 }
@@ -37,12 +37,13 @@ import java.io.Serializable;
  * 
  * This class is used to define the properties of a texture effect, including the path to the texture
  * file, offset values for positioning, and the default delay for rendering the texture.
+ * The structure is immutable, so a single instance can be shared by all the effects using the same texture.
  */
 public class TextureFXStruct implements Serializable {
-    String path;         /**< The path to the texture image file. */
-    int offsetX;         /**< The X offset to apply to the texture's position. */
-    int offsetY;         /**< The Y offset to apply to the texture's position. */
-    int defaultDelay;    /**< The default delay (in frames) for the texture effect before it is rendered again ( 0 means no delay). */
+    final String path;         /**< The path to the texture image file. */
+    final int offsetX;         /**< The X offset to apply to the texture's position. */
+    final int offsetY;         /**< The Y offset to apply to the texture's position. */
+    final int defaultDelay;    /**< The default delay (in frames) for the texture effect before it is rendered again ( 0 means no delay). */
 
     /**
      * Constructs a TextureFXStruct object with specified path, offsets, and delay.
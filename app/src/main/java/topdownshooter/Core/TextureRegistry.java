@@ -0,0 +1,77 @@
+/*
+ * @file TextureRegistry.java
+ * @brief This file defines the `TextureRegistry` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Core;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * @class TextureRegistry
+ * @brief Process-wide registry of decoded textures, keyed by resource path.
+ * 
+ * Each texture is decoded on its first request and the same image is returned for 
+ * all following requests. Once registered, a texture is never replaced, so the images 
+ * can be shared freely between `TextureFX` instances. The images must be treated as 
+ * read-only by the callers.
+ * 
+ * @see TextureFX
+ */
+public final class TextureRegistry {
+    private static final AssetCache<String, BufferedImage> textures = new AssetCache<>("Texture", path -> path, (path, texture) -> texture);  /**< Decoded textures by resource path. */
+
+    private TextureRegistry() {}
+
+    /**
+     * Returns the decoded texture of the given resource path.
+     * 
+     * @param path The path to the texture image file.
+     * @return The shared texture image, or null if the texture cannot be loaded.
+     */
+    public static BufferedImage get(String path) {
+        return textures.get(path);
+    }
+
+    /**
+     * Returns the number of textures decoded since the application started.
+     * 
+     * @return The decode count.
+     */
+    public static long getDecodeCount() {
+        return textures.getDecodeCount();
+    }
+
+    /**
+     * Returns the number of textures which are held in the registry.
+     * 
+     * @return The number of registered textures.
+     */
+    public static int size() {
+        return textures.size();
+    }
+}
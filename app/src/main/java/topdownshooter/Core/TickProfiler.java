@@ -0,0 +1,339 @@
+/*
+ * @file TickProfiler.java
+ * @brief This file defines the `TickProfiler` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package topdownshooter.Core;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * @class TickProfiler
+ * @brief Records the time spent in each phase of the game ticks and frames.
+ * 
+ * Each game tick is a row of a ring buffer, which keeps the duration of the phases and the 
+ * number of game objects of the latest game ticks. Frame phases are recorded into the row of 
+ * the game tick they follow; a phase which is not run in a game tick is left empty.
+ * 
+ * The rows are written by the game loop thread, and the frames may be painted on EDT. Neither 
+ * writers nor readers lock: a row is published by advancing the row count, and a reader 
+ * may see the oldest row while it is being overwritten, so the statistics are approximate.
+ */
+public class TickProfiler {
+    /**
+     * @enum Phase
+     * @brief Measured phases of a game tick and a frame.
+     */
+    public enum Phase {
+        TIMERS("Timers"),                   /**< Advancing the timing wheel, including the timer actions (e.g. firing). */
+        PLAYER("Player"),                   /**< Updating the player. */
+        LEVEL("Level"),                     /**< Updating the level and spawning zombies. */
+        ZOMBIES("Zombies"),                 /**< Updating the zombies. */
+        PROJECTILES("Projectiles"),         /**< Updating the projectiles. */
+        LOOTS("Loots"),                     /**< Updating the loots. */
+        COLLISIONS("Collisions"),           /**< Checking the collisions. */
+        BLASTS("Blasts"),                   /**< Updating the blast effects. */
+        AUTOSAVE("Autosave"),               /**< Taking the autosave snapshot. */
+        TICK("Tick"),                       /**< The whole game tick. */
+        SNAPSHOT("Snapshot"),               /**< Building the render snapshot. */
+        GAME_INFO("Game info"),             /**< Capturing the game information. */
+        PAINT("Paint");                     /**< Drawing the frame. */
+
+        private final String label;         /**< Label of the phase in the overlay and the export. */
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Returns the label of the phase.
+         * @return The label.
+         */
+        public String getLabel() {
+            return this.label;
+        }
+    }
+
+    /**
+     * @enum Counter
+     * @brief Counted game objects at the end of a game tick.
+     */
+    public enum Counter {
+        ZOMBIES,
+        PROJECTILES,
+        LOOTS,
+        BLASTS,
+        TIMERS,
+    }
+
+    /**
+     * @brief Distribution of the duration of a phase over the kept game ticks.
+     * 
+     * @param phase The phase.
+     * @param count The number of game ticks in which the phase is run.
+     * @param p50Nanos The median duration in nanoseconds.
+     * @param p95Nanos The 95th percentile of the duration in nanoseconds.
+     * @param p99Nanos The 99th percentile of the duration in nanoseconds.
+     * @param maxNanos The longest duration in nanoseconds.
+     */
+    public record PhaseStats(Phase phase, int count, long p50Nanos, long p95Nanos, long p99Nanos, long maxNanos) {}
+
+    private static final Phase[] PHASES = Phase.values();          /**< Measured phases. */
+    private static final Counter[] COUNTERS = Counter.values();    /**< Counted game objects. */
+    private static final int EMPTY = -1;                /**< Duration of a phase which is not run in the game tick. */
+
+    private final int capacity;                         /**< Number of rows of the ring buffer. */
+    private final long[] ticks;                         /**< Game tick of each row. */
+    private final int[] durations;                      /**< Duration of each phase in nanoseconds, row by row. */
+    private final int[] counts;                         /**< Count of each counter, row by row. */
+    private volatile long rowCount = 0;                 /**< Number of rows started, the last one is the current row. */
+
+    /**
+     * Creates a profiler which keeps the latest game ticks.
+     * 
+     * @param sampleCount The number of game ticks kept.
+     * @throws IllegalArgumentException If the sample count is not positive.
+     */
+    public TickProfiler(int sampleCount) {
+        if (sampleCount <= 0) {
+            throw new IllegalArgumentException("Sample count of the profiler must be positive!");
+        }
+
+        // One more row than the kept game ticks for the current one
+        this.capacity = sampleCount + 1;
+        this.ticks = new long[this.capacity];
+        this.durations = new int[this.capacity * PHASES.length];
+        this.counts = new int[this.capacity * COUNTERS.length];
+    }
+
+    /**
+     * Returns the current time for measuring a phase.
+     * 
+     * @return The current value of the timer in nanoseconds.
+     */
+    public static long now() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Starts the row of a game tick. The previous row is completed. Called by the game loop thread.
+     * 
+     * @param tick The game tick.
+     */
+    public void beginTick(long tick) {
+        long rowCount = this.rowCount;
+        int row = (int) (rowCount % this.capacity);
+        this.ticks[row] = tick;
+        Arrays.fill(this.durations, row * PHASES.length, (row + 1) * PHASES.length, EMPTY);
+        Arrays.fill(this.counts, row * COUNTERS.length, (row + 1) * COUNTERS.length, 0);
+        this.rowCount = rowCount + 1;
+    }
+
+    /**
+     * Adds the duration of a phase to the current game tick.
+     * 
+     * @param phase The phase.
+     * @param nanos The duration in nanoseconds.
+     */
+    public void record(Phase phase, long nanos) {
+        long rowCount = this.rowCount;
+        if (rowCount == 0) return;
+
+        int i = (int) ((rowCount - 1) % this.capacity) * PHASES.length + phase.ordinal();
+        long total = Math.max(0, nanos) + Math.max(0, this.durations[i]);
+        this.durations[i] = (int) Math.min(Integer.MAX_VALUE, total);
+    }
+
+    /**
+     * Records the duration of a phase which started at the given time, and returns the current time, 
+     * so consecutive phases are measured with a single timer read.
+     * 
+     * @param phase The phase.
+     * @param start The start time of the phase in nanoseconds.
+     * @return The current time in nanoseconds.
+     */
+    public long mark(Phase phase, long start) {
+        long now = now();
+        record(phase, now - start);
+        return now;
+    }
+
+    /**
+     * Sets a counter of the current game tick.
+     * 
+     * @param counter The counter.
+     * @param count The number of objects.
+     */
+    public void setCount(Counter counter, int count) {
+        long rowCount = this.rowCount;
+        if (rowCount == 0) return;
+
+        this.counts[(int) ((rowCount - 1) % this.capacity) * COUNTERS.length + counter.ordinal()] = count;
+    }
+
+    /**
+     * Returns the duration of a phase of the current game tick, which is still being recorded.
+     * 
+     * @param phase The phase.
+     * @return The duration in nanoseconds, 0 if the phase is not run in the game tick.
+     */
+    public long getDuration(Phase phase) {
+        long rowCount = this.rowCount;
+        if (rowCount == 0) return 0;
+
+        return Math.max(0, this.durations[(int) ((rowCount - 1) % this.capacity) * PHASES.length + phase.ordinal()]);
+    }
+
+    /**
+     * Returns the number of completed game ticks which are kept.
+     * 
+     * @return The number of completed rows.
+     */
+    public int size() {
+        return (int) Math.min(Math.max(0, this.rowCount - 1), this.capacity - 1);
+    }
+
+    /**
+     * Discards the recorded game ticks.
+     */
+    public void clear() {
+        this.rowCount = 0;
+    }
+
+    /**
+     * Returns a counter of the latest completed game tick.
+     * 
+     * @param counter The counter.
+     * @return The number of objects, 0 if no game tick is completed.
+     */
+    public int getCount(Counter counter) {
+        long rowCount = this.rowCount;
+        if (rowCount < 2) return 0;
+
+        return this.counts[(int) ((rowCount - 2) % this.capacity) * COUNTERS.length + counter.ordinal()];
+    }
+
+    /**
+     * Copies the durations of a phase in the latest completed game ticks, oldest first. The game 
+     * ticks in which the phase is not run have a duration of 0.
+     * 
+     * @param phase The phase.
+     * @param nanos The array the durations are copied into, its length is the number of game ticks.
+     * @return The number of copied durations, less than the length of the array if fewer game ticks are kept.
+     */
+    public int getRecentDurations(Phase phase, long[] nanos) {
+        long rowCount = this.rowCount;
+        int n = (int) Math.min(nanos.length, Math.min(Math.max(0, rowCount - 1), this.capacity - 1));
+
+        long first = rowCount - 1 - n;
+        for (int i = 0; i < n; i++) {
+            int duration = this.durations[(int) ((first + i) % this.capacity) * PHASES.length + phase.ordinal()];
+            nanos[i] = Math.max(0, duration);
+        }
+        return n;
+    }
+
+    /**
+     * Computes the distribution of the duration of a phase over the kept game ticks in which it is run.
+     * 
+     * @param phase The phase.
+     * @return The statistics of the phase, with a count of 0 if it is never run.
+     */
+    public PhaseStats getStats(Phase phase) {
+        long rowCount = this.rowCount;
+        int n = (int) Math.min(Math.max(0, rowCount - 1), this.capacity - 1);
+
+        int[] samples = new int[n];
+        int count = 0;
+        long first = rowCount - 1 - n;
+        for (int i = 0; i < n; i++) {
+            int duration = this.durations[(int) ((first + i) % this.capacity) * PHASES.length + phase.ordinal()];
+            if (duration != EMPTY) samples[count++] = duration;
+        }
+        if (count == 0) return new PhaseStats(phase, 0, 0, 0, 0, 0);
+
+        Arrays.sort(samples, 0, count);
+        return new PhaseStats(phase, count, percentile(samples, count, 0.50), percentile(samples, count, 0.95), 
+                              percentile(samples, count, 0.99), samples[count - 1]);
+    }
+
+    /**
+     * Returns a percentile of sorted samples with the nearest rank method.
+     * 
+     * @param samples The sorted samples.
+     * @param count The number of samples.
+     * @param p The percentile in [0, 1].
+     * @return The sample at the percentile.
+     */
+    private static long percentile(int[] samples, int count, double p) {
+        int rank = (int) Math.ceil(p * count);
+        return samples[Math.max(0, Math.min(count, rank) - 1)];
+    }
+
+    /**
+     * Writes the kept game ticks into a CSV file, one line per game tick, oldest first. The durations are 
+     * in microseconds, and empty for the phases which are not run in the game tick.
+     * 
+     * @param path The path of the file.
+     * @throws IOException If the file cannot be written.
+     */
+    public void exportCsv(Path path) throws IOException {
+        long rowCount = this.rowCount;
+        int n = (int) Math.min(Math.max(0, rowCount - 1), this.capacity - 1);
+
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            StringBuilder line = new StringBuilder("tick");
+            for (Phase phase : PHASES) line.append(',').append(phase.name().toLowerCase()).append("_us");
+            for (Counter counter : COUNTERS) line.append(',').append(counter.name().toLowerCase());
+            writer.write(line.toString());
+            writer.newLine();
+
+            long first = rowCount - 1 - n;
+            for (int i = 0; i < n; i++) {
+                int row = (int) ((first + i) % this.capacity);
+
+                line.setLength(0);
+                line.append(this.ticks[row]);
+                for (int j = 0; j < PHASES.length; j++) {
+                    line.append(',');
+                    int duration = this.durations[row * PHASES.length + j];
+                    if (duration != EMPTY) line.append(duration / 1000).append('.').append(duration % 1000 / 100);
+                }
+                for (int j = 0; j < COUNTERS.length; j++) {
+                    line.append(',').append(this.counts[row * COUNTERS.length + j]);
+                }
+                writer.write(line.toString());
+                writer.newLine();
+            }
+        }
+    }
+}
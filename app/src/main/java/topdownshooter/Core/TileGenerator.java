@@ -30,7 +30,13 @@
 package topdownshooter.Core;
 
 import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
@@ -44,11 +50,24 @@ import javax.imageio.ImageIO;
  * 
  * The TileGenerator class is responsible for loading a tile image and drawing it repeatedly
  * to cover the entire screen or specified area. The image is drawn in a grid pattern.
+ * 
+ * The tiles are rendered once into a ground layer as large as the drawn area, so each frame 
+ * costs a single blit instead of one per tile. The layer is a `VolatileImage` compatible with 
+ * the drawing surface, which can be kept in video memory, or a `BufferedImage` if no volatile 
+ * image is available (e.g. in headless mode). It is rendered again only when the area is resized 
+ * or the contents of the volatile image are lost.
  */
 public class TileGenerator implements Serializable{
+    private static final int MAX_RESTORE_ATTEMPTS = 3;  // Attempts to restore a lost volatile layer before it is drawn from the buffered layer
+
     private String tilePath;
-    private BufferedImage tileImage;
-    private int tileWidth, tileHeight;
+    private transient BufferedImage tileImage;
+    private transient int tileWidth, tileHeight;
+    private transient int transparency = Transparency.OPAQUE;  /**< Transparency of the tile image, which is used for the ground layer. */
+
+    private transient VolatileImage volatileLayer = null;       /**< Ground layer kept on the drawing surface, or null if not created. */
+    private transient BufferedImage bufferedLayer = null;       /**< Ground layer used if no volatile image is available, or null if not created. */
+    private transient int renderCount = 0;                      /**< Number of times the tiles are rendered into a ground layer. */
     
     /**
      * Constructs a TileGenerator with the specified tile image path.
@@ -62,12 +81,7 @@ public class TileGenerator implements Serializable{
     public TileGenerator(String tilePath) {
         try {
             this.tilePath = tilePath;
-            this.tileImage = ImageIO.read(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(this.tilePath)));
-            if (tileImage == null) {
-                throw new IOException("Failed to load background tile image.");
-            }
-            this.tileWidth = tileImage.getWidth();
-            this.tileHeight = tileImage.getHeight();
+            loadTile();
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -77,19 +91,134 @@ public class TileGenerator implements Serializable{
      * Draws the tile image across the screen or specified area.
      * 
      * This method tiles the image across the given screen width and height, filling the entire area.
+     * The tiles are drawn from the ground layer, which is rendered again if its size does not match.
+     * It is synchronized since the game area is drawn either on EDT or on the game loop thread (active rendering).
      * 
      * @param g The Graphics object used for drawing the tile.
      * @param screenWidth The width of the area to fill with tiles.
      * @param screenHeight The height of the area to fill with tiles.
      */
-    public void draw(Graphics g, int screenWidth, int screenHeight) {
-        if (tileImage == null) return;
+    public synchronized void draw(Graphics g, int screenWidth, int screenHeight) {
+        if (this.tileImage == null || screenWidth <= 0 || screenHeight <= 0) return;
+
+        GraphicsConfiguration gc = (g instanceof Graphics2D) ? ((Graphics2D) g).getDeviceConfiguration() : null;
+        if (gc != null && !GraphicsEnvironment.isHeadless()) {
+            for (int attempt = 0; attempt < MAX_RESTORE_ATTEMPTS; attempt++) {
+                VolatileImage layer = validateVolatileLayer(gc, screenWidth, screenHeight);
+                if (layer == null) break;
+
+                g.drawImage(layer, 0, 0, null);
+                if (!layer.contentsLost()) return;
+            }
+        }
+
+        if (this.bufferedLayer == null || this.bufferedLayer.getWidth() != screenWidth || this.bufferedLayer.getHeight() != screenHeight) {
+            this.bufferedLayer = (gc != null) ? gc.createCompatibleImage(screenWidth, screenHeight, this.transparency)
+                                              : new BufferedImage(screenWidth, screenHeight, BufferedImage.TYPE_INT_ARGB);
+            renderTiles(this.bufferedLayer, screenWidth, screenHeight);
+        }
+        g.drawImage(this.bufferedLayer, 0, 0, null);
+    }
+
+    /**
+     * Returns the number of times the tiles are rendered into a ground layer, which is 
+     * once per resize or surface loss.
+     * 
+     * @return The render count.
+     */
+    public int getRenderCount() {
+        return this.renderCount;
+    }
+
+    /**
+     * Creates or restores the volatile ground layer, and renders the tiles into it if its 
+     * contents are not valid anymore.
+     * 
+     * @param gc The configuration of the drawing surface.
+     * @param width The width of the area to fill with tiles.
+     * @param height The height of the area to fill with tiles.
+     * @return The valid volatile layer, or null if no volatile image is available.
+     */
+    private VolatileImage validateVolatileLayer(GraphicsConfiguration gc, int width, int height) {
+        VolatileImage layer = this.volatileLayer;
+        int status = (layer != null && layer.getWidth() == width && layer.getHeight() == height) 
+                     ? layer.validate(gc) : VolatileImage.IMAGE_INCOMPATIBLE;
+
+        if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+            if (layer != null) layer.flush();
+            try {
+                layer = gc.createCompatibleVolatileImage(width, height, this.transparency);
+            } catch (Exception e) {
+                layer = null;  // Fall back to the buffered layer
+            }
+            this.volatileLayer = layer;
+            if (layer == null) return null;
+
+            layer.validate(gc);
+            status = VolatileImage.IMAGE_RESTORED;
+        }
+
+        if (status == VolatileImage.IMAGE_RESTORED) {
+            renderTiles(layer, width, height);
+        }
+        return layer;
+    }
+
+    /**
+     * Renders the tiles into a ground layer.
+     * 
+     * @param layer The ground layer.
+     * @param width The width of the area to fill with tiles.
+     * @param height The height of the area to fill with tiles.
+     */
+    private void renderTiles(Image layer, int width, int height) {
+        Graphics g = layer.getGraphics();
+        try {
+            for (int x = 0; x < width; x += this.tileWidth) {
+                for (int y = 0; y < height; y += this.tileHeight) {
+                    g.drawImage(this.tileImage, x, y, null);
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+        this.renderCount++;
+    }
+
+    /**
+     * Loads the tile image and its dimensions.
+     * 
+     * @throws IOException If the tile image cannot be loaded.
+     */
+    private void loadTile() throws IOException {
+        this.tileImage = ImageIO.read(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(this.tilePath)));
+        if (this.tileImage == null) {
+            throw new IOException("Failed to load background tile image.");
+        }
+        this.tileWidth = this.tileImage.getWidth();
+        this.tileHeight = this.tileImage.getHeight();
+        this.transparency = isOpaque(this.tileImage) ? Transparency.OPAQUE : this.tileImage.getTransparency();
+    }
 
-        for (int x = 0; x < screenWidth; x += tileWidth) {
-            for (int y = 0; y < screenHeight; y += tileHeight) {
-                g.drawImage(tileImage, x, y, null);
+    /**
+     * Checks whether every pixel of an image is opaque, even if the image has an alpha channel.
+     * An opaque ground layer can be blitted without blending.
+     * 
+     * @param image The image to check.
+     * @return True if the image has no transparent pixels.
+     */
+    private static boolean isOpaque(BufferedImage image) {
+        if (!image.getColorModel().hasAlpha()) return true;
+
+        int width = image.getWidth();
+        int[] row = new int[width];
+        for (int y = 0; y < image.getHeight(); y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int argb : row) {
+                if ((argb >>> 24) != 0xFF) return false;
             }
         }
+        return true;
     }
 
     /**
@@ -101,12 +230,6 @@ public class TileGenerator implements Serializable{
      */
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
-        this.tileImage = ImageIO.read(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(this.tilePath)));
-        if (tileImage == null) {
-            throw new IOException("Failed to load background tile image.");
-        }
-        this.tileWidth = tileImage.getWidth();
-        this.tileHeight = tileImage.getHeight();
-
+        loadTile();
     }
 }
@@ -29,6 +29,7 @@
 
 package topdownshooter.Core;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 /**
@@ -37,30 +38,48 @@ import java.io.Serializable;
  * 
  * The TimeTick class is responsible for managing a countdown timer, executing actions when the timer reaches zero. 
  * It allows setting a countdown action which triggers when the countdown reaches zero.
+ * 
+ * The timer keeps the tick of the game clock at which it reaches zero, so it does not need to be updated on each 
+ * game tick. The timer is bound to the timing wheel of the game engine it is created for, whose clock it counts 
+ * down against. A timer with an action is scheduled in that wheel while it is counting down, and its action is 
+ * run by the wheel when it reaches zero.
+ * 
+ * @see TimerWheel
  */
 public class TimeTick implements Serializable {
-    private int tick = 0;                       /**< The current tick value, representing the remaining time. */
+    private final transient TimerWheel timers;  /**< The timing wheel the timer counts down against. */
+    private long deadline = 0;                  /**< The tick of the game clock at which the timer reaches zero. */
     private int defaultTick = 0;                /**< The default tick value used to reset the timer. */
     private int repeatCount = -1;               /**< The number of times the timer will repeat after reaching zero. -1 means infinite repeats. */
     private SerializableRunnable action = null; /**< The action to be executed when the timer reaches zero. */
 
+    transient boolean isScheduled = false;      /**< Whether the timer is linked into the timing wheel. */
+    transient int slot = 0;                     /**< Slot of the timing wheel the timer is linked into. */
+    transient TimeTick previous = null;         /**< Previous timer in the slot. */
+    transient TimeTick next = null;             /**< Next timer in the slot. */
+
     /**
      * Constructs a TimeTick object with the specified default tick value.
      * 
+     * @param timers The timing wheel of the game engine.
      * @param defaultTick The default number of ticks before the timer reaches zero.
      */
-    public TimeTick(int defaultTick) {
+    public TimeTick(TimerWheel timers, int defaultTick) {
+        this.timers = timers;
         this.defaultTick = defaultTick;
         this.reset();
     }
 
     /**
      * Constructs a TimeTick object with the specified default tick value and an action to execute when the timer reaches zero.
+     * The timer starts counting down immediately.
      * 
+     * @param timers The timing wheel of the game engine.
      * @param defaultTick The default number of ticks before the timer reaches zero.
      * @param action The action to execute when the timer reaches zero.
      */
-    public TimeTick(int defaultTick, SerializableRunnable action) {
+    public TimeTick(TimerWheel timers, int defaultTick, SerializableRunnable action) {
+        this.timers = timers;
         this.defaultTick = defaultTick;
         this.action = action;
         this.reset();
@@ -69,18 +88,21 @@ public class TimeTick implements Serializable {
     /**
      * Constructs a TimeTick object with the specified tick, default tick value, and repeat count.
      * 
+     * @param timers The timing wheel of the game engine.
      * @param tick The initial tick value for the timer.
      * @param defaultTick The default number of ticks before the timer reaches zero.
      * @param repeatCount The number of repeats after the timer reaches zero. -1 means infinite repeats.
      */
-    public TimeTick(int tick, int defaultTick, int repeatCount) {
-        this.tick = tick;
+    public TimeTick(TimerWheel timers, int tick, int defaultTick, int repeatCount) {
+        this.timers = timers;
+        this.deadline = timers.getCurrentTick() + tick;
         this.defaultTick = defaultTick;
         this.repeatCount = repeatCount;
     }
 
     /**
-     * Sets the repeat count for the timer.
+     * Sets the repeat count for the timer. A timer which repeats is reset when it reaches zero 
+     * and its action is run again.
      * 
      * @param repeatCount The number of times to repeat the countdown after reaching zero. -1 means infinite repeats.
      */
@@ -94,53 +116,110 @@ public class TimeTick implements Serializable {
      * @return The remaining time in ticks.
      */
     public int getTick() {
-        return this.tick;
+        long remaining = this.deadline - this.timers.getCurrentTick();
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, remaining));
     }
 
     /**
-     * Sets the action to be executed when the timer reaches zero.
+     * Returns the tick of the game clock at which the timer reaches zero.
      * 
-     * @param action The action to execute when the timer reaches zero.
+     * @return The deadline of the timer.
+     */
+    long getDeadline() {
+        return this.deadline;
+    }
+
+    /**
+     * Sets the action to be executed when the timer reaches zero. The timer is scheduled if it 
+     * is still counting down.
+     * 
+     * @param action The action to execute when the timer reaches zero, or null to remove it.
      */
     public void setAction(SerializableRunnable action) {
         this.action = action;
+        schedule();
+    }
+
+    /**
+     * Resets the timer to its default tick value. A timer with an action is scheduled to run 
+     * it, at the next tick at the earliest.
+     */
+    public void reset() {
+        long currentTick = this.timers.getCurrentTick();
+        this.deadline = currentTick + ((this.action != null) ? Math.max(1, this.defaultTick) : this.defaultTick);
+        schedule();
+    }
+
+    /**
+     * Stops the timer without running its action. The timer is timed out afterwards.
+     */
+    public void cancel() {
+        this.deadline = Math.min(this.deadline, this.timers.getCurrentTick());
+        this.timers.cancel(this);
     }
 
     /**
-     * Updates the timer by decrementing the tick value and executing the action if the timer reaches zero.
+     * Checks if the timer has timed out.
      * 
+     * @return True if the timer has timed out, otherwise false.
      */
-    public void updateTick() {
-        if (this.tick > 0) this.tick--;
+    public boolean isTimeOut() {
+        return this.deadline <= this.timers.getCurrentTick(); 
+    }
 
-        if (this.tick == 0 && action != null) {
-            action.run();
+    /**
+     * Schedules the action of the timer if it is still counting down, otherwise removes the timer from the wheel.
+     */
+    private void schedule() {
+        if (this.action != null && !isTimeOut()) {
+            this.timers.schedule(this);
+        } else {
+            this.timers.cancel(this);
         }
+    }
 
-        // If repeats are available, reset and decrement the repeat count
-        if (this.repeatCount > 0 && this.tick == 0) {
-            this.repeatCount--;
+    /**
+     * Called by the timing wheel when the timer reaches zero. Runs the action and resets the 
+     * timer if repeats are available.
+     */
+    void expire() {
+        if (this.repeatCount != 0) {
+            if (this.repeatCount > 0) this.repeatCount--;
+            reset();
         }
 
-        // If no repeats are set (repeatCount is -1), keep ticking
-        if (this.repeatCount == -1 && this.tick == 0) {
-        }
+        // Run after the reset, so the action may reset or cancel the timer again
+        if (this.action != null) this.action.run();
     }
 
     /**
-     * Resets the timer to its default tick value.
+     * Writes the state of the timer to a saved game. The action is not saved, 
+     * it is set again by the owner of the timer.
+     * 
+     * @param writer The writer of the saved game.
      */
-    public void reset() {
-        this.tick = this.defaultTick;
+    public void writeState(SaveGame.Writer writer) {
+        writer.putInt(getTick());
+        writer.putInt(this.defaultTick);
+        writer.putInt(this.repeatCount);
     }
 
     /**
-     * Checks if the timer has timed out.
+     * Restores the state of the timer from a saved game. A timer with an action is scheduled 
+     * again if it is still counting down.
      * 
-     * @return True if the timer has timed out, otherwise false.
+     * @param reader The reader of the saved game.
+     * @throws IOException If the state cannot be read.
      */
-    public boolean isTimeOut() {
-        return this.tick == 0; 
+    public void readState(SaveGame.Reader reader) throws IOException {
+        int tick = reader.getInt();
+        if (tick < 0) {
+            throw new SaveGame.FormatException("Saved timer is negative!");
+        }
+        this.deadline = this.timers.getCurrentTick() + tick;
+        this.defaultTick = reader.getInt();
+        this.repeatCount = reader.getInt();
+        schedule();
     }
 
 }
@@ -0,0 +1,202 @@
+/*
+ * @file TimerWheel.java
+ * @brief This file defines the `TimerWheel` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package topdownshooter.Core;
+
+/**
+ * @class TimerWheel
+ * @brief Hierarchical timing wheel which fires the actions of the timers of the simulation.
+ * 
+ * The wheel keeps the game clock, which is advanced once per game tick by the game engine. 
+ * A TimeTick counts down against the clock, so it costs nothing while it is running. Only 
+ * the timers with an action are kept in the wheel, to run the action when they reach zero.
+ * 
+ * Each level of the wheel has 64 slots. A slot of the first level holds the timers due 
+ * at a single tick, a slot of the next level the timers due in a span of 64 ticks, and so 
+ * on. Timers are moved to the lower level when the clock enters the span of their slot. 
+ * Hence scheduling and cancelling a timer is O(1), and advancing the clock is O(1) plus the 
+ * timers which fire or move. The timers are linked into the slots, so nothing is allocated.
+ * 
+ * Each game engine owns its wheel, and its timers are bound to it when they are created, so 
+ * the engines of a process keep their own clocks. Timers count down from the tick of the clock 
+ * when they are started, hence the absolute value of the clock is never saved.
+ * 
+ * @see TimeTick
+ */
+public final class TimerWheel {
+    private static final int SLOT_BITS = 6;                         /**< Number of bits of the clock covered by the slots of a level. */
+    private static final int SLOT_COUNT = 1 << SLOT_BITS;           /**< Number of slots per level. */
+    private static final int SLOT_MASK = SLOT_COUNT - 1;            /**< Mask of the slot index. */
+    private static final int LEVEL_COUNT = 4;                       /**< Number of levels, which span 2^24 ticks (about 46 hours). Later timers wait in the last level. */
+
+    private final TimeTick[] slots = new TimeTick[LEVEL_COUNT * SLOT_COUNT];  /**< Head of the timer list of each slot, level by level. */
+    private long currentTick = 0;                                   /**< Current tick of the clock. */
+    private int size = 0;                                           /**< Number of scheduled timers. */
+
+    /**
+     * Constructs an empty timing wheel whose clock starts at tick zero.
+     */
+    public TimerWheel() {}
+
+    /**
+     * Returns the current tick of the clock.
+     * 
+     * @return The number of ticks the clock is advanced since it is created.
+     */
+    public long getCurrentTick() {
+        return this.currentTick;
+    }
+
+    /**
+     * Returns the number of timers waiting to run their action.
+     * 
+     * @return The number of scheduled timers.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Advances the clock by a tick and runs the actions of the timers which reach zero.
+     * 
+     * Actions may start or cancel timers, including the one which is running.
+     */
+    public void advance() {
+        long tick = ++this.currentTick;
+
+        // Move the timers of the higher levels whose span starts now, from the highest level
+        // down, so the timers moved into a lower slot which also starts now are moved again
+        for (int level = LEVEL_COUNT - 1; level > 0; level--) {
+            if ((tick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                cascade(level * SLOT_COUNT + (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK));
+            }
+        }
+
+        // The first level only holds timers due in less than a full turn, so the slot only holds due timers
+        int slot = (int) (tick & SLOT_MASK);
+        TimeTick timer;
+        while ((timer = this.slots[slot]) != null) {
+            unlink(timer);
+            timer.expire();
+        }
+    }
+
+    /**
+     * Cancels all scheduled timers without running their actions, as the game objects 
+     * they belong to are dropped.
+     */
+    public void clear() {
+        for (int slot = 0; slot < this.slots.length; slot++) {
+            TimeTick timer;
+            while ((timer = this.slots[slot]) != null) {
+                timer.cancel();
+            }
+        }
+    }
+
+    /**
+     * Schedules a timer to expire at its deadline, replacing its previous deadline if it 
+     * is already scheduled. Deadlines which are already reached expire at the next tick.
+     * 
+     * @param timer The timer.
+     */
+    void schedule(TimeTick timer) {
+        if (timer.isScheduled) unlink(timer);
+        link(timer, Math.max(timer.getDeadline(), this.currentTick + 1));
+    }
+
+    /**
+     * Removes a timer from the wheel if it is scheduled.
+     * 
+     * @param timer The timer.
+     */
+    void cancel(TimeTick timer) {
+        if (timer.isScheduled) unlink(timer);
+    }
+
+    /**
+     * Moves the timers of a slot into the lower levels.
+     * 
+     * @param slot The index of the slot.
+     */
+    private void cascade(int slot) {
+        // Detach the list first, as a timer beyond the span of the wheel may be linked into the same slot again
+        TimeTick timer = this.slots[slot];
+        this.slots[slot] = null;
+        while (timer != null) {
+            TimeTick next = timer.next;
+            this.size--;
+            link(timer, Math.max(timer.getDeadline(), this.currentTick));
+            timer = next;
+        }
+    }
+
+    /**
+     * Links a timer into the slot of its deadline.
+     * 
+     * @param timer The timer, which is not scheduled.
+     * @param deadline The tick at which the timer expires, not before the current tick.
+     */
+    private void link(TimeTick timer, long deadline) {
+        long delay = deadline - this.currentTick;
+        int level = 0;
+        while (level < LEVEL_COUNT - 1 && delay >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+
+        int slot = level * SLOT_COUNT + (int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        timer.isScheduled = true;
+        timer.slot = slot;
+        timer.previous = null;
+        timer.next = this.slots[slot];
+        if (timer.next != null) timer.next.previous = timer;
+        this.slots[slot] = timer;
+        this.size++;
+    }
+
+    /**
+     * Unlinks a timer from its slot.
+     * 
+     * @param timer The timer, which is scheduled.
+     */
+    private void unlink(TimeTick timer) {
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        } else {
+            this.slots[timer.slot] = timer.next;
+        }
+        if (timer.next != null) timer.next.previous = timer.previous;
+
+        timer.isScheduled = false;
+        timer.previous = null;
+        timer.next = null;
+        this.size--;
+    }
+}
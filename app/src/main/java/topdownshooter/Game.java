@@ -33,8 +33,17 @@ import javax.swing.*;
 
 import java.awt.Dimension;
 import java.awt.Toolkit;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
 
+import topdownshooter.Core.AudioEngine;
 import topdownshooter.Core.Globals;
+import topdownshooter.Core.HeadlessSimulation;
+import topdownshooter.Core.HeadlessSimulation.InputMode;
+import topdownshooter.Core.Replay;
+import topdownshooter.Core.RotatedFrameCache;
+import topdownshooter.Core.ConfigHandler.RenderProperties;
 import topdownshooter.Core.ConfigHandler.WindowProperties;
 import topdownshooter.Panels.MenuPanel;
 import topdownshooter.Core.ConfigHandler;
@@ -44,21 +53,42 @@ import topdownshooter.Core.ConfigHandler;
  * @brief Main entry point of the game.
  *
  * This class initializes the main window and loads configurations.
+ * With the --headless argument, the game is simulated without any window instead, and with 
+ * the --replay argument, a recorded game is played back without any window.
  */
 public class Game {
+    private static final long DEFAULT_HEADLESS_TICKS = 100000;  /**< Number of game ticks simulated by default in headless mode. */
+
     /**
      * Main method to start the game.
      *
      * Loads game configurations, sets up the game window, 
      * and initializes the menu panel.
+     * 
+     * Usage for headless simulation: --headless [ticks] [ai|scripted] [configuration file]
+     * Usage for replay playback: --replay <replay file> [configuration file]
      *
-     * @param args Command-line arguments (unused).
+     * @param args Command-line arguments.
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--headless")) {
+            runHeadless(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--replay")) {
+            runReplay(args);
+            return;
+        }
+
         ConfigHandler config = new ConfigHandler(Globals.CONFIGURATION_FILE);
 
         WindowProperties windowProperties = config.getWindowProperties();
 
+        AudioEngine.getInstance().setMaxPolyphony(config.getAudioProperties().maxPolyphony());
+
+        RenderProperties renderProperties = config.getRenderProperties();
+        RotatedFrameCache.getInstance().configure(renderProperties.rotatedFrameAngles(), renderProperties.rotatedFrameCacheSize() * 1024L * 1024L);
+
         SwingUtilities.invokeLater(() -> {
            
             JFrame frame = new JFrame(Globals.GAME_TITLE);
@@ -83,4 +113,60 @@ public class Game {
             frame.setVisible(true);
         });
     }
+
+    /**
+     * Simulates the game without any window and prints the throughput of the simulation.
+     *
+     * @param args Command-line arguments, starting with --headless.
+     */
+    private static void runHeadless(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        AudioEngine.getInstance().setEnabled(false);  // Nobody listens to a simulation
+
+        long ticks = DEFAULT_HEADLESS_TICKS;
+        InputMode inputMode = InputMode.AI;
+        String configurationFile = Globals.CONFIGURATION_FILE;
+        try {
+            if (args.length > 1) ticks = Long.parseLong(args[1]);
+            if (args.length > 2) inputMode = InputMode.valueOf(args[2].toUpperCase());
+            if (args.length > 3) configurationFile = args[3];
+        } catch (IllegalArgumentException e) {
+            System.err.println("Usage: --headless [ticks] [ai|scripted] [configuration file]");
+            System.exit(1);
+        }
+
+        ConfigHandler config = new ConfigHandler(configurationFile);
+        HeadlessSimulation simulation = new HeadlessSimulation(config, inputMode);
+        System.out.println(simulation.run(ticks));
+    }
+
+    /**
+     * Plays a recorded game back without any window, as fast as possible, and prints whether it is reproduced.
+     * 
+     * The configuration file of the recorded game is used, unless another one is given.
+     *
+     * @param args Command-line arguments, starting with --replay.
+     */
+    private static void runReplay(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: --replay <replay file> [configuration file]");
+            System.exit(1);
+        }
+
+        System.setProperty("java.awt.headless", "true");
+        AudioEngine.getInstance().setEnabled(false);  // Nobody listens to a playback
+
+        try {
+            Replay.Playback playback = new Replay.Playback(Paths.get(args[1]));
+            String configurationFile = (args.length > 2) ? args[2] : playback.getConfigPath();
+            ConfigHandler config = new ConfigHandler(configurationFile);
+            System.out.println(playback.run(config));
+        } catch (NoSuchFileException e) {
+            System.err.println("Replay file not found: " + e.getMessage());
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Cannot play replay: " + e.getMessage());
+            System.exit(1);
+        }
+    }
 }
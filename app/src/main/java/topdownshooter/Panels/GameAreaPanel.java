@@ -33,68 +33,78 @@ import javax.swing.*;
 
 import java.awt.*;
 import java.awt.event.*;
-import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.ListIterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import topdownshooter.Core.Globals;
 import topdownshooter.Core.SoundFX;
 import topdownshooter.Core.TileGenerator;
 import topdownshooter.Core.ConfigHandler;
-import topdownshooter.Core.BlastFX;
+import topdownshooter.Core.ConfigHandler.ProfilerProperties;
+import topdownshooter.Core.ConfigHandler.RenderProperties;
+import topdownshooter.Core.ConfigHandler.ReplayProperties;
 import topdownshooter.Core.GameLevel;
-import topdownshooter.Core.TimeTick;
-import topdownshooter.Core.BlastFX.BlastType;
-import topdownshooter.Player.Loot;
+import topdownshooter.Core.GameLoop;
+import topdownshooter.Core.RenderSnapshot;
+import topdownshooter.Core.GameEngine;
+import topdownshooter.Core.AutoSaver;
+import topdownshooter.Core.InputAction;
+import topdownshooter.Core.Replay;
+import topdownshooter.Core.TickProfiler;
+import topdownshooter.Core.GameEvents;
+import topdownshooter.Player.InventoryInfo;
 import topdownshooter.Player.Player;
-import topdownshooter.Weapon.WeaponType;
-import topdownshooter.Weapon.Projectiles.AcidSpit;
-import topdownshooter.Weapon.Projectiles.ArmorPiercingBullet;
-import topdownshooter.Weapon.Projectiles.Bullet;
-import topdownshooter.Weapon.Projectiles.Projectile;
-import topdownshooter.Weapon.Projectiles.ProjectileType;
-import topdownshooter.Weapon.Projectiles.Rocket;
-import topdownshooter.Weapon.Projectiles.ShotgunPellets;
-import topdownshooter.Zombie.AcidZombie;
-import topdownshooter.Zombie.Zombie;
-import topdownshooter.Zombie.ZombieType;
 
 /**
  * @class GameAreaPanel
  * @brief Panel that handles the main gameplay area, including game objects, interactions, and rendering.
  * 
- * This class is responsible for managing and rendering the game area. It interacts with the player, zombies, 
- * projectiles, loot, blast effects, and the game level. It handles the game loop, collision detection, and state 
- * updates (e.g., pausing, resuming, saving, loading, etc.). The panel also responds to key presses and action events 
- * to control the gameplay.
+ * This class is responsible for rendering the game area. The game objects (player, zombies, projectiles, loot, 
+ * blast effects, and the game level) are simulated by the game engine on the game loop thread. The panel handles 
+ * the game loop and state updates (e.g., pausing, resuming, saving, loading, etc.). It also responds to key presses 
+ * and action events to control the gameplay.
+ * 
+ * If active rendering is enabled, the game area is drawn by the game loop thread on a `GameCanvas` 
+ * instead of requesting repaints. The heavyweight canvas would hide the lightweight overlays (notifications 
+ * and menus), so it is hidden and the frames are painted on EDT while any overlay is visible.
  */
 public class GameAreaPanel extends JPanel implements ActionListener, KeyListener{
+    /**
+     * @brief Game information captured on the game loop thread to be shown on the game information panel.
+     */
+    private record GameInfo(double health, int score, int level, int remainingTime, int remainingZombies, InventoryInfo inventoryInfo) {}
+
     private GamePanel parentPanel = null;                   /*< Reference to the parent game panel. */
     private ConfigHandler config;                           /*< Configuration handler for game settings. */
 
-    private GameLevel gameLevel = null;                     /*< The current game level. */
-    private Player player = null;                           /*< The player object in the game. */
-    private ArrayList<Zombie> zombies = null;               /*< List of zombies in the game. */
-    private ArrayList<Projectile> projectiles = null;       /*< List of projectiles fired by the player. */
-    private ArrayList<Loot> loots = null;                   /*< List of loot items in the game. */
-    private ArrayList<BlastFX> blastFXs = null;             /*< List of blast effects in the game. */
+    private GameEngine gameEngine = null;                   /*< Simulates the game objects, runs on the game loop thread. */
     
-    private static boolean isGamePaused = false;            /*< Flag indicating whether the game is paused. */
-    private Timer gameTimer;                                /*< Timer for handling periodic updates. */
-    private TimeTick fireRateTick = null;                   /*< Time tick for handling fire rate control. */
+    private static volatile boolean isGamePaused = false;   /*< Flag indicating whether the game is paused. */
+    private GameLoop gameLoop;                              /*< Fixed time step loop running the simulation on its own thread. */
+    private AutoSaver autoSaver = null;                     /*< Periodically saves the game in the background. */
+    private TickProfiler profiler = null;                   /*< Measures the phases of the game ticks and frames, null if profiling is disabled. */
+    private ProfilerOverlay profilerOverlay = null;         /*< Shows the statistics of the profiler on top of the game area. */
+    private volatile boolean isProfilerOverlayVisible = false;  /*< Whether the profiler overlay is drawn, toggled with F3. */
+
+    private final RenderSnapshot.Builder snapshotBuilder = new RenderSnapshot.Builder();  /*< Builds render snapshots on the game loop thread and hands the latest one to the painter. */
+    private final AtomicReference<GameInfo> gameInfo = new AtomicReference<>(null);  /*< Latest game information to be shown. */
+    private final AtomicBoolean isGameInfoUpdatePending = new AtomicBoolean(false);  /*< Whether the game information panel update is already posted to EDT. */
+    private volatile RenderSnapshot.DrawStats drawStats = new RenderSnapshot.DrawStats(0, 0);  /*< Number of sprites drawn and culled in the latest frame. */
     
     private TileGenerator playgroundTileGenerator = null;   /*< Tile generator for creating the game terrain. */
 
+    private GameCanvas gameCanvas = null;                   /*< Canvas rendered by the game loop thread, null if active rendering is disabled. */
+    private volatile boolean isCanvasActive = false;        /*< Whether frames are rendered on the canvas instead of being painted on EDT. */
+    private JComponent[] overlays = new JComponent[0];      /*< Overlay panels shown on top of the game area. */
+
     private SoundFX backgroundSoundFX = null;               /*< Background sound effects. */
 
     /**
@@ -111,50 +121,78 @@ public class GameAreaPanel extends JPanel implements ActionListener, KeyListener
         addKeyListener(this);
         
         // Handle mouse events
-        this.addMouseMotionListener(new MouseMotionAdapter() {
+        MouseMotionAdapter mouseMotionListener = new MouseMotionAdapter() {
             @Override
             public void mouseMoved(MouseEvent e) {
                 if (GameAreaPanel.isGamePaused) return;  // Do not move player when game is paused
 
-                double rRad = Math.atan2(e.getY() - player.getY(), e.getX() - player.getX());
-                player.rotate(rRad);
+                int mouseX = e.getX(), mouseY = e.getY();
+                invokeOnPlayer(player -> gameEngine.aim(Math.atan2(mouseY - player.getY(), mouseX - player.getX())));
             }
 
             @Override
             public void mouseDragged(MouseEvent e) {
                 if (GameAreaPanel.isGamePaused) return;  // Do not move player when game is paused
 
-                double rRad = Math.atan2(e.getY() - player.getY(), e.getX() - player.getX());
-                player.rotate(rRad);
+                int mouseX = e.getX(), mouseY = e.getY();
+                invokeOnPlayer(player -> gameEngine.aim(Math.atan2(mouseY - player.getY(), mouseX - player.getX())));
             }
-        });
+        };
+        this.addMouseMotionListener(mouseMotionListener);
 
-        this.addMouseListener(new MouseAdapter() {
+        MouseAdapter mouseListener = new MouseAdapter() {
             @Override
             public void mousePressed(MouseEvent e) {
-                startFireTimer();
+                gameLoop.invokeLater(() -> startFireTimer());
             }
             @Override
             public void mouseReleased(MouseEvent e) {
-                stopFire();
+                gameLoop.invokeLater(() -> stopFire());
             }
-        });
+        };
+        this.addMouseListener(mouseListener);
         
         this.config = config;
 
+        // The canvas fills the panel and receives the input events while it is visible
+        RenderProperties renderProperties = this.config.getRenderProperties();
+        if (renderProperties.isActiveRenderingEnabled()) {
+            this.gameCanvas = new GameCanvas(renderProperties.bufferCount(), renderProperties.isVSyncEnabled(), renderProperties.maxFrameRate());
+            this.gameCanvas.addKeyListener(this);
+            this.gameCanvas.addMouseMotionListener(mouseMotionListener);
+            this.gameCanvas.addMouseListener(mouseListener);
+
+            setLayout(new BorderLayout());
+            add(this.gameCanvas, BorderLayout.CENTER);
+            this.isCanvasActive = true;
+        }
+
         // Create game objects
-        gameLevel = new GameLevel(this.config);
+        this.gameEngine = new GameEngine(this.config, Globals.WINDOW_WIDTH, Globals.WINDOW_HEIGHT);
+        this.gameEngine.setEventListener(new GameEngine.GameEventListener() {
+            @Override
+            public void onWaveStarted(int level) {
+                showWaveNotification(level);
+            }
+
+            @Override
+            public void onGameOver(int score, int level) {
+                // Called by the game loop thread in the middle of a tick, the game is torn down on the EDT after the loop is stopped
+                SwingUtilities.invokeLater(GameAreaPanel.this::endGame);
+            }
+        });
 
-        player = new Player(this.config);
-        zombies = new ArrayList<>();
-        projectiles = new ArrayList<>();
-        loots = new ArrayList<>();
+        gameLoop = new GameLoop(Globals.GAME_TICK_MS, Globals.MAX_CATCH_UP_TICKS, this::update, this::publishFrame);
+        this.autoSaver = new AutoSaver(this.config.getAutosaveProperties());
 
-        gameTimer = new Timer(Globals.GAME_TICK_MS, e -> this.update());
-        gameTimer.setRepeats(true);
+        ProfilerProperties profilerProperties = this.config.getProfilerProperties();
+        if (profilerProperties.isEnabled()) {
+            this.profiler = new TickProfiler(profilerProperties.sampleCount());
+            this.profilerOverlay = new ProfilerOverlay(this.profiler);
+            this.gameEngine.setProfiler(this.profiler);
+        }
 
         this.playgroundTileGenerator = new TileGenerator(Globals.PLAYGROUND_TILE_PATH);
-        this.blastFXs = new ArrayList<>();
 
         this.backgroundSoundFX = new SoundFX(Globals.BACKGROUND_SOUND_FX_PATH);
     }
@@ -167,40 +205,66 @@ public class GameAreaPanel extends JPanel implements ActionListener, KeyListener
     @Override
     public void addNotify() {
         super.addNotify();
-        requestFocus();
+        requestGameFocus();
     }
 
     /**
      * Custom paint method for rendering the game area.
      * 
      * This method is responsible for drawing all game objects (player, zombies, projectiles, etc.) on the screen.
+     * It runs on EDT and only reads the latest published render snapshot, so painting never blocks the simulation.
+     * Nothing is drawn while the frames are rendered on the canvas.
      * 
      * @param g The Graphics object used to render the game area.
      */
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        if (this.isCanvasActive) return;
      
+        drawFrame(g);
+    }
+
+    /**
+     * Draws the terrain and the game objects of the latest render snapshot.
+     * 
+     * It runs on EDT if the panel is painted, or on the game loop thread if the frame is rendered on the canvas.
+     * The game objects outside of the clip bounds are culled.
+     * 
+     * @param g The Graphics object used to render the game area.
+     */
+    private void drawFrame(Graphics g) {
+        GameEvents.PaintEvent paintEvent = new GameEvents.PaintEvent();
+        paintEvent.begin();
+        long time = (this.profiler == null) ? 0 : TickProfiler.now();
+
         this.playgroundTileGenerator.draw(g, getWidth(), getHeight());
-        this.player.draw(g);
 
-        for (Zombie z : this.zombies) {
-            z.draw(g);
-        }
+        // Game objects are drawn from the latest snapshot published by the game loop thread
+        this.drawStats = this.snapshotBuilder.drawLatest(g);
 
-        for (Projectile projectile : this.projectiles) {
-            if (projectile == null) continue;
-            projectile.draw(g);
+        paintEvent.end();
+        if (paintEvent.shouldCommit()) {
+            paintEvent.drawnCount = this.drawStats.drawnCount();
+            paintEvent.culledCount = this.drawStats.culledCount();
+            paintEvent.commit();
         }
 
-        for (Loot loot : this.loots) {
-            if (loot == null) continue;
-            loot.draw(g);
+        if (this.profiler != null) {
+            this.profiler.mark(TickProfiler.Phase.PAINT, time);
+            if (this.isProfilerOverlayVisible) {
+                this.profilerOverlay.draw(g, this.drawStats, this.gameLoop.getDroppedTickCount(), this.autoSaver.getLastStats());
+            }
         }
+    }
 
-        for (BlastFX bFX : this.blastFXs) {
-            bFX.draw(g);
-        }
+    /**
+     * Returns the number of sprites drawn and culled in the latest frame.
+     * 
+     * @return The draw statistics of the latest frame.
+     */
+    public RenderSnapshot.DrawStats getDrawStats() {
+        return this.drawStats;
     }
 
     /**
@@ -225,444 +289,278 @@ public class GameAreaPanel extends JPanel implements ActionListener, KeyListener
     }
 
     /**
-     * Starts a new wave of zombies in the game.
+     * Sets the overlay panels shown on top of the game area.
+     * 
+     * If active rendering is enabled, the canvas is hidden while any of the overlays is visible, 
+     * so the overlays are composited over the frames painted by Swing.
      * 
-     * This method triggers the spawning of a new wave of zombies.
+     * @param overlays The overlay panels.
      */
-    private void startWave() {
-        if (this.gameLevel.getWaveStatus()== GameLevel.GameLevelStatus.UNDEFINED ||
-            this.gameLevel.getWaveStatus()== GameLevel.GameLevelStatus.ENDED)  {
+    public void setOverlays(JComponent... overlays) {
+        this.overlays = overlays;
 
-            this.backgroundSoundFX.stop();
-
-            this.player.addScore(this.gameLevel.calculateLevelBonus());  // Add level bonus into player's score
-
-            WeaponType weaponPrize = this.gameLevel.startWave();                
+        ComponentAdapter overlayListener = new ComponentAdapter() {
+            @Override
+            public void componentShown(ComponentEvent e) {
+                updateRenderMode();
+            }
 
-            if (weaponPrize!=null && weaponPrize!=WeaponType.UNDEFINED) {
-                this.player.addNewWeapon(config, weaponPrize);
+            @Override
+            public void componentHidden(ComponentEvent e) {
+                updateRenderMode();
             }
-            
-            String message = "Wave " + this.gameLevel.getLevel() + " Approaching!";
-            this.parentPanel.getNotificationPanel().show(message, Globals.WAVE_SUSPEND_DURATION_MS);
-            this.backgroundSoundFX.delayedPlay(true, Globals.WAVE_SUSPEND_DURATION_MS);
+        };
+        for (JComponent overlay : overlays) {
+            overlay.addComponentListener(overlayListener);
         }
-    }
-
-    /**
-     * Updates all game objects, and draw them into the screen accordingly.
-     * 
-     * This method is called periodically to update all the game objects and check for collisions.
-     */
-    public void update() {
-        updatePlayer();
-
-        updateGameLevel();
-
-        updateZombies();
-
-        updateProjectiles();
-
-        updateLoots();
-
-        checkCollisions();
-
-        if (this.fireRateTick!=null) this.fireRateTick.updateTick();
-        
-        updateGameInfo();
 
-        updateBlasts();
-
-        repaint();
+        updateRenderMode();
     }
 
     /**
-     * Updates the player state, such as position and status.
+     * Switches between rendering the frames on the canvas and painting them on EDT depending on 
+     * the visibility of the overlays. It runs on EDT.
      */
-    private void updatePlayer() {
-        if (this.player==null) return;
+    private void updateRenderMode() {
+        if (this.gameCanvas == null) return;
 
-        this.player.update(getWidth(), getHeight());
-
-        if (this.player.getHealth() <= 0) {
-            this.endGame();
+        boolean isOverlayVisible = false;
+        for (JComponent overlay : this.overlays) {
+            isOverlayVisible |= overlay.isVisible();
+        }
+        if (this.isCanvasActive == !isOverlayVisible) return;
+
+        if (isOverlayVisible) {
+            boolean hasFocus = this.gameCanvas.isFocusOwner();
+
+            // Stop rendering on the canvas before it is hidden, the panel paints the frames from now on
+            this.isCanvasActive = false;
+            this.gameCanvas.setVisible(false);
+            if (hasFocus) requestFocusInWindow();
+        } else {
+            this.gameCanvas.setVisible(true);
+            this.isCanvasActive = true;
+            this.gameCanvas.requestFocusInWindow();
         }
+        repaint();
     }
 
     /**
-     * Updates the game level status, including checking level progression.
+     * Shows the notification of a new wave and restarts the background sound after the wave suspension.
+     * 
+     * @param level The level of the started wave.
      */
-    private void updateGameLevel() {
-        if (this.gameLevel==null || this.player == null || this.zombies == null) return;
-
-        if (this.zombies.size() == 0) {
-            startWave();
-        }
+    private void showWaveNotification(int level) {
+        this.backgroundSoundFX.stop();
 
-        this.gameLevel.updateAsync(getWidth(), getHeight(), zombies);
+        String message = "Wave " + level + " Approaching!";
+        SwingUtilities.invokeLater(() -> this.parentPanel.getNotificationPanel().show(message, Globals.WAVE_SUSPEND_DURATION_MS));
+        this.backgroundSoundFX.delayedPlay(true, Globals.WAVE_SUSPEND_DURATION_MS);
     }
 
     /**
-     * Updates the zombies, including their movement and interactions.
+     * Updates all game objects by one game tick.
+     * 
+     * This method is called periodically by the game loop thread to update all the game objects and check for collisions.
+     * Nothing is updated after the game is over, until the game is ended on the EDT.
      */
-    private void updateZombies() {
-        if (this.player==null ||this.zombies==null) return;
+    public void update() {
+        if (this.gameEngine.isGameOver()) return;
 
-        // Move zombies towards player
-        for (Zombie z : zombies) {
-            z.update(player.getTargetBounds());
+        GameEvents.TickEvent tickEvent = new GameEvents.TickEvent();
+        tickEvent.begin();
 
-            // Acid zombies have special ranged attack
-            if (z.getType() == ZombieType.ACID) {
-                AcidZombie acidZombie = (AcidZombie) z;
-                Projectile projectile = (Projectile) acidZombie.rangedAttack();
-                if (projectile != null) this.projectiles.add(projectile);
-            }
+        long tick = this.gameEngine.getTickCount();
+        long start = 0;
+        if (this.profiler != null) {
+            this.profiler.beginTick(tick);
+            start = TickProfiler.now();
         }
-    }
 
-    /**
-     * Updates the projectiles, including their movement and interactions.
-     */
-    private void updateProjectiles() {
-        if (this.projectiles==null) return;
+        // Playground follows the size of the panel
+        this.gameEngine.setPlaygroundSize(getWidth(), getHeight());
 
-        Iterator<Projectile> iterator = this.projectiles.iterator();
-        while (iterator.hasNext()) {
-            Projectile projectile = iterator.next();
+        this.gameEngine.update();
 
-            // If projectile is out of bounds, remove it
-            if (projectile.isOutOfBounds(getWidth(), getHeight())) {
-                iterator.remove();
-            } else {
-                projectile.move();
-            }
-        }
-    }
+        // Snapshot is taken at the tick boundary, it is written in the background
+        long time = (this.profiler == null) ? 0 : TickProfiler.now();
+        this.autoSaver.update(this.gameEngine);
 
-    /**
-     * Updates the loot, including their position and the state.
-     */
-    private void updateLoots() {
-        if (this.player==null || this.loots==null) return;
-
-        for (Loot loot : this.loots) {
-            loot.update();
+        if (this.profiler != null) {
+            time = this.profiler.mark(TickProfiler.Phase.AUTOSAVE, time);
+            this.profiler.record(TickProfiler.Phase.TICK, time - start);
         }
 
-        // Remove old loots
-        ListIterator<Loot> lootIterator = this.loots.listIterator();
-        while (lootIterator.hasNext()) {
-            Loot loot = lootIterator.next();
-            if (Globals.GameTick2Time(loot.getLootAge()) > Globals.MAX_LOOT_DURATION) {
-                lootIterator.remove();
-            }
+        tickEvent.end();
+        if (tickEvent.shouldCommit()) {
+            commitTickEvent(tickEvent, tick);
         }
     }
 
     /**
-     * Updates the blast effects in the game area.
-     */
-    private void updateBlasts() {
-        if (this.blastFXs==null) return;
-
-        Iterator<BlastFX> blastFXIterator = this.blastFXs.listIterator();
-        while (blastFXIterator.hasNext()) {
-            BlastFX bFX = blastFXIterator.next();
-            boolean isUpdated = bFX.update();
-            if (!isUpdated) blastFXIterator.remove();  // If blast animation has finished, it returns false so remove it.
+     * Fills the flight recorder event of a game tick and commits it. The durations of the phases 
+     * are taken from the profiler, so they are left zero if the profiler is disabled.
+     * 
+     * @param tickEvent The ended event of the game tick.
+     * @param tick The updated game tick.
+     */
+    private void commitTickEvent(GameEvents.TickEvent tickEvent, long tick) {
+        tickEvent.tick = tick;
+        if (this.profiler != null) {
+            tickEvent.timers = this.profiler.getDuration(TickProfiler.Phase.TIMERS);
+            tickEvent.player = this.profiler.getDuration(TickProfiler.Phase.PLAYER);
+            tickEvent.level = this.profiler.getDuration(TickProfiler.Phase.LEVEL);
+            tickEvent.zombies = this.profiler.getDuration(TickProfiler.Phase.ZOMBIES);
+            tickEvent.projectiles = this.profiler.getDuration(TickProfiler.Phase.PROJECTILES);
+            tickEvent.loots = this.profiler.getDuration(TickProfiler.Phase.LOOTS);
+            tickEvent.collisions = this.profiler.getDuration(TickProfiler.Phase.COLLISIONS);
+            tickEvent.blasts = this.profiler.getDuration(TickProfiler.Phase.BLASTS);
+            tickEvent.autosave = this.profiler.getDuration(TickProfiler.Phase.AUTOSAVE);
         }
+        tickEvent.zombieCount = this.gameEngine.getZombieCount();
+        tickEvent.projectileCount = this.gameEngine.getProjectiles().size();
+        tickEvent.commit();
     }
 
     /**
-     * Checks for collisions between projectiles and other game objects (e.g. Zombie and Player).
+     * Publishes the current state of the game objects for rendering.
+     * 
+     * This method is called by the game loop thread after the game ticks of a loop iteration are completed.
+     * The frame is rendered right away on the canvas if active rendering is used, otherwise a repaint is requested.
      */
-    private void checkProjectileCollisions() {
-        if (this.player==null ||this.zombies==null || this.projectiles==null) return;
+    private void publishFrame() {
+        if (this.gameEngine.getPlayer() == null) return;
 
-        ListIterator<Projectile> projectileIterator = this.projectiles.listIterator();
-        
-        while (projectileIterator.hasNext()) {
-            Projectile projectile = projectileIterator.next();
-
-            if (projectile.getType() == ProjectileType.BULLET) {
-                Bullet bullet = (Bullet) projectile;
-
-                ListIterator<Zombie> zombieIterator = this.zombies.listIterator();
-                while (zombieIterator.hasNext()) {
-                    Zombie zombie = zombieIterator.next();                   
-                    if (Globals.isObjectsCollided(bullet.getBounds(), zombie.getTargetBounds())) {
-                        zombie.takeDamage(bullet.getDamage());
-                        projectileIterator.remove();  // After damaging zombie, remove it.
-                        break;
-                    }
-                }
-            } else if (projectile.getType() == ProjectileType.ARMOR_PIERCING_BULLET) {
-                ArmorPiercingBullet bullet = (ArmorPiercingBullet) projectile;
-
-                ListIterator<Zombie> zombieIterator = this.zombies.listIterator();
-                while (zombieIterator.hasNext()) {
-                    Zombie zombie = zombieIterator.next();
-                    if (Globals.isObjectsCollided(bullet.getBounds(), zombie.getTargetBounds())) {
-                        zombie.takeDamage(bullet.getDamage());
-                        // Do not remove armor piercing bullets on collision with zombie.
-                    }
-                }
-            } else if (projectile.getType() == ProjectileType.ROCKET) {
-                Rocket rocket = (Rocket) projectile;
-                
-                Boolean isProjectileDetonated = false;
-                ListIterator<Zombie> zombieIterator = this.zombies.listIterator();
-                while (zombieIterator.hasNext()) {
-                    Zombie zombie = zombieIterator.next();
-                    if (Globals.isObjectsCollided(rocket.getBounds(), zombie.getTargetBounds())) {
-                        // Rocket damages its surrounded area
-                        damageZombies(rocket.getX(), rocket.getY(), rocket.getDamage(), rocket.getEffectiveRange());
-                        isProjectileDetonated = true;
-                        break;  // No need to continue since explosion applies for all zombies in range
-                    }
-                }
-                if (isProjectileDetonated) {
-                    // Create blast effect and add into the blast list
-                    this.blastFXs.add(new BlastFX(BlastType.EXPLOSIVE_BLAST, rocket.getX(), rocket.getY(), rocket.getEffectiveRange()));
-
-                    projectileIterator.remove();  // After detonation, remove it.
-                }
-
-            } else if (projectile.getType() == ProjectileType.SHOTGUN_PELLETS) {
-                ShotgunPellets pellets = (ShotgunPellets) projectile;
-                
-                // If all pellets are destroyed remove the projectile
-                if (pellets.getPellets().size() == 0) {
-                    projectileIterator.remove();
-                    continue;
-                }
-
-                ListIterator<Zombie> zombieIterator = this.zombies.listIterator();
-                while (zombieIterator.hasNext()) {
-                    Zombie zombie = zombieIterator.next();
-
-                    ListIterator<Bullet> pelletIterator = pellets.getPellets().listIterator();
-                    while (pelletIterator.hasNext()) {
-                        Bullet bullet = pelletIterator.next();
-                        if (Globals.isObjectsCollided(bullet.getBounds(), zombie.getTargetBounds())) {
-                            zombie.takeDamage(bullet.getDamage());
-                            pelletIterator.remove();  // After damaging zombie, remove it.
-                            break;
-                        }
-                    }
-                }
-            } else if (projectile.getType() == ProjectileType.ACID_SPIT) {
-                AcidSpit acidSpit = (AcidSpit) projectile;
-
-                if (Globals.isObjectsCollided(acidSpit.getBounds(), this.player.getTargetBounds())) {
-                    this.player.takeDamage(acidSpit.getDamage());
-                    projectileIterator.remove();  // After contact with player, remove it.
-                }
-
-            }
+        // The snapshot is not built for the frames skipped by the frame pacing of the canvas
+        boolean isCanvasActive = this.isCanvasActive;
+        if (isCanvasActive && !this.gameCanvas.isFrameDue()) {
+            updateGameInfo();
+            return;
         }
-    
-        ListIterator<Zombie> zombieIterator = this.zombies.listIterator();
-        while (zombieIterator.hasNext()) {
-            Zombie zombie = zombieIterator.next();
-
-            // If health of zombie is non positive, it is killed
-            if (zombie.getHealth() < 0) {              
-                ZombieType zombieType = zombie.getType();
-                int zombieX = zombie.getX();
-                int zombieY = zombie.getY();
-                int zombieDamage = zombie.giveDamage();
-
-                // Retrieve loot and score when zombie killed.
-                Loot loot = zombie.kill(this.player.getAvailableWeapons());  // To generate loot, available weapon types are needed.
-                
-                if (loot != null) {
-                    this.player.addScore(loot.getScore());
-                    // If loot does not have an item, then do not add to the list
-                    if (loot.getItem() != null) this.loots.add(loot);
-                }
 
-                zombieIterator.remove();
+        long time = (this.profiler == null) ? 0 : TickProfiler.now();
+        this.gameEngine.draw(this.snapshotBuilder);
 
-                // Acid zombies damages their surrounds when they killed (reduce original damage of the zombie when it explodes.)
-                if (zombieType == ZombieType.ACID) {
-                    damageZombies(zombieX, zombieY, (int) ((double) zombieDamage * 0.3), AcidZombie.EFFECTIVE_RANGE);
-                    damagePlayer(zombieX, zombieY, (int) ((double) zombieDamage * 0.3), AcidZombie.EFFECTIVE_RANGE);
+        this.snapshotBuilder.publish(this.gameLoop.getTickCount());
+        if (this.profiler != null) this.profiler.mark(TickProfiler.Phase.SNAPSHOT, time);
 
-                    // Create blast effect and add into the blast list
-                    this.blastFXs.add(new BlastFX(BlastType.TOXIC_BLAST, zombieX, zombieY, AcidZombie.EFFECTIVE_RANGE));
-                }
-            }
-        }
+        if (!isCanvasActive || !this.gameCanvas.render(this::drawFrame)) repaint();
+
+        updateGameInfo();
     }
 
     /**
-     * Checks for collisions between zombies and the player.
+     * Updates the game information (score, level, etc.) based on the current game state.
      * 
-     * This method updates zombie health if a collision occurs.
+     * The information is captured on the game loop thread and shown on EDT. Only one panel 
+     * update is posted at a time, which shows the latest captured information.
      */
-    private void checkZombieCollisions() {
-        if (this.player==null ||this.zombies==null) return;
+    private void updateGameInfo() {
+        long time = (this.profiler == null) ? 0 : TickProfiler.now();
 
-        Iterator<Zombie> zombieIterator = this.zombies.iterator();
-        while (zombieIterator.hasNext()) {
-            Zombie zombie = zombieIterator.next();
-            // If zombie collides with the player, it gives damage by attacking
-            boolean isColliding = Globals.isObjectsCollided(zombie.getTargetBounds(), player.getTargetBounds());
+        Player player = this.gameEngine.getPlayer();
+        GameLevel gameLevel = this.gameEngine.getGameLevel();
 
-            if (isColliding) {
-                // Normalize damage according to game tick (Full damage is taken by player in 500ms)
-                double damagePerTick = (double) zombie.giveDamage() * ((double) Globals.GAME_TICK_MS / Globals.FULL_DAMAGE_PERIOD);
-                this.player.takeDamage(damagePerTick);
-            }
-        }
-    }
-
-    /**
-     * Checks for collisions between loot and the player.
-     */
-    private void checkLootCollisions() {
-        ListIterator<Loot> lootIterator = this.loots.listIterator();
+        this.gameInfo.set(new GameInfo(
+            player==null ? 0 : player.getHealth(),
+            player==null ? 0 : player.getScore(),
+            gameLevel==null ? 0 : gameLevel.getLevel(),
+            gameLevel==null ? 0 : gameLevel.getRemainingTime(),
+            gameLevel==null ? 0 : gameLevel.getRemainingZombies(),
+            player.getInventoryInfo()));
 
-        while (lootIterator.hasNext()) {
-            Loot loot = lootIterator.next();
-            if (Globals.isObjectsCollided(loot.getBounds(), this.player.getTargetBounds())) {
-                this.player.addLoot(loot);
-                lootIterator.remove();  // Remove the loot after player takes it
-            }
+        if (!this.isGameInfoUpdatePending.getAndSet(true)) {
+            SwingUtilities.invokeLater(this::showGameInfo);
         }
+
+        if (this.profiler != null) this.profiler.mark(TickProfiler.Phase.GAME_INFO, time);
     }
 
     /**
-     * Checks for any collisions between the various game objects (player, zombies, projectiles, loot).
+     * Shows the latest captured game information on the game information panel. It runs on EDT.
      */
-    private void checkCollisions() {
-        // Projectile collisions
-        checkProjectileCollisions();
+    private void showGameInfo() {
+        this.isGameInfoUpdatePending.set(false);
 
-        // Zombie collisions to the survivor (aka zombie attack)
-        checkZombieCollisions();
+        GameInfo info = this.gameInfo.get();
+        if (info == null) return;
 
-        // Player collision to loot objects
-        checkLootCollisions();
+        GameInfoPanel gameInfoPanel = this.parentPanel.getGameInfoPanel();
+        gameInfoPanel.updatePlayerHealth(info.health());
+        gameInfoPanel.updatePlayerScore(info.score());
+        gameInfoPanel.updateGameLevel(info.level());
+        gameInfoPanel.updateGameRemainingTime(info.remainingTime());
+        gameInfoPanel.updateRemainingZombieCount(info.remainingZombies());
+        gameInfoPanel.updatePlayerInventory(info.inventoryInfo());
     }
 
     /**
-     * Calculates the squared distance between two points to avoid using the costly square root operation.
-     * 
-     * @param x1 The x-coordinate of the first point.
-     * @param y1 The y-coordinate of the first point.
-     * @param x2 The x-coordinate of the second point.
-     * @param y2 The y-coordinate of the second point.
-     * @return The squared distance between the two points.
-     */
-    private double getDistanceSquared(int x1, int y1, int x2, int y2) {
-        int dx = x1 - x2;
-        int dy = y1 - y2;
-        return dx * dx + dy * dy;
-    }
-    
-    /**
-     * Calculates the damage dealt to an entity based on the distance from the origin.
-     * 
-     * The damage decreases based on the distance squared from the origin compared to the effective range.
-     * 
-     * @param originDamage The damage of the attack at the origin point.
-     * @param distanceSquared The squared distance from the attack's origin to the target.
-     * @param effectiveRangeSquared The squared effective range of the attack.
-     * @param effectiveRange The maximum effective range of the attack. (No damage if the distance is more than that)
-     * @return The calculated damage to be applied.
+     * Starts the game, initializing all necessary game objects and state.
      */
-    private double calculateDamage(int originDamage, double distanceSquared, double effectiveRangeSquared, int effectiveRange) {
-        if (distanceSquared == 0) {
-            return originDamage;
-        } else if (distanceSquared < effectiveRangeSquared && effectiveRange > 0) {
-            return (double) originDamage * (1 - (Math.sqrt(distanceSquared) / (4 * effectiveRange)));
-        } else if (distanceSquared == effectiveRangeSquared) {
-            return (double) originDamage * 0.25;
-        }
-        return 0;
+    public void startGame() {
+        startRecording();
+
+        GameAreaPanel.isGamePaused = false;
+        gameLoop.start();
     }
 
     /**
-     * Damages zombies within range of a specific attack.
-     * 
-     * This method applies damage to zombies based on their distance from the origin of the attack.
-     * 
-     * @param originX The x-coordinate of the attack's origin.
-     * @param originY The y-coordinate of the attack's origin.
-     * @param originDamage The damage of the attack at the origin point.
-     * @param effectiveRange The maximum effective range of the attack. (No damage if the distance is more than that)
+     * Starts recording the input of the game into a replay file if recording is enabled and the 
+     * game is new (a loaded game cannot be reproduced from its seed).
      */
-    private void damageZombies(int originX, int originY, int originDamage, int effectiveRange) {
-        double effectiveRangeSquared = effectiveRange * effectiveRange;
-
-        ListIterator<Zombie> zombieIterator = zombies.listIterator();
-        while (zombieIterator.hasNext()) {
-            Zombie zombie = zombieIterator.next();
-            topdownshooter.Core.Position position = zombie.getPosition();
-            double distanceSquared = getDistanceSquared(position.x(), position.y(), originX, originY);  // Calculate distance from origin point of detonation
+    private void startRecording() {
+        ReplayProperties replayProperties = this.config.getReplayProperties();
+        if (!replayProperties.isRecordingEnabled() || this.gameEngine.isRecording() || this.gameEngine.getTickCount() != 0) return;
 
-            // Calculate detonation damage with the function of the distance from origin
-            double damage = calculateDamage(originDamage, distanceSquared, effectiveRangeSquared, effectiveRange);
+        try {
+            Path directory = Paths.get(replayProperties.directory());
+            Files.createDirectories(directory);
 
-            if (damage>0) {
-                zombie.takeDamage(damage);
-            }
+            String filename = "replay_" + getTimestamp() + Replay.FILE_EXTENSION;
+            this.gameEngine.startRecording(directory.resolve(filename));
+        } catch (IOException e) {
+            System.err.println("Cannot record replay: " + e.getMessage());
         }
     }
 
     /**
-     * Damages the player if they are within range of an attack.
-     * 
-     * This method applies damage to the player based on their distance from the attack's origin.
-     * 
-     * @param originX The x-coordinate of the attack's origin.
-     * @param originY The y-coordinate of the attack's origin.
-     * @param originDamage The damage of the attack at the origin point.
-     * @param effectiveRange The maximum effective range of the attack. (No damage if the distance is more than that)
+     * Exports the game ticks kept by the profiler into a CSV file if the export is enabled. The 
+     * profiler is cleared afterwards, so a game is exported once.
      */
-    private void damagePlayer(int originX, int originY, int originDamage, int effectiveRange) {
-        double effectiveRangeSquared = effectiveRange * effectiveRange;
+    private void exportProfile() {
+        if (this.profiler == null || this.profiler.size() == 0) return;
 
-        double distanceSquared = getDistanceSquared(this.player.getX(), this.player.getY(), originX, originY);  // Calculate distance from origin point of detonation
-
-        // Calculate detonation damage with the function of the distance from origin
-        double damage = calculateDamage(originDamage, distanceSquared, effectiveRangeSquared, effectiveRange);
-
-        if (damage>0) {
-            this.player.takeDamage(damage);
+        ProfilerProperties profilerProperties = this.config.getProfilerProperties();
+        if (profilerProperties.isExportEnabled()) {
+            try {
+                Path directory = Paths.get(profilerProperties.directory());
+                Files.createDirectories(directory);
+                this.profiler.exportCsv(directory.resolve("profile_" + getTimestamp() + ".csv"));
+            } catch (IOException e) {
+                System.err.println("Cannot export profile: " + e.getMessage());
+            }
         }
+        this.profiler.clear();
     }
 
     /**
-     * Updates the game information (score, level, etc.) based on the current game state.
+     * Returns the current local time to name the files written by the game.
+     * 
+     * @return The timestamp formatted as yyyyMMdd_HHmmss.
      */
-    private void updateGameInfo() {
-        GameInfoPanel gameInfoPanel = this.parentPanel.getGameInfoPanel();
-        gameInfoPanel.updatePlayerHealth(this.player==null ? 0 : this.player.getHealth());
-        gameInfoPanel.updatePlayerScore(this.player==null ? 0 : this.player.getScore());
-        gameInfoPanel.updateGameLevel(this.gameLevel==null ? 0 : this.gameLevel.getLevel());
-        gameInfoPanel.updateGameRemainingTime(this.gameLevel==null ? 0 : this.gameLevel.getRemainingTime());
-        gameInfoPanel.updateRemainingZombieCount(this.gameLevel==null ? 0 : this.gameLevel.getRemainingZombies());
-        gameInfoPanel.updatePlayerInventory(this.player.getInventoryInfo());
-    }
-
-    /**
-     * Starts the game, initializing all necessary game objects and state.
-     */
-    public void startGame() {
-        GameAreaPanel.isGamePaused = false;
-        gameTimer.start();
+    private static String getTimestamp() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+        return LocalDateTime.now().format(formatter);
     }
 
     /** 
-     * This method pauses the game, freezing all game activity by stoping game timer.
+     * This method pauses the game, freezing all game activity by stoping game loop.
+     * 
+     * It returns after the running game tick is completed, so game objects can be accessed safely afterwards.
      */
     public void pauseGame() {
         GameAreaPanel.isGamePaused = true;
-        gameTimer.stop();
+        gameLoop.stop();
         this.backgroundSoundFX.stop();
     }
 
@@ -672,9 +570,9 @@ public class GameAreaPanel extends JPanel implements ActionListener, KeyListener
      * This method resumes all game activity after being paused.
      */
     public void resumeGame() {
-        requestFocus();
+        requestGameFocus();
 
-        gameTimer.start();
+        gameLoop.start();
         GameAreaPanel.isGamePaused = false;
         this.backgroundSoundFX.play(true);
     }
@@ -685,131 +583,37 @@ public class GameAreaPanel extends JPanel implements ActionListener, KeyListener
      * This method is called to display the game over screen and any related information.
      */
     private void showGameOverDialog() {
-        GameOverPanel gameOverPanel = this.parentPanel.getGameOverPanel();
-        gameOverPanel.setPlayerScore(this.player.getScore());
-        gameOverPanel.setGameLevel(this.gameLevel.getLevel());
-        gameOverPanel.fadeIn();  // Animated pop up 
-    }
-
-    /**
-     * Resets the game to its initial state.
-     * 
-     * This method is called when restarting the game to clear all game objects and reset settings.
-     */
-    private void resetGame() {
-        this.loots.clear();
-        this.projectiles.clear();
-        this.zombies.clear();
-
-        this.player = null;
-        this.gameLevel = null;
-    }
-
-    /**
-     * Serializes the current game objects to an output stream.
-     * 
-     * @param os The output stream to write the serialized game objects to.
-     * @throws IOException If an I/O error occurs during serialization.
-     */
-    private void serializeGameObjects(ObjectOutputStream os) throws IOException{
-        // Serialize player object
-        os.writeObject(this.player);
-        
-        // Serialize game level
-        os.writeObject(this.gameLevel);
-
-        // Serialize zombie objects
-        os.writeObject(this.zombies);
-
-        // Serialize projectiles
-        os.writeObject(this.projectiles);
-
-        // Serialize loots
-        os.writeObject(this.loots);
-
-        // Serialize blast effects
-        os.writeObject(this.blastFXs);
-    }
+        int score = this.gameEngine.getPlayer().getScore();
+        int level = this.gameEngine.getGameLevel().getLevel();
 
-    /**
-     * Creates game objects from a serialized input stream.
-     * 
-     * @param os The input stream to read the serialized game objects from.
-     * @throws IOException If an I/O error occurs during deserialization.
-     * @throws ClassNotFoundException If the class definition of a game object is not found.
-     */
-    @SuppressWarnings("unchecked")
-    private void createGameObjects(ObjectInputStream os) throws IOException, ClassNotFoundException{
-        try {
-            this.player = (Player) os.readObject();
-        
-            this.gameLevel = (GameLevel) os.readObject();
-            this.gameLevel.setConfig(this.config);
-        
-            this.zombies = (ArrayList<Zombie>) os.readObject();
-            
-            this.projectiles = (ArrayList<Projectile>) os.readObject();
-            
-            this.loots = (ArrayList<Loot>) os.readObject();
-
-            this.blastFXs = (ArrayList<BlastFX>) os.readObject();
-
-            /*
-            do {
-                Object object = os.readObject();
-                if (object instanceof GameLevel) {
-                    this.gameLevel = (GameLevel) object;
-                    this.gameLevel.setConfig(this.config);
-                } else if (object instanceof Player) {
-                    this.player = (Player) object;
-                } else if (object instanceof ArrayList<?>) {
-                    ArrayList<?> list = (ArrayList<?>) object;
-                    // Get first element of the list to deduce its type 
-                    if (!list.isEmpty()) {
-                        Object firstElement = list.get(0);
-                        
-                        if (firstElement instanceof Zombie) {
-                            this.zombies = (ArrayList<Zombie>) list;
-                        } else if (firstElement instanceof Projectile) {
-                            this.projectiles = (ArrayList<Projectile>) list;
-                        } else if (firstElement instanceof Loot) {
-                            this.loots = (ArrayList<Loot>) list;
-                        } else {
-                            System.err.println("Array list is illegal to be serialized:" + firstElement.getClass().getName());
-                        }
-                    } else {
-                        System.err.println("Trying to serialize empty array list");
-                    }
-                } else {
-                    System.err.println("Illegal class to be serialized:" + object.getClass().getName());
-                }
-            } while(true);
-            */
-        } catch (EOFException e) {
-            // Reached to end of file
-        }
+        SwingUtilities.invokeLater(() -> {
+            GameOverPanel gameOverPanel = this.parentPanel.getGameOverPanel();
+            gameOverPanel.setPlayerScore(score);
+            gameOverPanel.setGameLevel(level);
+            gameOverPanel.fadeIn();  // Animated pop up 
+        });
     }
 
     /**
      * Loads a saved game from a file.
      * 
-     * @param inputStream The input stream from which the saved game data is loaded.
-     * @throws IOException If an I/O error occurs during loading.
-     * @throws ClassNotFoundException If the class definitions for the saved game objects are not found.
+     * @param file The file from which the saved game is loaded.
+     * @throws IOException If the file cannot be read, or it is not a valid saved game.
      */
-    public void loadGame(FileInputStream inputStream) throws IOException, ClassNotFoundException{
-        if (inputStream==null) return;
+    public void loadGame(File file) throws IOException {
+        if (file==null) return;
 
-        ObjectInputStream os = new ObjectInputStream(inputStream);
-        
-        resetGame();
+        // The game is replaced, so it must not be updated meanwhile; it is started again by startGame()
+        this.gameLoop.stop();
+
+        // The recording of the replaced game is of no use
+        Path replayPath = this.gameEngine.stopRecording();
+        if (replayPath != null) Files.deleteIfExists(replayPath);
 
-        createGameObjects(os);
+        this.gameEngine.loadGame(file.toPath());
 
         this.backgroundSoundFX = new SoundFX(Globals.BACKGROUND_SOUND_FX_PATH);
         this.backgroundSoundFX.play(true);
-
-        os.close();
     }
 
     /**
@@ -833,19 +637,8 @@ public class GameAreaPanel extends JPanel implements ActionListener, KeyListener
 
                 // Save content to the file
                 try {
-                    FileOutputStream savedFile = new FileOutputStream(fileToSave);
-                    try {
-                        ObjectOutputStream os = new ObjectOutputStream(savedFile);
-
-                        serializeGameObjects(os);
-                    
-                        os.close();
-                    } catch (IOException e) {
-                        e.printStackTrace();
-                    } finally {
-        
-                    }
-                } catch (FileNotFoundException e) {
+                    this.gameEngine.saveGame(fileToSave.toPath());
+                } catch (IOException e) {
                     e.printStackTrace();
                 }
             }
@@ -855,37 +648,27 @@ public class GameAreaPanel extends JPanel implements ActionListener, KeyListener
     /**
      * Starts the fire rate timer to control how frequently the player can fire.
      * 
-     * It is triggered by mouse events.
+     * It is triggered by mouse events and runs on the game loop thread.
      * 
      */
     public void startFireTimer() {
-        if (this.fireRateTick == null || this.fireRateTick.isTimeOut()) {
-            this.fireRateTick = new TimeTick(Globals.Time2GameTick(Globals.GAME_TICK_MS), () -> triggerFireFunction()); // Calls function every 15ms
-            this.fireRateTick.setRepeats(0);  // Repeat only once
-        }
+        this.gameEngine.applyInput(InputAction.START_FIRE);
     }
 
     /**
      * Stops firing and cancels the fire rate timer.
      * 
-     * It is triggered by mouse events.
+     * It is triggered by mouse events and runs on the game loop thread.
      * 
      */
     public void stopFire() {
-        this.fireRateTick = null;
-    }
-
-    /**
-     * Adds a projectile to the projectile list when the player shoots.
-     */
-    public void triggerFireFunction() {
-        Projectile projectile = player.fire();
-        if (projectile != null)
-            this.projectiles.add(projectile);
+        this.gameEngine.applyInput(InputAction.STOP_FIRE);
     }
 
     /**
      * Ends the game and transitions to the game over state.
+     * 
+     * It is called on the EDT; the game loop is stopped before the game is torn down.
      */
     public void endGame() {
         exit();
@@ -897,8 +680,17 @@ public class GameAreaPanel extends JPanel implements ActionListener, KeyListener
      * Stops game timer, and clears resources.
      */
     public void exit() {
-        if (this.gameTimer!=null) this.gameTimer.stop();
-        if (this.fireRateTick != null) this.fireRateTick.reset();
+        if (this.gameLoop!=null) this.gameLoop.stop();
+        if (this.gameEngine != null) this.gameEngine.stopFire();
+        if (this.autoSaver != null) this.autoSaver.close();
+        exportProfile();
+        if (this.gameEngine != null) {
+            try {
+                this.gameEngine.stopRecording();
+            } catch (IOException e) {
+                System.err.println("Cannot write replay: " + e.getMessage());
+            }
+        }
         
         GameAreaPanel.isGamePaused = true;  // Set to true to prevent player rotation on mouse movement
 
@@ -927,13 +719,14 @@ public class GameAreaPanel extends JPanel implements ActionListener, KeyListener
     @Override
     public void keyPressed(KeyEvent e) {
         switch (e.getKeyCode()) {
-            case KeyEvent.VK_A -> player.decrementDx();
-            case KeyEvent.VK_D -> player.incrementDx();
-            case KeyEvent.VK_W -> player.decrementDy();
-            case KeyEvent.VK_S -> player.incrementDy();
-            case KeyEvent.VK_R -> player.getCurrentWeapon().reload();
-            case KeyEvent.VK_Q -> player.switchWeapon();
+            case KeyEvent.VK_A -> invokeInput(InputAction.MOVE_LEFT);
+            case KeyEvent.VK_D -> invokeInput(InputAction.MOVE_RIGHT);
+            case KeyEvent.VK_W -> invokeInput(InputAction.MOVE_UP);
+            case KeyEvent.VK_S -> invokeInput(InputAction.MOVE_DOWN);
+            case KeyEvent.VK_R -> invokeInput(InputAction.RELOAD);
+            case KeyEvent.VK_Q -> invokeInput(InputAction.SWITCH_WEAPON);
             case KeyEvent.VK_ESCAPE -> openInGameMenu();
+            case KeyEvent.VK_F3 -> toggleProfilerOverlay();
         }
     }
 
@@ -945,8 +738,54 @@ public class GameAreaPanel extends JPanel implements ActionListener, KeyListener
      */
     @Override
     public void keyReleased(KeyEvent e) {
-        if (e.getKeyCode() == KeyEvent.VK_A || e.getKeyCode() == KeyEvent.VK_D) player.setDx(0);
-        if (e.getKeyCode() == KeyEvent.VK_W || e.getKeyCode() == KeyEvent.VK_S) player.setDy(0);
+        if (e.getKeyCode() == KeyEvent.VK_A || e.getKeyCode() == KeyEvent.VK_D) invokeInput(InputAction.STOP_HORIZONTAL);
+        if (e.getKeyCode() == KeyEvent.VK_W || e.getKeyCode() == KeyEvent.VK_S) invokeInput(InputAction.STOP_VERTICAL);
+    }
+
+    /**
+     * Shows or hides the profiler overlay if profiling is enabled.
+     */
+    private void toggleProfilerOverlay() {
+        if (this.profilerOverlay == null) return;
+
+        this.isProfilerOverlayVisible = !this.isProfilerOverlayVisible;
+        if (!this.isCanvasActive) repaint();
+    }
+
+    /**
+     * Requests the focus for the component which receives the input events, 
+     * the canvas if it is visible, or the panel otherwise.
+     */
+    private void requestGameFocus() {
+        if (this.gameCanvas != null && this.gameCanvas.isVisible()) {
+            this.gameCanvas.requestFocus();
+        } else {
+            requestFocus();
+        }
+    }
+
+    /**
+     * Posts an input action on the player to the game loop thread.
+     * 
+     * Input events are received on EDT, while the player is updated by the game loop thread. 
+     * The action is run before the next game tick, so the player is modified by a single thread only.
+     * 
+     * @param action The action to apply on the player.
+     */
+    private void invokeOnPlayer(Consumer<Player> action) {
+        this.gameLoop.invokeLater(() -> {
+            Player player = this.gameEngine.getPlayer();
+            if (player != null) action.accept(player);
+        });
+    }
+
+    /**
+     * Posts an input action of the player to the game loop thread, where it is applied (and recorded) by the game engine.
+     * 
+     * @param action The input action.
+     */
+    private void invokeInput(InputAction action) {
+        this.gameLoop.invokeLater(() -> this.gameEngine.applyInput(action));
     }
 
     /**
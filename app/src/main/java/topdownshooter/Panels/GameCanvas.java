@@ -0,0 +1,228 @@
+/*
+ * @file GameCanvas.java
+ * @brief This file defines the `GameCanvas` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Panels;
+
+import java.awt.AWTException;
+import java.awt.BufferCapabilities;
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.DisplayMode;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.ImageCapabilities;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import topdownshooter.Core.Globals;
+
+/**
+ * @class GameCanvas
+ * @brief Canvas on which the game loop thread renders the game area actively through a buffer strategy.
+ * 
+ * Instead of requesting a repaint which is coalesced on EDT, the game loop thread draws each frame 
+ * into the back buffer of a double or triple buffered strategy and shows it right away. Page flipping 
+ * is requested first, so the buffers are swapped on the vertical blank where the platform supports it, 
+ * and a blitted strategy is used otherwise.
+ * 
+ * Frames are paced to the lower of the display refresh rate (if vsync is enabled) and the frame rate cap. 
+ * The game loop asks for a frame once per loop iteration, so the due time of the next frame is advanced 
+ * by whole frame intervals. This keeps the average frame rate at the target, although the game ticks 
+ * do not line up with the refreshes of the display.
+ */
+public class GameCanvas extends Canvas {
+    private static final int MAX_RESTORE_ATTEMPTS = 3;     /**< Maximum number of times a frame is drawn again if the buffers are lost. */
+    private static final long FRAME_DUE_TOLERANCE_NANOS = TimeUnit.MILLISECONDS.toNanos(Globals.GAME_TICK_MS) / 2;  /**< A frame this early is rendered instead of waiting for the next game tick. */
+
+    private final int bufferCount;                          /**< Number of buffers, 2 for double and 3 for triple buffering. */
+    private final boolean isVSyncEnabled;                   /**< Whether frames are limited to the refresh rate of the display. */
+    private final int maxFrameRate;                         /**< Maximum number of frames per second, 0 if the frame rate is not capped. */
+
+    private volatile BufferStrategy strategy = null;        /**< Buffer strategy of the canvas, null if the canvas is not displayable. */
+    private volatile long frameIntervalNanos = 0;           /**< Minimum duration between frames in nanoseconds, 0 if frames are not paced. */
+    private long nextFrameTime = 0;                         /**< Time at which the next frame is due. */
+    private volatile long frameCount = 0;                   /**< Number of frames shown so far. */
+
+    /**
+     * Constructs a GameCanvas.
+     * 
+     * @param bufferCount Number of buffers, 2 for double and 3 for triple buffering.
+     * @param isVSyncEnabled Whether frames are limited to the refresh rate of the display.
+     * @param maxFrameRate Maximum number of frames per second, 0 if the frame rate is not capped.
+     */
+    public GameCanvas(int bufferCount, boolean isVSyncEnabled, int maxFrameRate) {
+        if (bufferCount < 2) throw new IllegalArgumentException("Buffer count must be at least 2: " + bufferCount);
+        if (maxFrameRate < 0) throw new IllegalArgumentException("Maximum frame rate cannot be negative: " + maxFrameRate);
+
+        this.bufferCount = bufferCount;
+        this.isVSyncEnabled = isVSyncEnabled;
+        this.maxFrameRate = maxFrameRate;
+
+        setBackground(Color.BLACK);
+        setFocusable(true);
+        setIgnoreRepaint(true);  // Frames are rendered by the game loop thread only
+    }
+
+    /**
+     * Called when the canvas is added to a displayable container.
+     * 
+     * The buffer strategy can only be created after the canvas is displayable, and the 
+     * frame interval depends on the display the canvas is shown on.
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+
+        this.frameIntervalNanos = computeFrameInterval();
+        this.strategy = createStrategy();
+    }
+
+    /**
+     * Called when the canvas is removed from its container. The buffer strategy is released 
+     * by the canvas, so it is not used anymore.
+     */
+    @Override
+    public void removeNotify() {
+        this.strategy = null;
+        super.removeNotify();
+    }
+
+    /**
+     * Returns whether the next frame is due. It is called by the game loop thread.
+     * 
+     * @return True if a frame should be rendered now.
+     */
+    public boolean isFrameDue() {
+        if (this.strategy == null || this.frameIntervalNanos == 0) return true;
+
+        return System.nanoTime() - this.nextFrameTime >= -FRAME_DUE_TOLERANCE_NANOS;
+    }
+
+    /**
+     * Renders a frame into the back buffer and shows it. It is called by the game loop thread.
+     * 
+     * The frame is drawn again if the contents of the buffers are lost in the meantime 
+     * (e.g. after the display mode is changed).
+     * 
+     * @param renderer Draws the frame on the given graphics.
+     * @return True if the frame is shown, false if the canvas is not displayable.
+     */
+    public boolean render(Consumer<Graphics2D> renderer) {
+        BufferStrategy strategy = this.strategy;
+        if (strategy == null) return false;
+
+        advanceFrameTime(System.nanoTime());
+
+        int attempt = 0;
+        do {
+            do {
+                Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    // Contents of the back buffer are undefined after a flip, and nothing is drawn outside of the canvas
+                    g.setClip(0, 0, getWidth(), getHeight());
+                    g.setColor(getBackground());
+                    g.fillRect(0, 0, getWidth(), getHeight());
+
+                    renderer.accept(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+
+            strategy.show();
+        } while (strategy.contentsLost() && ++attempt < MAX_RESTORE_ATTEMPTS);
+
+        // Flush the queued drawing operations, so the frame is shown now rather than with the next one
+        Toolkit.getDefaultToolkit().sync();
+
+        this.frameCount++;
+        return true;
+    }
+
+    /**
+     * Returns the number of frames shown so far.
+     * 
+     * @return The frame count.
+     */
+    public long getFrameCount() {
+        return this.frameCount;
+    }
+
+    /**
+     * Advances the due time of the next frame by a frame interval. If rendering has fallen behind 
+     * by more than a frame interval, the next frame is due a whole interval later instead of 
+     * rendering the missed frames back to back.
+     * 
+     * @param now The current time in nanoseconds.
+     */
+    private void advanceFrameTime(long now) {
+        long interval = this.frameIntervalNanos;
+        if (interval == 0) return;
+
+        this.nextFrameTime += interval;
+        if (now - this.nextFrameTime >= 0) this.nextFrameTime = now + interval;
+    }
+
+    /**
+     * Computes the minimum duration between frames from the refresh rate of the display and the frame rate cap.
+     * 
+     * @return The frame interval in nanoseconds, 0 if frames are not paced.
+     */
+    private long computeFrameInterval() {
+        int frameRate = this.maxFrameRate;
+        if (this.isVSyncEnabled) {
+            GraphicsConfiguration gc = getGraphicsConfiguration();
+            DisplayMode mode = (gc != null) ? gc.getDevice().getDisplayMode() : null;
+            int refreshRate = (mode != null && mode.getRefreshRate() != DisplayMode.REFRESH_RATE_UNKNOWN) ? mode.getRefreshRate() 
+                                                                                                          : Globals.DEFAULT_REFRESH_RATE;
+            frameRate = (frameRate > 0) ? Math.min(frameRate, refreshRate) : refreshRate;
+        }
+
+        return (frameRate > 0) ? TimeUnit.SECONDS.toNanos(1) / frameRate : 0;
+    }
+
+    /**
+     * Creates the buffer strategy of the canvas, preferring page flipping over blitting.
+     * 
+     * @return The buffer strategy.
+     */
+    private BufferStrategy createStrategy() {
+        BufferCapabilities flipCapabilities = new BufferCapabilities(
+            new ImageCapabilities(true), new ImageCapabilities(true), BufferCapabilities.FlipContents.UNDEFINED);
+        try {
+            createBufferStrategy(this.bufferCount, flipCapabilities);
+        } catch (AWTException e) {
+            // Page flipping is not supported (e.g. in windowed mode on most platforms)
+            createBufferStrategy(this.bufferCount);
+        }
+        return getBufferStrategy();
+    }
+}
@@ -31,7 +31,7 @@ package topdownshooter.Panels;
 
 import javax.swing.*;
 import java.awt.*;
-import java.io.FileInputStream;
+import java.io.File;
 import java.io.IOException;
 
 import topdownshooter.Core.ConfigHandler;
@@ -103,6 +103,9 @@ public class GamePanel extends JPanel {
         this.inGameMenuPanel.setParentPanel(this);
         layeredPane.add(this.inGameMenuPanel, JLayeredPane.PALETTE_LAYER);
 
+        // Active rendering of the game area gives way to the overlays while they are visible
+        this.gameAreaPanel.setOverlays(this.notificationPanel, this.gameOverPanel, this.inGameMenuPanel);
+
         add(layeredPane, BorderLayout.CENTER);
 
         setVisible(true);
@@ -180,14 +183,13 @@ public class GamePanel extends JPanel {
     }
 
         /**
-     * Loads the game state from a file input stream.
+     * Loads the game state from a saved game file.
      * 
-     * @param inputStream The input stream from which to load the saved game state.
-     * @throws IOException If there is an error reading the input stream.
-     * @throws ClassNotFoundException If the class required for deserialization cannot be found.
+     * @param file The file from which to load the saved game state.
+     * @throws IOException If the file cannot be read, or it is not a valid saved game.
      */
-    public void loadGame(FileInputStream inputStream) throws IOException, ClassNotFoundException {
-        this.gameAreaPanel.loadGame(inputStream);
+    public void loadGame(File file) throws IOException {
+        this.gameAreaPanel.loadGame(file);
         this.gameAreaPanel.startGame();
     }
 
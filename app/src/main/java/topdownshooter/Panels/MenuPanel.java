@@ -35,13 +35,13 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
 
 import topdownshooter.Core.ConfigHandler;
 import topdownshooter.Core.Globals;
+import topdownshooter.Core.SaveGame;
 import topdownshooter.Core.SoundFX;
 
 /**
@@ -284,12 +284,10 @@ public class MenuPanel extends JPanel {
             // Read content from the selected file
             boolean isExceptionOccured = true;
             try {
-                FileInputStream inputStream = new FileInputStream(fileToOpen);
-
                 this.menuMusic.pause();
                 this.gamePanel = new GamePanel(this.frame, config);
                 this.gamePanel.setParentPanel(this);
-                this.gamePanel.loadGame(inputStream);
+                this.gamePanel.loadGame(fileToOpen);
 
                 this.frame.getContentPane().removeAll();
                 this.frame.add(this.gamePanel);
@@ -300,7 +298,7 @@ public class MenuPanel extends JPanel {
                 this.gamePanel.startGame();
 
                 isExceptionOccured = false;                    
-            } catch (FileNotFoundException e) {
+            } catch (NoSuchFileException e) {
                 JOptionPane.showMessageDialog(
                     null,
                     "No file given!",
@@ -309,7 +307,7 @@ public class MenuPanel extends JPanel {
                 );
     
                 e.printStackTrace();
-            } catch (ClassNotFoundException e) {
+            } catch (SaveGame.FormatException e) {
                 JOptionPane.showMessageDialog(
                     null,
                     "Corrupted file!",
@@ -0,0 +1,191 @@
+/*
+ * @file ProfilerOverlay.java
+ * @brief This file defines the `ProfilerOverlay` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package topdownshooter.Panels;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.util.Arrays;
+
+import topdownshooter.Core.AutoSaver;
+import topdownshooter.Core.Globals;
+import topdownshooter.Core.RenderSnapshot;
+import topdownshooter.Core.TickProfiler;
+import topdownshooter.Core.TickProfiler.Counter;
+import topdownshooter.Core.TickProfiler.Phase;
+import topdownshooter.Core.TickProfiler.PhaseStats;
+
+/**
+ * @class ProfilerOverlay
+ * @brief Draws the statistics of the tick profiler on top of the game area.
+ * 
+ * The overlay shows the percentiles of each phase, the time graphs of the latest game ticks 
+ * and frames against the game tick budget, and the number of game objects. It is drawn into 
+ * the frame, so it is shown on the canvas as well. The percentiles are computed a few times 
+ * a second, as sorting the kept game ticks on each frame would be measured by the profiler.
+ */
+public class ProfilerOverlay {
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);    /**< Font of the overlay. */
+    private static final Color BACKGROUND_COLOR = new Color(0, 0, 0, 180);         /**< Semi-transparent background. */
+    private static final Color TEXT_COLOR = Color.WHITE;                            /**< Color of the text. */
+    private static final Color BAR_COLOR = new Color(80, 200, 80);                  /**< Color of the bars within the budget. */
+    private static final Color OVER_BUDGET_COLOR = new Color(230, 60, 60);          /**< Color of the bars over the budget and the budget line. */
+
+    private static final int MARGIN = 10;                                           /**< Distance of the overlay to the corner of the game area. */
+    private static final int PADDING = 8;                                           /**< Space between the border and the content. */
+    private static final int GRAPH_TICKS = 200;                                     /**< Number of game ticks in a graph. */
+    private static final int BAR_WIDTH = 2;                                         /**< Width of the bar of a game tick. */
+    private static final int GRAPH_HEIGHT = 50;                                     /**< Height of a graph, which spans twice the budget. */
+    private static final long STATS_INTERVAL_NS = 250_000_000L;                     /**< Time between the updates of the percentiles. */
+    private static final long BUDGET_NS = Globals.GAME_TICK_MS * 1_000_000L;        /**< Time budget of a game tick. */
+
+    private final TickProfiler profiler;                                            /**< Profiler whose statistics are shown. */
+    private final long[] durations = new long[GRAPH_TICKS];                         /**< Durations of the graphed phase, reused for each graph. */
+    private volatile PhaseStats[] phaseStats = new PhaseStats[0];                   /**< Latest percentiles of the phases. */
+    private volatile long statsTime = 0;                                            /**< Time at which the percentiles are computed. */
+
+    /**
+     * Creates the overlay of a profiler.
+     * 
+     * @param profiler The profiler.
+     */
+    public ProfilerOverlay(TickProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Draws the overlay at the top-left corner of the game area.
+     * 
+     * It runs on the thread which draws the frame, EDT or the game loop thread.
+     * 
+     * @param g The Graphics object used to render the game area.
+     * @param drawStats The draw statistics of the latest frame.
+     * @param droppedTicks The number of game ticks dropped by the game loop.
+     * @param autosaveStats The measurements of the latest autosave, or null if none is written.
+     */
+    public void draw(Graphics g, RenderSnapshot.DrawStats drawStats, long droppedTicks, AutoSaver.Stats autosaveStats) {
+        updateStats();
+        PhaseStats[] phaseStats = this.phaseStats;
+
+        g.setFont(FONT);
+        FontMetrics metrics = g.getFontMetrics();
+        int lineHeight = metrics.getHeight();
+        int width = GRAPH_TICKS * BAR_WIDTH + 2 * PADDING;
+        int lineCount = 1 + phaseStats.length + 2 + 4 + (autosaveStats != null ? 1 : 0);
+        int height = lineCount * lineHeight + 2 * (GRAPH_HEIGHT + PADDING) + 2 * PADDING;
+
+        g.setColor(BACKGROUND_COLOR);
+        g.fillRect(MARGIN, MARGIN, width, height);
+
+        int x = MARGIN + PADDING;
+        int y = MARGIN + PADDING + metrics.getAscent();
+
+        g.setColor(TEXT_COLOR);
+        g.drawString(String.format("%-12s%8s%8s%8s%8s", "Phase (ms)", "p50", "p95", "p99", "max"), x, y);
+        for (PhaseStats stats : phaseStats) {
+            y += lineHeight;
+            g.drawString(String.format("%-12s%8.2f%8.2f%8.2f%8.2f", stats.phase().getLabel(), stats.p50Nanos() / 1e6, 
+                                       stats.p95Nanos() / 1e6, stats.p99Nanos() / 1e6, stats.maxNanos() / 1e6), x, y);
+        }
+
+        y += lineHeight;
+        g.drawString("Tick (budget " + Globals.GAME_TICK_MS + " ms)", x, y);
+        y = drawGraph(g, Phase.TICK, x, y + PADDING);
+
+        y += lineHeight;
+        g.setColor(TEXT_COLOR);
+        g.drawString("Paint", x, y);
+        y = drawGraph(g, Phase.PAINT, x, y + PADDING);
+
+        g.setColor(TEXT_COLOR);
+        y += lineHeight;
+        g.drawString(String.format("Zombies %d  Projectiles %d", this.profiler.getCount(Counter.ZOMBIES), 
+                                   this.profiler.getCount(Counter.PROJECTILES)), x, y);
+        y += lineHeight;
+        g.drawString(String.format("Loots %d  Blasts %d  Timers %d", this.profiler.getCount(Counter.LOOTS), 
+                                   this.profiler.getCount(Counter.BLASTS), this.profiler.getCount(Counter.TIMERS)), x, y);
+        y += lineHeight;
+        g.drawString(String.format("Sprites drawn %d  culled %d", drawStats.drawnCount(), drawStats.culledCount()), x, y);
+        y += lineHeight;
+        g.drawString("Dropped ticks " + droppedTicks, x, y);
+        if (autosaveStats != null) {
+            y += lineHeight;
+            g.drawString(String.format("Autosave %.2f ms snapshot, %d KB", autosaveStats.snapshotNanos() / 1e6, 
+                                       autosaveStats.bytesWritten() / 1024), x, y);
+        }
+    }
+
+    /**
+     * Draws the durations of a phase in the latest game ticks as bars, scaled to twice the budget.
+     * 
+     * @param g The Graphics object used to render the game area.
+     * @param phase The phase.
+     * @param x The left of the graph.
+     * @param y The top of the graph.
+     * @return The bottom of the graph.
+     */
+    private int drawGraph(Graphics g, Phase phase, int x, int y) {
+        int count = this.profiler.getRecentDurations(phase, this.durations);
+        int bottom = y + GRAPH_HEIGHT;
+
+        for (int i = 0; i < count; i++) {
+            long nanos = this.durations[i];
+            int barHeight = (int) Math.min(GRAPH_HEIGHT, nanos * GRAPH_HEIGHT / (2 * BUDGET_NS));
+            if (barHeight == 0) continue;
+
+            g.setColor(nanos > BUDGET_NS ? OVER_BUDGET_COLOR : BAR_COLOR);
+            g.fillRect(x + (GRAPH_TICKS - count + i) * BAR_WIDTH, bottom - barHeight, BAR_WIDTH, barHeight);
+        }
+
+        g.setColor(OVER_BUDGET_COLOR);
+        g.drawLine(x, bottom - GRAPH_HEIGHT / 2, x + GRAPH_TICKS * BAR_WIDTH, bottom - GRAPH_HEIGHT / 2);
+        return bottom;
+    }
+
+    /**
+     * Computes the percentiles of the phases if the latest ones are outdated.
+     */
+    private void updateStats() {
+        long now = System.nanoTime();
+        if (now - this.statsTime < STATS_INTERVAL_NS && this.phaseStats.length > 0) return;
+        this.statsTime = now;
+
+        Phase[] phases = Phase.values();
+        PhaseStats[] phaseStats = new PhaseStats[phases.length];
+        int count = 0;
+        for (Phase phase : phases) {
+            PhaseStats stats = this.profiler.getStats(phase);
+            if (stats.count() > 0) phaseStats[count++] = stats;
+        }
+        this.phaseStats = Arrays.copyOf(phaseStats, count);
+    }
+}
@@ -29,21 +29,23 @@
 
 package topdownshooter.Player;
 
-import java.awt.Graphics;
 import java.awt.Rectangle;
-
-import javax.swing.JPanel;
+import java.io.IOException;
+import java.io.Serializable;
 
 import topdownshooter.Core.Globals;
+import topdownshooter.Core.SaveGame;
 import topdownshooter.Core.SpriteAnimation;
+import topdownshooter.Core.RenderSnapshot;
 import topdownshooter.Player.PlayerItem.ItemType;
+import topdownshooter.Weapon.WeaponType;
 
 /**
  * The Loot class represents an item of loot in the game. It contains information
  * about the loot's position, associated score, and item type, along with animation 
  * handling for different types of loot (e.g., ammunition, small medic pack, large medic pack).
  */
-public class Loot extends JPanel {
+public class Loot implements Serializable {
     private int x, y;
     private final int WIDTH = 50;                               // The width of the loot item.
     private final int HEIGHT = 50;                              // The height of the loot item.
@@ -55,6 +57,7 @@ public class Loot extends JPanel {
     private SpriteAnimation spriteAnimationAmmo = null;         // The animation for the ammunition loot item.
     private SpriteAnimation spriteAnimationSmallMedic = null;   // The animation for the small medic pack loot item.
     private SpriteAnimation spriteAnimationLargeMedic = null;   // The animation for the large medic pack loot item.
+    private transient Rectangle bounds = null;                  // Reused collision bounds of the loot item.
 
     /**
      * Constructs a new Loot object at the specified position with the given score and item.
@@ -66,40 +69,68 @@ public class Loot extends JPanel {
      * @param item The PlayerItem associated with the loot.
      */
     public Loot(int x, int y, int score, PlayerItem item) {
+        init(x, y, score, item);
+    }
+
+    /**
+     * Re-initializes the loot at the specified position with the given score and item.
+     * It is used when a pooled loot is reused; animations created before are rewound and reused.
+     * 
+     * @param x The x-coordinate of the loot item.
+     * @param y The y-coordinate of the loot item.
+     * @param score The score associated with the loot item.
+     * @param item The PlayerItem associated with the loot.
+     * 
+     * @see LootPool
+     */
+    public void init(int x, int y, int score, PlayerItem item) {
         this.x = x;
         this.y = y;
         this.score = score;
         this.item = item;
+        this.lootAge = 0;
 
         // No loot item may exists
         if (this.item == null) return;
 
         if (this.item.lootType == ItemType.AMMUNITION) {
-            this.spriteAnimationAmmo = new SpriteAnimation(Globals.AMMO_ANIMATION);
-            this.spriteAnimationAmmo.setTargetSize(WIDTH, HEIGHT); 
+            if (this.spriteAnimationAmmo == null) {
+                this.spriteAnimationAmmo = new SpriteAnimation(Globals.AMMO_ANIMATION);
+                this.spriteAnimationAmmo.setTargetSize(WIDTH, HEIGHT); 
+            } else {
+                this.spriteAnimationAmmo.reset();
+            }
         } else if (this.item.lootType == ItemType.SMALL_MEDIC_PACK) {
-            this.spriteAnimationSmallMedic = new SpriteAnimation(Globals.SMALL_MEDIC_ANIMATION);
-            this.spriteAnimationSmallMedic.setTargetSize(WIDTH, HEIGHT); 
+            if (this.spriteAnimationSmallMedic == null) {
+                this.spriteAnimationSmallMedic = new SpriteAnimation(Globals.SMALL_MEDIC_ANIMATION);
+                this.spriteAnimationSmallMedic.setTargetSize(WIDTH, HEIGHT); 
+            } else {
+                this.spriteAnimationSmallMedic.reset();
+            }
         } else if (this.item.lootType == ItemType.LARGE_MEDIC_PACK) {
-            this.spriteAnimationLargeMedic = new SpriteAnimation(Globals.LARGE_MEDIC_ANIMATION);
-            this.spriteAnimationLargeMedic.setTargetSize(WIDTH, HEIGHT); 
+            if (this.spriteAnimationLargeMedic == null) {
+                this.spriteAnimationLargeMedic = new SpriteAnimation(Globals.LARGE_MEDIC_ANIMATION);
+                this.spriteAnimationLargeMedic.setTargetSize(WIDTH, HEIGHT); 
+            } else {
+                this.spriteAnimationLargeMedic.reset();
+            }
         } else {}
     }
 
     /**
      * Draws the loot item on the provided graphics context.
      * 
-     * @param g The graphics context used for drawing the loot item.
+     * @param snapshot The snapshot builder of the frame.
      */
-    public void draw(Graphics g) {
+    public void draw(RenderSnapshot.Builder snapshot) {
         if (this.item == null) return;
 
         if (this.item.lootType == ItemType.AMMUNITION) {
-            this.spriteAnimationAmmo.draw(g, this.x, this.y, 0.0);
+            this.spriteAnimationAmmo.draw(snapshot, this.x, this.y, 0.0);
         } else if (this.item.lootType == ItemType.SMALL_MEDIC_PACK) {
-            this.spriteAnimationSmallMedic.draw(g, this.x, this.y, 0.0);
+            this.spriteAnimationSmallMedic.draw(snapshot, this.x, this.y, 0.0);
         } else if (this.item.lootType == ItemType.LARGE_MEDIC_PACK) {
-            this.spriteAnimationLargeMedic.draw(g, this.x, this.y, 0.0);
+            this.spriteAnimationLargeMedic.draw(snapshot, this.x, this.y, 0.0);
         } else {
 
         }
@@ -169,10 +200,91 @@ public class Loot extends JPanel {
     /**
      * Returns a rectangle representing the bounds of the loot item.
      * 
+     * The same instance is returned on each call and it is updated to the current position, so it should not be stored.
+     * 
      * @return The bounds of the loot item as a Rectangle.
      */
     public Rectangle getBounds() {
-        return new Rectangle(this.x, this.y, WIDTH, HEIGHT);
+        if (this.bounds == null) this.bounds = new Rectangle();
+        this.bounds.setBounds(this.x, this.y, WIDTH, HEIGHT);
+        return this.bounds;
+    }
+
+    /**
+     * Writes the state of the loot item (position, score, item, age and animation frame) to a saved game.
+     * 
+     * @param writer The writer of the saved game.
+     */
+    public void writeState(SaveGame.Writer writer) {
+        writer.putInt(this.x);
+        writer.putInt(this.y);
+        writer.putInt(this.score);
+        writer.putInt(this.lootAge);
+        writer.putEnum(this.item == null ? ItemType.UNDEFINED : this.item.lootType);
+        if (this.item instanceof AmmunitionItem) {
+            AmmunitionItem ammunition = (AmmunitionItem) this.item;
+            writer.putEnum(ammunition.type);
+            writer.putInt(ammunition.magazineCount);
+        }
+
+        SpriteAnimation animation = getSpriteAnimation();
+        if (animation != null) animation.writeState(writer);
+    }
+
+    /**
+     * Restores the state of the loot item from a saved game. The animation of the item is 
+     * created from the shared sprite sheet cache.
+     * 
+     * @param reader The reader of the saved game.
+     * @throws IOException If the state cannot be read.
+     */
+    public void readState(SaveGame.Reader reader) throws IOException {
+        int x = reader.getInt();
+        int y = reader.getInt();
+        int score = reader.getInt();
+        int lootAge = reader.getInt();
+
+        PlayerItem item = null;
+        switch (reader.getEnum(ItemType.values())) {
+            case AMMUNITION:
+                WeaponType weaponType = reader.getEnum(WeaponType.values());
+                item = new AmmunitionItem(weaponType, reader.getInt());
+                break;
+            case SMALL_MEDIC_PACK:
+                item = new SmallMedicPackItem();
+                break;
+            case LARGE_MEDIC_PACK:
+                item = new LargeMedicPackItem();
+                break;
+            default:
+                break;
+        }
+
+        init(x, y, score, item);
+        this.lootAge = lootAge;
+
+        SpriteAnimation animation = getSpriteAnimation();
+        if (animation != null) animation.readState(reader);
+    }
+
+    /**
+     * Returns the animation of the item type of the loot.
+     * 
+     * @return The animation, or null if the loot has no item.
+     */
+    private SpriteAnimation getSpriteAnimation() {
+        if (this.item == null) return null;
+
+        switch (this.item.lootType) {
+            case AMMUNITION:
+                return this.spriteAnimationAmmo;
+            case SMALL_MEDIC_PACK:
+                return this.spriteAnimationSmallMedic;
+            case LARGE_MEDIC_PACK:
+                return this.spriteAnimationLargeMedic;
+            default:
+                return null;
+        }
     }
 
     /**
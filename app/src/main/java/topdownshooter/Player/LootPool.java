@@ -0,0 +1,70 @@
+/*
+ * @file LootPool.java
+ * @brief This file defines the `LootPool` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Player;
+
+import topdownshooter.Core.Globals;
+import topdownshooter.Core.ObjectPool;
+
+/**
+ * @class LootPool
+ * @brief Pool of reusable loot objects dropped by killed zombies.
+ * 
+ * @see ObjectPool
+ * @see Loot
+ */
+public final class LootPool {
+    private static final ObjectPool<Loot> lootPool = new ObjectPool<>("Loot", Globals.LOOT_POOL_CAPACITY, () -> new Loot(0, 0, 0, null));
+
+    private LootPool() {}
+
+    /**
+     * Acquires a loot from the pool.
+     * 
+     * @param x The x-coordinate of the loot item.
+     * @param y The y-coordinate of the loot item.
+     * @param score The score associated with the loot item.
+     * @param item The PlayerItem associated with the loot.
+     * @return The initialized loot.
+     */
+    public static Loot acquire(int x, int y, int score, PlayerItem item) {
+        Loot loot = lootPool.acquire();
+        loot.init(x, y, score, item);
+        return loot;
+    }
+
+    /**
+     * Gives a loot back to the pool. The loot must not be used after it is released.
+     * 
+     * @param loot The loot which is removed from the game. Null is ignored.
+     */
+    public static void release(Loot loot) {
+        lootPool.release(loot);
+    }
+}
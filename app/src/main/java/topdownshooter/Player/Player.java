@@ -29,11 +29,10 @@
 
 package topdownshooter.Player;
 
-import javax.swing.*;
-
 import java.awt.*;
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 import java.util.ArrayList;
@@ -42,12 +41,16 @@ import java.util.LinkedHashMap;
 
 import topdownshooter.Weapon.Weapon;
 import topdownshooter.Core.ConfigHandler;
+import topdownshooter.Core.GameRandom;
 import topdownshooter.Core.Globals;
 import topdownshooter.Core.RectangleBound;
 import topdownshooter.Core.ConfigHandler.PlayerProperties;
 import topdownshooter.Core.SequencialSoundFX;
 import topdownshooter.Core.SpriteAnimation;
 import topdownshooter.Core.SpriteAnimation.Offset;
+import topdownshooter.Core.RenderSnapshot;
+import topdownshooter.Core.SaveGame;
+import topdownshooter.Core.TimerWheel;
 import topdownshooter.Weapon.WeaponFactory;
 import topdownshooter.Weapon.WeaponType;
 import topdownshooter.Weapon.Projectiles.Projectile;
@@ -55,9 +58,9 @@ import topdownshooter.Weapon.Projectiles.Projectile;
 /**
  * The Player class represents the player in the game, handling the player's state,
  * inventory, health, weapons, and actions.
- * It extends {@link javax.swing.JPanel} to render the player's visual representation.
+ * It does not depend on Swing, so it can be simulated without a display.
  */
-public class Player extends JPanel {
+public class Player implements Serializable {
     /**
      * @enum PlayerState
      * @brief Enumeration for defining the types of player action.
@@ -85,6 +88,9 @@ public class Player extends JPanel {
 
     private transient Map<WeaponType, Map<PlayerState, SpriteAnimation>> spriteAnimations = null;    // Weapon state animations
     private transient SequencialSoundFX walkSoundFX = null;         // Sound effect for walking
+    private transient RectangleBound targetBounds = null;           // Reused target bounds, updated on each getTargetBounds() call
+    private transient TimerWheel timers = null;                     // Timing wheel of the game engine, which runs the timers of the weapons
+    private transient GameRandom random = null;                     // Random number streams of the game engine, which the weapons draw from
     
     // Default constructor
     public Player() {}
@@ -93,8 +99,12 @@ public class Player extends JPanel {
      * Constructor to create a player with specified properties.
      *
      * @param properties The properties used to configure the players's inital health, speed.
+     * @param timers The timing wheel of the game engine, which the timers of the weapons are bound to.
+     * @param random The random number streams of the game engine.
      */
-    public Player(ConfigHandler config) {
+    public Player(ConfigHandler config, TimerWheel timers, GameRandom random) {
+        this.timers = timers;
+        this.random = random;
         PlayerProperties playerProperties = config.getPlayerProperties();
         this.x = playerProperties.startingX();
         this.y = playerProperties.startingY();
@@ -116,7 +126,7 @@ public class Player extends JPanel {
         }
 
         // If no weapon specified at the startup with pistol
-        if (playerProperties.startingWeapons().length==0) {
+        if (playerProperties.startingWeapons().isEmpty()) {
             addNewWeapon(config, WeaponType.PISTOL);
         }
 
@@ -201,19 +211,19 @@ public class Player extends JPanel {
     /**
      * Draws the player on the screen.
      * 
-     * @param g The graphics context to use for drawing.
+     * @param snapshot The snapshot builder of the frame.
      */
-    public void draw(Graphics g) {
+    public void draw(RenderSnapshot.Builder snapshot) {
         // Draw sprite animations of player according to weapon type
         PlayerState playerState = PlayerState.IDLE;
         WeaponType currentWeaponType = this.inventory.get(this.currentWeaponType).getType();
 
         if (currentWeaponType == WeaponType.UNDEFINED) return;
 
-        this.spriteAnimations.get(currentWeaponType).get(playerState).draw(g, this.x, this.y, this.r);
+        this.spriteAnimations.get(currentWeaponType).get(playerState).draw(snapshot, this.x, this.y, this.r);
 
         // Draw weapon animation
-        this.inventory.get(this.currentWeaponType).draw(g, this.x + WIDTH / 2, this.y + HEIGHT / 2, this.r);
+        this.inventory.get(this.currentWeaponType).draw(snapshot, this.x + WIDTH / 2, this.y + HEIGHT / 2, this.r);
 
     }
 
@@ -402,7 +412,7 @@ public class Player extends JPanel {
                 return false;
         }
 
-        Weapon weapon = WeaponFactory.createWeapon(config, type);
+        Weapon weapon = WeaponFactory.createWeapon(config, this.timers, this.random, type);
         if (this.inventory.isEmpty() && weapon!=null) this.currentWeaponType = weapon.getType();
         if (weapon!=null) this.inventory.put(weapon.getType(), weapon);
 
@@ -476,13 +486,19 @@ public class Player extends JPanel {
     /**
      * Returns a rectangle representing the target bounds of the player.
      * The size of this rectangle is slightly smaller than the player's bounds.
+     * The same instance is returned on each call and it is updated to the current position.
      * @return A rectangle representing the target bounds.
      */
     public RectangleBound getTargetBounds() {
         double width = this.WIDTH * 0.8;
         double height = this.HEIGHT * 0.8;
 
-        return new RectangleBound(this.x + 6, this.y + 10, (int) width, (int) height, this.r);
+        if (this.targetBounds == null) {
+            this.targetBounds = new RectangleBound(this.x + 6, this.y + 10, (int) width, (int) height, this.r);
+        } else {
+            this.targetBounds.set(this.x + 6, this.y + 10, (int) width, (int) height, this.r);
+        }
+        return this.targetBounds;
     }
 
     /**
@@ -508,6 +524,84 @@ public class Player extends JPanel {
         return sb.toString();
     }
 
+    /**
+     * Writes the state of the player to a saved game: one record of the player itself, followed 
+     * by one record of each weapon in the inventory order. The movement direction is not saved, 
+     * since it follows the keys held by the user.
+     * @param writer The writer of the saved game.
+     */
+    public void writeState(SaveGame.Writer writer) {
+        writer.beginRecord();
+        writer.putInt(this.score);
+        writer.putDouble(this.health);
+        writer.putInt(this.x);
+        writer.putInt(this.y);
+        writer.putDouble(this.r);
+        writer.putEnum(this.currentWeaponType);
+        SpriteAnimation animation = getAnimation(this.currentWeaponType);
+        writer.putBoolean(animation != null);
+        if (animation != null) animation.writeState(writer);
+        writer.endRecord();
+
+        for (Weapon weapon: this.inventory.values()) {
+            writer.beginRecord();
+            writer.putEnum(weapon.getType());
+            weapon.writeState(writer);
+            writer.endRecord();
+        }
+    }
+
+    /**
+     * Restores the state of the player from a saved game. The inventory is replaced by the saved 
+     * weapons, which are created from the configuration.
+     * @param reader The reader of the saved game.
+     * @param config The configuration handler used to create the weapons.
+     * @throws IOException If the state cannot be read.
+     */
+    public void readState(SaveGame.Reader reader, ConfigHandler config) throws IOException {
+        reader.beginRecord();
+        this.score = reader.getInt();
+        this.health = reader.getDouble();
+        this.x = reader.getInt();
+        this.y = reader.getInt();
+        this.r = reader.getDouble();
+        this.dx = 0;
+        this.dy = 0;
+        WeaponType currentWeaponType = reader.getEnum(WeaponType.values());
+        SpriteAnimation animation = getAnimation(currentWeaponType);
+        if (reader.getBoolean() && animation != null) animation.readState(reader);
+        reader.endRecord();
+
+        this.inventory.clear();
+        while (reader.hasRecord()) {
+            reader.beginRecord();
+            WeaponType type = reader.getEnum(WeaponType.values());
+            addNewWeapon(config, type);
+
+            Weapon weapon = this.inventory.get(type);
+            if (weapon == null) {
+                throw new SaveGame.FormatException("Saved weapon type is not supported!");
+            }
+            weapon.readState(reader);
+            reader.endRecord();
+        }
+
+        if (!this.inventory.containsKey(currentWeaponType)) {
+            throw new SaveGame.FormatException("Saved weapon is not in the inventory!");
+        }
+        this.currentWeaponType = currentWeaponType;
+    }
+
+    /**
+     * Returns the animation drawn for a weapon type.
+     * @param weaponType The weapon type.
+     * @return The animation, or null if there is no animation for the weapon type.
+     */
+    private SpriteAnimation getAnimation(WeaponType weaponType) {
+        Map<PlayerState, SpriteAnimation> weaponAnimations = this.spriteAnimations.get(weaponType);
+        return (weaponAnimations != null) ? weaponAnimations.get(PlayerState.IDLE) : null;
+    }
+
     /**
      * Reads the player's object data from the input stream.
      * Initializes sprite animations and sound effects after deserialization.
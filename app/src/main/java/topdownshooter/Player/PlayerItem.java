@@ -49,8 +49,6 @@ import topdownshooter.Weapon.WeaponType;
  * @see LargeMedicPackItem
  */
 public abstract class PlayerItem implements Serializable{
-    private static Random random = new Random(); // Reuse random instance
-
     /**
      * @enum ItemType
      * @brief Enumeration for defining the types of player items.
@@ -75,11 +73,12 @@ public abstract class PlayerItem implements Serializable{
      * This method determines the probability of an item spawning and selects the item type 
      * based on the spawn chance and available weapon types.
      * 
+     * @param random The random number stream of the dropped items.
      * @param chanceFactor The factor affecting the spawn chance (higher value increases chances).
      * @param weaponLists A list of available weapon types for ammunition item generation.
      * @return A randomly generated player item (null if no item is spawned).
      */
-    public static PlayerItem generatePlayerItem(int chanceFactor, List<WeaponType> weaponLists) {
+    public static PlayerItem generatePlayerItem(Random random, int chanceFactor, List<WeaponType> weaponLists) {
         int spawnChance = random.nextInt(100);
         if (spawnChance * chanceFactor > 90) {
             int itemType = random.nextInt(10);  // 0-5: Ammo, 6-8: SmallMedicPack, 9: LargeMedicPack
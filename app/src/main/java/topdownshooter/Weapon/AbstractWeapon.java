@@ -29,14 +29,17 @@
 
 package topdownshooter.Weapon;
 
-import java.awt.Graphics;
+import java.io.IOException;
 
 import topdownshooter.Core.Globals;
 import topdownshooter.Core.SoundFX;
 import topdownshooter.Core.SpriteAnimation;
 import topdownshooter.Core.SpriteAnimation.Offset;
 import topdownshooter.Core.TimeTick;
+import topdownshooter.Core.TimerWheel;
 import topdownshooter.Core.ConfigHandler.WeaponProperties;
+import topdownshooter.Core.RenderSnapshot;
+import topdownshooter.Core.SaveGame;
 import topdownshooter.Weapon.Projectiles.Projectile;
 
 /**
@@ -76,8 +79,9 @@ public abstract class AbstractWeapon implements Weapon {
      * Constructor that initializes the weapon with specific properties.
      * 
      * @param properties The properties for the weapon.
+     * @param timers The timing wheel of the game engine, which the fire and reload timers are bound to.
      */
-    public AbstractWeapon(WeaponProperties properties) {
+    public AbstractWeapon(WeaponProperties properties, TimerWheel timers) {
         this.damage = properties.damage();
         this.fireRate = properties.fireRate() > 0 ? properties.fireRate(): 1;  // FireRate (1/min) cannot be zero
         this.magazineCapacity = properties.magazineCapacity();
@@ -85,9 +89,9 @@ public abstract class AbstractWeapon implements Weapon {
         this.reloadDuration = properties.reloadDuration();  // In seconds
 
         this.ammo = this.magazineCapacity;  // Create the weapon fully loaded
-        this.fireTick = new TimeTick(Globals.Time2GameTick(60*1000/this.fireRate));
+        this.fireTick = new TimeTick(timers, Globals.Time2GameTick(60*1000/this.fireRate));
         this.fireTick.setRepeats(-1);  // Repeates indefinetly
-        this.reloadTick = new TimeTick(0/*Globals.Time2Tick(1000/this.reloadDuration)*/);
+        this.reloadTick = new TimeTick(timers, 0/*Globals.Time2Tick(1000/this.reloadDuration)*/);
         this.reloadTick.setRepeats(-1);  // Repeates indefinetly
 
         this.emptyClickSoundFX = new SoundFX(Globals.EMPTY_GUN_CLICK_SOUND_FX_PATH); 
@@ -113,14 +117,11 @@ public abstract class AbstractWeapon implements Weapon {
 
     @Override
     public void update() {
-        this.fireTick.updateTick();
-        this.reloadTick.updateTick();
-
         if (this.weaponAnimation!=null) this.weaponAnimation.update();
     }
     
     @Override
-    public void draw(Graphics g, int x, int y, double r) {
+    public void draw(RenderSnapshot.Builder snapshot, int x, int y, double r) {
         if (this.weaponAnimation == null) return;
         
         Offset offset = this.weaponAnimation.getOffset();
@@ -139,7 +140,7 @@ public abstract class AbstractWeapon implements Weapon {
         //// Reset transformation
         //g2d.setTransform(oldTransform);
 
-        if (this.weaponAnimation!=null) this.weaponAnimation.draw2(g, (int) translatedX, (int) translatedY, r);
+        if (this.weaponAnimation!=null) this.weaponAnimation.draw2(snapshot, (int) translatedX, (int) translatedY, r);
     }
 
     @Override
@@ -183,6 +184,24 @@ public abstract class AbstractWeapon implements Weapon {
         return this.type;
     }
 
+    @Override
+    public void writeState(SaveGame.Writer writer) {
+        writer.putInt(this.ammo);
+        writer.putInt(this.magazineCount);
+        this.fireTick.writeState(writer);
+        this.reloadTick.writeState(writer);
+        if (this.weaponAnimation != null) this.weaponAnimation.writeState(writer);
+    }
+
+    @Override
+    public void readState(SaveGame.Reader reader) throws IOException {
+        this.ammo = reader.getInt();
+        this.magazineCount = reader.getInt();
+        this.fireTick.readState(reader);
+        this.reloadTick.readState(reader);
+        if (this.weaponAnimation != null) this.weaponAnimation.readState(reader);
+    }
+
     /**
      * Plays the firing sound effect for the weapon.
      */
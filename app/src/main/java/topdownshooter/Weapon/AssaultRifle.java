@@ -32,10 +32,13 @@ package topdownshooter.Weapon;
 import java.util.Random;
 
 import topdownshooter.Core.ConfigHandler.WeaponProperties;
+import topdownshooter.Core.GameRandom;
 import topdownshooter.Core.Globals;
 import topdownshooter.Core.SoundFX;
 import topdownshooter.Core.SpriteAnimation;
+import topdownshooter.Core.TimerWheel;
 import topdownshooter.Weapon.Projectiles.Bullet;
+import topdownshooter.Weapon.Projectiles.ProjectilePool;
 
 /**
  * @class AssaultRifle
@@ -50,11 +53,12 @@ import topdownshooter.Weapon.Projectiles.Bullet;
  * @see Bullet
  */
 public class AssaultRifle extends AbstractWeapon {
-    private static Random spreadRandom = new Random(); // Reuse random instance   
+    private transient Random spreadRandom = null; // Seeded stream of the weapon spread, drawn from the streams of the game engine
     private final double MAX_SPREAD_ANGLE_DEG = 30;  // In degree
 
-    public AssaultRifle(WeaponProperties properties) {
-        super(properties);
+    public AssaultRifle(WeaponProperties properties, TimerWheel timers, GameRandom random) {
+        super(properties, timers);
+        this.spreadRandom = random.get(GameRandom.Stream.WEAPON);
 
         this.type = WeaponType.ASSAULTRIFLE;
 
@@ -69,12 +73,12 @@ public class AssaultRifle extends AbstractWeapon {
     @Override
     public Bullet fire(int x, int y, double r) {
         if (this.fireTick.isTimeOut() && this.ammo > 0) {
-            double spreadAngle = spreadRandom.nextDouble(MAX_SPREAD_ANGLE_DEG) - (MAX_SPREAD_ANGLE_DEG / 2.0);  // In degree
+            double spreadAngle = this.spreadRandom.nextDouble(MAX_SPREAD_ANGLE_DEG) - (MAX_SPREAD_ANGLE_DEG / 2.0);  // In degree
             fireTick.reset();
             this.ammo--;
             applySoundFX();
             this.weaponAnimation.setRepeat(1);  // Only repeat animation once
-            return new Bullet(x, y, r + Globals.degToRad(spreadAngle), this.damage);
+            return ProjectilePool.acquireBullet(x, y, r + Globals.degToRad(spreadAngle), this.damage);
         }
         return null;
     }
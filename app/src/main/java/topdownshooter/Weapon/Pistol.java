@@ -33,7 +33,9 @@ import topdownshooter.Core.ConfigHandler.WeaponProperties;
 import topdownshooter.Core.Globals;
 import topdownshooter.Core.SoundFX;
 import topdownshooter.Core.SpriteAnimation;
+import topdownshooter.Core.TimerWheel;
 import topdownshooter.Weapon.Projectiles.Bullet;
+import topdownshooter.Weapon.Projectiles.ProjectilePool;
 
 /**
  * @class Pistol
@@ -52,9 +54,10 @@ public class Pistol extends AbstractWeapon {
      * Constructor that initializes the Pistol with the given weapon properties.
      * 
      * @param properties The properties for the weapon.
+     * @param timers The timing wheel of the game engine.
      */
-    public Pistol(WeaponProperties properties) {
-        super(properties);
+    public Pistol(WeaponProperties properties, TimerWheel timers) {
+        super(properties, timers);
 
         this.type = WeaponType.PISTOL;
         
@@ -77,7 +80,7 @@ public class Pistol extends AbstractWeapon {
             this.ammo--;
             applySoundFX();
             this.weaponAnimation.setRepeat(1);  // Only repeat animation once
-            return new Bullet(x, y, r, this.damage);
+            return ProjectilePool.acquireBullet(x, y, r, this.damage);
         }
         return null;
     }
@@ -29,11 +29,9 @@
 
 package topdownshooter.Weapon.Projectiles;
 
-import java.awt.Graphics;
-
 import topdownshooter.Core.Globals;
 import topdownshooter.Core.TextureFX;
-import topdownshooter.Core.TextureFXStruct;
+import topdownshooter.Core.RenderSnapshot;
 import topdownshooter.Zombie.AcidZombie;
 
 /**
@@ -64,7 +62,7 @@ public class AcidSpit extends Projectile {
         this.type = ProjectileType.ACID_SPIT;
         this.speed = 5;
 
-        this.projectileEffect = new TextureFX(new TextureFXStruct(Globals.ACID_SPIT_TEXTURE_PATH, -25, 0, 3));
+        this.projectileEffect = new TextureFX(Globals.ACID_SPIT_TEXTURE);
         this.projectileEffect.setTargetSize(size, size);
     }
 
@@ -78,8 +76,8 @@ public class AcidSpit extends Projectile {
     }
 
     @Override   
-    public void draw(Graphics g) {
-        this.projectileEffect.draw(g, x, y, r);
+    public void draw(RenderSnapshot.Builder snapshot) {
+        this.projectileEffect.draw(snapshot, x, y, r);
     }
     
     @Override
@@ -29,11 +29,9 @@
 
 package topdownshooter.Weapon.Projectiles;
 
-import java.awt.Graphics;
-
 import topdownshooter.Core.Globals;
 import topdownshooter.Core.TextureFX;
-import topdownshooter.Core.TextureFXStruct;
+import topdownshooter.Core.RenderSnapshot;
 
 /**
  * @class ArmorPiercingBullet
@@ -59,13 +57,13 @@ public class ArmorPiercingBullet extends Projectile {
         super(x, y, r, damage);
 
         this.type = ProjectileType.ARMOR_PIERCING_BULLET;
-        this.projectileEffect = new TextureFX(new TextureFXStruct(Globals.PROJECTILE_TEXTURE_PATH, -25, 0, 3));
+        this.projectileEffect = new TextureFX(Globals.PROJECTILE_TEXTURE);
         this.projectileEffect.setTargetSize(50, 20);
     }
 
     @Override   
-    public void draw(Graphics g) {
-        if (this.projectileEffect!=null) this.projectileEffect.draw(g, this.x, this.y, this.r);        
+    public void draw(RenderSnapshot.Builder snapshot) {
+        if (this.projectileEffect!=null) this.projectileEffect.draw(snapshot, this.x, this.y, this.r);        
     }
 
     @Override
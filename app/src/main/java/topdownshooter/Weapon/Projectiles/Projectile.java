@@ -29,13 +29,14 @@
 
 package topdownshooter.Weapon.Projectiles;
 
-import java.awt.Graphics;
 import java.awt.Rectangle;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
 
 import topdownshooter.Core.TextureFX;
+import topdownshooter.Core.RenderSnapshot;
+import topdownshooter.Core.SaveGame;
 /**
  * @class Projectile
  * @brief This abstract class represents a projectile in the game. It is a base class for different types of projectiles 
@@ -62,6 +63,7 @@ public abstract class Projectile implements Serializable{
     protected ProjectileType type = ProjectileType.UNDEFINED;   // Type of the projectile (default: UNDEFINED)
 
     protected TextureFX projectileEffect = null;      // Visual effect of the projectile 
+    private transient Rectangle bounds = null;        // Reused collision bounds of the projectile
     /**
      * Default constructor for subclasses.
      */
@@ -84,6 +86,26 @@ public abstract class Projectile implements Serializable{
         this.damage = damage;
     }
 
+    /**
+     * Re-initializes the projectile with specified position, rotation, and damage.
+     * It is used when a pooled projectile is reused.
+     * 
+     * @param x The x-coordinate of the projectile.
+     * @param y The y-coordinate of the projectile.
+     * @param r The rotation angle of the projectile in radians.
+     * @param damage The damage dealt by the projectile.
+     * 
+     * @see ProjectilePool
+     */
+    public void init(int x, int y, double r, int damage) {
+        this.x = x;
+        this.y = y;
+        this.r = r;
+        this.damage = damage;
+
+        if (this.projectileEffect != null) this.projectileEffect.reset();
+    }
+
     /**
      * Getter for the x-coordinate of the projectile.
      * 
@@ -119,17 +141,21 @@ public abstract class Projectile implements Serializable{
      * 
      * Subclasses must implement this method to provide specific render of the projectile.
      *
-     * @param g The Graphics object used for rendering the projectile.
+     * @param snapshot The snapshot builder of the frame.
      */
-    abstract public void draw(Graphics g);
+    abstract public void draw(RenderSnapshot.Builder snapshot);
 
     /**
      * @brief Gets the bounding rectangle of the projectile.
      *
+     * The same instance is returned on each call and it is updated to the current position, so it should not be stored.
+     *
      * @return The bounding rectangle representing the projectile's position and size.
      */
     public Rectangle getBounds() {
-        return new Rectangle(x, y, size, size);
+        if (this.bounds == null) this.bounds = new Rectangle();
+        this.bounds.setBounds(this.x, this.y, size, size);
+        return this.bounds;
     }
 
     /**
@@ -161,6 +187,34 @@ public abstract class Projectile implements Serializable{
         return this.type;
     }
 
+    /**
+     * Writes the state of the projectile (position, rotation, damage and effect delay) to a saved game. 
+     * The type is not written, it is written by the owner to acquire the projectile on load.
+     * 
+     * @param writer The writer of the saved game.
+     */
+    public void writeState(SaveGame.Writer writer) {
+        writer.putInt(this.x);
+        writer.putInt(this.y);
+        writer.putDouble(this.r);
+        writer.putInt(this.damage);
+        if (this.projectileEffect != null) this.projectileEffect.writeState(writer);
+    }
+
+    /**
+     * Restores the state of the projectile from a saved game.
+     * 
+     * @param reader The reader of the saved game.
+     * @throws IOException If the state cannot be read.
+     */
+    public void readState(SaveGame.Reader reader) throws IOException {
+        this.x = reader.getInt();
+        this.y = reader.getInt();
+        this.r = reader.getDouble();
+        this.damage = reader.getInt();
+        if (this.projectileEffect != null) this.projectileEffect.readState(reader);
+    }
+
     /**
      * Abstract method to return a string representation of the projectile. 
      * Subclasses must implement this method to provide specific details about the projectile.
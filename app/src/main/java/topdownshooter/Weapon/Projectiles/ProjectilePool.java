@@ -0,0 +1,169 @@
+/*
+ * @file ProjectilePool.java
+ * @brief This file defines the `ProjectilePool` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Weapon.Projectiles;
+
+import topdownshooter.Core.Globals;
+import topdownshooter.Core.ObjectPool;
+
+/**
+ * @class ProjectilePool
+ * @brief Pools of reusable projectiles.
+ * 
+ * Weapons acquire their projectiles from this class instead of creating new ones, and 
+ * the game gives the projectiles back when they are removed from the game (e.g. when 
+ * they hit a target or leave the game area).
+ * 
+ * @see ObjectPool
+ * @see Projectile
+ */
+public final class ProjectilePool {
+    private static final ObjectPool<Bullet> bulletPool = new ObjectPool<>("Bullet", Globals.PROJECTILE_POOL_CAPACITY, () -> new Bullet(0, 0, 0, 0));
+    private static final ObjectPool<ArmorPiercingBullet> armorPiercingBulletPool = new ObjectPool<>("ArmorPiercingBullet", Globals.PROJECTILE_POOL_CAPACITY, () -> new ArmorPiercingBullet(0, 0, 0, 0));
+    private static final ObjectPool<Rocket> rocketPool = new ObjectPool<>("Rocket", Globals.PROJECTILE_POOL_CAPACITY, () -> new Rocket(0, 0, 0, 0));
+    private static final ObjectPool<ShotgunPellets> shotgunPelletsPool = new ObjectPool<>("ShotgunPellets", Globals.PROJECTILE_POOL_CAPACITY, () -> new ShotgunPellets(0, 0, 0, 0));
+    private static final ObjectPool<AcidSpit> acidSpitPool = new ObjectPool<>("AcidSpit", Globals.PROJECTILE_POOL_CAPACITY, () -> new AcidSpit(0, 0, 0, 0));
+
+    private ProjectilePool() {}
+
+    /**
+     * Acquires a bullet from the pool.
+     * 
+     * @param x The initial x-coordinate of the bullet.
+     * @param y The initial y-coordinate of the bullet.
+     * @param r The direction of fire (in radians).
+     * @param damage The damage of the bullet.
+     * @return The initialized bullet.
+     */
+    public static Bullet acquireBullet(int x, int y, double r, int damage) {
+        Bullet bullet = bulletPool.acquire();
+        bullet.init(x, y, r, damage);
+        return bullet;
+    }
+
+    /**
+     * Acquires an armor piercing bullet from the pool.
+     * 
+     * @param x The initial x-coordinate of the bullet.
+     * @param y The initial y-coordinate of the bullet.
+     * @param r The direction of fire (in radians).
+     * @param damage The damage of the bullet.
+     * @return The initialized armor piercing bullet.
+     */
+    public static ArmorPiercingBullet acquireArmorPiercingBullet(int x, int y, double r, int damage) {
+        ArmorPiercingBullet bullet = armorPiercingBulletPool.acquire();
+        bullet.init(x, y, r, damage);
+        return bullet;
+    }
+
+    /**
+     * Acquires a rocket from the pool.
+     * 
+     * @param x The initial x-coordinate of the rocket.
+     * @param y The initial y-coordinate of the rocket.
+     * @param r The direction of fire (in radians).
+     * @param damage The damage of the rocket.
+     * @return The initialized rocket.
+     */
+    public static Rocket acquireRocket(int x, int y, double r, int damage) {
+        Rocket rocket = rocketPool.acquire();
+        rocket.init(x, y, r, damage);
+        return rocket;
+    }
+
+    /**
+     * Acquires shotgun pellets from the pool. The pellets themselves are acquired from the bullet pool.
+     * 
+     * @param x The initial x-coordinate of the shotgun shot.
+     * @param y The initial y-coordinate of the shotgun shot.
+     * @param r The direction of fire (in radians).
+     * @param damage The base damage of the shotgun.
+     * @return The initialized shotgun pellets.
+     */
+    public static ShotgunPellets acquireShotgunPellets(int x, int y, double r, int damage) {
+        ShotgunPellets pellets = shotgunPelletsPool.acquire();
+        pellets.init(x, y, r, damage);
+        return pellets;
+    }
+
+    /**
+     * Acquires an acid spit from the pool.
+     * 
+     * @param x The initial x-coordinate of the acid spit.
+     * @param y The initial y-coordinate of the acid spit.
+     * @param r The direction of the spit (in radians).
+     * @param damage The damage of the acid spit.
+     * @return The initialized acid spit.
+     */
+    public static AcidSpit acquireAcidSpit(int x, int y, double r, int damage) {
+        AcidSpit acidSpit = acidSpitPool.acquire();
+        acidSpit.init(x, y, r, damage);
+        return acidSpit;
+    }
+
+    /**
+     * Acquires a projectile of the given type from its pool, e.g. to restore it from a saved game.
+     * 
+     * @param type The type of the projectile.
+     * @return The projectile initialized at the origin with no damage, or null if the type is undefined.
+     */
+    public static Projectile acquire(ProjectileType type) {
+        return switch (type) {
+            case BULLET -> acquireBullet(0, 0, 0, 0);
+            case ARMOR_PIERCING_BULLET -> acquireArmorPiercingBullet(0, 0, 0, 0);
+            case ROCKET -> acquireRocket(0, 0, 0, 0);
+            case SHOTGUN_PELLETS -> acquireShotgunPellets(0, 0, 0, 0);
+            case ACID_SPIT -> acquireAcidSpit(0, 0, 0, 0);
+            default -> null;
+        };
+    }
+
+    /**
+     * Gives a projectile back to its pool. Remaining pellets of shotgun pellets are released as well.
+     * The projectile must not be used after it is released.
+     * 
+     * @param projectile The projectile which is removed from the game. Null is ignored.
+     */
+    public static void release(Projectile projectile) {
+        if (projectile == null) return;
+
+        switch (projectile.getType()) {
+            case BULLET -> bulletPool.release((Bullet) projectile);
+            case ARMOR_PIERCING_BULLET -> armorPiercingBulletPool.release((ArmorPiercingBullet) projectile);
+            case ROCKET -> rocketPool.release((Rocket) projectile);
+            case SHOTGUN_PELLETS -> {
+                ShotgunPellets pellets = (ShotgunPellets) projectile;
+                pellets.releasePellets();
+                shotgunPelletsPool.release(pellets);
+            }
+            case ACID_SPIT -> acidSpitPool.release((AcidSpit) projectile);
+            default -> {}
+        }
+    }
+}
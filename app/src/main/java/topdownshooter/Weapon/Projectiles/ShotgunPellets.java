@@ -29,10 +29,12 @@
 
 package topdownshooter.Weapon.Projectiles;
 
-import java.awt.Graphics;
+import java.io.IOException;
 import java.util.ArrayList;
 
 import topdownshooter.Core.Globals;
+import topdownshooter.Core.RenderSnapshot;
+import topdownshooter.Core.SaveGame;
 
 /**
  * @class ShotgunPellets
@@ -64,13 +66,8 @@ public class ShotgunPellets extends Projectile {
     public ShotgunPellets(int x, int y, double r, int damage) {
         super(0, 0, 0, damage);
 
-        this.pellets = new ArrayList<Bullet>();
-
-        // Calculate dispersion angle of each pellet
-        double dr = Globals.degToRad(DISPERSION_ANGLE) / PELLET_COUNT;
-        for(int i=0; i<PELLET_COUNT; i++) {
-            this.pellets.add(new Bullet(x, y, r + (i - PELLET_COUNT/2)*dr, (int) (damage*DAMAGE_RATIO)));
-        }
+        this.pellets = new ArrayList<Bullet>(PELLET_COUNT);
+        spreadPellets(x, y, r, damage);
 
         this.type = ProjectileType.SHOTGUN_PELLETS;
     }
@@ -93,6 +90,40 @@ public class ShotgunPellets extends Projectile {
      * 
      * @return An ArrayList of Bullet objects representing the shotgun pellets.
      */
+    @Override
+    public void init(int x, int y, double r, int damage) {
+        super.init(0, 0, 0, damage);
+
+        releasePellets();
+        spreadPellets(x, y, r, damage);
+    }
+
+    /**
+     * Creates the pellets spread across the dispersion angle.
+     * 
+     * @param x The initial x-coordinate of the shotgun shot.
+     * @param y The initial y-coordinate of the shotgun shot.
+     * @param r The direction of fire (in radians).
+     * @param damage The base damage of the shotgun.
+     */
+    private void spreadPellets(int x, int y, double r, int damage) {
+        // Calculate dispersion angle of each pellet
+        double dr = Globals.degToRad(DISPERSION_ANGLE) / PELLET_COUNT;
+        for(int i=0; i<PELLET_COUNT; i++) {
+            this.pellets.add(ProjectilePool.acquireBullet(x, y, r + (i - PELLET_COUNT/2)*dr, (int) (damage*DAMAGE_RATIO)));
+        }
+    }
+
+    /**
+     * Gives the remaining pellets back to the projectile pool.
+     */
+    void releasePellets() {
+        for (Bullet pellet : this.pellets) {
+            ProjectilePool.release(pellet);
+        }
+        this.pellets.clear();
+    }
+
     public ArrayList<Bullet> getPellets() {
         return this.pellets;
     }
@@ -104,10 +135,50 @@ public class ShotgunPellets extends Projectile {
         }
     }
 
+    /**
+     * Shotgun pellets are out of bounds only when all of the remaining pellets are out of bounds.
+     */
+    @Override
+    public boolean isOutOfBounds(int width, int height) {
+        for (int i=0; i<this.pellets.size(); i++) {
+            if (!this.pellets.get(i).isOutOfBounds(width, height)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void draw(RenderSnapshot.Builder snapshot) {
+        for (int i=0; i<this.pellets.size(); i++) {
+            this.pellets.get(i).draw(snapshot);
+        }
+    }
+
+    /**
+     * Writes the damage and the remaining pellets to a saved game.
+     */
     @Override
-    public void draw(Graphics g) {
+    public void writeState(SaveGame.Writer writer) {
+        super.writeState(writer);
+
+        writer.putByte(this.pellets.size());
         for (int i=0; i<this.pellets.size(); i++) {
-            this.pellets.get(i).draw(g);
+            this.pellets.get(i).writeState(writer);
+        }
+    }
+
+    /**
+     * Replaces the pellets with the ones in a saved game. The pellets are acquired from the bullet pool.
+     */
+    @Override
+    public void readState(SaveGame.Reader reader) throws IOException {
+        super.readState(reader);
+
+        releasePellets();
+        int pelletCount = Byte.toUnsignedInt(reader.getByte());
+        for (int i=0; i<pelletCount; i++) {
+            Bullet pellet = ProjectilePool.acquireBullet(0, 0, 0, 0);
+            this.pellets.add(pellet);
+            pellet.readState(reader);
         }
     }
 
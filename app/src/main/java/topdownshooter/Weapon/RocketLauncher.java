@@ -34,7 +34,9 @@ import topdownshooter.Core.ConfigHandler.WeaponProperties;
 import topdownshooter.Core.Globals;
 import topdownshooter.Core.SoundFX;
 import topdownshooter.Core.SpriteAnimation;
+import topdownshooter.Core.TimerWheel;
 import topdownshooter.Weapon.Projectiles.Rocket;
+import topdownshooter.Weapon.Projectiles.ProjectilePool;
 
 /**
  * @class RocketLauncher
@@ -53,9 +55,10 @@ public class RocketLauncher extends AbstractWeapon {
      * Constructor that initializes the RocketLauncher with the given weapon properties.
      * 
      * @param properties The properties for the weapon.
+     * @param timers The timing wheel of the game engine.
      */
-    public RocketLauncher(WeaponProperties properties) {
-        super(properties);
+    public RocketLauncher(WeaponProperties properties, TimerWheel timers) {
+        super(properties, timers);
 
         this.type = WeaponType.ROCKETLAUNCHER;
 
@@ -79,7 +82,7 @@ public class RocketLauncher extends AbstractWeapon {
             this.ammo--;
             applySoundFX();
             this.weaponAnimation.setRepeat(1);  // Only repeat animation once
-            return new Rocket(x, y, r, this.damage);
+            return ProjectilePool.acquireRocket(x, y, r, this.damage);
         }
         return null;
     }
@@ -33,7 +33,9 @@ import topdownshooter.Core.ConfigHandler.WeaponProperties;
 import topdownshooter.Core.Globals;
 import topdownshooter.Core.SoundFX;
 import topdownshooter.Core.SpriteAnimation;
+import topdownshooter.Core.TimerWheel;
 import topdownshooter.Weapon.Projectiles.ShotgunPellets;
+import topdownshooter.Weapon.Projectiles.ProjectilePool;
 
 /**
  * @class Shotgun
@@ -52,9 +54,10 @@ public class Shotgun extends AbstractWeapon {
      * Constructor that initializes the Shotgun with the given weapon properties.
      * 
      * @param properties The properties for the weapon.
+     * @param timers The timing wheel of the game engine.
      */
-    public Shotgun(WeaponProperties properties) {
-        super(properties);
+    public Shotgun(WeaponProperties properties, TimerWheel timers) {
+        super(properties, timers);
 
         this.type = WeaponType.SHOTGUN;
 
@@ -77,7 +80,7 @@ public class Shotgun extends AbstractWeapon {
             this.ammo--;
             applySoundFX();
             this.weaponAnimation.setRepeat(1);  // Only repeat animation once
-            return new ShotgunPellets(x, y, r, this.damage);
+            return ProjectilePool.acquireShotgunPellets(x, y, r, this.damage);
         }
         return null;
     }
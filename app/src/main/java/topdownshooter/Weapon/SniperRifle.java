@@ -33,7 +33,9 @@ import topdownshooter.Core.ConfigHandler.WeaponProperties;
 import topdownshooter.Core.Globals;
 import topdownshooter.Core.SoundFX;
 import topdownshooter.Core.SpriteAnimation;
+import topdownshooter.Core.TimerWheel;
 import topdownshooter.Weapon.Projectiles.ArmorPiercingBullet;
+import topdownshooter.Weapon.Projectiles.ProjectilePool;
 
 /**
  * @class SniperRifle
@@ -52,9 +54,10 @@ public class SniperRifle extends AbstractWeapon {
      * Constructor that initializes the SniperRifle with the given weapon properties.
      * 
      * @param properties The properties for the weapon.
+     * @param timers The timing wheel of the game engine.
      */
-    public SniperRifle(WeaponProperties properties) {
-        super(properties);
+    public SniperRifle(WeaponProperties properties, TimerWheel timers) {
+        super(properties, timers);
 
         this.type = WeaponType.SNIPERRIFLE;
 
@@ -77,7 +80,7 @@ public class SniperRifle extends AbstractWeapon {
             this.ammo--;
             applySoundFX();
             this.weaponAnimation.setRepeat(1);  // Only repeat animation once
-            return new ArmorPiercingBullet(x, y, r, this.damage);
+            return ProjectilePool.acquireArmorPiercingBullet(x, y, r, this.damage);
         }
         return null;
     }
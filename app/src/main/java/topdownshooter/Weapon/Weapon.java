@@ -32,10 +32,12 @@
 
 package topdownshooter.Weapon;
 
-import java.awt.Graphics;
+import java.io.IOException;
 import java.io.Serializable;
 
 import topdownshooter.Weapon.Projectiles.Projectile;
+import topdownshooter.Core.RenderSnapshot;
+import topdownshooter.Core.SaveGame;
 
 /**
  * @interface Weapon
@@ -73,12 +75,12 @@ public interface Weapon extends Serializable{
     /**
      * Draws the weapon on the screen at the specified position and rotation.
      * 
-     * @param g The graphics context to use for drawing.
+     * @param snapshot The snapshot builder of the frame.
      * @param x The x-coordinate where the weapon will be drawn.
      * @param y The y-coordinate where the weapon will be drawn.
      * @param r The rotation angle of the weapon in radians.
      */
-    void draw(Graphics g, int x, int y, double r);
+    void draw(RenderSnapshot.Builder snapshot, int x, int y, double r);
 
     /**
      * Adds the specified number of magazines to the weapon's ammo supply.
@@ -135,5 +137,21 @@ public interface Weapon extends Serializable{
      * @return The weapon's type.
      */
     WeaponType getType();
+
+    /**
+     * Writes the state of the weapon (ammo, magazines, timers and animation) to a saved game. 
+     * The properties of the weapon are not saved, they are taken from the configuration on load.
+     * 
+     * @param writer The writer of the saved game.
+     */
+    void writeState(SaveGame.Writer writer);
+
+    /**
+     * Restores the state of the weapon from a saved game.
+     * 
+     * @param reader The reader of the saved game.
+     * @throws IOException If the state cannot be read.
+     */
+    void readState(SaveGame.Reader reader) throws IOException;
 }
 
@@ -31,6 +31,8 @@
 package topdownshooter.Weapon;
 
 import topdownshooter.Core.ConfigHandler;
+import topdownshooter.Core.GameRandom;
+import topdownshooter.Core.TimerWheel;
 
 /**
  * @class WeaponFactory
@@ -46,12 +48,14 @@ public class WeaponFactory {
      * This method generates a weapon using the provided configuration 
      *
      * @param config A reference to the ConfigHandler object that provides weapon properties.
+     * @param timers The timing wheel of the game engine, which the timers of the weapon are bound to.
+     * @param random The random number streams of the game engine.
      * @param type The type of weapon to create.
      * @return A newly created Weapon object of the specified type.
      * @throws IllegalStateException If the config parameter is null.
      * @throws IllegalArgumentException If the type parameter is null.
      */
-    public static Weapon createWeapon(ConfigHandler config, WeaponType type) {
+    public static Weapon createWeapon(ConfigHandler config, TimerWheel timers, GameRandom random, WeaponType type) {
         if (config == null) {
             throw new IllegalStateException("ConfigHandler cannot be null!");
         }
@@ -61,15 +65,15 @@ public class WeaponFactory {
 
         switch (type) {
             case PISTOL:
-                return new Pistol(config.getPistolProperties());
+                return new Pistol(config.getWeaponProperties(type), timers);
             case ASSAULTRIFLE:
-                return new AssaultRifle(config.getAssaultRifleProperties());
+                return new AssaultRifle(config.getWeaponProperties(type), timers, random);
             case SHOTGUN:
-                return new Shotgun(config.getShotgunProperties());
+                return new Shotgun(config.getWeaponProperties(type), timers);
             case SNIPERRIFLE:
-                return new SniperRifle(config.getSniperRifleProperties());
+                return new SniperRifle(config.getWeaponProperties(type), timers);
             case ROCKETLAUNCHER:
-                return new RocketLauncher(config.getRocketLauncherProperties());
+                return new RocketLauncher(config.getWeaponProperties(type), timers);
             default:
                 return null;
         }
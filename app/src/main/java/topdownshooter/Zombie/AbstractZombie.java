@@ -37,15 +37,19 @@ import java.awt.*;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.util.List;
+import java.util.Random;
 
 import topdownshooter.Core.ConfigHandler.ZombieProperties;
 import topdownshooter.Player.Loot;
+import topdownshooter.Player.LootPool;
 import topdownshooter.Player.PlayerItem;
 import topdownshooter.Weapon.WeaponType;
 import topdownshooter.Core.Globals;
 import topdownshooter.Core.Position;
 import topdownshooter.Core.RectangleBound;
+import topdownshooter.Core.SaveGame;
 import topdownshooter.Core.SpriteAnimation;
+import topdownshooter.Core.RenderSnapshot;
 
 /**
  * @brief Abstract class representing a generic Zombie in the game.
@@ -66,6 +70,7 @@ public abstract class AbstractZombie implements Zombie {
     protected int points = 0;                           /**< Points awarded when the zombie is killed. */
     protected ZombieType type;                          /**< Type of the zombie (e.g., Tank, Ordinary). */
     protected SpriteAnimation spriteAnimation = null;   /**< Animation for the zombie's sprite. */
+    private transient RectangleBound targetBounds = null;  /**< Reused target bounds, updated on each getTargetBounds() call. */
 
     /**
      * Default constructor for AbstractZombie.
@@ -111,7 +116,7 @@ public abstract class AbstractZombie implements Zombie {
     }
 
     @Override
-    public void update(RectangleBound playerBounds) {
+    public void update(RectangleBound playerBounds, FlowField flowField) {
         // Try to catch the player
         int playerX = (int) playerBounds.getX();
         int playerY = (int) playerBounds.getY();
@@ -123,26 +128,46 @@ public abstract class AbstractZombie implements Zombie {
         
         // Need to normalize speed according to the speed vector
         double distance = Math.sqrt(dx * dx + dy * dy);
-        int normalizedSpeedX = 0, normalizedSpeedY = 0;
         if (distance > playerMinSize * 0.5) {  // Do not coincide to the player
-            normalizedSpeedX = (int) (this.speed * Math.abs((double) dx / distance));
-            normalizedSpeedY = (int) (this.speed * Math.abs((double) dy / distance));
-
-            if (this.x < playerX) this.x += normalizedSpeedX;
-            if (this.x > playerX) this.x -= normalizedSpeedX;
-            if (this.y < playerY) this.y += normalizedSpeedY;
-            if (this.y > playerY) this.y -= normalizedSpeedY;    
-
-            // Rotate the zombie towards player
-            this.r = Math.atan2(dy, dx);
+            steer(dx, dy, distance, flowField);
         }
         
         // Update sprite animation
         this.spriteAnimation.update();
     }
 
+    /**
+     * Moves the zombie one step towards the player and rotates it to the direction of movement.
+     * 
+     * The direction is read from the flow field if it has steering at the position of the zombie,
+     * otherwise it is the direct vector to the player.
+     *
+     * @param dx The difference between the x-coordinates of the player and the zombie.
+     * @param dy The difference between the y-coordinates of the player and the zombie.
+     * @param distance The distance between the player and the zombie. Must not be zero.
+     * @param flowField The flow field towards the player, or null to steer directly to the player.
+     */
+    protected void steer(int dx, int dy, double distance, FlowField flowField) {
+        int cell = (flowField != null) ? flowField.getCell(this.x, this.y) : -1;
+        if (cell >= 0) {
+            this.x += (int) (this.speed * flowField.getDirectionX(cell));
+            this.y += (int) (this.speed * flowField.getDirectionY(cell));
+            this.r = flowField.getAngle(cell);
+        } else {
+            this.x += (int) (this.speed * (dx / distance));
+            this.y += (int) (this.speed * (dy / distance));
+            this.r = Math.atan2(dy, dx);
+        }
+    }
+
     @Override
-    abstract public void draw(Graphics g);
+    abstract public void draw(RenderSnapshot.Builder snapshot);
+
+    @Override
+    public void translate(int dx, int dy) {
+        this.x += dx;
+        this.y += dy;
+    }
 
     @Override
     public Rectangle getBounds() {
@@ -154,7 +179,12 @@ public abstract class AbstractZombie implements Zombie {
         double width = this.WIDTH * 0.8;
         double height = this.HEIGHT * 0.8;
 
-        return new RectangleBound(this.x, this.y, (int) width, (int) height, this.r);
+        if (this.targetBounds == null) {
+            this.targetBounds = new RectangleBound(this.x, this.y, (int) width, (int) height, this.r);
+        } else {
+            this.targetBounds.set(this.x, this.y, (int) width, (int) height, this.r);
+        }
+        return this.targetBounds;
     }
 
     @Override
@@ -189,9 +219,9 @@ public abstract class AbstractZombie implements Zombie {
     }
 
     @Override
-    public Loot kill(List<WeaponType> weaponList) {
-        PlayerItem item = PlayerItem.generatePlayerItem(this.points, weaponList);
-        return new Loot(this.x, this.y, this.points, item);
+    public Loot kill(List<WeaponType> weaponList, Random random) {
+        PlayerItem item = PlayerItem.generatePlayerItem(random, this.points, weaponList);
+        return LootPool.acquire(this.x, this.y, this.points, item);
     }
     
     @Override
@@ -209,6 +239,24 @@ public abstract class AbstractZombie implements Zombie {
         return this.y + HEIGHT / 2;
     }
 
+    @Override
+    public void writeState(SaveGame.Writer writer) {
+        writer.putInt(this.x);
+        writer.putInt(this.y);
+        writer.putDouble(this.r);
+        writer.putDouble(this.health);
+        this.spriteAnimation.writeState(writer);
+    }
+
+    @Override
+    public void readState(SaveGame.Reader reader) throws IOException {
+        this.x = reader.getInt();
+        this.y = reader.getInt();
+        this.r = reader.getDouble();
+        this.health = reader.getDouble();
+        this.spriteAnimation.readState(reader);
+    }
+
     @Override
     abstract public String toString();
 
@@ -38,9 +38,12 @@ import java.util.Random;
 
 import topdownshooter.Core.ConfigHandler.ZombieProperties;
 import topdownshooter.Weapon.Projectiles.AcidSpit;
+import topdownshooter.Weapon.Projectiles.ProjectilePool;
+import topdownshooter.Core.GameRandom;
 import topdownshooter.Core.Globals;
 import topdownshooter.Core.RectangleBound;
 import topdownshooter.Core.SpriteAnimation;
+import topdownshooter.Core.RenderSnapshot;
 
 /**
  * @class AcidZombie
@@ -50,14 +53,15 @@ import topdownshooter.Core.SpriteAnimation;
  * This class handles drawing the zombie and providing information about its state.
  */
 public class AcidZombie extends AbstractZombie {
-    private final int SPIT_RANGE = 500;
-    private final double MAX_SPREAD_ANGLE_DEG = 5;  // Spead Angle of Toxic Spit In degree
+    static final int SPIT_RANGE = 500;  // Zombie stops chasing the player within this range to spit (in pixels)
+    static final double MAX_SPREAD_ANGLE_DEG = 5;  // Spead Angle of Toxic Spit In degree
     public static final int EFFECTIVE_RANGE = 200;  // Effective Range of Exposion (After the zombie killed) In Pixels
 
-    private static Random random = new Random(); // Reuse random instance
+    private transient Random random = null;  // Seeded stream of the ranged attacks, drawn from the streams of the game engine
 
-    public AcidZombie(ZombieProperties properties, int x, int y) {
+    public AcidZombie(ZombieProperties properties, GameRandom random, int x, int y) {
         super(properties);
+        this.random = random.get(GameRandom.Stream.ZOMBIE);
         this.x = x;
         this.y = y;
         this.type = ZombieType.ACID;
@@ -67,26 +71,26 @@ public class AcidZombie extends AbstractZombie {
     }
 
     @Override
-    public void draw(Graphics g) {
-        this.spriteAnimation.draw(g, this.x, this.y, this.r);
+    public void draw(RenderSnapshot.Builder snapshot) {
+        this.spriteAnimation.draw(snapshot, this.x, this.y, this.r);
     }
 
     public AcidSpit rangedAttack() {
-        int val = random.nextInt(Globals.Time2GameTick(1000));
+        int val = this.random.nextInt(Globals.Time2GameTick(1000));
         // There is a probability of 1 percent of ranged attack generated by the zombie per Game Tick
         if (val < Globals.Time2GameTick(10)) {
             double translatedX = this.x + WIDTH / 2 + this.spriteAnimation.getOffset().getX() * Math.cos(this.r) - this.spriteAnimation.getOffset().getY() * Math.sin(this.r);
             double translatedY = this.y + HEIGHT / 2 + this.spriteAnimation.getOffset().getX() * Math.sin(this.r) + this.spriteAnimation.getOffset().getY() * Math.cos(this.r);
 
             // Give some randomness for ranged attack of the acid zombie
-            double spreadAngle = random.nextDouble(MAX_SPREAD_ANGLE_DEG) - (MAX_SPREAD_ANGLE_DEG / 2.0);  // In degree
-            return new AcidSpit((int) translatedX, (int) translatedY, this.r + Globals.degToRad(spreadAngle), (int) (this.damage*0.5));  // Ranged attacks only gives half damage
+            double spreadAngle = this.random.nextDouble(MAX_SPREAD_ANGLE_DEG) - (MAX_SPREAD_ANGLE_DEG / 2.0);  // In degree
+            return ProjectilePool.acquireAcidSpit((int) translatedX, (int) translatedY, this.r + Globals.degToRad(spreadAngle), (int) (this.damage*0.5));  // Ranged attacks only gives half damage
         }
         return null;
     }
 
     @Override
-    public void update(RectangleBound playerBounds) {
+    public void update(RectangleBound playerBounds, FlowField flowField) {
         // Try to catch the player
         int playerX = (int) playerBounds.getX();
         int playerY = (int) playerBounds.getY();
@@ -100,20 +104,11 @@ public class AcidZombie extends AbstractZombie {
 
         // If distance is bigger than spit range, try to catch the player
         if (distance > SPIT_RANGE) {
-            int normalizedSpeedX = 0, normalizedSpeedY = 0;
-            if (distance != 0) {
-                normalizedSpeedX = (int) (this.speed * Math.abs((double) dx / distance));
-                normalizedSpeedY = (int) (this.speed * Math.abs((double) dy / distance));
-            }
-
-            if (this.x < playerX) this.x += normalizedSpeedX;
-            if (this.x > playerX) this.x -= normalizedSpeedX;
-            if (this.y < playerY) this.y += normalizedSpeedY;
-            if (this.y > playerY) this.y -= normalizedSpeedY;    
-        } else { }
-        
-        // Rotate the zombie towards player
-        if (distance > 0) this.r = Math.atan2(dy, dx);
+            steer(dx, dy, distance, flowField);
+        } else if (distance > 0) {
+            // Rotate the zombie towards player to aim the ranged attack
+            this.r = Math.atan2(dy, dx);
+        }
 
         // Update sprite animation
         this.spriteAnimation.update();
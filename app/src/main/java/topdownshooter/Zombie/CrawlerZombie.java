@@ -34,12 +34,16 @@
 package topdownshooter.Zombie;
 
 import java.awt.*;
+import java.io.IOException;
 
 import topdownshooter.Core.ConfigHandler.ZombieProperties;
 import topdownshooter.Core.Globals;
 import topdownshooter.Core.RectangleBound;
+import topdownshooter.Core.SaveGame;
 import topdownshooter.Core.SpriteAnimation;
 import topdownshooter.Core.TimeTick;
+import topdownshooter.Core.TimerWheel;
+import topdownshooter.Core.RenderSnapshot;
 
 /**
  * @class CrawlerZombie
@@ -52,51 +56,41 @@ import topdownshooter.Core.TimeTick;
 public class CrawlerZombie extends AbstractZombie {
     static final int JUMP_DISTANCE = 250;           /**< Jump distance of the zombie. */
     private TimeTick jumpTick = null;               /**< Timer for crawler zombie to jump again. */
-    private static final int MAX_JUMP_DELAY = 30;    /**< Delay to jump again in Game ticks. */
+    private transient TimerWheel timers = null;     /**< Timing wheel of the game engine, which the jump timer is bound to. */
+    static final int MAX_JUMP_DELAY = 30;           /**< Delay to jump again in Game ticks. */
 
-    public CrawlerZombie(ZombieProperties properties, int x, int y) {
+    public CrawlerZombie(ZombieProperties properties, TimerWheel timers, int x, int y) {
         super(properties);
+        this.timers = timers;
         this.x = x;
         this.y = y;
         this.type = ZombieType.CRAWLER;
 
-        this.jumpTick = new TimeTick(MAX_JUMP_DELAY);
+        this.jumpTick = new TimeTick(this.timers, MAX_JUMP_DELAY);
         this.spriteAnimation = new SpriteAnimation(Globals.CRAWLER_ZOMBIE_MOVE);
         this.spriteAnimation.setTargetSize(WIDTH, HEIGHT);
     }
 
     @Override
-    public void draw(Graphics g) {
-        this.spriteAnimation.draw(g, this.x, this.y, this.r);
+    public void draw(RenderSnapshot.Builder snapshot) {
+        this.spriteAnimation.draw(snapshot, this.x, this.y, this.r);
     }
 
     @Override
-    public void update(RectangleBound playerBounds) {
+    public void update(RectangleBound playerBounds, FlowField flowField) {
         // Try to catch the player
         int playerX = (int) playerBounds.getX();
         int playerY = (int) playerBounds.getY();
         int playerMinSize = Math.min((int) playerBounds.getWidth(), (int) playerBounds.getHeight());
 
-        this.jumpTick.updateTick();  // Update jump timer
-
         // If objects collided, which means zombie catched the player, do not update position of the zombie
         int dx = playerX - this.x;
         int dy = playerY - this.y;
 
         // Need to normalize speed according to the speed vector
         double distance = Math.sqrt(dx * dx + dy * dy);
-        int normalizedSpeedX = 0, normalizedSpeedY = 0;
         if (distance > playerMinSize * 0.5) {  // Do not coincide to the player           
-            normalizedSpeedX = (int) (this.speed * Math.abs((double) dx / distance));
-            normalizedSpeedY = (int) (this.speed * Math.abs((double) dy / distance));
-
-            if (this.x < playerX) this.x += normalizedSpeedX;
-            if (this.x > playerX) this.x -= normalizedSpeedX;
-            if (this.y < playerY) this.y += normalizedSpeedY;
-            if (this.y > playerY) this.y -= normalizedSpeedY;    
-
-            // Rotate the zombie towards player
-            this.r = Math.atan2(dy, dx);
+            steer(dx, dy, distance, flowField);
 
             // Check zombie is at the jump range to the player
             // If it has already jumped, do not jump again. Wait the timer to finish
@@ -111,6 +105,21 @@ public class CrawlerZombie extends AbstractZombie {
         this.spriteAnimation.update();
     }
 
+    /**
+     * Writes the common state of the zombie, followed by the remaining jump delay.
+     */
+    @Override
+    public void writeState(SaveGame.Writer writer) {
+        super.writeState(writer);
+        writer.putShort(this.jumpTick.getTick());
+    }
+
+    @Override
+    public void readState(SaveGame.Reader reader) throws IOException {
+        super.readState(reader);
+        this.jumpTick = new TimeTick(this.timers, reader.getShort(), MAX_JUMP_DELAY, -1);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
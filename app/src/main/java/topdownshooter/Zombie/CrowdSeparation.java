@@ -0,0 +1,287 @@
+/*
+ * @file CrowdSeparation.java
+ * @brief This file defines the `CrowdSeparation` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Zombie;
+
+import java.util.Arrays;
+import java.util.List;
+
+import topdownshooter.Core.Globals;
+
+/**
+ * @class CrowdSeparation
+ * @brief Separation steering which pushes the zombies apart from their nearby zombies.
+ * 
+ * At the beginning of a game tick the center of each zombie is recorded and sorted into the
+ * buckets of a hashed grid, whose cells are as large as the separation radius. The neighbors of
+ * a zombie are then looked up in the 3x3 cells around its recorded center, so no zombie is
+ * compared with the whole horde. The number of candidates checked and neighbors counted per
+ * zombie are capped, so the cost per zombie stays bounded even if the horde piles up.
+ * 
+ * Each neighbor within the radius pushes the zombie away from it, stronger the closer it is. The
+ * push is scaled by the separation weight and limited to a few pixels per game tick, so zombies
+ * still converge on the player but spread around it instead of overlapping into a single blob.
+ * 
+ * The recorded positions are not changed until the next build, hence the pushes can be computed
+ * for different zombies in parallel, and they do not depend on the order the zombies are updated.
+ */
+public class CrowdSeparation {
+    private static final int[] NEIGHBOR_COLUMNS = {0, -1, 1, 0, 0, -1, 1, -1, 1};  /**< Column offsets of the cell of a zombie and its 8 neighbors, nearest first. */
+    private static final int[] NEIGHBOR_ROWS = {0, 0, 0, -1, 1, -1, -1, 1, 1};     /**< Row offsets of the cell of a zombie and its 8 neighbors, nearest first. */
+
+    private final int radius;                               /**< Separation radius in pixels, 0 if separation is disabled. */
+    private final double weight;                            /**< Strength of the push. */
+
+    private int[] xs = new int[0], ys = new int[0];         /**< Recorded centers of the zombies. */
+    private int[] buckets = new int[0];                     /**< Bucket of the cell of each zombie. */
+    private int[] bucketStarts = new int[1];                /**< Start of each bucket in the sorted zombie indices, with an end marker. */
+    private int[] sortedIndices = new int[0];               /**< Zombie indices sorted by bucket, ascending within a bucket. */
+    private int bucketMask = 0;                             /**< Mask to map a cell hash to a bucket. */
+
+    /**
+     * Constructs a crowd separation.
+     * 
+     * @param radius The distance in pixels within which zombies push each other apart. 0 disables the separation.
+     * @param weight The strength of the push.
+     * @throws IllegalArgumentException If the radius or the weight is negative.
+     */
+    public CrowdSeparation(int radius, double weight) {
+        if (radius < 0 || weight < 0) {
+            throw new IllegalArgumentException("Separation radius and weight cannot be negative!");
+        }
+        this.radius = radius;
+        this.weight = weight;
+    }
+
+    /**
+     * Checks whether the separation is enabled.
+     * 
+     * @return True if zombies are pushed apart.
+     */
+    public boolean isEnabled() {
+        return this.radius > 0 && this.weight > 0;
+    }
+
+    /**
+     * Records the positions of the zombies kept as objects.
+     * 
+     * @param zombies The zombies, in update order.
+     */
+    public void build(List<Zombie> zombies) {
+        int count = zombies.size();
+        ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            Zombie zombie = zombies.get(i);
+            this.xs[i] = zombie.getX();
+            this.ys[i] = zombie.getY();
+        }
+        sort(count);
+    }
+
+    /**
+     * Records the positions of the zombies of a zombie store.
+     * 
+     * @param store The zombie store.
+     */
+    public void build(ZombieStore store) {
+        int count = store.size();
+        ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            this.xs[i] = store.getX(i);
+            this.ys[i] = store.getY(i);
+        }
+        sort(count);
+    }
+
+    /**
+     * Pushes a zombie kept as an object away from its neighbors.
+     * 
+     * @param zombie The zombie.
+     * @param i The index of the zombie in the last build.
+     */
+    public void separate(Zombie zombie, int i) {
+        long push = computePush(i);
+        if (push != 0) zombie.translate(getPushX(push), getPushY(push));
+    }
+
+    /**
+     * Pushes a zombie of a zombie store away from its neighbors.
+     * 
+     * @param store The zombie store.
+     * @param i The row of the zombie, which is its index in the last build.
+     */
+    public void separate(ZombieStore store, int i) {
+        long push = computePush(i);
+        if (push != 0) store.translate(i, getPushX(push), getPushY(push));
+    }
+
+    /**
+     * Computes the push of a zombie away from its neighbors at their recorded positions.
+     * 
+     * @param i The index of the zombie in the last build.
+     * @return The push packed by pack().
+     */
+    private long computePush(int i) {
+        int x = this.xs[i];
+        int y = this.ys[i];
+        int column = Math.floorDiv(x, this.radius);
+        int row = Math.floorDiv(y, this.radius);
+        long radiusSquared = (long) this.radius * this.radius;
+
+        double pushX = 0, pushY = 0;
+        int candidates = 0, neighbors = 0;
+
+        search:
+        for (int k = 0; k < NEIGHBOR_COLUMNS.length; k++) {
+            int bucket = bucketOf(column + NEIGHBOR_COLUMNS[k], row + NEIGHBOR_ROWS[k]);
+
+            // Several cells may hash to the same bucket, which must be searched only once
+            for (int v = 0; v < k; v++) {
+                if (bucketOf(column + NEIGHBOR_COLUMNS[v], row + NEIGHBOR_ROWS[v]) == bucket) continue search;
+            }
+
+            for (int s = this.bucketStarts[bucket]; s < this.bucketStarts[bucket + 1]; s++) {
+                int j = this.sortedIndices[s];
+                if (j == i) continue;
+                if (++candidates > Globals.SEPARATION_MAX_CANDIDATES) break search;
+
+                int dx = x - this.xs[j];
+                int dy = y - this.ys[j];
+                long distanceSquared = (long) dx * dx + (long) dy * dy;
+                if (distanceSquared >= radiusSquared) continue;
+
+                if (distanceSquared == 0) {
+                    // Zombies on the same spot are pushed apart horizontally, in the order of their indices
+                    pushX += (i < j) ? -1 : 1;
+                } else {
+                    double distance = Math.sqrt(distanceSquared);
+                    double strength = 1.0 - distance / this.radius;
+                    pushX += dx / distance * strength;
+                    pushY += dy / distance * strength;
+                }
+                if (++neighbors == Globals.SEPARATION_MAX_NEIGHBORS) break search;
+            }
+        }
+
+        pushX *= this.weight;
+        pushY *= this.weight;
+        double length = Math.sqrt(pushX * pushX + pushY * pushY);
+        if (length > Globals.SEPARATION_MAX_PUSH) {
+            pushX *= Globals.SEPARATION_MAX_PUSH / length;
+            pushY *= Globals.SEPARATION_MAX_PUSH / length;
+        }
+        return pack((int) Math.round(pushX), (int) Math.round(pushY));
+    }
+
+    /**
+     * Packs the components of a push into a single value.
+     * 
+     * @param pushX The x component of the push.
+     * @param pushY The y component of the push.
+     * @return The packed push.
+     */
+    private static long pack(int pushX, int pushY) {
+        return ((long) pushX << 32) | (pushY & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the x component of a push returned by computePush().
+     * 
+     * @param push The packed push.
+     * @return The x component in pixels.
+     */
+    private static int getPushX(long push) {
+        return (int) (push >> 32);
+    }
+
+    /**
+     * Returns the y component of a push returned by computePush().
+     * 
+     * @param push The packed push.
+     * @return The y component in pixels.
+     */
+    private static int getPushY(long push) {
+        return (int) push;
+    }
+
+    /**
+     * Grows the recorded positions to the number of zombies.
+     * 
+     * @param count The number of zombies.
+     */
+    private void ensureCapacity(int count) {
+        if (this.xs.length < count) {
+            int capacity = Math.max(count, this.xs.length * 2);
+            this.xs = new int[capacity];
+            this.ys = new int[capacity];
+            this.buckets = new int[capacity];
+            this.sortedIndices = new int[capacity];
+        }
+
+        // Keep two to four buckets per zombie, so most buckets hold a single cell
+        int bucketCount = Math.max(Integer.highestOneBit(Math.max(count, 1)) << 2, 64);
+        if (this.bucketStarts.length != bucketCount + 1) {
+            this.bucketStarts = new int[bucketCount + 1];
+            this.bucketMask = bucketCount - 1;
+        }
+    }
+
+    /**
+     * Sorts the recorded zombies by the bucket of their cell with a counting sort, which keeps
+     * the zombies of a bucket in ascending index order.
+     * 
+     * @param count The number of zombies.
+     */
+    private void sort(int count) {
+        if (!isEnabled()) return;
+
+        Arrays.fill(this.bucketStarts, 0);
+        for (int i = 0; i < count; i++) {
+            int bucket = bucketOf(Math.floorDiv(this.xs[i], this.radius), Math.floorDiv(this.ys[i], this.radius));
+            this.buckets[i] = bucket;
+            this.bucketStarts[bucket + 1]++;
+        }
+        for (int b = 0; b < this.bucketMask + 1; b++) {
+            this.bucketStarts[b + 1] += this.bucketStarts[b];
+        }
+
+        // Place the zombies from the back of their buckets, so the sort is stable
+        for (int i = count - 1; i >= 0; i--) {
+            int bucket = this.buckets[i];
+            this.sortedIndices[--this.bucketStarts[bucket + 1]] = i;
+        }
+        // The end of each bucket is moved back to its start, shift them to restore the ends
+        System.arraycopy(this.bucketStarts, 1, this.bucketStarts, 0, this.bucketMask + 1);
+        this.bucketStarts[this.bucketMask + 1] = count;
+    }
+
+    private int bucketOf(int column, int row) {
+        return ((column * 73856093) ^ (row * 19349663)) & this.bucketMask;
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * @file FlowField.java
+ * @brief This file defines the `FlowField` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Zombie;
+
+import java.util.Arrays;
+
+import topdownshooter.Core.Globals;
+
+/**
+ * @class FlowField
+ * @brief Grid of steering directions towards the player, shared by all zombies.
+ * 
+ * The field covers the playground and a margin of one cell around it, where the zombies spawn.
+ * When the player moves to another cell, the integration field is rebuilt: a fast marching 
+ * search from the cell of the player computes the travel distance of each cell to the player, 
+ * expanding the cells in the order of their distance. Each cell then steers down the gradient 
+ * of the distances, towards its neighbors which are closer to the player, so the directions 
+ * follow the shortest paths found by the search. While the player stays 
+ * in the same cell the field is left as it is, so the cost of steering a zombie is a single cell 
+ * lookup instead of an `atan2` per zombie and game tick.
+ * 
+ * The field is rebuilt instead of being repaired incrementally: moving the goal by a single cell 
+ * changes the distance of every cell, so a repair would visit all cells as well.
+ * 
+ * Cells near the player return no steering, as the direction of the cell would be too coarse 
+ * there. Zombies in these cells, and outside the field, steer directly to the player.
+ */
+public class FlowField {
+    private static final byte FAR = 0;                      /**< State of the cells which are not reached by the search yet. */
+    private static final byte TRIAL = 1;                    /**< State of the cells whose distance is tentative, which are queued. */
+    private static final byte KNOWN = 2;                    /**< State of the cells whose distance is final. */
+    private static final int[] NEIGHBOR_COLUMNS = {-1, 1, 0, 0};  /**< Column offsets of the 4 neighbors of a cell. */
+    private static final int[] NEIGHBOR_ROWS = {0, 0, -1, 1};     /**< Row offsets of the 4 neighbors of a cell. */
+
+    private final int cellSize;                             /**< Size of a cell in pixels. */
+    private int columns = 0, rows = 0;                      /**< Size of the grid in cells. */
+    private int originX = 0, originY = 0;                   /**< Coordinates of the top-left corner of the grid. */
+    private int goalCell = -1;                              /**< Cell of the player the field is computed for, -1 if not computed yet. */
+    private int computeCount = 0;                           /**< Number of times the field is recomputed. */
+
+    private double[] distances = new double[0];             /**< Travel distance of each cell to the cell of the player in cells. */
+    private byte[] states = new byte[0];                    /**< Search state of each cell. */
+    private double[] directionXs = new double[0];           /**< X component of the unit steering direction of each cell. */
+    private double[] directionYs = new double[0];           /**< Y component of the unit steering direction of each cell. */
+    private double[] angles = new double[0];                /**< Angle of the steering direction of each cell in radians. */
+    private int[] heap = new int[0];                        /**< Binary min-heap of the queued cells, ordered by their distance. */
+    private int[] heapPositions = new int[0];               /**< Position of each queued cell in the heap. */
+    private int heapSize = 0;                               /**< Number of queued cells. */
+
+    /**
+     * Constructs a flow field with the default cell size. The field is empty until it is resized.
+     */
+    public FlowField() {
+        this(Globals.FLOW_FIELD_CELL_SIZE);
+    }
+
+    /**
+     * Constructs a flow field. The field is empty until it is resized.
+     * 
+     * @param cellSize The size of a cell in pixels.
+     * @throws IllegalArgumentException If the cell size is not positive.
+     */
+    public FlowField(int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive!");
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Sets the area covered by the field. The field is recomputed on the next update.
+     * 
+     * @param width The width of the playground in pixels.
+     * @param height The height of the playground in pixels.
+     */
+    public void resize(int width, int height) {
+        this.originX = -this.cellSize;
+        this.originY = -this.cellSize;
+        this.columns = Math.max(width, 0) / this.cellSize + 3;
+        this.rows = Math.max(height, 0) / this.cellSize + 3;
+
+        int cellCount = this.columns * this.rows;
+        this.distances = new double[cellCount];
+        this.states = new byte[cellCount];
+        this.directionXs = new double[cellCount];
+        this.directionYs = new double[cellCount];
+        this.angles = new double[cellCount];
+        this.heap = new int[cellCount];
+        this.heapPositions = new int[cellCount];
+        this.goalCell = -1;
+    }
+
+    /**
+     * Recomputes the field if the player is moved to another cell.
+     * 
+     * @param playerX The x-coordinate of the player.
+     * @param playerY The y-coordinate of the player.
+     * @return True if the field is recomputed.
+     */
+    public boolean update(int playerX, int playerY) {
+        if (this.distances.length == 0) return false;
+
+        int column = Math.max(0, Math.min(this.columns - 1, Math.floorDiv(playerX - this.originX, this.cellSize)));
+        int row = Math.max(0, Math.min(this.rows - 1, Math.floorDiv(playerY - this.originY, this.cellSize)));
+        int cell = row * this.columns + column;
+        if (cell == this.goalCell) return false;
+
+        this.goalCell = cell;
+        search();
+        this.computeCount++;
+        return true;
+    }
+
+    /**
+     * Returns the cell which contains the point, if it has a steering direction.
+     * 
+     * @param x The x-coordinate of the point.
+     * @param y The y-coordinate of the point.
+     * @return The cell index, or -1 if the point is outside the field, near the player or not reached.
+     */
+    public int getCell(int x, int y) {
+        if (this.goalCell < 0) return -1;
+
+        int column = Math.floorDiv(x - this.originX, this.cellSize);
+        int row = Math.floorDiv(y - this.originY, this.cellSize);
+        if (column < 0 || row < 0 || column >= this.columns || row >= this.rows) return -1;
+
+        int cell = row * this.columns + column;
+        return (this.states[cell] == KNOWN && this.distances[cell] > Globals.FLOW_FIELD_DIRECT_RANGE) ? cell : -1;
+    }
+
+    /**
+     * Returns the x component of the unit steering direction of a cell.
+     * 
+     * @param cell The cell index returned by getCell().
+     * @return The x component of the direction.
+     */
+    public double getDirectionX(int cell) {
+        return this.directionXs[cell];
+    }
+
+    /**
+     * Returns the y component of the unit steering direction of a cell.
+     * 
+     * @param cell The cell index returned by getCell().
+     * @return The y component of the direction.
+     */
+    public double getDirectionY(int cell) {
+        return this.directionYs[cell];
+    }
+
+    /**
+     * Returns the angle of the steering direction of a cell.
+     * 
+     * @param cell The cell index returned by getCell().
+     * @return The angle in radians.
+     */
+    public double getAngle(int cell) {
+        return this.angles[cell];
+    }
+
+    /**
+     * Returns the travel distance of a cell to the cell of the player.
+     * 
+     * @param cell The cell index.
+     * @return The distance in cells, or -1 if the cell is not reached.
+     */
+    public double getDistance(int cell) {
+        return (this.states[cell] == KNOWN) ? this.distances[cell] : -1;
+    }
+
+    /**
+     * Returns the number of times the field is recomputed since it is constructed.
+     * 
+     * @return The recompute count.
+     */
+    public int getComputeCount() {
+        return this.computeCount;
+    }
+
+    /**
+     * Computes the distance of each cell to the cell of the player by fast marching, and sets 
+     * the steering direction of each cell down the gradient of the distances.
+     * 
+     * The cells are finalized in the order of their distance. The distance of a cell is updated 
+     * from its closest finalized neighbor in each axis, as the arrival time of a wavefront which 
+     * spreads from the player at one cell per unit, so it approximates the straight-line distance 
+     * instead of the number of steps.
+     */
+    private void search() {
+        Arrays.fill(this.distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(this.states, FAR);
+        this.heapSize = 0;
+
+        // The distances around the player are set exactly, as the first-order update is least accurate near the source
+        int goalColumn = this.goalCell % this.columns;
+        int goalRow = this.goalCell / this.columns;
+        for (int row = Math.max(0, goalRow - 1); row <= Math.min(this.rows - 1, goalRow + 1); row++) {
+            for (int column = Math.max(0, goalColumn - 1); column <= Math.min(this.columns - 1, goalColumn + 1); column++) {
+                int cell = row * this.columns + column;
+                this.distances[cell] = Math.hypot(column - goalColumn, row - goalRow);
+                this.states[cell] = KNOWN;
+            }
+        }
+        for (int row = Math.max(0, goalRow - 1); row <= Math.min(this.rows - 1, goalRow + 1); row++) {
+            for (int column = Math.max(0, goalColumn - 1); column <= Math.min(this.columns - 1, goalColumn + 1); column++) {
+                updateNeighbors(row * this.columns + column);
+            }
+        }
+
+        while (this.heapSize > 0) {
+            int cell = poll();
+            this.states[cell] = KNOWN;
+            updateNeighbors(cell);
+        }
+
+        for (int cell = 0; cell < this.distances.length; cell++) {
+            if (cell != this.goalCell) setDirection(cell);
+        }
+    }
+
+    /**
+     * Updates the tentative distance of the neighbors of a finalized cell, and queues them.
+     * 
+     * @param cell The finalized cell.
+     */
+    private void updateNeighbors(int cell) {
+        int column = cell % this.columns;
+        int row = cell / this.columns;
+        for (int k = 0; k < NEIGHBOR_COLUMNS.length; k++) {
+            int neighborColumn = column + NEIGHBOR_COLUMNS[k];
+            int neighborRow = row + NEIGHBOR_ROWS[k];
+            if (neighborColumn < 0 || neighborRow < 0 || neighborColumn >= this.columns || neighborRow >= this.rows) continue;
+
+            int neighbor = neighborRow * this.columns + neighborColumn;
+            if (this.states[neighbor] == KNOWN) continue;
+
+            double distance = solve(neighborColumn, neighborRow);
+            if (distance >= this.distances[neighbor]) continue;
+
+            this.distances[neighbor] = distance;
+            if (this.states[neighbor] == FAR) {
+                this.states[neighbor] = TRIAL;
+                this.heapPositions[neighbor] = this.heapSize;
+                this.heap[this.heapSize++] = neighbor;
+            }
+            siftUp(this.heapPositions[neighbor]);
+        }
+    }
+
+    /**
+     * Solves the distance of a cell from its finalized neighbors (first-order eikonal update).
+     * 
+     * @param column The column of the cell.
+     * @param row The row of the cell.
+     * @return The distance of the cell in cells.
+     */
+    private double solve(int column, int row) {
+        double a = Math.min(getKnownDistance(column - 1, row), getKnownDistance(column + 1, row));
+        double b = Math.min(getKnownDistance(column, row - 1), getKnownDistance(column, row + 1));
+        if (a > b) {
+            double swap = a;
+            a = b;
+            b = swap;
+        }
+
+        // The wavefront arrives along a single axis, unless it reaches the cell from both axes within a cell
+        if (b - a >= 1.0) return a + 1.0;
+        return (a + b + Math.sqrt(2.0 - (a - b) * (a - b))) / 2.0;
+    }
+
+    /**
+     * Sets the steering direction of a cell towards its closer neighbor in each axis, weighted by 
+     * how much closer the neighbor is, which is the upwind gradient of the distances.
+     * 
+     * @param cell The cell.
+     */
+    private void setDirection(int cell) {
+        int column = cell % this.columns;
+        int row = cell / this.columns;
+        double distance = this.distances[cell];
+
+        double left = getKnownDistance(column - 1, row);
+        double right = getKnownDistance(column + 1, row);
+        double up = getKnownDistance(column, row - 1);
+        double down = getKnownDistance(column, row + 1);
+        double dx = (left < right) ? Math.min(0.0, left - distance) : Math.max(0.0, distance - right);
+        double dy = (up < down) ? Math.min(0.0, up - distance) : Math.max(0.0, distance - down);
+
+        double length = Math.sqrt(dx * dx + dy * dy);
+        if (length == 0) {
+            this.directionXs[cell] = 0.0;
+            this.directionYs[cell] = 0.0;
+            this.angles[cell] = 0.0;
+            return;
+        }
+        this.directionXs[cell] = dx / length;
+        this.directionYs[cell] = dy / length;
+        this.angles[cell] = Math.atan2(dy, dx);
+    }
+
+    /**
+     * Returns the distance of a cell if it is finalized.
+     * 
+     * @param column The column of the cell.
+     * @param row The row of the cell.
+     * @return The distance, or infinity if the cell is outside the grid or not finalized.
+     */
+    private double getKnownDistance(int column, int row) {
+        if (column < 0 || row < 0 || column >= this.columns || row >= this.rows) return Double.POSITIVE_INFINITY;
+
+        int cell = row * this.columns + column;
+        return (this.states[cell] == KNOWN) ? this.distances[cell] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Removes the queued cell with the smallest distance from the heap.
+     * 
+     * @return The cell.
+     */
+    private int poll() {
+        int cell = this.heap[0];
+        int last = this.heap[--this.heapSize];
+        if (this.heapSize > 0) {
+            this.heap[0] = last;
+            this.heapPositions[last] = 0;
+            siftDown(0);
+        }
+        return cell;
+    }
+
+    /**
+     * Moves a cell up the heap until its parent is not farther.
+     * 
+     * @param position The position of the cell in the heap.
+     */
+    private void siftUp(int position) {
+        int cell = this.heap[position];
+        double distance = this.distances[cell];
+        while (position > 0) {
+            int parentPosition = (position - 1) / 2;
+            int parent = this.heap[parentPosition];
+            if (this.distances[parent] <= distance) break;
+
+            this.heap[position] = parent;
+            this.heapPositions[parent] = position;
+            position = parentPosition;
+        }
+        this.heap[position] = cell;
+        this.heapPositions[cell] = position;
+    }
+
+    /**
+     * Moves a cell down the heap until its children are not closer.
+     * 
+     * @param position The position of the cell in the heap.
+     */
+    private void siftDown(int position) {
+        int cell = this.heap[position];
+        double distance = this.distances[cell];
+        while (true) {
+            int childPosition = 2 * position + 1;
+            if (childPosition >= this.heapSize) break;
+            if (childPosition + 1 < this.heapSize && this.distances[this.heap[childPosition + 1]] < this.distances[this.heap[childPosition]]) childPosition++;
+
+            int child = this.heap[childPosition];
+            if (this.distances[child] >= distance) break;
+
+            this.heap[position] = child;
+            this.heapPositions[child] = position;
+            position = childPosition;
+        }
+        this.heap[position] = cell;
+        this.heapPositions[cell] = position;
+    }
+}
@@ -36,6 +36,7 @@ package topdownshooter.Zombie;
 import java.awt.*;
 
 import topdownshooter.Core.ConfigHandler.ZombieProperties;
+import topdownshooter.Core.RenderSnapshot;
 
 /**
  * @class OrdinaryZombie
@@ -53,7 +54,7 @@ public class OrdinaryZombie extends AbstractZombie {
     }
 
     @Override
-    public void draw(Graphics g) {
+    public void draw(RenderSnapshot.Builder snapshot) {
         /*
         Graphics2D g2d = (Graphics2D) g; // Enable rotation
 
@@ -67,7 +68,7 @@ public class OrdinaryZombie extends AbstractZombie {
         // Reset transformation
         g2d.setTransform(oldTransform);
         */
-        this.spriteAnimation.draw(g, this.x, this.y, this.r);
+        this.spriteAnimation.draw(snapshot, this.x, this.y, this.r);
         /*
         AffineTransform oldTransform2 = g2d.getTransform();
 
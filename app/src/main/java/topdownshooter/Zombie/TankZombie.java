@@ -38,6 +38,7 @@ import java.awt.*;
 import topdownshooter.Core.ConfigHandler.ZombieProperties;
 import topdownshooter.Core.Globals;
 import topdownshooter.Core.SpriteAnimation;
+import topdownshooter.Core.RenderSnapshot;
 
 /**
  * @class TankZombie
@@ -62,8 +63,8 @@ public class TankZombie extends AbstractZombie {
     }
 
     @Override
-    public void draw(Graphics g) {
-        this.spriteAnimation.draw(g, this.x, this.y, this.r);
+    public void draw(RenderSnapshot.Builder snapshot) {
+        this.spriteAnimation.draw(snapshot, this.x, this.y, this.r);
     }
 
     @Override
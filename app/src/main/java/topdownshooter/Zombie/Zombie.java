@@ -33,6 +33,7 @@
 package topdownshooter.Zombie;
 
 import java.util.List;
+import java.util.Random;
 
 import java.awt.*;
 import java.io.IOException;
@@ -41,6 +42,8 @@ import java.io.Serializable;
 
 import topdownshooter.Core.Position;
 import topdownshooter.Core.RectangleBound;
+import topdownshooter.Core.RenderSnapshot;
+import topdownshooter.Core.SaveGame;
 import topdownshooter.Player.Loot;
 import topdownshooter.Weapon.WeaponType;
 
@@ -60,14 +63,34 @@ public interface Zombie extends Serializable{
      *
      * @param playerBound The player's bounding rectangle which represents player's position and its size.
      */
-    public void update(RectangleBound playerBound);
+    default void update(RectangleBound playerBound) {
+        update(playerBound, null);
+    }
+
+    /**
+     * Updates the zombie's state, steering along the flow field towards the player.
+     *
+     * Zombies which are near the player or outside the flow field steer directly to the player.
+     *
+     * @param playerBound The player's bounding rectangle which represents player's position and its size.
+     * @param flowField The flow field towards the player, or null to steer directly to the player.
+     */
+    public void update(RectangleBound playerBound, FlowField flowField);
 
     /**
      * Draws the zombie on the screen.
      *
-     * @param g The Graphics object used for rendering the zombie.
+     * @param snapshot The snapshot builder of the frame.
+     */
+    public void draw(RenderSnapshot.Builder snapshot);
+
+    /**
+     * Moves the zombie by an offset, e.g. to keep it apart from the other zombies.
+     *
+     * @param dx The offset along the x-axis in pixels.
+     * @param dy The offset along the y-axis in pixels.
      */
-    public void draw(Graphics g);
+    public void translate(int dx, int dy);
 
     /**
      * Gets the bounding rectangle of the zombie.
@@ -78,6 +101,7 @@ public interface Zombie extends Serializable{
     
     /**
      * Gets the bounding rectangle of the zombie. It may be probably smaller than the actual bounds.
+     * The returned instance may be reused by the next call, so it should not be stored.
      *
      * @return The bounding rectangle representing the zombie's position and size.
      */
@@ -123,9 +147,10 @@ public interface Zombie extends Serializable{
      * Kills the zombie and returns loot based on the available weapons.
      *
      * @param weaponList The list of weapons that are available by player
+     * @param random The random number stream of the dropped items.
      * @return The loot dropped by the zombie.
      */
-    public Loot kill(List<WeaponType> weaponList);
+    public Loot kill(List<WeaponType> weaponList, Random random);
 
     /**
      * Gets the current position of the zombie.
@@ -148,6 +173,24 @@ public interface Zombie extends Serializable{
      */
     public int getY();
 
+    /**
+     * Writes the state of the zombie (position, rotation, health, animation frame and the 
+     * state specific to its type) to a saved game. The type is not written, it is written 
+     * by the owner to create the zombie on load. The properties of the zombie type are not 
+     * saved, they are taken from the configuration on load.
+     *
+     * @param writer The writer of the saved game.
+     */
+    public void writeState(SaveGame.Writer writer);
+
+    /**
+     * Restores the state of the zombie from a saved game.
+     *
+     * @param reader The reader of the saved game.
+     * @throws IOException If the state cannot be read.
+     */
+    public void readState(SaveGame.Reader reader) throws IOException;
+
     /**
      * Custom deserialization of the zombie object.
      *
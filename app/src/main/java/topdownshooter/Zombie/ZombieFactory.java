@@ -34,6 +34,8 @@
 package topdownshooter.Zombie;
 
 import topdownshooter.Core.ConfigHandler;
+import topdownshooter.Core.GameRandom;
+import topdownshooter.Core.TimerWheel;
 
 /**
  * @class ZombieFactory
@@ -50,6 +52,8 @@ public class ZombieFactory {
      * and assigns it the given x and y coordinates.
      *
      * @param config A reference to the ConfigHandler object that provides zombie properties.
+     * @param timers The timing wheel of the game engine, which the timers of the zombie are bound to.
+     * @param random The random number streams of the game engine.
      * @param type The type of zombie to create.
      * @param x The x-coordinate of the zombie's spawn location.
      * @param y The y-coordinate of the zombie's spawn location.
@@ -57,7 +61,7 @@ public class ZombieFactory {
      * @throws IllegalStateException If the config parameter is null.
      * @throws IllegalArgumentException If the type parameter is null.
      */
-    public static Zombie createZombie(ConfigHandler config, ZombieType type, int x, int y) {
+    public static Zombie createZombie(ConfigHandler config, TimerWheel timers, GameRandom random, ZombieType type, int x, int y) {
         if (config == null) {
             throw new IllegalStateException("ConfigHandler cannot be null!");
         }
@@ -67,13 +71,13 @@ public class ZombieFactory {
 
         switch (type) {
             case ORDINARY:
-                return new OrdinaryZombie(config.getOrdinaryZombieProperties(), x, y);
+                return new OrdinaryZombie(config.getZombieProperties(type), x, y);
             case CRAWLER:
-                return new CrawlerZombie(config.getCrawlerZombieProperties(), x, y);
+                return new CrawlerZombie(config.getZombieProperties(type), timers, x, y);
             case TANK:
-                return new TankZombie(config.getTankZombieProperties(), x, y);
+                return new TankZombie(config.getZombieProperties(type), x, y);
             case ACID:
-                return new AcidZombie(config.getAcidZombieProperties(), x, y);
+                return new AcidZombie(config.getZombieProperties(type), random, x, y);
             default:
                 return null;
         }
@@ -0,0 +1,757 @@
+/*
+ * @file ZombieStore.java
+ * @brief This file defines the `ZombieStore` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Zombie;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import topdownshooter.Core.ConfigHandler.ZombieProperties;
+import topdownshooter.Core.GameRandom;
+import topdownshooter.Core.Globals;
+import topdownshooter.Core.RectangleBound;
+import topdownshooter.Core.RenderSnapshot;
+import topdownshooter.Core.SaveGame;
+import topdownshooter.Core.SpriteAnimationStruct;
+import topdownshooter.Core.SpriteSheetCache;
+import topdownshooter.Core.TimerWheel;
+import topdownshooter.Player.Loot;
+import topdownshooter.Player.LootPool;
+import topdownshooter.Player.PlayerItem;
+import topdownshooter.Weapon.WeaponType;
+import topdownshooter.Weapon.Projectiles.Projectile;
+import topdownshooter.Weapon.Projectiles.ProjectilePool;
+
+/**
+ * @class ZombieStore
+ * @brief Data-oriented storage of zombies in parallel primitive arrays (struct of arrays).
+ *
+ * Each zombie is a row index into columns of positions, rotations, health, speed, damage, 
+ * points, type and animation state, so update, collision and draw passes iterate linearly 
+ * over contiguous arrays instead of chasing one object (and one sprite animation) per zombie. 
+ * Sprite frames are shared per zombie type. Removal swaps the last zombie into the removed 
+ * row, so rows are not stable: a row index is only valid until the next removal.
+ *
+ * The behavior of each zombie type matches its `AbstractZombie` implementation. Code that 
+ * still needs the `Zombie` interface can use `get()` or `asList()`, which return thin 
+ * `ZombieView` objects reading and writing the columns.
+ *
+ * @see ZombieView
+ */
+public class ZombieStore implements Serializable {
+    static final int BOUNDS_WIDTH = 80;                         /**< Width of the zombie bounds, same for all types as in AbstractZombie. */
+    static final int BOUNDS_HEIGHT = 67;                        /**< Height of the zombie bounds, same for all types as in AbstractZombie. */
+    private static final int TARGET_WIDTH = (int) (BOUNDS_WIDTH * 0.8);     /**< Width of the target bounds. */
+    private static final int TARGET_HEIGHT = (int) (BOUNDS_HEIGHT * 0.8);   /**< Height of the target bounds. */
+    private static final int INITIAL_CAPACITY = 64;             /**< Initial number of rows. */
+
+    private static final ZombieType[] TYPES = ZombieType.values();  /**< Zombie types by their ordinal. */
+    private static final SpriteAnimationStruct[] SPRITES = new SpriteAnimationStruct[TYPES.length];  /**< Move animation of each type. */
+    private static final int[] SPRITE_WIDTHS = new int[TYPES.length];   /**< Drawn sprite width of each type. */
+    private static final int[] SPRITE_HEIGHTS = new int[TYPES.length];  /**< Drawn sprite height of each type. */
+    static {
+        for (ZombieType type : TYPES) {
+            int t = type.ordinal();
+            switch (type) {
+                case ORDINARY -> SPRITES[t] = Globals.ORDINARY_ZOMBIE_MOVE;
+                case CRAWLER -> SPRITES[t] = Globals.CRAWLER_ZOMBIE_MOVE;
+                case TANK -> SPRITES[t] = Globals.TANK_ZOMBIE_MOVE;
+                case ACID -> SPRITES[t] = Globals.ACID_ZOMBIE_MOVE;
+            }
+            SPRITE_WIDTHS[t] = (type == ZombieType.TANK) ? 120 : BOUNDS_WIDTH;   // Tank zombies are drawn larger than their bounds
+            SPRITE_HEIGHTS[t] = (type == ZombieType.TANK) ? 95 : BOUNDS_HEIGHT;
+        }
+    }
+
+    private int count = 0;                                      /**< Number of zombies in the store. */
+    private int[] xs, ys;                                       /**< Top-left coordinates of the zombies. */
+    private double[] rs;                                        /**< Rotation angles of the zombies in radians. */
+    private double[] healths;                                   /**< Health of the zombies. */
+    private int[] speeds;                                       /**< Speed of the zombies. */
+    private int[] damages;                                      /**< Damage dealt by the zombies. */
+    private int[] points;                                       /**< Points awarded when the zombies are killed. */
+    private byte[] types;                                       /**< Ordinal of the type of the zombies. */
+    private int[] frames;                                       /**< Current animation frame of the zombies. */
+    private int[] frameCounters;                                /**< Game ticks elapsed on the current animation frame. */
+    private long[] jumpDeadlines;                               /**< Tick of the game clock at which crawler zombies can jump again. */
+    private double[] halfExtentXs, halfExtentYs;                /**< Half size of the bounding box of the rotated target bounds, updated with the rotation. */
+    private int[] minXs, minYs, maxXs, maxYs;                   /**< Bounding box of the rotated target bounds, updated with the position. */
+
+    private transient BufferedImage[][] spriteFrames;           /**< Shared animation frames of each type. */
+    private transient RectangleBound targetBounds;              /**< Reused target bounds, updated on each getTargetBounds() call. */
+    private transient TimerWheel timers;                        /**< Timing wheel of the game engine, whose clock the jump deadlines are kept in. */
+    private transient Random random;                            /**< Random number stream of the ranged attacks, drawn from the streams of the game engine. */
+
+    /**
+     * Constructs an empty zombie store.
+     *
+     * @param timers The timing wheel of the game engine.
+     * @param random The random number streams of the game engine.
+     */
+    public ZombieStore(TimerWheel timers, GameRandom random) {
+        this.timers = timers;
+        this.random = random.get(GameRandom.Stream.ZOMBIE);
+        allocate(INITIAL_CAPACITY);
+        initializeTransients();
+    }
+
+    /**
+     * Returns the number of zombies in the store.
+     *
+     * @return The zombie count.
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Returns whether the store has no zombies.
+     *
+     * @return True if the store is empty.
+     */
+    public boolean isEmpty() {
+        return this.count == 0;
+    }
+
+    /**
+     * Removes all zombies. The columns are kept for reuse.
+     */
+    public void clear() {
+        this.count = 0;
+    }
+
+    /**
+     * Adds a zombie of the given type.
+     *
+     * @param type The type of the zombie.
+     * @param properties The properties of the zombie type.
+     * @param x The x-coordinate of the zombie's spawn location.
+     * @param y The y-coordinate of the zombie's spawn location.
+     * @return The row of the new zombie.
+     * @throws IllegalArgumentException If the type or the properties are null.
+     */
+    public int add(ZombieType type, ZombieProperties properties, int x, int y) {
+        if (type == null || properties == null) {
+            throw new IllegalArgumentException("Zombie type and properties cannot be null!");
+        }
+        if (this.count == this.xs.length) allocate(this.count * 2);
+
+        int i = this.count++;
+        this.xs[i] = x;
+        this.ys[i] = y;
+        this.rs[i] = 0.0;
+        this.healths[i] = properties.health();
+        this.speeds[i] = properties.speed();
+        this.damages[i] = properties.damage();
+        this.points[i] = properties.points();
+        this.types[i] = (byte) type.ordinal();
+        this.frames[i] = 0;
+        this.frameCounters[i] = 0;
+        this.jumpDeadlines[i] = this.timers.getCurrentTick() + CrawlerZombie.MAX_JUMP_DELAY;
+        setRotation(i, 0.0, 1.0, 0.0);
+        updateBounds(i);
+        return i;
+    }
+
+    /**
+     * Adds a copy of a zombie object, e.g. one spawned by the game level.
+     *
+     * @param zombie The zombie to copy. Its position, rotation and health are copied.
+     * @param properties The properties of the zombie type, which provide the speed.
+     * @return The row of the new zombie.
+     */
+    public int add(Zombie zombie, ZombieProperties properties) {
+        int i = add(zombie.getType(), properties, zombie.getX() - BOUNDS_WIDTH / 2, zombie.getY() - BOUNDS_HEIGHT / 2);
+        double r = zombie.getTargetBounds().getR();
+        setRotation(i, r, Math.cos(r), Math.sin(r));
+        updateBounds(i);
+        this.healths[i] = zombie.getHealth();
+        this.damages[i] = zombie.giveDamage();
+        this.points[i] = zombie.getPoints();
+        return i;
+    }
+
+    /**
+     * Removes a zombie by moving the last zombie into its row.
+     *
+     * @param i The row of the zombie.
+     */
+    public void remove(int i) {
+        int last = --this.count;
+        if (i == last) return;
+
+        this.xs[i] = this.xs[last];
+        this.ys[i] = this.ys[last];
+        this.rs[i] = this.rs[last];
+        this.healths[i] = this.healths[last];
+        this.speeds[i] = this.speeds[last];
+        this.damages[i] = this.damages[last];
+        this.points[i] = this.points[last];
+        this.types[i] = this.types[last];
+        this.frames[i] = this.frames[last];
+        this.frameCounters[i] = this.frameCounters[last];
+        this.jumpDeadlines[i] = this.jumpDeadlines[last];
+        this.halfExtentXs[i] = this.halfExtentXs[last];
+        this.halfExtentYs[i] = this.halfExtentYs[last];
+        this.minXs[i] = this.minXs[last];
+        this.minYs[i] = this.minYs[last];
+        this.maxXs[i] = this.maxXs[last];
+        this.maxYs[i] = this.maxYs[last];
+    }
+
+    /**
+     * Updates all zombies for a game tick based on the player's position.
+     *
+     * @param playerBounds The player's bounding rectangle which represents player's position and its size.
+     * @param projectiles The list where the ranged attacks of the acid zombies are added.
+     */
+    public void update(RectangleBound playerBounds, List<Projectile> projectiles) {
+        update(playerBounds, null, projectiles);
+    }
+
+    /**
+     * Updates all zombies for a game tick, steering along the flow field towards the player.
+     *
+     * @param playerBounds The player's bounding rectangle which represents player's position and its size.
+     * @param flowField The flow field towards the player, or null to steer directly to the player.
+     * @param projectiles The list where the ranged attacks of the acid zombies are added.
+     */
+    public void update(RectangleBound playerBounds, FlowField flowField, List<Projectile> projectiles) {
+        int playerX = (int) playerBounds.getX();
+        int playerY = (int) playerBounds.getY();
+        int playerMinSize = Math.min((int) playerBounds.getWidth(), (int) playerBounds.getHeight());
+
+        for (int i = 0; i < this.count; i++) {
+            Projectile projectile = update(i, playerX, playerY, playerMinSize, flowField, true);
+            if (projectile != null) projectiles.add(projectile);
+        }
+    }
+
+    /**
+     * Updates a zombie for a game tick.
+     *
+     * @param i The row of the zombie.
+     * @param playerX The x-coordinate of the player.
+     * @param playerY The y-coordinate of the player.
+     * @param playerMinSize The smaller dimension of the player.
+     * @param flowField The flow field towards the player, or null to steer directly to the player.
+     * @param isRangedAttackEnabled Whether acid zombies may generate a ranged attack.
+     * @return The ranged attack of an acid zombie, or null.
+     */
+    Projectile update(int i, int playerX, int playerY, int playerMinSize, FlowField flowField, boolean isRangedAttackEnabled) {
+        byte type = this.types[i];
+        Projectile projectile = null;
+
+        int dx = playerX - this.xs[i];
+        int dy = playerY - this.ys[i];
+        double distance = Math.sqrt(dx * dx + dy * dy);
+
+        if (type == ZombieType.ACID.ordinal()) {
+            if (distance > AcidZombie.SPIT_RANGE) {  // Try to catch the player until it is in the spit range
+                steer(i, dx, dy, distance, flowField);
+            } else if (distance > 0) {  // Rotate towards the player to aim the ranged attack
+                setRotation(i, Math.atan2(dy, dx), dx / distance, dy / distance);
+            }
+        } else if (distance > playerMinSize * 0.5) {  // Do not coincide to the player
+            steer(i, dx, dy, distance, flowField);
+
+            // Crawler zombies jump to the player when they are close enough and the jump timer is out
+            if (type == ZombieType.CRAWLER.ordinal() && distance <= CrawlerZombie.JUMP_DISTANCE && this.jumpDeadlines[i] <= this.timers.getCurrentTick()) {
+                this.xs[i] = playerX + BOUNDS_WIDTH / 2;
+                this.ys[i] = playerY + BOUNDS_HEIGHT / 2;
+                this.jumpDeadlines[i] = this.timers.getCurrentTick() + CrawlerZombie.MAX_JUMP_DELAY;
+            }
+        }
+        updateBounds(i);
+        if (isRangedAttackEnabled && type == ZombieType.ACID.ordinal()) projectile = rangedAttack(i);
+
+        // Update sprite animation
+        if (++this.frameCounters[i] >= SPRITES[type].getFrameDelay()) {
+            this.frameCounters[i] = 0;
+            this.frames[i] = (this.frames[i] + 1) % SPRITES[type].getTotalFrames();
+        }
+        return projectile;
+    }
+
+    /**
+     * Sets the rotation of a zombie and updates the extents of its rotated target bounds.
+     *
+     * @param i The row of the zombie.
+     * @param r The rotation angle in radians.
+     * @param cos The cosine of the rotation angle.
+     * @param sin The sine of the rotation angle.
+     */
+    private void setRotation(int i, double r, double cos, double sin) {
+        this.rs[i] = r;
+        this.halfExtentXs[i] = (Math.abs(cos) * TARGET_WIDTH + Math.abs(sin) * TARGET_HEIGHT) / 2.0;
+        this.halfExtentYs[i] = (Math.abs(sin) * TARGET_WIDTH + Math.abs(cos) * TARGET_HEIGHT) / 2.0;
+    }
+
+    /**
+     * Updates the bounding box of the rotated target bounds of a zombie from its position and extents.
+     * The box is conservative by a pixel, so rounding of the rotated corners is covered.
+     *
+     * @param i The row of the zombie.
+     */
+    private void updateBounds(int i) {
+        double centerX = this.xs[i] + TARGET_WIDTH / 2.0;
+        double centerY = this.ys[i] + TARGET_HEIGHT / 2.0;
+        this.minXs[i] = (int) Math.floor(centerX - this.halfExtentXs[i]) - 1;
+        this.minYs[i] = (int) Math.floor(centerY - this.halfExtentYs[i]) - 1;
+        this.maxXs[i] = (int) Math.ceil(centerX + this.halfExtentXs[i]) + 1;
+        this.maxYs[i] = (int) Math.ceil(centerY + this.halfExtentYs[i]) + 1;
+    }
+
+    /**
+     * Moves a zombie one step towards the player and rotates it to the direction of movement.
+     * The direction is read from the flow field if it has steering at the position of the zombie,
+     * otherwise it is the direct vector to the player.
+     *
+     * @param i The row of the zombie.
+     * @param dx The difference between the x-coordinates of the player and the zombie.
+     * @param dy The difference between the y-coordinates of the player and the zombie.
+     * @param distance The distance between the player and the zombie. Must not be zero.
+     * @param flowField The flow field towards the player, or null to steer directly to the player.
+     */
+    private void steer(int i, int dx, int dy, double distance, FlowField flowField) {
+        int speed = this.speeds[i];
+        int cell = (flowField != null) ? flowField.getCell(this.xs[i], this.ys[i]) : -1;
+        if (cell >= 0) {
+            double directionX = flowField.getDirectionX(cell);
+            double directionY = flowField.getDirectionY(cell);
+            this.xs[i] += (int) (speed * directionX);
+            this.ys[i] += (int) (speed * directionY);
+            setRotation(i, flowField.getAngle(cell), directionX, directionY);
+        } else {
+            double directionX = dx / distance;
+            double directionY = dy / distance;
+            this.xs[i] += (int) (speed * directionX);
+            this.ys[i] += (int) (speed * directionY);
+            setRotation(i, Math.atan2(dy, dx), directionX, directionY);
+        }
+    }
+
+    /**
+     * Generates the ranged attack of an acid zombie with a probability of 1 percent per game tick.
+     *
+     * @param i The row of the acid zombie.
+     * @return The acid spit, or null if the zombie does not attack.
+     */
+    Projectile rangedAttack(int i) {
+        if (this.random.nextInt(Globals.Time2GameTick(1000)) >= Globals.Time2GameTick(10)) return null;
+
+        SpriteAnimationStruct sprite = SPRITES[ZombieType.ACID.ordinal()];
+        double r = this.rs[i];
+        int x = this.xs[i];
+        int y = this.ys[i];
+        double translatedX = x + BOUNDS_WIDTH / 2 + sprite.getXOffset() * Math.cos(r) - sprite.getYOffset() * Math.sin(r);
+        double translatedY = y + BOUNDS_HEIGHT / 2 + sprite.getXOffset() * Math.sin(r) + sprite.getYOffset() * Math.cos(r);
+
+        // Give some randomness for ranged attack of the acid zombie
+        double spreadAngle = this.random.nextDouble(AcidZombie.MAX_SPREAD_ANGLE_DEG) - (AcidZombie.MAX_SPREAD_ANGLE_DEG / 2.0);  // In degree
+        return ProjectilePool.acquireAcidSpit((int) translatedX, (int) translatedY, r + Globals.degToRad(spreadAngle), (int) (this.damages[i] * 0.5));  // Ranged attacks only gives half damage
+    }
+
+    /**
+     * Adds all zombies to the frame snapshot.
+     *
+     * @param snapshot The snapshot builder of the frame.
+     */
+    public void draw(RenderSnapshot.Builder snapshot) {
+        for (int i = 0; i < this.count; i++) {
+            draw(i, snapshot);
+        }
+    }
+
+    /**
+     * Adds a zombie to the frame snapshot.
+     *
+     * @param i The row of the zombie.
+     * @param snapshot The snapshot builder of the frame.
+     */
+    void draw(int i, RenderSnapshot.Builder snapshot) {
+        int type = this.types[i];
+        BufferedImage[] typeFrames = this.spriteFrames[type];
+        if (typeFrames == null) return;
+
+        int width = SPRITE_WIDTHS[type];
+        int height = SPRITE_HEIGHTS[type];
+        snapshot.addRotated(typeFrames[this.frames[i]], this.xs[i] + width / 2, this.ys[i] + height / 2, this.rs[i] + SPRITES[type].getROffset(), width, height);
+    }
+
+    /**
+     * Gets the target bounds of a zombie. The returned instance is reused by the next call, so it should not be stored.
+     *
+     * @param i The row of the zombie.
+     * @return The target bounds.
+     */
+    public RectangleBound getTargetBounds(int i) {
+        this.targetBounds.set(this.xs[i], this.ys[i], TARGET_WIDTH, TARGET_HEIGHT, this.rs[i]);
+        return this.targetBounds;
+    }
+
+    /**
+     * Returns the minimum X-coordinate of the bounding box of the rotated target bounds. 
+     * The box is kept in the columns, so it is read without computing the rotated corners. 
+     * It is slightly larger than the exact box, so it should be used for broadphase checks.
+     *
+     * @param i The row of the zombie.
+     * @return The minimum X-coordinate.
+     */
+    public int getBoundsMinX(int i) {
+        return this.minXs[i];
+    }
+
+    /**
+     * Returns the minimum Y-coordinate of the bounding box of the rotated target bounds.
+     *
+     * @param i The row of the zombie.
+     * @return The minimum Y-coordinate.
+     * @see #getBoundsMinX(int)
+     */
+    public int getBoundsMinY(int i) {
+        return this.minYs[i];
+    }
+
+    /**
+     * Returns the maximum X-coordinate of the bounding box of the rotated target bounds.
+     *
+     * @param i The row of the zombie.
+     * @return The maximum X-coordinate.
+     * @see #getBoundsMinX(int)
+     */
+    public int getBoundsMaxX(int i) {
+        return this.maxXs[i];
+    }
+
+    /**
+     * Returns the maximum Y-coordinate of the bounding box of the rotated target bounds.
+     *
+     * @param i The row of the zombie.
+     * @return The maximum Y-coordinate.
+     * @see #getBoundsMinX(int)
+     */
+    public int getBoundsMaxY(int i) {
+        return this.maxYs[i];
+    }
+
+    /**
+     * Moves a zombie by an offset.
+     *
+     * @param i The row of the zombie.
+     * @param dx The offset along the x-axis in pixels.
+     * @param dy The offset along the y-axis in pixels.
+     */
+    public void translate(int i, int dx, int dy) {
+        this.xs[i] += dx;
+        this.ys[i] += dy;
+        updateBounds(i);
+    }
+
+    /**
+     * Reduces the health of a zombie.
+     *
+     * @param i The row of the zombie.
+     * @param damage The amount of damage to be affected.
+     * @return True if the health of the zombie dropped to zero or below.
+     */
+    public boolean takeDamage(int i, double damage) {
+        this.healths[i] -= damage;
+        return this.healths[i] <= 0.0;
+    }
+
+    /**
+     * Creates the loot of a killed zombie. The zombie is not removed.
+     *
+     * @param i The row of the zombie.
+     * @param weaponList The list of weapons that are available by player.
+     * @param random The random number stream of the dropped items.
+     * @return The loot dropped by the zombie.
+     */
+    public Loot kill(int i, List<WeaponType> weaponList, Random random) {
+        PlayerItem item = PlayerItem.generatePlayerItem(random, this.points[i], weaponList);
+        return LootPool.acquire(this.xs[i], this.ys[i], this.points[i], item);
+    }
+
+    /**
+     * Returns the x-coordinate of the center of the zombie.
+     *
+     * @param i The row of the zombie.
+     * @return The x-coordinate of the center of the zombie.
+     */
+    public int getX(int i) {
+        return this.xs[i] + BOUNDS_WIDTH / 2;
+    }
+
+    /**
+     * Returns the y-coordinate of the center of the zombie.
+     *
+     * @param i The row of the zombie.
+     * @return The y-coordinate of the center of the zombie.
+     */
+    public int getY(int i) {
+        return this.ys[i] + BOUNDS_HEIGHT / 2;
+    }
+
+    /**
+     * Returns the top-left x-coordinate of the zombie.
+     *
+     * @param i The row of the zombie.
+     * @return The top-left x-coordinate of the zombie.
+     */
+    int getLeft(int i) {
+        return this.xs[i];
+    }
+
+    /**
+     * Returns the top-left y-coordinate of the zombie.
+     *
+     * @param i The row of the zombie.
+     * @return The top-left y-coordinate of the zombie.
+     */
+    int getTop(int i) {
+        return this.ys[i];
+    }
+
+    /**
+     * Returns the rotation of the zombie in radians.
+     *
+     * @param i The row of the zombie.
+     * @return The rotation of the zombie in radians.
+     */
+    double getR(int i) {
+        return this.rs[i];
+    }
+
+    /**
+     * Returns the health of the zombie.
+     *
+     * @param i The row of the zombie.
+     * @return The health of the zombie.
+     */
+    public double getHealth(int i) {
+        return this.healths[i];
+    }
+
+    /**
+     * Returns the speed of the zombie.
+     *
+     * @param i The row of the zombie.
+     * @return The speed of the zombie.
+     */
+    int getSpeed(int i) {
+        return this.speeds[i];
+    }
+
+    /**
+     * Returns the damage dealt by the zombie.
+     *
+     * @param i The row of the zombie.
+     * @return The damage dealt by the zombie.
+     */
+    public int getDamage(int i) {
+        return this.damages[i];
+    }
+
+    /**
+     * Returns the points awarded for killing the zombie.
+     *
+     * @param i The row of the zombie.
+     * @return The points awarded for killing the zombie.
+     */
+    public int getPoints(int i) {
+        return this.points[i];
+    }
+
+    /**
+     * Returns the type of the zombie.
+     *
+     * @param i The row of the zombie.
+     * @return The type of the zombie.
+     */
+    public ZombieType getType(int i) {
+        return TYPES[this.types[i]];
+    }
+
+    /**
+     * Writes the state of a zombie to a saved game, in the same layout as `AbstractZombie` 
+     * and its subclasses, so saved games can be loaded with or without the store.
+     *
+     * @param i The row of the zombie.
+     * @param writer The writer of the saved game.
+     */
+    public void writeState(int i, SaveGame.Writer writer) {
+        writer.putInt(this.xs[i]);
+        writer.putInt(this.ys[i]);
+        writer.putDouble(this.rs[i]);
+        writer.putDouble(this.healths[i]);
+
+        // Same layout as SpriteAnimation, the animations of zombies repeat indefinitely without a delay
+        writer.putShort(this.frames[i]);
+        writer.putShort(this.frameCounters[i]);
+        writer.putShort(-1);
+        writer.putShort(0);
+
+        if (this.types[i] == ZombieType.CRAWLER.ordinal()) writer.putShort((int) Math.max(0, this.jumpDeadlines[i] - this.timers.getCurrentTick()));
+    }
+
+    /**
+     * Restores the state of a zombie from a saved game. The row must be added with the saved type.
+     *
+     * @param i The row of the zombie.
+     * @param reader The reader of the saved game.
+     * @throws IOException If the state cannot be read, or the animation frame is not in the sprite sheet.
+     */
+    public void readState(int i, SaveGame.Reader reader) throws IOException {
+        this.xs[i] = reader.getInt();
+        this.ys[i] = reader.getInt();
+        double r = reader.getDouble();
+        this.healths[i] = reader.getDouble();
+
+        int frame = reader.getShort();
+        if (frame < 0 || frame >= SPRITES[this.types[i]].getTotalFrames()) {
+            throw new SaveGame.FormatException("Saved animation frame is out of range!");
+        }
+        this.frames[i] = frame;
+        this.frameCounters[i] = reader.getShort();
+        reader.getShort();  // Repeat count
+        reader.getShort();  // Delay
+
+        if (this.types[i] == ZombieType.CRAWLER.ordinal()) this.jumpDeadlines[i] = this.timers.getCurrentTick() + reader.getShort();
+
+        setRotation(i, r, Math.cos(r), Math.sin(r));
+        updateBounds(i);
+    }
+
+    /**
+     * Returns a view of a zombie implementing the `Zombie` interface.
+     *
+     * @param i The row of the zombie.
+     * @return The view, valid until the next removal from the store.
+     */
+    public Zombie get(int i) {
+        return new ZombieView(this, i);
+    }
+
+    /**
+     * Returns a read-through list of views of the zombies. The list cannot be modified 
+     * and its views are valid until the next removal from the store.
+     *
+     * @return The list of zombie views.
+     */
+    public List<Zombie> asList() {
+        return new AbstractList<Zombie>() {
+            @Override
+            public Zombie get(int i) {
+                if (i < 0 || i >= ZombieStore.this.count) throw new IndexOutOfBoundsException(i);
+                return ZombieStore.this.get(i);
+            }
+
+            @Override
+            public int size() {
+                return ZombieStore.this.count;
+            }
+        };
+    }
+
+    /**
+     * Resizes the columns, keeping the stored zombies.
+     *
+     * @param capacity The new number of rows.
+     */
+    private void allocate(int capacity) {
+        if (this.xs == null) {
+            this.xs = new int[capacity];
+            this.ys = new int[capacity];
+            this.rs = new double[capacity];
+            this.healths = new double[capacity];
+            this.speeds = new int[capacity];
+            this.damages = new int[capacity];
+            this.points = new int[capacity];
+            this.types = new byte[capacity];
+            this.frames = new int[capacity];
+            this.frameCounters = new int[capacity];
+            this.jumpDeadlines = new long[capacity];
+            this.halfExtentXs = new double[capacity];
+            this.halfExtentYs = new double[capacity];
+            this.minXs = new int[capacity];
+            this.minYs = new int[capacity];
+            this.maxXs = new int[capacity];
+            this.maxYs = new int[capacity];
+            return;
+        }
+
+        this.xs = Arrays.copyOf(this.xs, capacity);
+        this.ys = Arrays.copyOf(this.ys, capacity);
+        this.rs = Arrays.copyOf(this.rs, capacity);
+        this.healths = Arrays.copyOf(this.healths, capacity);
+        this.speeds = Arrays.copyOf(this.speeds, capacity);
+        this.damages = Arrays.copyOf(this.damages, capacity);
+        this.points = Arrays.copyOf(this.points, capacity);
+        this.types = Arrays.copyOf(this.types, capacity);
+        this.frames = Arrays.copyOf(this.frames, capacity);
+        this.frameCounters = Arrays.copyOf(this.frameCounters, capacity);
+        this.jumpDeadlines = Arrays.copyOf(this.jumpDeadlines, capacity);
+        this.halfExtentXs = Arrays.copyOf(this.halfExtentXs, capacity);
+        this.halfExtentYs = Arrays.copyOf(this.halfExtentYs, capacity);
+        this.minXs = Arrays.copyOf(this.minXs, capacity);
+        this.minYs = Arrays.copyOf(this.minYs, capacity);
+        this.maxXs = Arrays.copyOf(this.maxXs, capacity);
+        this.maxYs = Arrays.copyOf(this.maxYs, capacity);
+    }
+
+    /**
+     * Restores the shared sprite frames and the reused bounds.
+     */
+    private void initializeTransients() {
+        this.spriteFrames = new BufferedImage[TYPES.length][];
+        for (int t = 0; t < TYPES.length; t++) {
+            this.spriteFrames[t] = SpriteSheetCache.getFrames(SPRITES[t]);
+        }
+        this.targetBounds = new RectangleBound(0, 0, TARGET_WIDTH, TARGET_HEIGHT, 0);
+    }
+
+    /**
+     * Custom deserialization method to restore the shared sprite frames.
+     *
+     * @param in The ObjectInputStream used for deserialization.
+     * @throws IOException If an error occurs during deserialization.
+     * @throws ClassNotFoundException If the class of the serialized object is not found.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        initializeTransients();
+    }
+}
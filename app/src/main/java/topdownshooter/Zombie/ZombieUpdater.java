@@ -0,0 +1,329 @@
+/*
+ * @file ZombieUpdater.java
+ * @brief This file defines the `ZombieUpdater` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Zombie;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import topdownshooter.Core.ConfigHandler.SimulationProperties;
+import topdownshooter.Core.Globals;
+import topdownshooter.Core.RectangleBound;
+import topdownshooter.Weapon.Projectiles.Projectile;
+
+/**
+ * @class ZombieUpdater
+ * @brief Updates the zombies for a game tick, in parallel for large hordes.
+ * 
+ * The update of a zombie only depends on its own state and the position of the player, so
+ * when the horde reaches the parallel threshold the zombies are split into contiguous chunks
+ * which are updated by the worker threads of a fork-join pool. Smaller hordes are updated
+ * serially on the calling thread, where splitting costs more than it saves.
+ * 
+ * Ranged attacks are not generated by the workers. Each chunk collects the indices of its acid
+ * zombies into its own buffer, and the buffers are drained in chunk order on the calling thread
+ * after all workers finished. The acid spits are therefore rolled and added to the projectile
+ * list in the same order as a serial update, and the projectile pool is only used by one thread.
+ * 
+ * If the flow field is enabled, it is updated for the position of the player before the zombies
+ * and is only read by the workers. Likewise, the positions used by the crowd separation are
+ * recorded before the zombies are moved, so each zombie is pushed apart from its neighbors the
+ * same way regardless of the order in which the zombies are updated.
+ * 
+ * @see FlowField
+ * @see CrowdSeparation
+ */
+public class ZombieUpdater {
+    private final ForkJoinPool pool;                        /**< Worker threads of the parallel update, or null if zombies are always updated serially. */
+    private final int parallelThreshold;                    /**< Number of zombies at which the update is split across the workers. */
+    private final FlowField flowField;                      /**< Flow field towards the player, or null if zombies steer directly to the player. */
+    private final CrowdSeparation separation;               /**< Pushes the zombies apart from their nearby zombies, or null if separation is disabled. */
+
+    private int[][] acidIndices = new int[0][];             /**< Indices of the acid zombies collected by each chunk. */
+    private int[] acidCounts = new int[0];                  /**< Number of acid zombie indices collected by each chunk. */
+
+    /**
+     * Constructs a zombie updater.
+     * 
+     * @param properties The simulation properties, which define the parallel threshold and the worker
+     *                   count, whether the flow field is used, and the radius and weight of the separation.
+     *                   A parallel threshold of 0 disables the parallel update, a worker count of 0 uses a
+     *                   thread per available processor, and a separation radius of 0 disables the separation.
+     * @throws IllegalArgumentException If the threshold, the worker count or the separation parameters are negative.
+     */
+    public ZombieUpdater(SimulationProperties properties) {
+        int parallelThreshold = properties.parallelUpdateThreshold();
+        int threadCount = properties.updateThreads();
+        if (parallelThreshold < 0 || threadCount < 0) {
+            throw new IllegalArgumentException("Parallel threshold and thread count cannot be negative!");
+        }
+
+        int parallelism = (threadCount == 0) ? Runtime.getRuntime().availableProcessors() : threadCount;
+        if (parallelThreshold == 0 || parallelism < 2) {
+            this.pool = null;
+            this.parallelThreshold = Integer.MAX_VALUE;
+        } else {
+            this.pool = new ForkJoinPool(parallelism);
+            this.parallelThreshold = parallelThreshold;
+        }
+        this.flowField = properties.isFlowFieldEnabled() ? new FlowField() : null;
+
+        CrowdSeparation separation = new CrowdSeparation(properties.separationRadius(), properties.separationWeight());
+        this.separation = separation.isEnabled() ? separation : null;
+    }
+
+    /**
+     * Sets the size of the playground, which is covered by the flow field.
+     * 
+     * @param width The width of the playground in pixels.
+     * @param height The height of the playground in pixels.
+     */
+    public void setPlaygroundSize(int width, int height) {
+        if (this.flowField != null) this.flowField.resize(width, height);
+    }
+
+    /**
+     * Returns the flow field towards the player.
+     * 
+     * @return The flow field, or null if zombies steer directly to the player.
+     */
+    public FlowField getFlowField() {
+        return this.flowField;
+    }
+
+    /**
+     * Returns the number of worker threads of the parallel update.
+     * 
+     * @return The worker count, or 1 if zombies are always updated serially.
+     */
+    public int getParallelism() {
+        return (this.pool != null) ? this.pool.getParallelism() : 1;
+    }
+
+    /**
+     * Updates the zombies kept as objects for a game tick.
+     * 
+     * @param zombies The zombies to update.
+     * @param playerBounds The player's bounding rectangle which represents player's position and its size.
+     * @param projectiles The list where the ranged attacks of the acid zombies are added.
+     */
+    public void update(List<Zombie> zombies, RectangleBound playerBounds, List<Projectile> projectiles) {
+        FlowField flowField = updateFlowField(playerBounds);
+        CrowdSeparation separation = this.separation;
+        if (separation != null) separation.build(zombies);
+
+        int count = zombies.size();
+        if (count < this.parallelThreshold) {
+            for (int i = 0; i < count; i++) {
+                Zombie z = zombies.get(i);
+                z.update(playerBounds, flowField);
+                if (separation != null) separation.separate(z, i);
+
+                // Acid zombies have special ranged attack
+                if (z.getType() == ZombieType.ACID) {
+                    Projectile projectile = (Projectile) ((AcidZombie) z).rangedAttack();
+                    if (projectile != null) projectiles.add(projectile);
+                }
+            }
+            return;
+        }
+
+        int chunkCount = prepareChunks(count);
+        this.pool.invoke(new ChunkTask((chunk, from, to) -> {
+            for (int i = from; i < to; i++) {
+                Zombie z = zombies.get(i);
+                z.update(playerBounds, flowField);
+                if (separation != null) separation.separate(z, i);
+                if (z.getType() == ZombieType.ACID) collectAcid(chunk, i);
+            }
+        }, 0, chunkCount, count, chunkCount));
+
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            for (int k = 0; k < this.acidCounts[chunk]; k++) {
+                Projectile projectile = (Projectile) ((AcidZombie) zombies.get(this.acidIndices[chunk][k])).rangedAttack();
+                if (projectile != null) projectiles.add(projectile);
+            }
+        }
+    }
+
+    /**
+     * Updates the zombies of a zombie store for a game tick.
+     * 
+     * @param store The zombie store to update.
+     * @param playerBounds The player's bounding rectangle which represents player's position and its size.
+     * @param projectiles The list where the ranged attacks of the acid zombies are added.
+     */
+    public void update(ZombieStore store, RectangleBound playerBounds, List<Projectile> projectiles) {
+        FlowField flowField = updateFlowField(playerBounds);
+        CrowdSeparation separation = this.separation;
+        if (separation == null) {
+            if (store.size() < this.parallelThreshold) {
+                store.update(playerBounds, flowField, projectiles);
+                return;
+            }
+        } else {
+            separation.build(store);
+        }
+
+        int playerX = (int) playerBounds.getX();
+        int playerY = (int) playerBounds.getY();
+        int playerMinSize = Math.min((int) playerBounds.getWidth(), (int) playerBounds.getHeight());
+
+        int count = store.size();
+        if (count < this.parallelThreshold) {
+            for (int i = 0; i < count; i++) {
+                store.update(i, playerX, playerY, playerMinSize, flowField, false);
+                separation.separate(store, i);
+
+                // Acid zombies attack after they are pushed, as in the parallel update
+                if (store.getType(i) == ZombieType.ACID) {
+                    Projectile projectile = store.rangedAttack(i);
+                    if (projectile != null) projectiles.add(projectile);
+                }
+            }
+            return;
+        }
+
+        int chunkCount = prepareChunks(count);
+        this.pool.invoke(new ChunkTask((chunk, from, to) -> {
+            for (int i = from; i < to; i++) {
+                store.update(i, playerX, playerY, playerMinSize, flowField, false);
+                if (separation != null) separation.separate(store, i);
+                if (store.getType(i) == ZombieType.ACID) collectAcid(chunk, i);
+            }
+        }, 0, chunkCount, count, chunkCount));
+
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            for (int k = 0; k < this.acidCounts[chunk]; k++) {
+                Projectile projectile = store.rangedAttack(this.acidIndices[chunk][k]);
+                if (projectile != null) projectiles.add(projectile);
+            }
+        }
+    }
+
+    /**
+     * Recomputes the flow field if the player is moved to another cell.
+     * 
+     * @param playerBounds The player's bounding rectangle which represents player's position and its size.
+     * @return The flow field, or null if zombies steer directly to the player.
+     */
+    private FlowField updateFlowField(RectangleBound playerBounds) {
+        if (this.flowField != null) this.flowField.update((int) playerBounds.getX(), (int) playerBounds.getY());
+        return this.flowField;
+    }
+
+    /**
+     * Splits the zombies into chunks and clears the acid zombie buffers of the chunks.
+     * 
+     * @param count The number of zombies.
+     * @return The number of chunks.
+     */
+    private int prepareChunks(int count) {
+        int chunkCount = Math.min(this.pool.getParallelism() * Globals.ZOMBIE_UPDATE_CHUNKS_PER_THREAD,
+                                  (count + Globals.ZOMBIE_UPDATE_MIN_CHUNK_SIZE - 1) / Globals.ZOMBIE_UPDATE_MIN_CHUNK_SIZE);
+        chunkCount = Math.max(chunkCount, 1);
+
+        if (this.acidCounts.length < chunkCount) {
+            int[][] acidIndices = new int[chunkCount][];
+            System.arraycopy(this.acidIndices, 0, acidIndices, 0, this.acidIndices.length);
+            for (int chunk = this.acidIndices.length; chunk < chunkCount; chunk++) {
+                acidIndices[chunk] = new int[Globals.ZOMBIE_UPDATE_MIN_CHUNK_SIZE];
+            }
+            this.acidIndices = acidIndices;
+            this.acidCounts = new int[chunkCount];
+        }
+        Arrays.fill(this.acidCounts, 0);
+        return chunkCount;
+    }
+
+    /**
+     * Adds the index of an acid zombie to the buffer of a chunk. Only called by the worker of the chunk.
+     * 
+     * @param chunk The chunk which updated the zombie.
+     * @param i The index of the acid zombie.
+     */
+    private void collectAcid(int chunk, int i) {
+        int n = this.acidCounts[chunk];
+        if (n == this.acidIndices[chunk].length) {
+            this.acidIndices[chunk] = Arrays.copyOf(this.acidIndices[chunk], n * 2);
+        }
+        this.acidIndices[chunk][n] = i;
+        this.acidCounts[chunk] = n + 1;
+    }
+
+    /**
+     * @brief Update of the zombies of a chunk, called by the worker of the chunk.
+     */
+    @FunctionalInterface
+    private interface RangeUpdate {
+        /**
+         * Updates the zombies of a chunk.
+         * 
+         * @param chunk The index of the chunk.
+         * @param from The index of the first zombie of the chunk.
+         * @param to The index after the last zombie of the chunk.
+         */
+        void update(int chunk, int from, int to);
+    }
+
+    /**
+     * @class ChunkTask
+     * @brief Fork-join task which halves its range of chunks until a single chunk is left.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+        private final RangeUpdate rangeUpdate;              /**< Update applied to the zombies of each chunk. */
+        private final int firstChunk, lastChunk;            /**< Range of chunks of this task, last one is exclusive. */
+        private final int count;                            /**< Number of zombies. */
+        private final int chunkCount;                       /**< Number of chunks the zombies are split into. */
+
+        ChunkTask(RangeUpdate rangeUpdate, int firstChunk, int lastChunk, int count, int chunkCount) {
+            this.rangeUpdate = rangeUpdate;
+            this.firstChunk = firstChunk;
+            this.lastChunk = lastChunk;
+            this.count = count;
+            this.chunkCount = chunkCount;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.lastChunk - this.firstChunk == 1) {
+                int from = (int) ((long) this.count * this.firstChunk / this.chunkCount);
+                int to = (int) ((long) this.count * this.lastChunk / this.chunkCount);
+                this.rangeUpdate.update(this.firstChunk, from, to);
+                return;
+            }
+
+            int middle = (this.firstChunk + this.lastChunk) >>> 1;
+            invokeAll(new ChunkTask(this.rangeUpdate, this.firstChunk, middle, this.count, this.chunkCount),
+                      new ChunkTask(this.rangeUpdate, middle, this.lastChunk, this.count, this.chunkCount));
+        }
+    }
+}
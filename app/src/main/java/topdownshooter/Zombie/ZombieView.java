@@ -0,0 +1,189 @@
+/*
+ * @file ZombieView.java
+ * @brief This file defines the `ZombieView` class.
+ *
+ * Created on Sat Oct 17 2026
+ *
+ * @copyright MIT License
+ *
+ * Copyright (c) 2025 Mert LIMONCUOGLU
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package topdownshooter.Zombie;
+
+import java.awt.*;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.List;
+import java.util.Random;
+
+import topdownshooter.Core.Position;
+import topdownshooter.Core.RectangleBound;
+import topdownshooter.Core.RenderSnapshot;
+import topdownshooter.Core.SaveGame;
+import topdownshooter.Player.Loot;
+import topdownshooter.Weapon.WeaponType;
+
+/**
+ * @class ZombieView
+ * @brief Thin `Zombie` facade of a row of a `ZombieStore`.
+ *
+ * The view holds no state of its own, all calls read or write the columns of the store. 
+ * Since the store moves zombies between rows on removal, a view is only valid until the 
+ * next removal from its store.
+ *
+ * @see ZombieStore
+ */
+public class ZombieView implements Zombie {
+    private final ZombieStore store;    /**< The store holding the zombie. */
+    private final int index;            /**< Row of the zombie in the store. */
+
+    /**
+     * Constructs a view of a zombie in the store.
+     *
+     * @param store The store holding the zombie.
+     * @param index Row of the zombie in the store.
+     */
+    ZombieView(ZombieStore store, int index) {
+        this.store = store;
+        this.index = index;
+    }
+
+    /**
+     * Returns the row of the zombie in the store.
+     *
+     * @return The row index.
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Updates the zombie's state based on the player's position. Ranged attacks of acid 
+     * zombies are only generated by `ZombieStore.update()`, since there is no projectile list here.
+     *
+     * @param playerBounds The player's bounding rectangle which represents player's position and its size.
+     * @param flowField The flow field towards the player, or null to steer directly to the player.
+     */
+    @Override
+    public void update(RectangleBound playerBounds, FlowField flowField) {
+        int playerMinSize = Math.min((int) playerBounds.getWidth(), (int) playerBounds.getHeight());
+        this.store.update(this.index, (int) playerBounds.getX(), (int) playerBounds.getY(), playerMinSize, flowField, false);
+    }
+
+    @Override
+    public void draw(RenderSnapshot.Builder snapshot) {
+        this.store.draw(this.index, snapshot);
+    }
+
+    @Override
+    public void translate(int dx, int dy) {
+        this.store.translate(this.index, dx, dy);
+    }
+
+    @Override
+    public Rectangle getBounds() {
+        return new Rectangle(this.store.getLeft(this.index), this.store.getTop(this.index), ZombieStore.BOUNDS_WIDTH, ZombieStore.BOUNDS_HEIGHT);
+    }
+
+    @Override
+    public RectangleBound getTargetBounds() {
+        return this.store.getTargetBounds(this.index);
+    }
+
+    @Override
+    public int getPoints() {
+        return this.store.getPoints(this.index);
+    }
+
+    @Override
+    public double getHealth() {
+        return this.store.getHealth(this.index);
+    }
+
+    @Override
+    public boolean takeDamage(double damage) {
+        return this.store.takeDamage(this.index, damage);
+    }
+
+    @Override
+    public int giveDamage() {
+        return this.store.getDamage(this.index);
+    }
+
+    @Override
+    public ZombieType getType() {
+        return this.store.getType(this.index);
+    }
+
+    @Override
+    public Loot kill(List<WeaponType> weaponList, Random random) {
+        return this.store.kill(this.index, weaponList, random);
+    }
+
+    @Override
+    public Position getPosition() {
+        return new Position(this.store.getX(this.index), this.store.getY(this.index));
+    }
+
+    @Override
+    public int getX() {
+        return this.store.getX(this.index);
+    }
+
+    @Override
+    public int getY() {
+        return this.store.getY(this.index);
+    }
+
+    @Override
+    public void writeState(SaveGame.Writer writer) {
+        this.store.writeState(this.index, writer);
+    }
+
+    @Override
+    public void readState(SaveGame.Reader reader) throws IOException {
+        this.store.readState(this.index, reader);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("ZombieView{");
+        sb.append("index=" + this.index + ", ");
+        sb.append("x=" + this.store.getLeft(this.index) + ", ");
+        sb.append("y=" + this.store.getTop(this.index) + ", ");
+        sb.append("r=" + this.store.getR(this.index) + ", ");
+        sb.append("health=" + this.store.getHealth(this.index) + ", ");
+        sb.append("speed=" + this.store.getSpeed(this.index) + ", ");
+        sb.append("damage=" + this.store.getDamage(this.index) + ", ");
+        sb.append("points=" + this.store.getPoints(this.index) + ", ");
+        sb.append("type=" + this.store.getType(this.index));
+        sb.append("}");
+
+        return sb.toString();
+    }
+
+    @Override
+    public void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+    }
+}